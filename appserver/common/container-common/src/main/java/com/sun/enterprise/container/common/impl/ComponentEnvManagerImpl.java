@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -881,24 +881,32 @@ public class ComponentEnvManagerImpl implements ComponentEnvManager {
         }
     }
 
-    private class EjbReferenceProxy implements NamingObjectProxy {
+    private class EjbReferenceProxy implements NamingObjectFactory {
 
         private final EjbReferenceDescriptor ejbRef;
 
         private volatile EjbNamingReferenceManager ejbRefMgr;
         private volatile Object cachedResult;
-        private Boolean cacheable;
+        private volatile Boolean cacheable;
 
         // Note : V2 had a limited form of ejb-ref caching. It only applied
         // to EJB 2.x Home references where the target lived in the same application
         // as the client. It's not clear how useful that even is and it's of limited
-        // value given the behavior is different for EJB 3.x references. For now,
-        // all ejb-ref caching is turned off.
+        // value given the behavior is different for EJB 3.x references.
+        // EjbNamingReferenceManager decides which references are cacheable.
 
         EjbReferenceProxy(EjbReferenceDescriptor ejbRef) {
             this.ejbRef = ejbRef;
         }
 
+        /**
+         * @return true if the reference was resolved and the resolved object can be cached
+         */
+        @Override
+        public boolean isCreateResultCacheable() {
+            return Boolean.TRUE.equals(cacheable);
+        }
+
         @Override
         public <T> T create(Context ctx) throws NamingException {
 
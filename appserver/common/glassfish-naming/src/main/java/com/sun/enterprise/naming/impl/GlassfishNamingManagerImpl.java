@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,6 +17,9 @@
 
 package com.sun.enterprise.naming.impl;
 
+import com.sun.enterprise.naming.spi.NamingObjectFactory;
+import com.sun.enterprise.naming.util.JndiInitializationNamingObjectFactory;
+
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
@@ -31,6 +34,7 @@ import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.naming.Binding;
 import javax.naming.Context;
@@ -94,6 +98,14 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
     private final NamespacesMap<AppModuleKey> moduleNamespaces;
     private final Map<String, ComponentIdInfo> componentIdInfo;
 
+    /**
+     * Objects resolved by lookups of immutable bindings per component id,
+     * see {@link #isResolvedObjectCacheable(NamingObjectProxy)}.
+     * The maps are replaced instead of cleared when bindings change, so a lookup running concurrently
+     * can put a stale object only to the replaced map.
+     */
+    private final Map<String, Map<SimpleJndiName, Object>> resolvedObjects = new ConcurrentHashMap<>();
+
     private InvocationManager invMgr;
 
     // FIXME: cosContext has nothing to do with the rest of the class. It could be pushed to own class.
@@ -186,6 +198,7 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
         } else {
             initialContext.bind(name, obj);
         }
+        clearResolvedObjects();
     }
 
 
@@ -220,6 +233,7 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
     public void unpublishObject(Name name) throws NamingException {
         LOG.log(DEBUG, "unpublishObject(name={0})", name);
         initialContext.unbind(name);
+        clearResolvedObjects();
     }
 
 
@@ -227,6 +241,7 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
     public void unpublishObject(SimpleJndiName name) throws NamingException {
         LOG.log(DEBUG, "unpublishObject(name={0})", name);
         initialContext.unbind(name.toName());
+        clearResolvedObjects();
     }
 
 
@@ -239,6 +254,7 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
             LOG.log(WARNING, "Error during CosNaming.unbind for name: " + name, cne);
         }
         initialContext.unbind(name.toString());
+        clearResolvedObjects();
     }
 
 
@@ -404,6 +420,9 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
             info.treatComponentAsModule = treatComponentAsModule;
             componentIdInfo.put(componentId, info);
         }
+        if (componentId != null) {
+            resolvedObjects.put(componentId, new ConcurrentHashMap<>());
+        }
 
         for (JNDIBinding binding : bindings) {
             final SimpleJndiName logicalJndiName;
@@ -447,6 +466,7 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
                 bindToNamespace(namespace, logicalJndiName, binding.getValue(), true);
             }
         }
+        clearResolvedObjects();
     }
 
 
@@ -460,6 +480,7 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
                 bindToNamespace(namespace, logicalJndiName, binding.getValue(), true);
             }
         }
+        clearResolvedObjects();
     }
 
 
@@ -499,6 +520,9 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
         // remove local namespace cache
         componentNamespaces.remove(componentId);
         componentIdInfo.remove(componentId);
+        if (componentId != null) {
+            resolvedObjects.remove(componentId);
+        }
     }
 
     @Override
@@ -512,6 +536,7 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
                 keys.remove();
             }
         }
+        clearResolvedObjects();
     }
 
     @Override
@@ -521,6 +546,7 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
         if (namespaces != null) {
             namespaces.remove(name);
         }
+        clearResolvedObjects();
     }
 
     @Override
@@ -531,6 +557,7 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
         if (namespaces != null) {
             namespaces.remove(name);
         }
+        clearResolvedObjects();
     }
 
     /**
@@ -588,6 +615,14 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
 //            // generic jndi names
 //            return (T) initialContext.lookup(name.toName());
 //        }
+        final Map<SimpleJndiName, Object> resolved = componentId == null ? null : resolvedObjects.get(componentId);
+        if (resolved != null) {
+            final Object resolvedObj = resolved.get(name);
+            if (resolvedObj != null) {
+                LOG.log(TRACE, "For {0} found resolved object={1}", name, resolvedObj);
+                return (T) resolvedObj;
+            }
+        }
         final ComponentIdInfo info = componentIdInfo.get(componentId);
         LOG.log(TRACE, "Found componentIdInfo={0}", info);
         final boolean replaceName = info != null && info.treatComponentAsModule && name.isJavaComponent();
@@ -600,7 +635,11 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
         }
         if (obj instanceof NamingObjectProxy) {
             NamingObjectProxy namingProxy = (NamingObjectProxy) obj;
-            return namingProxy.create(ctx);
+            T resolvedObj = namingProxy.create(ctx);
+            if (resolved != null && resolvedObj != null && isResolvedObjectCacheable(namingProxy)) {
+                resolved.put(name, resolvedObj);
+            }
+            return resolvedObj;
         } else if (obj instanceof Context) {
             // Need to preserve the original prefix so that further operations
             // on the context maintain the correct external view. In the case
@@ -621,6 +660,31 @@ public final class GlassfishNamingManagerImpl implements GlassfishNamingManager
     }
 
 
+    /**
+     * The object created by the proxy can be cached if the proxy is a {@link NamingObjectFactory} with a cacheable
+     * result or if it resolves a reference to a JDBC, JMS, mail or connector resource. Resources are connection
+     * factories, which are shareable, and they are rebound by {@link #publishObject(Name, Object, boolean)}, which
+     * invalidates the cache.
+     * <p>
+     * Note that the proxy is asked after it created the object, so it can decide on the created object.
+     */
+    private static boolean isResolvedObjectCacheable(NamingObjectProxy namingProxy) {
+        if (namingProxy instanceof JndiInitializationNamingObjectFactory) {
+            return true;
+        }
+        return namingProxy instanceof NamingObjectFactory && ((NamingObjectFactory) namingProxy).isCreateResultCacheable();
+    }
+
+
+    /**
+     * Invalidates objects resolved by lookups of all components, because the bindings they were resolved from
+     * or the objects they reference have changed.
+     */
+    private void clearResolvedObjects() {
+        resolvedObjects.replaceAll((componentId, resolved) -> new ConcurrentHashMap<>());
+    }
+
+
     public NamingEnumeration<NameClassPair> list(SimpleJndiName name) throws NamingException {
         ArrayList<SimpleJndiName> list = listNames(name);
         return new BindingsIterator<>(this, list.iterator(), true);
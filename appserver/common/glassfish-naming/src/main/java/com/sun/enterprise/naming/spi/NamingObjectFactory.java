@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2008, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -25,8 +25,9 @@ public interface NamingObjectFactory extends NamingObjectProxy {
 
     /**
      * Tells if the result of create() is cacheable. If so
-     * the naming manager will replace this object factory with
-     * the object itself.
+     * the naming manager caches the object looked up by a component
+     * until the bindings change. The naming manager asks after
+     * create() was called.
      *
      * @return true if the result of create() can be cached
      */
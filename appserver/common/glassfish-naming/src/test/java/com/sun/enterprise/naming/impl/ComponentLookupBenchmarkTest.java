@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.naming.impl;
+
+import com.sun.enterprise.naming.impl.test.ServerExtension;
+import com.sun.enterprise.naming.util.JndiInitializationNamingObjectFactory;
+import com.sun.enterprise.naming.util.JndiNamingObjectFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import org.glassfish.api.naming.JNDIBinding;
+import org.glassfish.api.naming.SimpleJndiName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares throughput of repeated lookups of a resource reference in the component namespace.
+ * <p>
+ * The resource reference resolves a global JNDI name like an {@code @Resource} data source.
+ * Its resolved object is cached by the naming manager, while the lookup name reference
+ * is resolved by every lookup.
+ */
+@State(Scope.Benchmark)
+public class ComponentLookupBenchmarkTest {
+
+    private static final String COMPONENT_ID = "benchmarkComponent";
+    private static final SimpleJndiName RESOURCE_NAME = new SimpleJndiName("jdbc/benchmark");
+    private static final SimpleJndiName CACHED_NAME = new SimpleJndiName("java:comp/env/jdbc/cached");
+    private static final SimpleJndiName RESOLVED_NAME = new SimpleJndiName("java:comp/env/jdbc/resolved");
+
+    private InitialContext initialContext;
+    private GlassfishNamingManagerImpl manager;
+
+    @Test
+    public void lookup() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(500L))
+            .measurementIterations(2).forks(1).measurementTime(TimeValue.milliseconds(500L))
+            .threads(4).timeout(TimeValue.seconds(10L))
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .mode(Mode.Throughput).shouldFailOnError(true)
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        Map<String, Double> scores = results.stream().collect(Collectors.toMap(
+            result -> result.getParams().getBenchmark().replaceFirst(".*\\.", ""),
+            result -> result.getPrimaryResult().getScore()));
+        assertThat(scores.get("cachedLookup"), greaterThan(scores.get("resolvingLookup")));
+    }
+
+
+    @Setup(Level.Trial)
+    public void bindComponent() throws Exception {
+        new ServerExtension().beforeAll(null);
+        initialContext = new InitialContext();
+        manager = new GlassfishNamingManagerImpl(initialContext);
+        manager.publishObject(RESOURCE_NAME, "BenchmarkDataSource", true);
+        List<JNDIBinding> bindings = List.of(
+            new ResourceBinding(CACHED_NAME, new JndiInitializationNamingObjectFactory(CACHED_NAME, RESOURCE_NAME, false)),
+            new ResourceBinding(RESOLVED_NAME, new JndiNamingObjectFactory(RESOLVED_NAME, RESOURCE_NAME, false)));
+        manager.bindToComponentNamespace("benchmarkApp", "benchmarkModule", COMPONENT_ID, false, bindings);
+    }
+
+
+    @TearDown(Level.Trial)
+    public void unbindComponent() throws Exception {
+        manager.unbindComponentObjects(COMPONENT_ID);
+        manager.unpublishObject(RESOURCE_NAME);
+        initialContext.close();
+    }
+
+
+    @Benchmark
+    public Object cachedLookup() throws NamingException {
+        return manager.lookup(COMPONENT_ID, CACHED_NAME);
+    }
+
+
+    @Benchmark
+    public Object resolvingLookup() throws NamingException {
+        return manager.lookup(COMPONENT_ID, RESOLVED_NAME);
+    }
+
+
+    private static class ResourceBinding implements JNDIBinding {
+
+        private final SimpleJndiName name;
+        private final Object value;
+
+        ResourceBinding(SimpleJndiName name, Object value) {
+            this.name = name;
+            this.value = value;
+        }
+
+
+        @Override
+        public SimpleJndiName getName() {
+            return name;
+        }
+
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+    }
+}
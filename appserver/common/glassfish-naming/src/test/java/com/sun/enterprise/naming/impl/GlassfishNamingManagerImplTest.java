@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2008, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -23,6 +23,7 @@ import com.sun.enterprise.naming.spi.NamingObjectFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -293,6 +294,58 @@ public class GlassfishNamingManagerImplTest {
     }
 
 
+    @Test
+    public void resolvedObjectsCachedPerComponent() throws Exception {
+        GlassfishNamingManagerImpl manager = new GlassfishNamingManagerImpl(ctx);
+        CountingNamingObjectFactory cacheable = new CountingNamingObjectFactory(true);
+        CountingNamingObjectFactory nonCacheable = new CountingNamingObjectFactory(false);
+        List<Binding> bindings = List.of(new Binding("java:comp/env/cached", cacheable),
+            new Binding("java:comp/env/notCached", nonCacheable));
+        manager.bindToComponentNamespace("appCache", "modCache", "compCache", false, bindings);
+
+        SimpleJndiName cachedName = SimpleJndiName.of("java:comp/env/cached");
+        SimpleJndiName notCachedName = SimpleJndiName.of("java:comp/env/notCached");
+        assertAll(
+            () -> assertEquals(1, manager.<Integer>lookup("compCache", cachedName)),
+            () -> assertEquals(1, manager.<Integer>lookup("compCache", cachedName)),
+            () -> assertEquals(1, manager.<Integer>lookup("compCache", notCachedName)),
+            () -> assertEquals(2, manager.<Integer>lookup("compCache", notCachedName))
+        );
+
+        // rebinding of any global name may change objects the bindings reference
+        manager.publishObject(SimpleJndiName.of("cacheInvalidation"), "invalidate", true);
+        assertEquals(2, manager.<Integer>lookup("compCache", cachedName));
+        assertEquals(2, manager.<Integer>lookup("compCache", cachedName));
+        manager.unpublishObject(SimpleJndiName.of("cacheInvalidation"));
+
+        manager.unbindComponentObjects("compCache");
+        assertThrows(NamingException.class, () -> manager.lookup("compCache", cachedName));
+    }
+
+
+    private static class CountingNamingObjectFactory implements NamingObjectFactory {
+
+        private final boolean cacheable;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        CountingNamingObjectFactory(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+
+        @Override
+        public boolean isCreateResultCacheable() {
+            return cacheable;
+        }
+
+
+        @Override
+        public Integer create(Context ic) {
+            return counter.incrementAndGet();
+        }
+    }
+
+
     private static class Binding implements JNDIBinding {
 
         SimpleJndiName logicalName;
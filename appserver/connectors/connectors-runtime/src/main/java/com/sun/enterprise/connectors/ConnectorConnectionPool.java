@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -94,6 +94,12 @@ public class ConnectorConnectionPool implements Serializable {
     //This property will be set by ConnectorConnectionPoolDeployer or
     //JdbcConnectionPoolDeployer.
     private boolean preferValidateOverRecreate_;
+    //This property will be set by ConnectorConnectionPoolDeployer or
+    //JdbcConnectionPoolDeployer.
+    private boolean adaptiveResizing_;
+    //This property will be set by ConnectorConnectionPoolDeployer or
+    //JdbcConnectionPoolDeployer.
+    private boolean backgroundValidation_;
 
     private String validateAtmostOncePeriod_;
 
@@ -662,6 +668,10 @@ public class ConnectorConnectionPool implements Serializable {
             sb.append(isConnectionValidationRequired_);
             sb.append("\npreferValidateOverRecreate_ ");
             sb.append(preferValidateOverRecreate_);
+            sb.append("\nadaptiveResizing_ ");
+            sb.append(adaptiveResizing_);
+            sb.append("\nbackgroundValidation_ ");
+            sb.append(backgroundValidation_);
 
             sb.append("\nmatchConnections_ ");
             sb.append(matchConnections_);
@@ -790,6 +800,22 @@ public class ConnectorConnectionPool implements Serializable {
         preferValidateOverRecreate_ = preferValidateOverRecreate;
     }
 
+    public boolean isAdaptiveResizing() {
+        return adaptiveResizing_;
+    }
+
+    public void setAdaptiveResizing(boolean adaptiveResizing) {
+        adaptiveResizing_ = adaptiveResizing;
+    }
+
+    public boolean isBackgroundValidation() {
+        return backgroundValidation_;
+    }
+
+    public void setBackgroundValidation(boolean backgroundValidation) {
+        backgroundValidation_ = backgroundValidation;
+    }
+
     public long getDynamicReconfigWaitTimeout() {
         return dynamicReconfigWaitTimeout;
     }
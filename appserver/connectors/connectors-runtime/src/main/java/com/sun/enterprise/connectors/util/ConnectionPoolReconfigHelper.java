@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -70,6 +70,10 @@ public final class ConnectionPoolReconfigHelper {
         if (newCcp.isPartitionedPool() != oldCcp.isPartitionedPool()) {
             return ReconfigAction.RECREATE_POOL;
         }
+
+        if (newCcp.isAdaptiveResizing() != oldCcp.isAdaptiveResizing()) {
+            return ReconfigAction.RECREATE_POOL;
+        }
         if (newCcp.getPoolDataStructureType() == null && oldCcp.getPoolDataStructureType() != null) {
             return ReconfigAction.RECREATE_POOL;
         }
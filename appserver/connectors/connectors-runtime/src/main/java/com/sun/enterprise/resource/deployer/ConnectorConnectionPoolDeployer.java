@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -446,6 +446,16 @@ public class ConnectorConnectionPoolDeployer
                                 value);
                     }
                     ccp.setPreferValidateOverRecreate(toBoolean(value, false));
+                } else if ("ADAPTIVE-RESIZING".equals(ep.getName().toUpperCase(locale))) {
+                    ccp.setAdaptiveResizing(toBoolean(ep.getValue(), false));
+                    if(LOG.isLoggable(Level.FINE)) {
+                        LOG.fine("ADAPTIVE-RESIZING");
+                    }
+                } else if ("BACKGROUND-VALIDATION".equals(ep.getName().toUpperCase(locale))) {
+                    ccp.setBackgroundValidation(toBoolean(ep.getValue(), false));
+                    if(LOG.isLoggable(Level.FINE)) {
+                        LOG.fine("BACKGROUND-VALIDATION");
+                    }
                 }
             }
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -125,4 +125,15 @@ public interface PoolLifeCycleListener {
      */
     void connectionRequestDequeued();
 
+    /**
+     * indicates that the adaptive resizer has forecast the pool size and created connections ahead of demand.
+     * Called after every sample of the pool, also when no connection was created.
+     *
+     * @param targetPoolSize forecast pool size
+     * @param count number of connections created, may be 0
+     */
+    default void connectionsPrewarmed(int targetPoolSize, int count) {
+        // not interested by default
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -228,6 +228,37 @@ public class AssocWithThreadResourcePool extends ConnectionPool {
         return result;
     }
 
+    /**
+     * The resource handed over by another thread might have been marked for recycle by the Resizer meanwhile,
+     * such resource is removed. An accepted resource is associated with this thread like in
+     * {@link #getUnenlistedResource(ResourceSpec, ResourceAllocator, Transaction)}, or disassociated if this thread
+     * already has its resource, so that the thread which released it does not use it again.
+     */
+    @Override
+    protected ResourceHandle acceptHandedOverResource(ResourceHandle resourceHandle, ResourceAllocator resourceAllocator) {
+        if (resourceHandle instanceof AssocWithThreadResourceHandle) {
+            synchronized (resourceHandle.lock) {
+                if (((AssocWithThreadResourceHandle) resourceHandle).isDirty()) {
+                    dataStructure.removeResource(resourceHandle);
+                    notifyWaitingThreads();
+                    return null;
+                }
+            }
+        }
+
+        ResourceHandle result = super.acceptHandedOverResource(resourceHandle, resourceAllocator);
+        if (result instanceof AssocWithThreadResourceHandle) {
+            if (localResource.get() == null) {
+                setInThreadLocal((AssocWithThreadResourceHandle) result);
+            } else {
+                synchronized (result.lock) {
+                    ((AssocWithThreadResourceHandle) result).setAssociated(false);
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * return the resource back to pool only if it is not associated with the thread.
      *
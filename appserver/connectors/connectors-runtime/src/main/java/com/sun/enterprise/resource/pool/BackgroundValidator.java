@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool;
+
+import com.sun.appserv.connectors.internal.api.PoolingException;
+import com.sun.enterprise.resource.AssocWithThreadResourceHandle;
+import com.sun.enterprise.resource.ResourceHandle;
+import com.sun.enterprise.resource.pool.datastructure.DataStructure;
+import com.sun.logging.LogDomains;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimerTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.resourcebase.resources.api.PoolInfo;
+
+import static java.util.logging.Level.FINE;
+
+/**
+ * Validates free resources of the pool in the background, so that the resources do not have to be validated
+ * when they are borrowed from the pool.
+ * <p>
+ * Every period, the free resources which were not validated during the last period are taken out of the pool
+ * in batches of "pool-resize-quantity" resources, validated and returned to the pool. Invalid resources are
+ * removed and replaced to maintain the steady pool size. Resources in use are not validated, the pool validates
+ * them when they are borrowed again after being idle for too long. The validation is interrupted when there are
+ * requests waiting for a resource. Requests which started waiting while a batch was taken out of the pool are
+ * notified when the batch is returned.
+ */
+public class BackgroundValidator extends TimerTask {
+
+    private static final Logger LOG = LogDomains.getLogger(BackgroundValidator.class, LogDomains.RSR_LOGGER);
+
+    private final PoolInfo poolInfo;
+    private final DataStructure dataStructure;
+    private final PoolProperties pool;
+    private final ResourceHandler handler;
+    private final Runnable waitingThreadsNotifier;
+    private final long period;
+
+    /**
+     * @param poolInfo pool whose resources are validated
+     * @param dataStructure resources of the pool
+     * @param pool pool properties
+     * @param handler handler notified about invalid resources
+     * @param waitingThreadsNotifier notifies a request waiting for a resource of the pool
+     * @param period period of the validation in milliseconds
+     */
+    public BackgroundValidator(PoolInfo poolInfo, DataStructure dataStructure, PoolProperties pool, ResourceHandler handler,
+        Runnable waitingThreadsNotifier, long period) {
+        this.poolInfo = poolInfo;
+        this.dataStructure = dataStructure;
+        this.pool = pool;
+        this.handler = handler;
+        this.waitingThreadsNotifier = waitingThreadsNotifier;
+        this.period = period;
+    }
+
+    /**
+     * @return period of the validation in milliseconds
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    @Override
+    public void run() {
+        try {
+            int invalid = validateResources();
+            LOG.log(FINE, "Background validation of pool {0} removed {1} invalid resources", new Object[] {poolInfo, invalid});
+            if (invalid > 0) {
+                ensureSteadyPool();
+            }
+        } catch (Exception ex) {
+            LOG.log(Level.WARNING, "Background validation of pool " + poolInfo + " failed", ex);
+        }
+    }
+
+    /**
+     * Validates the free resources which were not validated during the last period.
+     *
+     * @return number of removed invalid resources
+     */
+    int validateResources() {
+        final int batchSize = Math.max(1, pool.getResizeQuantity());
+        final long validatedSince = System.currentTimeMillis() - period;
+        int invalid = 0;
+        while (pool.getWaitQueueLength() == 0) {
+            List<ResourceHandle> batch = takeBatch(batchSize, validatedSince);
+            try {
+                if (batch.isEmpty()) {
+                    break;
+                }
+                invalid += validateBatch(batch);
+            } finally {
+                // Requests could not get the taken resources, so they might be waiting now
+                waitingThreadsNotifier.run();
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Validates the batch and returns the valid resources to the pool.
+     *
+     * @return number of removed invalid resources
+     */
+    private int validateBatch(List<ResourceHandle> batch) {
+        int invalid = 0;
+        for (ResourceHandle handle : batch) {
+            if (isValid(handle)) {
+                handle.setLastValidated(System.currentTimeMillis());
+                dataStructure.returnResource(handle);
+            } else {
+                dataStructure.removeResource(handle);
+                handler.invalidConnectionDetected(handle);
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Takes free resources out of the pool until the batch of resources to validate is complete. The other taken
+     * resources are returned back to the pool before the batch is validated.
+     */
+    private List<ResourceHandle> takeBatch(int batchSize, long validatedSince) {
+        List<ResourceHandle> batch = new ArrayList<>(batchSize);
+        List<ResourceHandle> skipped = new ArrayList<>();
+        try {
+            ResourceHandle handle;
+            while (batch.size() < batchSize && (handle = dataStructure.getResource()) != null) {
+                if (handle.getLastValidated() < validatedSince && !isAssociated(handle)) {
+                    batch.add(handle);
+                } else {
+                    skipped.add(handle);
+                }
+            }
+        } finally {
+            for (ResourceHandle handle : skipped) {
+                dataStructure.returnResource(handle);
+            }
+        }
+        return batch;
+    }
+
+    private boolean isValid(ResourceHandle handle) {
+        try {
+            return handle.getResourceAllocator().isConnectionValid(handle);
+        } catch (Exception ex) {
+            LOG.log(FINE, "Validation of resource " + handle + " of pool " + poolInfo + " failed", ex);
+            return false;
+        }
+    }
+
+    /**
+     * Resources associated with a thread can be used without being taken out of the pool.
+     */
+    private static boolean isAssociated(ResourceHandle handle) {
+        return handle instanceof AssocWithThreadResourceHandle && ((AssocWithThreadResourceHandle) handle).isAssociated();
+    }
+
+    private void ensureSteadyPool() {
+        for (int i = dataStructure.getResourcesSize(); i < pool.getSteadyPoolSize(); i++) {
+            try {
+                handler.createResourceAndAddToPool();
+            } catch (PoolingException ex) {
+                Object[] params = new Object[] { poolInfo, ex.getMessage() };
+                LOG.log(Level.WARNING, "resource_pool.resize_pool_error", params);
+            }
+        }
+    }
+}
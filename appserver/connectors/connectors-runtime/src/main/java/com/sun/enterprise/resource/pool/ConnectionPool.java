@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -27,6 +27,7 @@ import com.sun.enterprise.resource.allocator.ResourceAllocator;
 import com.sun.enterprise.resource.listener.PoolLifeCycleListener;
 import com.sun.enterprise.resource.pool.datastructure.DataStructure;
 import com.sun.enterprise.resource.pool.datastructure.DataStructureFactory;
+import com.sun.enterprise.resource.pool.resizer.AdaptiveResizer;
 import com.sun.enterprise.resource.pool.resizer.Resizer;
 import com.sun.enterprise.resource.pool.waitqueue.PoolWaitQueue;
 import com.sun.enterprise.resource.pool.waitqueue.PoolWaitQueueFactory;
@@ -44,6 +45,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.Timer;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
@@ -142,9 +144,29 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
      */
     protected boolean preferValidateOverRecreate;
 
+    /**
+     * Represents the "adaptive-resizing" pool property.<br>
+     * If true, the resizer forecasts the demand and creates the resources before they are requested,
+     * see {@link AdaptiveResizer}.<br>
+     * Default: false
+     */
+    protected boolean adaptiveResizing;
+
+    /**
+     * Represents the "background-validation" pool property.<br>
+     * If true and connections have to be validated, free connections are validated by a background task, see
+     * {@link BackgroundValidator}, every "validate-atmost-once-period-in-seconds" or every minute if the period is not
+     * set. Borrowed connections are then validated only if they were neither validated nor used for two periods.<br>
+     * Default: false
+     */
+    protected boolean backgroundValidation;
+
     // hold on to the resizer task so we can cancel/reschedule it.
     protected Resizer resizerTask;
 
+    // hold on to the background validator task so we can cancel/reschedule it.
+    protected volatile BackgroundValidator validatorTask;
+
     protected volatile boolean poolInitialized;
     protected Timer timer;
 
@@ -235,6 +257,12 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
      */
     private final ReentrantLock getResourceFromPoolAndFreeResourceMethodsLock = new ReentrantLock(true);
 
+    private static final long DEFAULT_BACKGROUND_VALIDATION_PERIOD = 60_000L;
+
+    // Counters sampled by the resizer, independent on the monitoring level.
+    private final LongAdder numResourcesAcquired = new LongAdder();
+    private final LongAdder totalResourceWaitTime = new LongAdder();
+
     public ConnectionPool(PoolInfo poolInfo, Hashtable env) throws PoolingException {
         this.poolInfo = poolInfo;
         setPoolConfiguration(env);
@@ -326,6 +354,8 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
         // if the idle time out is 0, then don't schedule the resizer task
         if (idletime > 0) {
             scheduleResizerTask();
+        } else {
+            scheduleValidatorTask();
         }
 
         // Need to set the numConnFree of monitoring statistics to the steadyPoolSize
@@ -355,11 +385,38 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
             timer = ConnectorRuntime.getRuntime().getTimer();
         }
 
-        timer.scheduleAtFixedRate(resizerTask, idletime, idletime);
-        LOG.log(FINE, "Scheduled resizer task with the idle time {0} ms", idletime);
+        long period = resizerTask.getPeriod(idletime);
+        timer.scheduleAtFixedRate(resizerTask, period, period);
+        LOG.log(FINE, "Scheduled resizer task with the idle time {0} ms and period {1} ms", new Object[] {idletime, period});
+        scheduleValidatorTask();
+    }
+
+    /**
+     * Schedules the background validator timer task if the background validation is enabled. If a task is currently
+     * scheduled, it would be canceled.
+     */
+    private void scheduleValidatorTask() {
+        if (validatorTask != null) {
+            validatorTask.cancel();
+            validatorTask = null;
+        }
+        if (!validation || !backgroundValidation) {
+            return;
+        }
+
+        long period = validateAtmostPeriodInMilliSeconds_ > 0 ? validateAtmostPeriodInMilliSeconds_ : DEFAULT_BACKGROUND_VALIDATION_PERIOD;
+        validatorTask = new BackgroundValidator(poolInfo, dataStructure, this, this, this::notifyWaitingThreads, period);
+        if (timer == null) {
+            timer = ConnectorRuntime.getRuntime().getTimer();
+        }
+        timer.scheduleAtFixedRate(validatorTask, period, period);
+        LOG.log(FINE, "Scheduled background validator task with the period {0} ms", period);
     }
 
     protected Resizer initializeResizer() {
+        if (adaptiveResizing) {
+            return new AdaptiveResizer(poolInfo, dataStructure, this, this, preferValidateOverRecreate, () -> poolLifeCycleListener);
+        }
         return new Resizer(poolInfo, dataStructure, this, this, preferValidateOverRecreate);
     }
 
@@ -438,7 +495,8 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
         long remainingWaitTime = 0;
 
         while (true) {
-            if (gateway.allowed()) {
+            // The result can be already set by a thread which handed over its released resource.
+            if (result == null && gateway.allowed()) {
                 // See comment #1 above
                 JavaEETransaction javaEETransaction = ((JavaEETransaction) transaction);
                 final Set resourcesSet = javaEETransaction == null ? null : javaEETransaction.getResources(poolInfo);
@@ -456,9 +514,11 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
 
             if (result != null) {
                 // got one, return it
+                elapsedWaitTime = System.currentTimeMillis() - startTime;
+                numResourcesAcquired.increment();
+                totalResourceWaitTime.add(elapsedWaitTime);
                 if (poolLifeCycleListener != null) {
                     poolLifeCycleListener.connectionAcquired(result.getId());
-                    elapsedWaitTime = System.currentTimeMillis() - startTime;
                     poolLifeCycleListener.connectionRequestServed(elapsedWaitTime);
                     if (LOG.isLoggable(FINE)) {
                         LOG.log(FINE,
@@ -487,31 +547,18 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
 
             if (!blocked) {
                 // add to wait-queue
-                Object waitMonitor = new Object();
                 if (poolLifeCycleListener != null) {
                     poolLifeCycleListener.connectionRequestQueued();
                 }
-                synchronized (waitMonitor) {
-                    waitQueue.addToQueue(waitMonitor);
-
-                    try {
-                        LOG.log(FINE, "Resource Pool: getting on wait queue");
-                        waitMonitor.wait(remainingWaitTime);
-
-                    } catch (InterruptedException ex) {
-                        // Could be system shutdown.
-                        break;
-                    }
-
-                    // Try to remove in case that the monitor has timed out. We don't expect the queue to grow to great numbers
-                    // so the overhead for removing inexistant objects is low.
-                    LOG.log(FINE, "removing wait monitor from queue: {0}", waitMonitor);
-
-                    if (waitQueue.removeFromQueue(waitMonitor)) {
-                        if (poolLifeCycleListener != null) {
-                            poolLifeCycleListener.connectionRequestDequeued();
-                        }
+                try {
+                    LOG.log(FINE, "Resource Pool: getting on wait queue");
+                    ResourceHandle handedOver = waitQueue.waitForResource(remainingWaitTime, this::connectionRequestDequeued);
+                    if (handedOver != null) {
+                        result = acceptHandedOverResource(handedOver, alloc);
                     }
+                } catch (InterruptedException ex) {
+                    // Could be system shutdown.
+                    break;
                 }
             } else {
                 // Add to reconfig-wait-queue
@@ -549,6 +596,47 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
         return result;
     }
 
+    /**
+     * Takes over the resource released by another thread and passed directly to this thread by the wait queue.
+     * <p>
+     * The resource was not returned to the pool datastructure, so if it cannot be used for this request,
+     * it is returned to the pool (or removed, if it is not valid any more) and the next waiting thread is notified.
+     * <p>
+     * Overridden in AssocWithThreadResourcePool to apply the same checks and the thread association as
+     * {@link #getUnenlistedResource(ResourceSpec, ResourceAllocator, Transaction)}.
+     *
+     * @param resourceHandle resource handed over by the wait queue
+     * @param resourceAllocator ResourceAllocator of this request
+     * @return the resource marked as busy or null if it cannot be used for this request.
+     */
+    protected ResourceHandle acceptHandedOverResource(ResourceHandle resourceHandle, ResourceAllocator resourceAllocator) {
+        getResourceFromPoolAndFreeResourceMethodsLock.lock();
+        try {
+            if (resourceHandle.hasConnectionErrorOccurred()) {
+                dataStructure.removeResource(resourceHandle);
+            } else if (!matchConnection(resourceHandle, resourceAllocator)
+                || resourceHandle.isShareable() != resourceAllocator.shareableWithinComponent()) {
+                dataStructure.returnResource(resourceHandle);
+            } else if (!isConnectionValid(resourceHandle, resourceAllocator) || resourceHandle.hasConnectionErrorOccurred()) {
+                dataStructure.removeResource(resourceHandle);
+            } else {
+                setResourceStateToBusy(resourceHandle);
+                if (maxConnectionUsage_ > 0) {
+                    resourceHandle.incrementUsageCount();
+                }
+                if (poolLifeCycleListener != null) {
+                    poolLifeCycleListener.connectionUsed(resourceHandle.getId());
+                    poolLifeCycleListener.decrementNumConnFree();
+                }
+                return resourceHandle;
+            }
+            notifyWaitingThreads();
+            return null;
+        } finally {
+            getResourceFromPoolAndFreeResourceMethodsLock.unlock();
+        }
+    }
+
     /**
      * Overridden in AssocWithThreadResourcePool to fetch the resource cached in the ThreadLocal In ConnectionPool this
      * simply returns null.
@@ -708,9 +796,16 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
 
         if (validation || validateAtmostEveryIdleSecs) {
             long validationPeriod;
+            long lastValidated = resourceHandle.getLastValidated();
+            BackgroundValidator validator = validatorTask;
             // validation period is idle timeout if validateAtmostEveryIdleSecs is set to true
             // else it is validateAtmostPeriodInMilliSeconds_
-            if (validation) {
+            if (validation && validator != null) {
+                // Free resources are validated in the background, validate just the resources which were neither
+                // validated nor used for a while, ie. resources in use for too long or missed by the validator.
+                validationPeriod = 2 * validator.getPeriod();
+                lastValidated = Math.max(lastValidated, resourceHandle.getResourceState().getTimestamp());
+            } else if (validation) {
                 validationPeriod = validateAtmostPeriodInMilliSeconds_;
             } else {
                 validationPeriod = idletime;
@@ -720,7 +815,7 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
             long currentTime = resourceHandle.getLastValidated();
             if (validationPeriod > 0) {
                 currentTime = System.currentTimeMillis();
-                long timeSinceValidation = currentTime - resourceHandle.getLastValidated();
+                long timeSinceValidation = currentTime - lastValidated;
                 if (timeSinceValidation < validationPeriod) {
                     validationRequired = false;
                 }
@@ -1115,13 +1210,22 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
                 if (maxConnectionUsage_ > 0 && resourceHandle.getUsageCount() >= maxConnectionUsage_) {
                     performMaxConnectionUsageOperation(resourceHandle);
                 } else {
-                    // Put it back to the free collection.
-                    dataStructure.returnResource(resourceHandle);
+                    // Pass it directly to the first waiting thread if the wait queue supports it,
+                    // otherwise put it back to the free collection.
+                    boolean handedOver = waitQueue.handOver(resourceHandle);
+                    if (!handedOver) {
+                        dataStructure.returnResource(resourceHandle);
+                    }
                     // update the monitoring data
                     if (poolLifeCycleListener != null && !resourceHandle.getDestroyByLeakTimeOut()) {
                         poolLifeCycleListener.decrementConnectionUsed(resourceHandle.getId());
                         poolLifeCycleListener.incrementNumConnFree(false, steadyPoolSize);
                     }
+                    if (handedOver) {
+                        connectionRequestDequeued();
+                        // The waiting thread already has the resource, nobody else has to be notified.
+                        return;
+                    }
                 }
                 // For both the cases of free.add and maxConUsageOperation, a free resource is added.
                 // Hence notify waiting threads.
@@ -1280,22 +1384,17 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
 
     protected void notifyWaitingThreads() {
         // notify the first thread in the waitqueue
-        Object waitMonitor = null;
-        synchronized (waitQueue) {
-            if (waitQueue.getQueueLength() > 0) {
-                waitMonitor = waitQueue.remove();
-                if (poolLifeCycleListener != null) {
-                    poolLifeCycleListener.connectionRequestDequeued();
-                }
-            }
-        }
-        if (waitMonitor == null) {
-            LOG.log(FINE, "Wait monitor is null");
+        if (waitQueue.notifyFirst()) {
+            LOG.log(FINE, "Notified the first waiting resource request.");
+            connectionRequestDequeued();
         } else {
-            synchronized (waitMonitor) {
-                LOG.log(FINE, "Notifying wait monitor: {0}", waitMonitor);
-                waitMonitor.notifyAll();
-            }
+            LOG.log(FINE, "No resource request is waiting.");
+        }
+    }
+
+    private void connectionRequestDequeued() {
+        if (poolLifeCycleListener != null) {
+            poolLifeCycleListener.connectionRequestDequeued();
         }
     }
 
@@ -1466,6 +1565,10 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
             }
             reconfigureSteadyPoolSize(oldSteadyPoolSize, _steadyPoolSize);
         }
+
+        if (poolInitialized) {
+            scheduleValidatorTask();
+        }
     }
 
     protected void reconfigureSteadyPoolSize(int oldSteadyPoolSize, int newSteadyPoolSize) throws PoolingException {
@@ -1490,6 +1593,8 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
     private void setAdvancedPoolConfiguration(ConnectorConnectionPool poolResource) {
         matchConnections = poolResource.matchConnections();
         preferValidateOverRecreate = poolResource.isPreferValidateOverRecreate();
+        adaptiveResizing = poolResource.isAdaptiveResizing();
+        backgroundValidation = poolResource.isBackgroundValidation();
         maxConnectionUsage_ = Integer.parseInt(poolResource.getMaxConnectionUsage());
         connectionCreationRetryAttempts_ = Integer.parseInt(poolResource.getConCreationRetryAttempts());
         // Converting seconds to milliseconds as TimerTask will take input in milliseconds
@@ -1567,6 +1672,11 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
             resizerTask.cancel();
         }
         resizerTask = null;
+        // The validator is rescheduled together with the resizer
+        if (validatorTask != null) {
+            validatorTask.cancel();
+        }
+        validatorTask = null;
         if (timer != null) {
             timer.purge();
         }
@@ -1593,6 +1703,16 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
         return waitQueue.getQueueLength();
     }
 
+    @Override
+    public long getNumResourcesAcquired() {
+        return numResourcesAcquired.sum();
+    }
+
+    @Override
+    public long getTotalResourceWaitTime() {
+        return totalResourceWaitTime.sum();
+    }
+
     @Override
     public int getSteadyPoolSize() {
         return steadyPoolSize;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -58,4 +58,18 @@ public interface PoolProperties {
      * @return wait queue length
      */
     int getWaitQueueLength();
+
+    /**
+     * gets the number of resources acquired from the pool since it was created
+     *
+     * @return number of acquired resources
+     */
+    long getNumResourcesAcquired();
+
+    /**
+     * gets the total time the acquired resources were waited for since the pool was created
+     *
+     * @return total wait time in milliseconds
+     */
+    long getTotalResourceWaitTime();
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.datastructure;
+
+import com.sun.appserv.connectors.internal.api.PoolingException;
+import com.sun.enterprise.resource.ResourceHandle;
+import com.sun.enterprise.resource.allocator.ResourceAllocator;
+import com.sun.enterprise.resource.pool.ResourceHandler;
+import com.sun.logging.LogDomains;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Lock-free datastructure for pool, inspired by the HikariCP {@code ConcurrentBag}.
+ * <p>
+ * Every resource lives in a {@link Slot} with an atomic state, so {@link #getResource()} and
+ * {@link #returnResource(ResourceHandle)} only need a compare-and-set on the slot:
+ * <ol>
+ * <li>the calling thread first tries the slot returned most recently in its stripe,
+ * <li>then it scans the shared slot array, starting at a random offset to spread the contention.
+ * </ol>
+ * Only structural changes ({@link #addResource(ResourceAllocator, int)}, {@link #removeResource(ResourceHandle)}
+ * and {@link #removeAll()}) take a lock, they replace the slot array copy-on-write.
+ * <p>
+ * Threads are mapped to a fixed count of stripes by their id instead of using a thread local,
+ * so the memory does not grow with the count of threads, which can be large with virtual threads.
+ */
+public class ConcurrentBagDataStructure implements DataStructure {
+
+    private static final Logger LOG = LogDomains.getLogger(ConcurrentBagDataStructure.class, LogDomains.RSR_LOGGER);
+
+    /** Count of remembered recently returned slots, the power of two for twice the processors, at most 64 */
+    private static final int STRIPE_COUNT = Integer.highestOneBit(Math.min(63, 2 * Runtime.getRuntime().availableProcessors() - 1)) << 1;
+    private static final Slot[] EMPTY = new Slot[0];
+
+    private final ResourceHandler handler;
+    private final DataStructureSemaphore availableResources;
+    private final Map<ResourceHandle, Slot> slotsByResource = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Slot> recentlyReturned = new AtomicReferenceArray<>(STRIPE_COUNT);
+    private final LongAdder freeCount = new LongAdder();
+    private final Object structureLock = new Object();
+
+    private volatile Slot[] slots = EMPTY;
+    private volatile int maxSize;
+
+    public ConcurrentBagDataStructure(String parameters, int maxSize, ResourceHandler handler, String strategyClass) {
+        this.availableResources = new DataStructureSemaphore(maxSize);
+        this.handler = handler;
+        this.maxSize = maxSize;
+
+        LOG.log(Level.FINEST, "pool.datastructure.concurrentbagds.init");
+    }
+
+
+    @Override
+    public int addResource(ResourceAllocator allocator, int count) throws PoolingException {
+        int numResAdded = 0;
+        for (int i = 0; i < count; i++) {
+            if (!availableResources.tryAcquire()) {
+                break;
+            }
+
+            ResourceHandle resource;
+            try {
+                resource = handler.createResource(allocator);
+            } catch (Exception e) {
+                availableResources.release();
+                throw new PoolingException(e.getMessage(), e);
+            }
+
+            Slot slot = new Slot(resource);
+            synchronized (structureLock) {
+                Slot[] currentSlots = slots;
+                Slot[] newSlots = Arrays.copyOf(currentSlots, currentSlots.length + 1);
+                newSlots[currentSlots.length] = slot;
+                slotsByResource.put(resource, slot);
+                freeCount.increment();
+                slots = newSlots;
+            }
+            numResAdded++;
+        }
+        return numResAdded;
+    }
+
+    @Override
+    public ResourceHandle getResource() {
+        Slot recent = recentlyReturned.get(stripe());
+        if (recent != null && recent.acquire()) {
+            freeCount.decrement();
+            return recent.resource;
+        }
+
+        Slot[] currentSlots = slots;
+        int length = currentSlots.length;
+        if (length == 0) {
+            return null;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            Slot slot = currentSlots[(start + i) % length];
+            if (slot.acquire()) {
+                freeCount.decrement();
+                return slot.resource;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void removeResource(ResourceHandle resource) {
+        Slot slot = slotsByResource.get(resource);
+        if (slot == null) {
+            return;
+        }
+
+        int previousState = slot.state.getAndSet(Slot.REMOVED);
+        if (previousState == Slot.REMOVED) {
+            return;
+        }
+
+        if (previousState == Slot.FREE) {
+            freeCount.decrement();
+        }
+
+        forget(slot);
+        synchronized (structureLock) {
+            slotsByResource.remove(resource);
+            Slot[] currentSlots = slots;
+            for (int i = 0; i < currentSlots.length; i++) {
+                if (currentSlots[i] == slot) {
+                    Slot[] newSlots = new Slot[currentSlots.length - 1];
+                    System.arraycopy(currentSlots, 0, newSlots, 0, i);
+                    System.arraycopy(currentSlots, i + 1, newSlots, i, newSlots.length - i);
+                    slots = newSlots;
+                    break;
+                }
+            }
+        }
+
+        availableResources.release();
+        handler.deleteResource(resource);
+    }
+
+    @Override
+    public void returnResource(ResourceHandle resource) {
+        Slot slot = slotsByResource.get(resource);
+        if (slot == null || !slot.release()) {
+            return;
+        }
+
+        freeCount.increment();
+        recentlyReturned.lazySet(stripe(), slot);
+    }
+
+    @Override
+    public int getFreeListSize() {
+        return freeCount.intValue();
+    }
+
+    @Override
+    public void removeAll() {
+        Slot[] slotsToRemove;
+        synchronized (structureLock) {
+            slotsToRemove = slots;
+            slots = EMPTY;
+            slotsByResource.clear();
+        }
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            recentlyReturned.set(i, null);
+        }
+
+        for (Slot slot : slotsToRemove) {
+            int previousState = slot.state.getAndSet(Slot.REMOVED);
+            if (previousState == Slot.REMOVED) {
+                continue;
+            }
+            if (previousState == Slot.FREE) {
+                freeCount.decrement();
+            }
+            availableResources.release();
+            handler.deleteResource(slot.resource);
+        }
+    }
+
+    @Override
+    public int getResourcesSize() {
+        return slots.length;
+    }
+
+    @Override
+    public synchronized void setMaxSize(int newMaxSize) {
+        int permits = newMaxSize - maxSize;
+
+        switch (Integer.signum(permits)) {
+            case 1:
+                availableResources.release(permits);
+                break;
+            case -1:
+                availableResources.reducePermits(Math.abs(permits));
+                break;
+            default:
+                return;
+        }
+
+        this.maxSize = newMaxSize;
+    }
+
+    @Override
+    public List<ResourceHandle> getAllResources() {
+        Slot[] currentSlots = slots;
+        List<ResourceHandle> allResources = new ArrayList<>(currentSlots.length);
+        for (Slot slot : currentSlots) {
+            allResources.add(slot.resource);
+        }
+        return allResources;
+    }
+
+    /**
+     * Removed slots must not stay referenced, they would keep the removed resources reachable.
+     */
+    private void forget(Slot slot) {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            recentlyReturned.compareAndSet(i, slot, null);
+        }
+    }
+
+    private static int stripe() {
+        // Fibonacci hashing spreads consecutive thread ids
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & (STRIPE_COUNT - 1);
+    }
+
+    /**
+     * Holder of the resource and of its state in this datastructure.
+     */
+    private static final class Slot {
+
+        static final int FREE = 0;
+        static final int IN_USE = 1;
+        static final int REMOVED = -1;
+
+        final ResourceHandle resource;
+        final AtomicInteger state = new AtomicInteger(FREE);
+
+        Slot(ResourceHandle resource) {
+            this.resource = resource;
+        }
+
+        boolean acquire() {
+            return state.get() == FREE && state.compareAndSet(FREE, IN_USE);
+        }
+
+        boolean release() {
+            return state.compareAndSet(IN_USE, FREE);
+        }
+    }
+
+    /**
+     * Semaphore whose available permits change according to the
+     * changes in max-pool-size via a reconfiguration.
+     */
+    private static final class DataStructureSemaphore extends Semaphore {
+
+        DataStructureSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
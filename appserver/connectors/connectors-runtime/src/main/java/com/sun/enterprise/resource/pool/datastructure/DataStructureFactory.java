@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -47,6 +47,8 @@ public class DataStructureFactory {
                 dataStructure = new ListDataStructure(parameters, maxPoolSize, handler, strategyClass);
             } else if (className.equals(RWLockDataStructure.class.getName())) {
                 dataStructure = new RWLockDataStructure(parameters, maxPoolSize, handler, strategyClass);
+            } else if (className.equals(ConcurrentBagDataStructure.class.getName())) {
+                dataStructure = new ConcurrentBagDataStructure(parameters, maxPoolSize, handler, strategyClass);
             } else {
                 dataStructure = initializeCustomDataStructureInPrivilegedMode(className, parameters, maxPoolSize, handler, strategyClass);
             }
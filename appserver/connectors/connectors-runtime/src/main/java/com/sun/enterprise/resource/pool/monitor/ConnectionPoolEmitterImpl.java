@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -296,6 +296,19 @@ public class ConnectionPoolEmitterImpl implements PoolLifeCycleListener {
         poolProbeProvider.connectionRequestDequeuedEvent(poolInfo.getName().toString(), poolInfo.getApplicationName(), poolInfo.getModuleName());
     }
 
+    /**
+     * Fires probe event related to the fact the adaptive resizer of the given
+     * connection pool has forecast its size and created connections.
+     *
+     * @param targetPoolSize forecast pool size
+     * @param count number of connections created, may be 0
+     */
+    @Override
+    public void connectionsPrewarmed(int targetPoolSize, int count) {
+        poolProbeProvider.connectionsPrewarmedEvent(poolInfo.getName().toString(), poolInfo.getApplicationName(), poolInfo.getModuleName(),
+            targetPoolSize, count);
+    }
+
     private String getAppName(long resourceHandleId) {
 
         // if monitoring is disabled, avoid sending events
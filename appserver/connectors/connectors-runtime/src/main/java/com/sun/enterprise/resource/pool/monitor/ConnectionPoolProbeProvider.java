@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -221,4 +222,17 @@ public abstract class ConnectionPoolProbeProvider {
      */
     public void connectionRequestDequeuedEvent(String poolName, String appName, String moduleName) {
     }
+
+    /**
+     * Emits probe event/notification that the adaptive resizer has forecast the size
+     * of the given connection pool <code>poolName</code> and created connections ahead of demand.
+     *
+     * @param poolName
+     * @param appName application-name in which the pool is defined
+     * @param moduleName module-name in which the pool is defined
+     * @param targetPoolSize forecast pool size
+     * @param count number of connections created, may be 0
+     */
+    public void connectionsPrewarmedEvent(String poolName, String appName, String moduleName, int targetPoolSize, int count) {
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -119,6 +119,15 @@ public class ConnectorConnPoolStatsProvider {
     private final CountStatisticImpl waitQueueLength = new CountStatisticImpl(
             "WaitQueueLength", StatisticImpl.UNIT_COUNT,
             "Number of connection requests in the queue waiting to be serviced.");
+    private final CountStatisticImpl numConnPrewarmed = new CountStatisticImpl(
+            "NumConnPrewarmed", StatisticImpl.UNIT_COUNT,
+            "The number of physical connections that were created by the adaptive " +
+            "resizer ahead of demand since the last reset.");
+    private final RangeStatisticImpl targetPoolSize = new RangeStatisticImpl(
+            0, 0, 0,
+            "TargetPoolSize", StatisticImpl.UNIT_COUNT, "The pool size forecast " +
+            "by the adaptive resizer as of the last sampling.",
+            System.currentTimeMillis(), System.currentTimeMillis());
     private static final String JCA_PROBE_LISTENER = "glassfish:jca:connection-pool:";
 
     public ConnectorConnPoolStatsProvider(PoolInfo poolInfo, Logger logger) {
@@ -460,6 +469,8 @@ public class ConnectorConnPoolStatsProvider {
         averageConnWaitTime.reset();
         totalConnRequestWaitTime.reset();
         waitQueueLength.reset();
+        numConnPrewarmed.reset();
+        targetPoolSize.reset();
     }
 
     /**
@@ -541,6 +552,30 @@ public class ConnectorConnPoolStatsProvider {
         }
     }
 
+    /**
+     * When the adaptive resizer forecasts the pool size, update the targetPoolSize
+     * and increment the numConnPrewarmed by the number of created connections.
+     */
+    @ProbeListener(JCA_PROBE_LISTENER + "connectionsPrewarmedEvent")
+    public void connectionsPrewarmedEvent(
+            @ProbeParam("poolName") String poolName,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("moduleName") String moduleName,
+            @ProbeParam("targetPoolSize") int targetPoolSize,
+            @ProbeParam("count") int count
+            ) {
+
+        PoolInfo poolInfo = new PoolInfo(SimpleJndiName.of(poolName), appName, moduleName);
+        if (this.poolInfo.equals(poolInfo)) {
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest("Connections prewarmed event received - poolName = " + poolName
+                    + ", targetPoolSize = " + targetPoolSize + ", count = " + count);
+            }
+            this.targetPoolSize.setCurrent(targetPoolSize);
+            numConnPrewarmed.increment(count);
+        }
+    }
+
     protected PoolInfo getPoolInfo() {
         return poolInfo;
     }
@@ -626,4 +661,14 @@ public class ConnectorConnPoolStatsProvider {
     public CountStatistic getWaitQueueLength() {
         return waitQueueLength;
     }
+
+    @ManagedAttribute(id="numconnprewarmed")
+    public CountStatistic getNumConnPrewarmed() {
+        return numConnPrewarmed;
+    }
+
+    @ManagedAttribute(id="targetpoolsize")
+    public RangeStatistic getTargetPoolSize() {
+        return targetPoolSize;
+    }
 }
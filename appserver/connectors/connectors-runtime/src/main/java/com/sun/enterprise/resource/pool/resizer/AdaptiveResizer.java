@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.resizer;
+
+import com.sun.appserv.connectors.internal.api.PoolingException;
+import com.sun.enterprise.resource.ResourceHandle;
+import com.sun.enterprise.resource.listener.PoolLifeCycleListener;
+import com.sun.enterprise.resource.pool.PoolProperties;
+import com.sun.enterprise.resource.pool.ResourceHandler;
+import com.sun.enterprise.resource.pool.datastructure.DataStructure;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import org.glassfish.resourcebase.resources.api.PoolInfo;
+
+/**
+ * Resizer which forecasts the demand on the pool and creates resources ahead of it.
+ * <p>
+ * The pool is sampled every {@value #MAX_SAMPLE_PERIOD} ms at most. The demand of a sample is the number
+ * of resources in use plus the length of the wait queue. The forecast pool size is the larger one of:
+ * <ul>
+ * <li>the exponentially weighted moving average of the demand, multiplied by the growth of the acquire rate,
+ * <li>the recent peak of the demand, which decays by {@value #PEAK_DECAY} every sample.
+ * </ul>
+ * If the acquisitions since the last sample waited {@value #PRESSURE_WAIT_TIME} ms in average or more,
+ * the forecast is raised by the resize quantity. Occasional short waits do not raise it.
+ * <p>
+ * Missing resources are created in every sample, at most resize quantity of them. Idle resources are removed
+ * once per idle timeout as by the {@link Resizer}, but never below the forecast pool size, so the pool shrinks
+ * gradually as the recent peak decays.
+ */
+public class AdaptiveResizer extends Resizer {
+
+    /** Max period of sampling the pool in milliseconds */
+    static final long MAX_SAMPLE_PERIOD = 5_000L;
+    /** Ratio of the recent peak kept by the next sample */
+    static final double PEAK_DECAY = 0.9d;
+    /** Weight of the last sample in the moving averages */
+    private static final double SMOOTHING = 0.3d;
+    /** Max ratio of the current and the average acquire rate applied to the forecast */
+    private static final double MAX_GROWTH = 2.0d;
+    /** Average wait time of acquisitions in milliseconds which raises the forecast */
+    static final long PRESSURE_WAIT_TIME = 10L;
+
+    private final Supplier<PoolLifeCycleListener> listener;
+
+    private int sampleCount;
+    private double averageDemand;
+    private double peakDemand;
+    private double averageAcquireRate;
+    private long lastNumResourcesAcquired;
+    private long lastTotalResourceWaitTime;
+    private long lastIdleResize = System.currentTimeMillis();
+    private volatile int targetPoolSize;
+    private volatile int freeResourcesToKeep;
+
+    /**
+     * @param listener provides the current pool life cycle listener to report the decisions to, may provide null.
+     */
+    public AdaptiveResizer(PoolInfo poolInfo, DataStructure ds, PoolProperties pp, ResourceHandler handler,
+        boolean preferValidateOverRecreate, Supplier<PoolLifeCycleListener> listener) {
+        super(poolInfo, ds, pp, handler, preferValidateOverRecreate);
+        this.listener = listener;
+        this.targetPoolSize = pp.getSteadyPoolSize();
+        this.lastNumResourcesAcquired = pp.getNumResourcesAcquired();
+        this.lastTotalResourceWaitTime = pp.getTotalResourceWaitTime();
+    }
+
+    @Override
+    public long getPeriod(long idleTimeout) {
+        return Math.min(idleTimeout, MAX_SAMPLE_PERIOD);
+    }
+
+    @Override
+    public void run() {
+        debug("Adaptive resizer for pool " + poolInfo);
+        try {
+            int target = forecastPoolSize();
+            int created = prewarm(target);
+            PoolLifeCycleListener poolLifeCycleListener = listener.get();
+            if (poolLifeCycleListener != null) {
+                // Reported also when nothing was created, so the monitoring follows the decaying forecast
+                poolLifeCycleListener.connectionsPrewarmed(target, created);
+            }
+
+            long now = System.currentTimeMillis();
+            if (now - lastIdleResize >= pool.getIdleTimeout()) {
+                lastIdleResize = now;
+                resizePool(true);
+            }
+        } catch (Exception ex) {
+            Object[] params = new Object[] { poolInfo, ex.getMessage() };
+            _logger.log(Level.WARNING, "resource_pool.resize_pool_error", params);
+        }
+    }
+
+    /**
+     * Samples the pool and updates the forecast.
+     *
+     * @return forecast pool size, between steady and max pool size
+     */
+    int forecastPoolSize() {
+        long numResourcesAcquired = pool.getNumResourcesAcquired();
+        long totalResourceWaitTime = pool.getTotalResourceWaitTime();
+        long acquireRate = numResourcesAcquired - lastNumResourcesAcquired;
+        long waitTime = totalResourceWaitTime - lastTotalResourceWaitTime;
+        boolean waited = acquireRate > 0 && waitTime >= PRESSURE_WAIT_TIME * acquireRate;
+        lastNumResourcesAcquired = numResourcesAcquired;
+        lastTotalResourceWaitTime = totalResourceWaitTime;
+
+        int demand = dataStructure.getResourcesSize() - dataStructure.getFreeListSize() + pool.getWaitQueueLength();
+        double growth = averageAcquireRate > 0 ? Math.min(MAX_GROWTH, acquireRate / averageAcquireRate) : 1.0d;
+        if (sampleCount == 0) {
+            averageDemand = demand;
+            averageAcquireRate = acquireRate;
+        } else {
+            averageDemand += SMOOTHING * (demand - averageDemand);
+            averageAcquireRate += SMOOTHING * (acquireRate - averageAcquireRate);
+        }
+        peakDemand = Math.max(demand, peakDemand * PEAK_DECAY);
+        sampleCount++;
+
+        int target = (int) Math.ceil(Math.max(peakDemand, averageDemand * Math.max(1.0d, growth)));
+        if (waited) {
+            target += pool.getResizeQuantity();
+        }
+        target = Math.max(pool.getSteadyPoolSize(), Math.min(pool.getMaxPoolSize(), target));
+        if (target != targetPoolSize) {
+            debug("Forecast size of pool [ " + poolInfo + " ] changed from " + targetPoolSize + " to " + target);
+            targetPoolSize = target;
+        }
+        return target;
+    }
+
+    /**
+     * Creates the missing resources up to the forecast pool size, at most resize quantity of them.
+     *
+     * @param target forecast pool size
+     * @return number of created resources
+     */
+    private int prewarm(int target) {
+        int missing = target - dataStructure.getResourcesSize();
+        if (pool.getResizeQuantity() > 0) {
+            missing = Math.min(missing, pool.getResizeQuantity());
+        }
+
+        int created = 0;
+        for (int i = 0; i < missing; i++) {
+            try {
+                handler.createResourceAndAddToPool();
+                created++;
+            } catch (PoolingException ex) {
+                Object[] params = new Object[] { poolInfo, ex.getMessage() };
+                _logger.log(Level.WARNING, "resource_pool.resize_pool_error", params);
+                break;
+            }
+        }
+        if (created > 0) {
+            debug("Prewarmed " + created + " resources for pool [ " + poolInfo + " ]");
+        }
+        return created;
+    }
+
+    int getTargetPoolSize() {
+        return targetPoolSize;
+    }
+
+    @Override
+    public void resizePool(boolean forced) {
+        freeResourcesToKeep = targetPoolSize - (dataStructure.getResourcesSize() - dataStructure.getFreeListSize());
+        super.resizePool(forced);
+    }
+
+    @Override
+    protected void scaleDownPool(int scaleDownQuantity, boolean forced) {
+        super.scaleDownPool(Math.min(scaleDownQuantity, dataStructure.getResourcesSize() - targetPoolSize), forced);
+    }
+
+    @Override
+    protected boolean isResourceEligibleForRemoval(ResourceHandle h, int validConnectionsCounter) {
+        // Keep enough idle resources to serve the forecast demand.
+        if (validConnectionsCounter < freeResourcesToKeep) {
+            return false;
+        }
+        return super.isResourceEligibleForRemoval(h, validConnectionsCounter);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -82,6 +82,16 @@ public class Resizer extends TimerTask {
         }
     }
 
+    /**
+     * Period of this task.
+     *
+     * @param idleTimeout idle timeout of the pool in milliseconds
+     * @return period in milliseconds, the idle timeout by default
+     */
+    public long getPeriod(long idleTimeout) {
+        return idleTimeout;
+    }
+
     /**
      * Resize the pool
      *
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.waitqueue;
+
+import com.sun.enterprise.resource.ResourceHandle;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fair FIFO wait queue which does not use monitors, so waiting virtual threads don't pin their carrier threads.
+ * <p>
+ * Waiting threads are parked by {@link LockSupport}. A released resource is passed directly
+ * to the oldest waiting thread by {@link #handOver(ResourceHandle)}, so threads which
+ * just arrived cannot take it first. Every waiter ends exactly once - it is either cancelled by
+ * its own thread after timeout or completed by another thread, so no wakeup can get lost.
+ * <p>
+ * Objects added by {@link #addToQueue(Object)} are supported too, they are woken up by
+ * {@link Object#notifyAll()} as in the {@link DefaultPoolWaitQueue}.
+ */
+public class HandoffPoolWaitQueue implements PoolWaitQueue {
+
+    private final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public int getQueueLength() {
+        return queue.size();
+    }
+
+    @Override
+    public void addToQueue(Object waitMonitor) {
+        queue.add(waitMonitor);
+    }
+
+    @Override
+    public boolean removeFromQueue(Object waitMonitor) {
+        return queue.remove(waitMonitor);
+    }
+
+    @Override
+    public Object remove() {
+        return queue.poll();
+    }
+
+    @Override
+    public Object peek() {
+        return queue.peek();
+    }
+
+    @Override
+    public Collection getQueueContents() {
+        return Collections.unmodifiableCollection(queue);
+    }
+
+    @Override
+    public ResourceHandle waitForResource(long waitTime, Runnable timeoutListener) throws InterruptedException {
+        Waiter waiter = new Waiter(Thread.currentThread());
+        queue.add(waiter);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTime);
+        while (waiter.outcome.get() == null) {
+            if (Thread.interrupted()) {
+                if (waiter.cancel()) {
+                    queue.remove(waiter);
+                    throw new InterruptedException();
+                }
+                // We got the resource anyway, the caller has to handle the interruption later.
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (waitTime <= 0) {
+                LockSupport.park(this);
+                continue;
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                if (waiter.cancel()) {
+                    queue.remove(waiter);
+                    timeoutListener.run();
+                    return null;
+                }
+                break;
+            }
+            LockSupport.parkNanos(this, remainingNanos);
+        }
+
+        Object outcome = waiter.outcome.get();
+        return outcome instanceof ResourceHandle ? (ResourceHandle) outcome : null;
+    }
+
+    @Override
+    public boolean notifyFirst() {
+        return complete(Waiter.NOTIFIED);
+    }
+
+    @Override
+    public boolean handOver(ResourceHandle resource) {
+        return complete(resource);
+    }
+
+    private boolean complete(Object outcome) {
+        Object first;
+        while ((first = queue.poll()) != null) {
+            if (first instanceof Waiter) {
+                Waiter waiter = (Waiter) first;
+                if (waiter.outcome.compareAndSet(null, outcome)) {
+                    LockSupport.unpark(waiter.thread);
+                    return true;
+                }
+                // Cancelled after timeout, its thread is responsible for the cleanup.
+                continue;
+            }
+
+            synchronized (first) {
+                first.notifyAll();
+            }
+            if (outcome == Waiter.NOTIFIED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resource request of a waiting thread.
+     */
+    private static final class Waiter {
+
+        static final Object NOTIFIED = new Object();
+        static final Object CANCELLED = new Object();
+
+        final Thread thread;
+        /** null while waiting, then {@link #NOTIFIED}, {@link #CANCELLED} or the handed over resource */
+        final AtomicReference<Object> outcome = new AtomicReference<>();
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+
+        boolean cancel() {
+            return outcome.compareAndSet(null, CANCELLED);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,6 +17,8 @@
 
 package com.sun.enterprise.resource.pool.waitqueue;
 
+import com.sun.enterprise.resource.ResourceHandle;
+
 import java.util.Collection;
 
 /**
@@ -80,4 +82,62 @@ public interface PoolWaitQueue {
      * @return Collection
      */
     Collection getQueueContents();
+
+    /**
+     * Adds the resource request of the calling thread to the queue and blocks the thread until
+     * it is notified by {@link #notifyFirst()}, until it gets a resource by
+     * {@link #handOver(ResourceHandle)} or until the wait time expires.
+     * <p>
+     * The default implementation waits on a new monitor object added by {@link #addToQueue(Object)}.
+     *
+     * @param waitTime maximal wait time in milliseconds, 0 to wait without a limit.
+     * @param timeoutListener called when the request was removed from the queue after the wait time expired.
+     * @return the resource handed over by the thread releasing it or null.
+     * @throws InterruptedException if the thread was interrupted while waiting.
+     */
+    default ResourceHandle waitForResource(long waitTime, Runnable timeoutListener) throws InterruptedException {
+        Object waitMonitor = new Object();
+        synchronized (waitMonitor) {
+            addToQueue(waitMonitor);
+            waitMonitor.wait(waitTime);
+            // Try to remove in case that the monitor has timed out. We don't expect the queue to grow to great numbers
+            // so the overhead for removing inexistant objects is low.
+            if (removeFromQueue(waitMonitor)) {
+                timeoutListener.run();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes the first resource request from the queue and wakes up its thread.
+     *
+     * @return true if some request was removed from the queue.
+     */
+    default boolean notifyFirst() {
+        Object waitMonitor;
+        synchronized (this) {
+            if (getQueueLength() == 0) {
+                return false;
+            }
+            waitMonitor = remove();
+        }
+        synchronized (waitMonitor) {
+            waitMonitor.notifyAll();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the first resource request from the queue and passes the released resource directly
+     * to its thread, so the resource cannot be taken by a thread which did not wait.
+     * <p>
+     * The default implementation does not support it.
+     *
+     * @param resource free resource
+     * @return true if the resource was handed over and the caller must not return it to the pool.
+     */
+    default boolean handOver(ResourceHandle resource) {
+        return false;
+    }
 }
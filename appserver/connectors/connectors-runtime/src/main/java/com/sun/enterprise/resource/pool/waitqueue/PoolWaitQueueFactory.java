@@ -40,7 +40,10 @@ public class PoolWaitQueueFactory {
     public static PoolWaitQueue createPoolWaitQueue(String className) throws PoolingException {
         PoolWaitQueue waitQueue;
 
-        if (className != null) {
+        if (HandoffPoolWaitQueue.class.getName().equals(className)) {
+            waitQueue = new HandoffPoolWaitQueue();
+            debug("Initializing Handoff Pool Wait Queue");
+        } else if (className != null) {
             waitQueue = initializeCustomWaitQueueInPrivilegedMode(className);
         } else {
             waitQueue = new DefaultPoolWaitQueue();
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool;
+
+import com.sun.appserv.connectors.internal.api.PoolingException;
+import com.sun.enterprise.resource.ResourceHandle;
+import com.sun.enterprise.resource.ResourceState;
+import com.sun.enterprise.resource.allocator.ResourceAllocator;
+import com.sun.enterprise.resource.pool.datastructure.DataStructure;
+import com.sun.enterprise.resource.pool.datastructure.RWLockDataStructure;
+
+import jakarta.resource.spi.ManagedConnection;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.glassfish.api.naming.SimpleJndiName;
+import org.glassfish.resourcebase.resources.api.PoolInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.getCurrentArgument;
+import static org.easymock.EasyMock.replay;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.in;
+import static org.hamcrest.Matchers.not;
+
+public class BackgroundValidatorTest {
+
+    private static final int STEADY_POOL_SIZE = 5;
+    private static final int MAX_POOL_SIZE = 10;
+    private static final int RESIZE_QUANTITY = 2;
+    private static final long PERIOD = 60_000L;
+
+    private final TestPoolProperties properties = new TestPoolProperties();
+    private final TestResourceHandler handler = new TestResourceHandler();
+    private final List<ResourceHandle> validated = new ArrayList<>();
+    private final Set<ResourceHandle> invalid = new HashSet<>();
+    private final List<Integer> notifiedFreeResources = new ArrayList<>();
+    private DataStructure dataStructure;
+    private BackgroundValidator validator;
+    private int waitingAfterValidations;
+
+    @BeforeEach
+    public void createPool() throws Exception {
+        ResourceAllocator allocator = createNiceMock(ResourceAllocator.class);
+        expect(allocator.isConnectionValid(anyObject())).andAnswer(() -> {
+            ResourceHandle handle = getCurrentArgument(0);
+            validated.add(handle);
+            if (validated.size() == waitingAfterValidations) {
+                properties.waitQueueLength = 1;
+            }
+            return !invalid.contains(handle);
+        }).anyTimes();
+        replay(allocator);
+        handler.allocator = allocator;
+
+        dataStructure = new RWLockDataStructure(null, MAX_POOL_SIZE, handler, null);
+        handler.dataStructure = dataStructure;
+        dataStructure.addResource(allocator, STEADY_POOL_SIZE);
+        validator = new BackgroundValidator(new PoolInfo(new SimpleJndiName("validated-pool")), dataStructure, properties,
+            handler, () -> notifiedFreeResources.add(dataStructure.getFreeListSize()), PERIOD);
+    }
+
+    @Test
+    public void validatesFreeResourcesOnly() {
+        ResourceHandle inUse = dataStructure.getResource();
+
+        assertThat(validator.validateResources(), equalTo(0));
+        assertThat(validated, hasSize(STEADY_POOL_SIZE - 1));
+        assertThat(validated, not(hasItem(inUse)));
+        assertThat(dataStructure.getFreeListSize(), equalTo(STEADY_POOL_SIZE - 1));
+        assertThat(inUse.getLastValidated(), equalTo(0L));
+        for (ResourceHandle handle : validated) {
+            assertThat(handle.getLastValidated(), greaterThan(0L));
+        }
+    }
+
+    @Test
+    public void skipsRecentlyValidatedResources() {
+        validator.validateResources();
+        validated.clear();
+
+        validator.validateResources();
+        assertThat(validated, empty());
+    }
+
+    @Test
+    public void removesAndReplacesInvalidResources() {
+        List<ResourceHandle> resources = dataStructure.getAllResources();
+        invalid.add(resources.get(0));
+        invalid.add(resources.get(3));
+
+        validator.run();
+        assertThat(handler.invalidResources, equalTo(invalid));
+        assertThat(dataStructure.getResourcesSize(), equalTo(STEADY_POOL_SIZE));
+        assertThat(dataStructure.getAllResources(), everyItem(not(in(invalid))));
+    }
+
+    @Test
+    public void stopsWhenRequestsWait() {
+        properties.waitQueueLength = 1;
+
+        validator.validateResources();
+        assertThat(validated, empty());
+        assertThat(dataStructure.getFreeListSize(), equalTo(STEADY_POOL_SIZE));
+    }
+
+    @Test
+    public void notifiesRequestWaitingForValidatedResources() {
+        waitingAfterValidations = 1;
+
+        validator.validateResources();
+        assertThat(validated, hasSize(RESIZE_QUANTITY));
+        assertThat(notifiedFreeResources, contains(STEADY_POOL_SIZE));
+    }
+
+    @Test
+    public void notifiesAfterEveryBatch() {
+        validator.validateResources();
+        assertThat(validated, hasSize(STEADY_POOL_SIZE));
+        assertThat(notifiedFreeResources, contains(STEADY_POOL_SIZE, STEADY_POOL_SIZE, STEADY_POOL_SIZE, STEADY_POOL_SIZE));
+    }
+
+    private static class TestPoolProperties implements PoolProperties {
+
+        int waitQueueLength;
+
+        @Override
+        public int getSteadyPoolSize() {
+            return STEADY_POOL_SIZE;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return MAX_POOL_SIZE;
+        }
+
+        @Override
+        public int getResizeQuantity() {
+            return RESIZE_QUANTITY;
+        }
+
+        @Override
+        public long getIdleTimeout() {
+            return 0;
+        }
+
+        @Override
+        public int getWaitQueueLength() {
+            return waitQueueLength;
+        }
+
+        @Override
+        public long getNumResourcesAcquired() {
+            return 0;
+        }
+
+        @Override
+        public long getTotalResourceWaitTime() {
+            return 0;
+        }
+    }
+
+    private static class TestResourceHandler implements ResourceHandler {
+
+        DataStructure dataStructure;
+        ResourceAllocator allocator;
+        final Set<ResourceHandle> invalidResources = new HashSet<>();
+
+        @Override
+        public void deleteResource(ResourceHandle resourceHandle) {
+            // nothing to delete
+        }
+
+        @Override
+        public ResourceHandle createResource(ResourceAllocator allocator) {
+            ResourceHandle resource = new ResourceHandle(null, null, allocator, null);
+            resource.setResourceState(new ResourceState());
+            return resource;
+        }
+
+        @Override
+        public void createResourceAndAddToPool() throws PoolingException {
+            dataStructure.addResource(allocator, 1);
+        }
+
+        @Override
+        public Set<ManagedConnection> getInvalidConnections(Set<ManagedConnection> connections) {
+            return Set.of();
+        }
+
+        @Override
+        public void invalidConnectionDetected(ResourceHandle resourceHandle) {
+            invalidResources.add(resourceHandle);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,17 +17,20 @@
 package com.sun.enterprise.resource.pool;
 
 import com.sun.appserv.connectors.internal.api.ConnectorRuntimeException;
+import com.sun.appserv.connectors.internal.api.ConnectorConstants.PoolType;
 import com.sun.appserv.connectors.internal.api.PoolingException;
 import com.sun.enterprise.connectors.ConnectorConnectionPool;
 import com.sun.enterprise.connectors.ConnectorRuntime;
 import com.sun.enterprise.connectors.util.ConnectionPoolObjectsUtils;
 import com.sun.enterprise.deployment.ConnectorDescriptor;
+import com.sun.enterprise.resource.AssocWithThreadResourceHandle;
 import com.sun.enterprise.resource.ResourceHandle;
 import com.sun.enterprise.resource.ResourceSpec;
 import com.sun.enterprise.resource.ResourceState;
 import com.sun.enterprise.resource.allocator.LocalTxConnectorAllocator;
 import com.sun.enterprise.resource.allocator.ResourceAllocator;
 import com.sun.enterprise.resource.pool.datastructure.DataStructure;
+import com.sun.enterprise.resource.pool.waitqueue.HandoffPoolWaitQueue;
 import com.sun.enterprise.transaction.api.JavaEETransaction;
 import com.sun.logging.LogDomains;
 
@@ -70,7 +73,10 @@ import static org.easymock.EasyMock.replay;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -90,6 +96,8 @@ public class ConnectionPoolTest {
 
     private ResourceSpec resourceSpec;
 
+    private MyConnectorRuntime connectorRuntime;
+
     // TODO: Look at tests like: org.glassfish.jdbc.devtests.v3.test.MaxConnectionUsageTest and the others in the package,
     // they can probably also be made as a unit test here / or in a similar unit test
 
@@ -123,19 +131,28 @@ public class ConnectionPoolTest {
         replay(mocks.toArray());
 
         // Make sure ConnectorRuntime singleton is initialized
-        MyConnectorRuntime connectorRuntime = new MyConnectorRuntime();
+        connectorRuntime = new MyConnectorRuntime();
         ProcessEnvironment processEnvironment = new ProcessEnvironment();
         connectorRuntime.setProcessEnvironment(processEnvironment);
         connectorRuntime.postConstruct();
     }
 
     private void createConnectionPool(int maxPoolSize, int maxWaitTimeInMillis, int poolResizeQuantity) throws PoolingException {
+        createConnectionPool(maxPoolSize, maxWaitTimeInMillis, poolResizeQuantity, null);
+    }
+
+    private void createConnectionPool(int maxPoolSize, int maxWaitTimeInMillis, int poolResizeQuantity, String poolWaitQueue) throws PoolingException {
         PoolInfo poolInfo = ConnectionPoolTest.getPoolInfo();
         MyConnectionPool.myMaxPoolSize = maxPoolSize;
         MyConnectionPool.maxWaitTimeInMillis = maxWaitTimeInMillis;
         MyConnectionPool.poolResizeQuantity = poolResizeQuantity;
+        MyConnectionPool.poolWaitQueue = poolWaitQueue;
 
-        connectionPool = new MyConnectionPool(poolInfo);
+        if (connectorRuntime.poolType == PoolType.ASSOCIATE_WITH_THREAD_POOL) {
+            connectionPool = new MyAssocWithThreadResourcePool(poolInfo);
+        } else {
+            connectionPool = new MyConnectionPool(poolInfo);
+        }
         assertEquals(0, connectionPool.getSteadyPoolSize());
         assertEquals(maxPoolSize, connectionPool.getMaxPoolSize());
 
@@ -249,6 +266,20 @@ public class ConnectionPoolTest {
     @Test
     @Timeout(value = 10)
     void basicConnectionPoolMultiThreadedTest() throws Exception {
+        basicConnectionPoolMultiThreaded(null);
+    }
+
+    /**
+     * Same as {@link #basicConnectionPoolMultiThreadedTest()}, but released resources are passed directly to the waiting
+     * threads.
+     */
+    @Test
+    @Timeout(value = 10)
+    void basicConnectionPoolMultiThreadedHandoffTest() throws Exception {
+        basicConnectionPoolMultiThreaded(HandoffPoolWaitQueue.class.getName());
+    }
+
+    private void basicConnectionPoolMultiThreaded(String poolWaitQueue) throws Exception {
         // Use a low value to try and fill up the whole pool
         int maxConnectionPoolSize = 5;
 
@@ -260,7 +291,7 @@ public class ConnectionPoolTest {
         // It also means the highest amount of pool resize calls.
         final int poolResizeQuantity = 1;
 
-        createConnectionPool(maxConnectionPoolSize, maxWaitTimeInMillis, poolResizeQuantity);
+        createConnectionPool(maxConnectionPoolSize, maxWaitTimeInMillis, poolResizeQuantity, poolWaitQueue);
 
         ResourceAllocator alloc = new LocalTxConnectorAllocator(null, managedConnectionFactory, resourceSpec, null,
                 null, null, null, false);
@@ -405,6 +436,91 @@ public class ConnectionPoolTest {
         assertEquals(taskCount, usedResouceHandles.size());
     }
 
+    /**
+     * A resource released by the transaction completion in the associate-with-thread pool can be passed directly
+     * to a waiting thread. The waiting thread must take over the association of the resource.
+     */
+    @Test
+    @Timeout(value = 10)
+    void assocWithThreadHandoffAssociatesResourceTest() throws Exception {
+        connectorRuntime.poolType = PoolType.ASSOCIATE_WITH_THREAD_POOL;
+        createConnectionPool(1, 0, 1, HandoffPoolWaitQueue.class.getName());
+        ResourceAllocator alloc = new LocalTxConnectorAllocator(null, managedConnectionFactory, resourceSpec, null,
+                null, null, null, false);
+
+        ResourceHandle resource = connectionPool.getResource(resourceSpec, alloc, javaEETransaction);
+        AssocWithThreadResourceHandle associated = assertInstanceOf(AssocWithThreadResourceHandle.class, resource);
+        assertEquals(Thread.currentThread().getId(), associated.getThreadId());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> waitingThread = executor.submit(() -> {
+                assertSame(resource, connectionPool.getResource(resourceSpec, alloc, javaEETransaction));
+                return Thread.currentThread().getId();
+            });
+            awaitWaitingRequest();
+            freeAfterTransaction(resource);
+
+            long waitingThreadId = waitingThread.get();
+            assertAll(
+                () -> assertResourceIsBusy(resource),
+                () -> assertTrue(associated.isAssociated()),
+                () -> assertEquals(waitingThreadId, associated.getThreadId()));
+        } finally {
+            executor.shutdownNow();
+        }
+        cleanupConnectionPool();
+    }
+
+    /**
+     * A resource marked for recycle by the resizer while it was used must not be handed over to a waiting thread.
+     */
+    @Test
+    @Timeout(value = 10)
+    void assocWithThreadHandoffRejectsDirtyResourceTest() throws Exception {
+        connectorRuntime.poolType = PoolType.ASSOCIATE_WITH_THREAD_POOL;
+        createConnectionPool(1, 0, 1, HandoffPoolWaitQueue.class.getName());
+        ResourceAllocator alloc = new LocalTxConnectorAllocator(null, managedConnectionFactory, resourceSpec, null,
+                null, null, null, false);
+
+        ResourceHandle resource = connectionPool.getResource(resourceSpec, alloc, javaEETransaction);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResourceHandle> waitingThread = executor.submit(
+                () -> connectionPool.getResource(resourceSpec, alloc, javaEETransaction));
+            awaitWaitingRequest();
+            // Like the resizer recycling the resource, marks it as dirty
+            connectionPool.dataStructure.removeResource(resource);
+            assertTrue(((AssocWithThreadResourceHandle) resource).isDirty());
+            freeAfterTransaction(resource);
+
+            ResourceHandle newResource = waitingThread.get();
+            assertAll(
+                () -> assertNotSame(resource, newResource),
+                () -> assertResourceIsBusy(newResource),
+                () -> assertResourcesSize(1));
+        } finally {
+            executor.shutdownNow();
+        }
+        cleanupConnectionPool();
+    }
+
+    private void awaitWaitingRequest() throws InterruptedException {
+        while (connectionPool.getWaitQueueLength() == 0) {
+            Thread.sleep(1L);
+        }
+    }
+
+    /**
+     * Frees the resource like {@link ConnectionPool#transactionCompleted(Transaction, int)} does for resources
+     * which were closed by the application before the transaction completed.
+     */
+    private void freeAfterTransaction(ResourceHandle resource) {
+        resource.getResourceState().setBusy(false);
+        connectionPool.freeResource(resource);
+    }
+
     private void runTheTasks(List<Callable<Void>> tasks) throws Exception {
         ExecutorService threadPool = Executors.newFixedThreadPool(1000);
         List<Future<Void>> futures = threadPool.invokeAll(tasks, 30, TimeUnit.SECONDS);
@@ -451,6 +567,7 @@ public class ConnectionPoolTest {
         public static int myMaxPoolSize;
         public static int maxWaitTimeInMillis;
         public static int poolResizeQuantity;
+        public static String poolWaitQueue;
 
         public MyConnectionPool(PoolInfo poolInfo) throws PoolingException {
             super(ConnectionPoolTest.getPoolInfo(), new Hashtable<>());
@@ -458,6 +575,10 @@ public class ConnectionPoolTest {
 
         @Override
         protected ConnectorConnectionPool getPoolConfigurationFromJndi(Hashtable env) throws PoolingException {
+            return getPoolConfiguration(poolInfo);
+        }
+
+        static ConnectorConnectionPool getPoolConfiguration(PoolInfo poolInfo) {
             // Note: this Util has other defaults than the real pool.
             // Example: maxWaitTimeInMillis is: 7889, while "max-wait-time-in-millis" is documented as 60.000ms
             ConnectorConnectionPool connectorConnectionPool = ConnectionPoolObjectsUtils
@@ -468,20 +589,35 @@ public class ConnectionPoolTest {
             connectorConnectionPool.setMaxPoolSize("" + myMaxPoolSize);
             connectorConnectionPool.setMaxWaitTimeInMillis("" + maxWaitTimeInMillis);
             connectorConnectionPool.setPoolResizeQuantity("" + poolResizeQuantity);
+            connectorConnectionPool.setPoolWaitQueue(poolWaitQueue);
 
             return connectorConnectionPool;
         }
     }
 
+    public static class MyAssocWithThreadResourcePool extends AssocWithThreadResourcePool {
+
+        public MyAssocWithThreadResourcePool(PoolInfo poolInfo) throws PoolingException {
+            super(ConnectionPoolTest.getPoolInfo(), new Hashtable<>());
+        }
+
+        @Override
+        protected ConnectorConnectionPool getPoolConfigurationFromJndi(Hashtable env) throws PoolingException {
+            return MyConnectionPool.getPoolConfiguration(poolInfo);
+        }
+    }
+
     public class MyConnectorRuntime extends ConnectorRuntime {
 
+        private PoolType poolType = PoolType.STANDARD_POOL;
+
         public void setProcessEnvironment(ProcessEnvironment processEnvironment) {
             this.processEnvironment = processEnvironment;
         }
 
         @Override
         public PoolType getPoolType(PoolInfo poolInfo) throws ConnectorRuntimeException {
-            return PoolType.STANDARD_POOL;
+            return poolType;
         }
 
         @Override
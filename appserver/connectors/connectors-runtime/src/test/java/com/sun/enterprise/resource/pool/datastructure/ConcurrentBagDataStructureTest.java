@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.datastructure;
+
+import com.sun.appserv.connectors.internal.api.PoolingException;
+import com.sun.enterprise.resource.ResourceHandle;
+import com.sun.enterprise.resource.allocator.ResourceAllocator;
+import com.sun.enterprise.resource.pool.ResourceHandler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * Runs all {@link RWLockDataStructureTest} tests against the {@link ConcurrentBagDataStructure}.
+ */
+public class ConcurrentBagDataStructureTest extends RWLockDataStructureTest {
+
+    @Override
+    protected DataStructure createDataStructure(int maxSize, ResourceHandler handler) {
+        return new ConcurrentBagDataStructure(null, maxSize, handler, null);
+    }
+
+
+    @Test
+    public void testReturnedResourceIsReusedByTheSameThread() throws PoolingException {
+        ResourceHandler localHandler = createNiceMock(ResourceHandler.class);
+        ResourceAllocator localAllocator = createNiceMock(ResourceAllocator.class);
+        ResourceHandle first = new ResourceHandle(null, null, null, null);
+        ResourceHandle second = new ResourceHandle(null, null, null, null);
+        expect(localHandler.createResource(localAllocator)).andReturn(first).andReturn(second);
+        replay(localHandler, localAllocator);
+
+        DataStructure dataStructure = createDataStructure(2, localHandler);
+        assertThat("Add Resources", dataStructure.addResource(localAllocator, 2), equalTo(2));
+
+        ResourceHandle resource1 = dataStructure.getResource();
+        ResourceHandle resource2 = dataStructure.getResource();
+        assertThat("Get Resource", dataStructure.getResource(), nullValue());
+
+        dataStructure.returnResource(resource1);
+        dataStructure.returnResource(resource2);
+        // Returning twice must not corrupt the free list size
+        dataStructure.returnResource(resource2);
+
+        assertAll(
+            () -> assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(2)),
+            () -> assertThat("Most recently returned", dataStructure.getResource(), sameInstance(resource2)),
+            () -> assertThat("Next recently returned", dataStructure.getResource(), sameInstance(resource1)),
+            () -> assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(0))
+        );
+
+        dataStructure.removeResource(resource1);
+        dataStructure.removeResource(resource1);
+        assertAll(
+            () -> assertThat("Resources Size", dataStructure.getResourcesSize(), equalTo(1)),
+            () -> assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(0))
+        );
+    }
+}
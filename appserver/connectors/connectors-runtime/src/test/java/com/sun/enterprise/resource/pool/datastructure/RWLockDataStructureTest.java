@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -107,7 +107,7 @@ public class RWLockDataStructureTest {
         int resourceCount = RESOURCE_COUNT / 2;
         int taskCount = TASK_COUNT / 2;
 
-        DataStructure dataStructure = new RWLockDataStructure(null, resourceCount, handler, null);
+        DataStructure dataStructure = createDataStructure(resourceCount, handler);
 
         List<Callable<Integer>> tasks = new ArrayList<>(taskCount);
         for (int i = 0; i < taskCount; i++) {
@@ -169,7 +169,7 @@ public class RWLockDataStructureTest {
 
         replay(resource, handler, allocator);
 
-        DataStructure dataStructure = new RWLockDataStructure(null, 1, handler, null);
+        DataStructure dataStructure = createDataStructure(1, handler);
 
         assertAll(
             () -> assertThrows(PoolingException.class, () -> dataStructure.addResource(allocator, 1)),
@@ -188,7 +188,7 @@ public class RWLockDataStructureTest {
     @Timeout(value = 10, threadMode = ThreadMode.SEPARATE_THREAD)
     public void testGetResource() throws Exception {
 
-        DataStructure dataStructure = new RWLockDataStructure(null, RESOURCE_COUNT, handler, null);
+        DataStructure dataStructure = createDataStructure(RESOURCE_COUNT, handler);
 
         assertThat("Add Resources", dataStructure.addResource(allocator, RESOURCE_COUNT), equalTo(RESOURCE_COUNT));
 
@@ -223,7 +223,7 @@ public class RWLockDataStructureTest {
     @Timeout(value = 10, threadMode = ThreadMode.SEPARATE_THREAD)
     public void testReturnResource() throws Exception {
 
-        DataStructure dataStructure = new RWLockDataStructure(null, RESOURCE_COUNT, handler, null);
+        DataStructure dataStructure = createDataStructure(RESOURCE_COUNT, handler);
 
         assertThat("Add Resources", dataStructure.addResource(allocator, RESOURCE_COUNT), equalTo(RESOURCE_COUNT));
         assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(RESOURCE_COUNT));
@@ -261,7 +261,7 @@ public class RWLockDataStructureTest {
     @Timeout(value = 10, threadMode = ThreadMode.SEPARATE_THREAD)
     public void testRemoveResource() throws Exception {
 
-        DataStructure dataStructure = new RWLockDataStructure(null, RESOURCE_COUNT, handler, null);
+        DataStructure dataStructure = createDataStructure(RESOURCE_COUNT, handler);
 
         assertThat("Add Resources", dataStructure.addResource(allocator, RESOURCE_COUNT), equalTo(RESOURCE_COUNT));
 
@@ -295,7 +295,7 @@ public class RWLockDataStructureTest {
     @Test
     public void testRemoveAll() throws PoolingException {
 
-        DataStructure dataStructure = new RWLockDataStructure(null, RESOURCE_COUNT, handler, null);
+        DataStructure dataStructure = createDataStructure(RESOURCE_COUNT, handler);
 
         dataStructure.addResource(allocator, RESOURCE_COUNT);
         assertThat("Resources Size", dataStructure.getResourcesSize(), equalTo(RESOURCE_COUNT));
@@ -313,7 +313,7 @@ public class RWLockDataStructureTest {
     @Timeout(value = 10, threadMode = ThreadMode.SEPARATE_THREAD)
     public void testRaceConditions() throws Exception {
 
-        RWLockDataStructure dataStructure = new RWLockDataStructure(null, RESOURCE_COUNT, handler, null);
+        DataStructure dataStructure = createDataStructure(RESOURCE_COUNT, handler);
 
         for (int i = 0; i < RESOURCE_COUNT; i++) {
             // requires handler.createResource(allocator)
@@ -347,6 +347,15 @@ public class RWLockDataStructureTest {
         threadPool.shutdownNow();
     }
 
+    /**
+     * @param maxSize max pool size
+     * @param handler resource handler
+     * @return new instance of the tested {@link DataStructure}
+     */
+    protected DataStructure createDataStructure(int maxSize, ResourceHandler handler) {
+        return new RWLockDataStructure(null, maxSize, handler, null);
+    }
+
     private <T> boolean notNull(Future<T> future) {
         return getResult(future) != null;
     }
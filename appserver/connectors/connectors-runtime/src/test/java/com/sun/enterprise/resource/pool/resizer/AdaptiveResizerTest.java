@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.resizer;
+
+import com.sun.appserv.connectors.internal.api.PoolingException;
+import com.sun.enterprise.resource.ResourceHandle;
+import com.sun.enterprise.resource.ResourceState;
+import com.sun.enterprise.resource.allocator.ResourceAllocator;
+import com.sun.enterprise.resource.listener.PoolLifeCycleListener;
+import com.sun.enterprise.resource.pool.PoolProperties;
+import com.sun.enterprise.resource.pool.ResourceHandler;
+import com.sun.enterprise.resource.pool.datastructure.DataStructure;
+import com.sun.enterprise.resource.pool.datastructure.RWLockDataStructure;
+
+import jakarta.resource.spi.ManagedConnection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.glassfish.api.naming.SimpleJndiName;
+import org.glassfish.resourcebase.resources.api.PoolInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.easymock.EasyMock.createStrictMock;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class AdaptiveResizerTest {
+
+    private static final int STEADY_POOL_SIZE = 2;
+    private static final int MAX_POOL_SIZE = 20;
+    private static final int RESIZE_QUANTITY = 4;
+
+    private final TestPoolProperties properties = new TestPoolProperties();
+    private final List<ResourceHandle> resourcesInUse = new ArrayList<>();
+    private final TestResourceHandler handler = new TestResourceHandler();
+    private DataStructure dataStructure;
+
+    @BeforeEach
+    public void createPool() throws Exception {
+        dataStructure = new RWLockDataStructure(null, MAX_POOL_SIZE, handler, null);
+        handler.dataStructure = dataStructure;
+        dataStructure.addResource(null, STEADY_POOL_SIZE);
+    }
+
+    @Test
+    public void prewarmsResourcesAheadOfDemand() throws Exception {
+        PoolLifeCycleListener listener = createStrictMock(PoolLifeCycleListener.class);
+        listener.connectionsPrewarmed(5, 3);
+        listener.connectionsPrewarmed(8, 3);
+        replay(listener);
+        AdaptiveResizer resizer = createResizer(listener);
+
+        useResources(2);
+        properties.waitQueueLength = 3;
+        resizer.run();
+        assertThat(dataStructure.getResourcesSize(), equalTo(5));
+
+        useResources(5);
+        properties.waitQueueLength = 3;
+        resizer.run();
+        assertThat(dataStructure.getResourcesSize(), equalTo(8));
+        verify(listener);
+    }
+
+    @Test
+    public void prewarmsAtMostResizeQuantity() {
+        AdaptiveResizer resizer = createResizer(null);
+
+        properties.waitQueueLength = 10;
+        resizer.run();
+        assertThat(resizer.getTargetPoolSize(), equalTo(10));
+        assertThat(dataStructure.getResourcesSize(), equalTo(STEADY_POOL_SIZE + RESIZE_QUANTITY));
+
+        resizer.run();
+        assertThat(dataStructure.getResourcesSize(), equalTo(STEADY_POOL_SIZE + 2 * RESIZE_QUANTITY));
+    }
+
+    @Test
+    public void raisesForecastWhenRequestsWaited() throws Exception {
+        AdaptiveResizer resizer = createResizer(null);
+
+        useResources(2);
+        properties.numResourcesAcquired = 2;
+        properties.totalResourceWaitTime = 2 * AdaptiveResizer.PRESSURE_WAIT_TIME;
+        assertThat(resizer.forecastPoolSize(), equalTo(2 + RESIZE_QUANTITY));
+    }
+
+    @Test
+    public void ignoresShortWaits() throws Exception {
+        AdaptiveResizer resizer = createResizer(null);
+
+        useResources(2);
+        properties.numResourcesAcquired = 100;
+        properties.totalResourceWaitTime = 5;
+        assertThat(resizer.forecastPoolSize(), equalTo(2));
+    }
+
+    @Test
+    public void reportsTargetOfEverySample() throws Exception {
+        PoolLifeCycleListener listener = createStrictMock(PoolLifeCycleListener.class);
+        listener.connectionsPrewarmed(STEADY_POOL_SIZE, 0);
+        listener.connectionsPrewarmed(10, 0);
+        listener.connectionsPrewarmed(9, 0);
+        replay(listener);
+        AdaptiveResizer resizer = createResizer(listener);
+
+        resizer.run();
+        assertThat(dataStructure.getResourcesSize(), equalTo(STEADY_POOL_SIZE));
+
+        useResources(10);
+        resizer.run();
+
+        // The decaying forecast is reported although nothing is created
+        releaseResources();
+        resizer.run();
+        verify(listener);
+    }
+
+    @Test
+    public void releasesResourcesGradually() throws Exception {
+        AdaptiveResizer resizer = createResizer(null);
+
+        useResources(10);
+        assertThat(resizer.forecastPoolSize(), equalTo(10));
+        releaseResources();
+
+        int decayed = resizer.forecastPoolSize();
+        assertThat(decayed, lessThan(10));
+        assertThat(decayed, greaterThan(STEADY_POOL_SIZE));
+
+        resizer.resizePool(true);
+        assertThat(dataStructure.getResourcesSize(), equalTo(decayed));
+
+        int previous = decayed;
+        for (int i = 0; i < 30; i++) {
+            int target = resizer.forecastPoolSize();
+            assertThat(target, lessThanOrEqualTo(previous));
+            previous = target;
+        }
+        assertThat(resizer.getTargetPoolSize(), equalTo(STEADY_POOL_SIZE));
+        resizer.resizePool(true);
+        assertThat(dataStructure.getResourcesSize(), equalTo(STEADY_POOL_SIZE));
+    }
+
+    private AdaptiveResizer createResizer(PoolLifeCycleListener listener) {
+        PoolInfo poolInfo = new PoolInfo(new SimpleJndiName("adaptive-pool"));
+        return new AdaptiveResizer(poolInfo, dataStructure, properties, handler, false, () -> listener);
+    }
+
+    private void useResources(int count) throws PoolingException {
+        while (resourcesInUse.size() < count) {
+            ResourceHandle resource = dataStructure.getResource();
+            if (resource == null) {
+                dataStructure.addResource(null, 1);
+                continue;
+            }
+            resourcesInUse.add(resource);
+        }
+    }
+
+    private void releaseResources() {
+        resourcesInUse.forEach(dataStructure::returnResource);
+        resourcesInUse.clear();
+    }
+
+    private static class TestPoolProperties implements PoolProperties {
+
+        int waitQueueLength;
+        long numResourcesAcquired;
+        long totalResourceWaitTime;
+
+        @Override
+        public int getSteadyPoolSize() {
+            return STEADY_POOL_SIZE;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return MAX_POOL_SIZE;
+        }
+
+        @Override
+        public int getResizeQuantity() {
+            return RESIZE_QUANTITY;
+        }
+
+        @Override
+        public long getIdleTimeout() {
+            // All free resources are idle
+            return 0;
+        }
+
+        @Override
+        public int getWaitQueueLength() {
+            return waitQueueLength;
+        }
+
+        @Override
+        public long getNumResourcesAcquired() {
+            return numResourcesAcquired;
+        }
+
+        @Override
+        public long getTotalResourceWaitTime() {
+            return totalResourceWaitTime;
+        }
+    }
+
+    private static class TestResourceHandler implements ResourceHandler {
+
+        DataStructure dataStructure;
+
+        @Override
+        public void deleteResource(ResourceHandle resourceHandle) {
+            // nothing to delete
+        }
+
+        @Override
+        public ResourceHandle createResource(ResourceAllocator allocator) {
+            ResourceHandle resource = new ResourceHandle(null, null, allocator, null);
+            resource.setResourceState(new ResourceState());
+            return resource;
+        }
+
+        @Override
+        public void createResourceAndAddToPool() throws PoolingException {
+            dataStructure.addResource(null, 1);
+        }
+
+        @Override
+        public Set<ManagedConnection> getInvalidConnections(Set<ManagedConnection> connections) {
+            return Set.of();
+        }
+
+        @Override
+        public void invalidConnectionDetected(ResourceHandle resourceHandle) {
+            // never happens
+        }
+    }
+}
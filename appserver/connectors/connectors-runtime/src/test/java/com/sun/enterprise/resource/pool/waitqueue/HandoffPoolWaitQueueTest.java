@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.waitqueue;
+
+import com.sun.enterprise.resource.ResourceHandle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HandoffPoolWaitQueueTest {
+
+    @Test
+    @Timeout(value = 10)
+    public void testHandOverInFifoOrder() throws Exception {
+        HandoffPoolWaitQueue queue = new HandoffPoolWaitQueue();
+        ExecutorService threadPool = Executors.newFixedThreadPool(3);
+        List<CompletableFuture<ResourceHandle>> waiters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            waiters.add(CompletableFuture.supplyAsync(() -> waitForResource(queue, 0L), threadPool));
+            waitForQueueLength(queue, i + 1);
+        }
+
+        List<ResourceHandle> resources = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ResourceHandle resource = new ResourceHandle(null, null, null, null);
+            resources.add(resource);
+            assertTrue(queue.handOver(resource), "Handed over resource " + i);
+        }
+
+        assertAll(
+            () -> assertThat(waiters.get(0).get(5, TimeUnit.SECONDS), sameInstance(resources.get(0))),
+            () -> assertThat(waiters.get(1).get(5, TimeUnit.SECONDS), sameInstance(resources.get(1))),
+            () -> assertThat(waiters.get(2).get(5, TimeUnit.SECONDS), sameInstance(resources.get(2))),
+            () -> assertThat(queue.getQueueLength(), equalTo(0)),
+            () -> assertFalse(queue.handOver(new ResourceHandle(null, null, null, null)))
+        );
+
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    @Timeout(value = 10)
+    public void testTimeoutAndNotify() throws Exception {
+        HandoffPoolWaitQueue queue = new HandoffPoolWaitQueue();
+        AtomicInteger timeouts = new AtomicInteger();
+
+        assertAll(
+            () -> assertThat(queue.waitForResource(10L, timeouts::incrementAndGet), nullValue()),
+            () -> assertThat(timeouts.get(), equalTo(1)),
+            () -> assertThat(queue.getQueueLength(), equalTo(0)),
+            () -> assertFalse(queue.notifyFirst())
+        );
+
+        ExecutorService threadPool = Executors.newSingleThreadExecutor();
+        CompletableFuture<ResourceHandle> waiter = CompletableFuture.supplyAsync(() -> waitForResource(queue, 0L), threadPool);
+        waitForQueueLength(queue, 1);
+        assertTrue(queue.notifyFirst());
+        assertAll(
+            () -> assertThat(waiter.get(5, TimeUnit.SECONDS), nullValue()),
+            () -> assertThat(timeouts.get(), equalTo(1))
+        );
+
+        threadPool.shutdownNow();
+    }
+
+    private static ResourceHandle waitForResource(PoolWaitQueue queue, long waitTime) {
+        try {
+            return queue.waitForResource(waitTime, () -> {
+                throw new IllegalStateException("Unexpected timeout");
+            });
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitForQueueLength(PoolWaitQueue queue, int length) throws InterruptedException {
+        while (queue.getQueueLength() < length) {
+            Thread.sleep(1L);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -77,6 +77,7 @@ import org.glassfish.api.deployment.archive.WarArchiveType;
 import org.glassfish.api.deployment.archive.WritableArchive;
 import org.glassfish.deployment.common.DeploymentContextImpl;
 import org.glassfish.deployment.common.DeploymentProperties;
+import org.glassfish.deployment.common.DeploymentUtils;
 import org.glassfish.deployment.common.ModuleDescriptor;
 import org.glassfish.hk2.api.PreDestroy;
 import org.glassfish.internal.api.DelegatingClassLoader;
@@ -315,6 +316,7 @@ public class EarHandler extends AbstractArchiveHandler implements CompositeHandl
                     return new EarLibClassLoader(earLibURLs, parent);
                 }
             });
+            earLibCl.setIndexFile(DeploymentUtils.getClassLoaderIndexFile(context, "lib.index"));
 
             if (System.getSecurityManager() != null) {
                 addEEOrDeclaredPermissions(earLibCl, earDeclaredPC, false);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -236,6 +236,12 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
 
     protected static final String SINGLETON_BEAN_POOL_PROP = "singleton-bean-pool";
 
+    /**
+     * Value true selects the lock-free bean pool for all beans of the module, otherwise the value
+     * is a comma separated list of names of beans which should use it.
+     */
+    protected static final String LOCK_FREE_BEAN_POOL_PROP = "lock-free-bean-pool";
+
     protected final ClassLoader loader;
     protected Class<?> ejbClass;
     protected Class<?> sfsbSerializedClass;
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,15 +19,14 @@ package com.sun.ejb.containers;
 
 
 import java.util.Date;
-import java.util.TimerTask;
 
 
 /*
- * JDK timer task for timer expirations.
+ * Timer wheel task for timer expirations.
  *
  * @author Kenneth Saks
  */
-public class EJBTimerTask extends TimerTask {
+public class EJBTimerTask extends TimerWheel.Task {
 
     private Date timeout_;
     private TimerPrimaryKey timerId_;
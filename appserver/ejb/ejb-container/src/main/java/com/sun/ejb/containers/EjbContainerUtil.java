@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -58,6 +58,9 @@ public interface EjbContainerUtil {
 
     String DEFAULT_THREAD_POOL_NAME = "__ejb-thread-pool";
 
+    /** Thread pool serializing passivated stateful session beans */
+    String PASSIVATION_THREAD_POOL_NAME = "__ejb-passivation-pool";
+
     // Used by the TimerService upgrade
     long MINIMUM_TIMER_DELIVERY_INTERVAL = 1000;
 
@@ -82,6 +85,11 @@ public interface EjbContainerUtil {
 
     Timer getTimer();
 
+    /**
+     * @return timer wheel for expirations of EJB timers.
+     */
+    TimerWheel getTimerWheel();
+
     void setInsideContainer(boolean bool);
 
     boolean isInsideContainer();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -84,8 +84,13 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
 
     private static Logger _logger = LogDomains.getLogger(EjbContainerUtilImpl.class, LogDomains.EJB_LOGGER);
 
+    /** Resolution of EJB timers, much finer than the minimal delivery interval */
+    private static final long TIMER_WHEEL_TICK_MILLIS = 10L;
+
     private ThreadPoolExecutor defaultThreadPoolExecutor;
 
+    private ThreadPoolExecutor passivationThreadPoolExecutor;
+
     @Inject
     private ServiceLocator services;
 
@@ -99,6 +104,8 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
 
     private Timer _timer;
 
+    private TimerWheel timerWheel;
+
     private boolean _insideContainer = true;
 
     @Inject
@@ -168,14 +175,17 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
         }
 
         defaultThreadPoolExecutor = createThreadPoolExecutor(DEFAULT_THREAD_POOL_NAME);
+        passivationThreadPoolExecutor = createPassivationThreadPoolExecutor();
 
-        //avoid starting JDK timer in application class loader.  The life of _timer
+        //avoid starting JDK timer and timer wheel in application class loader.  The life of _timer
         //field is longer than deployed apps, and any reference to app class loader
         //in JDK timer thread will cause class loader leak.  Issue 17468
         ClassLoader originalClassLoader = null;
         try {
             originalClassLoader = Utility.setContextClassLoader(ejbImplClassLoader);
             _timer = new Timer(true);
+            timerWheel = new TimerWheel("ejb-timer-wheel",
+                Long.getLong("com.sun.ejb.containers.timerWheelTickMillis", TIMER_WHEEL_TICK_MILLIS));
         } finally {
             if (originalClassLoader != null) {
                 Utility.setContextClassLoader(originalClassLoader);
@@ -194,8 +204,15 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
             defaultThreadPoolExecutor.shutdown();
             defaultThreadPoolExecutor = null;
         }
+        if (passivationThreadPoolExecutor != null) {
+            passivationThreadPoolExecutor.shutdown();
+            passivationThreadPoolExecutor = null;
+        }
         EJBTimerService.onShutdown();
         EJBTimerService.unsetEJBTimerService();
+        if (timerWheel != null) {
+            timerWheel.stop();
+        }
     }
 
     @Override
@@ -263,6 +280,11 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
         return _timer;
     }
 
+    @Override
+    public TimerWheel getTimerWheel() {
+        return timerWheel;
+    }
+
     @Override
     public  void setInsideContainer(boolean bool) {
         _insideContainer = bool;
@@ -513,6 +535,19 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
         return result;
     }
 
+    /**
+     * Passivation has its own threads, so serialization of many beans under memory pressure
+     * doesn't occupy threads of asynchronous methods and timers.
+     */
+    private ThreadPoolExecutor createPassivationThreadPoolExecutor() {
+        int poolSize = Integer.getInteger("com.sun.ejb.containers.passivationThreads",
+            Math.min(4, Runtime.getRuntime().availableProcessors()));
+        ThreadPoolExecutor result = new EjbThreadPoolExecutor(Math.max(1, poolSize), Math.max(1, poolSize),
+            EjbContainer.DEFAULT_THREAD_KEEP_ALIVE_SECONDS, new LinkedBlockingQueue<>(), PASSIVATION_THREAD_POOL_NAME);
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
     static int initCorePoolSize(String propertyValue) {
         int corePoolSize = EjbContainer.DEFAULT_THREAD_CORE_POOL_SIZE;
         if (propertyValue == null) {
@@ -591,6 +626,9 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
         if(poolName == null) {
             return defaultThreadPoolExecutor;
         }
+        if (PASSIVATION_THREAD_POOL_NAME.equals(poolName)) {
+            return passivationThreadPoolExecutor;
+        }
         return null;
 //        TODO retrieve the named ThreadPoolExecutor
     }
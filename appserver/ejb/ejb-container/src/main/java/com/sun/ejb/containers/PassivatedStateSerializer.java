@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers;
+
+import com.sun.enterprise.container.common.spi.util.JavaEEIOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Serializes states of stateful session beans for passivation and checkpointing.
+ * <p>
+ * The state is written by the object output stream of {@link JavaEEIOUtils}, which replaces
+ * references to container objects. When the compression is enabled, states larger than
+ * {@value #COMPRESSION_THRESHOLD} bytes are deflated. Compressed states start by a header
+ * which never starts a serialization stream, so states stored before the compression was
+ * enabled remain readable and vice versa.
+ */
+public final class PassivatedStateSerializer {
+
+    /** System property enabling compression of passivated states */
+    public static final String COMPRESSION_PROPERTY = "com.sun.ejb.containers.sfsb.compressState";
+
+    private static final int COMPRESSION_THRESHOLD = 1024;
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] HEADER = {'G', 'F', 'Z', 1};
+
+    private final JavaEEIOUtils ioUtils;
+    private final boolean compress;
+
+    /**
+     * @param ioUtils utilities creating object streams
+     * @param compress true to compress larger states
+     */
+    public PassivatedStateSerializer(JavaEEIOUtils ioUtils, boolean compress) {
+        this.ioUtils = ioUtils;
+        this.compress = compress;
+    }
+
+
+    /**
+     * @param state state to be serialized
+     * @return serialized and possibly compressed state
+     * @throws IOException if the state could not be serialized
+     */
+    public byte[] serialize(Object state) throws IOException {
+        final byte[] data = ioUtils.serializeObject(state, true);
+        if (!compress || data.length < COMPRESSION_THRESHOLD) {
+            return data;
+        }
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2);
+            output.write(HEADER);
+            try (DeflaterOutputStream deflated = new DeflaterOutputStream(output, deflater, BUFFER_SIZE)) {
+                deflated.write(data);
+            }
+            // Some states, ie. already compressed images, don't get smaller
+            return output.size() < data.length ? output.toByteArray() : data;
+        } finally {
+            deflater.end();
+        }
+    }
+
+
+    /**
+     * @param data state created by {@link #serialize(Object)}
+     * @param loader class loader of the application
+     * @return deserialized state
+     * @throws Exception if the state could not be deserialized
+     */
+    public Object deserialize(byte[] data, ClassLoader loader) throws Exception {
+        if (!isCompressed(data)) {
+            return ioUtils.deserializeObject(data, true, loader);
+        }
+        final InputStream compressed = new ByteArrayInputStream(data, HEADER.length, data.length - HEADER.length);
+        try (ObjectInputStream input = ioUtils.createObjectInputStream(new InflaterInputStream(compressed), true, loader)) {
+            return input.readObject();
+        }
+    }
+
+
+    static boolean isCompressed(byte[] data) {
+        if (data.length < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; i++) {
+            if (data[i] != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -58,6 +59,8 @@ public final class SessionContextImpl
 
     private boolean txCheckpointDelayed;
     private long    lastPersistedAt;
+    // Size of the last serialized state, for monitoring
+    private transient int serializedSize;
 
     private long version;
 
@@ -288,6 +291,14 @@ public final class SessionContextImpl
         this.lastPersistedAt = val;
     }
 
+    int getSerializedSize() {
+        return serializedSize;
+    }
+
+    void setSerializedSize(int serializedSize) {
+        this.serializedSize = serializedSize;
+    }
+
     public long getVersion() {
         return version;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -96,6 +96,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -114,6 +118,7 @@ import org.glassfish.ha.store.util.SimpleMetadata;
 import org.glassfish.logging.annotation.LogMessageInfo;
 
 import static com.sun.ejb.codegen.AsmSerializableBeanGenerator.getGeneratedSerializableClassName;
+import static com.sun.ejb.containers.EjbContainerUtil.PASSIVATION_THREAD_POOL_NAME;
 import static jakarta.persistence.SynchronizationType.SYNCHRONIZED;
 
 /**
@@ -273,17 +278,19 @@ public final class StatefulSessionContainer
     private final static long CONCURRENCY_NOT_ALLOWED = 0;
     private final static long BLOCK_INDEFINITELY = -1;
 
-    private final ArrayList passivationCandidates = new ArrayList();
-    private final Object asyncTaskSemaphore = new Object();
+    // Request threads trimming the cache just enqueue candidates, passivation tasks poll them
+    private final ConcurrentLinkedDeque<ComponentContext> passivationCandidates = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger passivationQueueSize = new AtomicInteger();
 
-
-    private int asyncTaskCount = 0;
-    private int asyncCummTaskCount = 0;
+    private final AtomicInteger asyncTaskCount = new AtomicInteger();
+    private final AtomicInteger asyncCummTaskCount = new AtomicInteger();
 
     private int passivationBatchCount
             = MIN_PASSIVATION_BATCH_COUNT;
 
-    private int containerTrimCount = 0;
+    private final AtomicInteger containerTrimCount = new AtomicInteger();
+
+    private final PassivatedStateSerializer stateSerializer;
 
     private LruSessionCache sessionBeanCache;
     private BackingStore<Serializable, SimpleMetadata> backingStore;
@@ -347,6 +354,8 @@ public final class StatefulSessionContainer
         prePassivateInvInfo = getLifecycleCallbackInvInfo(sfulDesc.getPrePassivateDescriptors());
 
         isPassivationCapable = sfulDesc.isPassivationCapable();
+        stateSerializer = new PassivatedStateSerializer(ejbContainerUtilImpl.getJavaEEIOUtils(),
+            Boolean.getBoolean(PassivatedStateSerializer.COMPRESSION_PROPERTY));
     }
 
 
@@ -518,7 +527,7 @@ public final class StatefulSessionContainer
         sbuf.append(" { asyncTaskCount=").append(asyncTaskCount)
             .append("; asyncCummTaskCount=").append(asyncCummTaskCount)
             .append("; passivationBatchCount=").append(passivationBatchCount)
-            .append("; passivationQSz=").append(passivationCandidates.size())
+            .append("; passivationQSz=").append(passivationQueueSize)
             .append("; trimEventCount=").append(containerTrimCount)
             .append(" }");
         return sbuf.toString();
@@ -2033,6 +2042,7 @@ public final class StatefulSessionContainer
     @Override
     public boolean passivateEJB(ComponentContext context) {
         SessionContextImpl sc = (SessionContextImpl) context;
+        final long start = System.nanoTime();
         boolean success = false;
         try {
             if (ejbDescriptor.getApplication().getKeepStateResolved() == false) {
@@ -2102,6 +2112,11 @@ public final class StatefulSessionContainer
                     // V2: sfsbStoreMonitor.incrementPassivationCount(true);
                     cacheProbeNotifier.ejbBeanPassivatedEvent(getContainerId(), containerInfo.appName,
                         containerInfo.modName, containerInfo.ejbName, true);
+                    if (sc.getState() == BeanState.PASSIVATED) {
+                        cacheProbeNotifier.ejbBeanPassivationCompletedEvent(getContainerId(), containerInfo.appName,
+                            containerInfo.modName, containerInfo.ejbName,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), sc.getSerializedSize());
+                    }
                     transactionManager.componentDestroyed(sc);
 
                     decrementRefCountsForEEMs(sc);
@@ -2383,7 +2398,7 @@ public final class StatefulSessionContainer
 
     @Override
     public Object deserializeData(byte[] data) throws Exception {
-        Object object = ejbContainerUtilImpl.getJavaEEIOUtils().deserializeObject(data, true, getClassLoader());
+        Object object = stateSerializer.deserialize(data, getClassLoader());
         if (object instanceof SessionContextImpl) {
             SessionContextImpl ctx = (SessionContextImpl) object;
             Object ejb = ctx.getEJB();
@@ -2416,7 +2431,9 @@ public final class StatefulSessionContainer
             ctx.setEJB(null);
             ctx.setEJB(new SerializableEJB(ejb));
         }
-        return ejbContainerUtilImpl.getJavaEEIOUtils().serializeObject(ctx, true);
+        byte[] data = stateSerializer.serialize(ctx);
+        ctx.setSerializedSize(data.length);
+        return data;
     }
 
 
@@ -2612,16 +2629,7 @@ public final class StatefulSessionContainer
                 _logger.log(Level.INFO, SFSB_NOT_RESTORED_AFTER_RESTART);
             }
             sessionBeanCache.shutdown();
-            while (true) {
-                ComponentContext ctx = null;
-                synchronized (asyncTaskSemaphore) {
-                    int sz = passivationCandidates.size();
-                    if (sz > 0) {
-                        ctx = (ComponentContext) passivationCandidates.remove(sz - 1);
-                    } else {
-                        break;
-                    }
-                }
+            for (ComponentContext ctx = pollPassivationCandidate(); ctx != null; ctx = pollPassivationCandidate()) {
                 passivateEJB(ctx);
             }
 
@@ -2657,17 +2665,8 @@ public final class StatefulSessionContainer
                 invokePreDestroyAndUndeploy(ctx);
             }
 
-            while (true) {
-                SessionContextImpl ctx = null;
-                synchronized (asyncTaskSemaphore) {
-                    int sz = passivationCandidates.size();
-                    if (sz > 0) {
-                        ctx = (SessionContextImpl) passivationCandidates.remove(sz - 1);
-                        invokePreDestroyAndUndeploy(ctx);
-                    } else {
-                        break;
-                    }
-                }
+            for (ComponentContext ctx = pollPassivationCandidate(); ctx != null; ctx = pollPassivationCandidate()) {
+                invokePreDestroyAndUndeploy((SessionContextImpl) ctx);
             }
 
             sessionBeanCache.destroy();
@@ -2809,39 +2808,56 @@ public final class StatefulSessionContainer
     // CacheListener interface
     @Override
     public void trimEvent(Object primaryKey, Object context) {
-        boolean addTask = false;
-        synchronized (asyncTaskSemaphore) {
-            containerTrimCount++;
-            passivationCandidates.add(context);
-            int requiredTaskCount = (passivationCandidates.size() / passivationBatchCount);
-            addTask = (asyncTaskCount < requiredTaskCount);
+        containerTrimCount.incrementAndGet();
+        passivationCandidates.addLast((ComponentContext) context);
+        final int queueSize = passivationQueueSize.incrementAndGet();
+        final int requiredTaskCount = queueSize / passivationBatchCount;
+        boolean addTask;
+        int taskCount;
+        do {
+            taskCount = asyncTaskCount.get();
+            addTask = taskCount < requiredTaskCount;
+        } while (addTask && !asyncTaskCount.compareAndSet(taskCount, taskCount + 1));
 
-            if (_logger.isLoggable(Level.FINE)) {
-                _logger.log(Level.FINE,
-                    "qSize: " + passivationCandidates.size() + "; batchCount: " + passivationBatchCount
-                        + "; asyncTaskCount: " + asyncTaskCount + "; requiredTaskCount: " + requiredTaskCount
-                        + "; ADDED TASK ==> " + addTask);
-            }
+        if (_logger.isLoggable(Level.FINE)) {
+            _logger.log(Level.FINE,
+                "qSize: " + queueSize + "; batchCount: " + passivationBatchCount
+                    + "; asyncTaskCount: " + taskCount + "; requiredTaskCount: " + requiredTaskCount
+                    + "; ADDED TASK ==> " + addTask);
+        }
 
-            if (addTask == false) {
-                return;
-            }
-            asyncTaskCount++;
-            asyncCummTaskCount++;
+        if (!addTask) {
+            return;
         }
+        asyncCummTaskCount.incrementAndGet();
 
         try {
             ASyncPassivator work = new ASyncPassivator();
-            ejbContainerUtilImpl.addWork(work);
-        } catch (Exception ex) {
-            synchronized (asyncTaskSemaphore) {
-                asyncTaskCount--;
+            ThreadPoolExecutor executor = ejbContainerUtilImpl.getThreadPoolExecutor(PASSIVATION_THREAD_POOL_NAME);
+            if (executor == null) {
+                ejbContainerUtilImpl.addWork(work);
+            } else {
+                executor.execute(work);
             }
+        } catch (Exception ex) {
+            asyncTaskCount.decrementAndGet();
             _logger.log(Level.WARNING, ADD_CLEANUP_TASK_ERROR, ex);
         }
 
     }
 
+
+    /**
+     * @return the most recently trimmed context or null if there is none.
+     */
+    private ComponentContext pollPassivationCandidate() {
+        ComponentContext ctx = passivationCandidates.pollLast();
+        if (ctx != null) {
+            passivationQueueSize.decrementAndGet();
+        }
+        return ctx;
+    }
+
     public void setSFSBUUIDUtil(SFSBUUIDUtil util) {
         this.uuidGenerator = util;
     }
@@ -3200,7 +3216,6 @@ public final class StatefulSessionContainer
             final ClassLoader previousClassLoader = currentThread.getContextClassLoader();
             final ClassLoader myClassLoader = loader;
 
-            boolean decrementedTaskCount = false;
             try {
                 // We need to set the context class loader for
                 // this (deamon) thread!!
@@ -3213,28 +3228,15 @@ public final class StatefulSessionContainer
                     };
                     AccessController.doPrivileged(action);
                 }
-                ComponentContext ctx = null;
-
-                do {
-                    synchronized (asyncTaskSemaphore) {
-                        int sz = passivationCandidates.size();
-                        if (sz > 0) {
-                            ctx = (ComponentContext) passivationCandidates.remove(sz - 1);
-                        } else {
-                            return;
-                        }
-                    }
+                // Count of tasks grows with the size of the queue, each drains it
+                for (ComponentContext ctx = pollPassivationCandidate(); ctx != null; ctx = pollPassivationCandidate()) {
                     passivateEJB(ctx);
-                } while (true);
+                }
 
             } catch (Throwable th) {
                 th.printStackTrace();
             } finally {
-                if (!decrementedTaskCount) {
-                    synchronized (asyncTaskSemaphore) {
-                        asyncTaskCount--;
-                    }
-                }
+                asyncTaskCount.decrementAndGet();
 
                 if (System.getSecurityManager() == null) {
                     currentThread.setContextClassLoader(previousClassLoader);
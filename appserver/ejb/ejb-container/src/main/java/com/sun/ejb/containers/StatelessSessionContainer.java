@@ -1,5 +1,5 @@
 /*
- * Copyright 2021, 2022 Contributors to the Eclipse Foundation
+ * Copyright 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -20,6 +20,7 @@ package com.sun.ejb.containers;
 import com.sun.ejb.ComponentContext;
 import com.sun.ejb.EjbInvocation;
 import com.sun.ejb.containers.util.pool.AbstractPool;
+import com.sun.ejb.containers.util.pool.LockFreePool;
 import com.sun.ejb.containers.util.pool.NonBlockingPool;
 import com.sun.ejb.containers.util.pool.ObjectFactory;
 import com.sun.ejb.monitoring.stats.EjbMonitoringStatsProvider;
@@ -207,12 +208,36 @@ public class StatelessSessionContainer extends BaseContainer {
 
         poolProp = new PoolProperties(ejbContainer, beanPoolDes);
         String val = ejbDescriptor.getEjbBundleDescriptor().getEnterpriseBeansProperty(SINGLETON_BEAN_POOL_PROP);
+        if (!Boolean.parseBoolean(val) && isLockFreeBeanPool()) {
+            pool = new LockFreePool(getContainerId(), ejbDescriptor.getName(), sessionCtxFactory,
+                poolProp.steadyPoolSize, poolProp.poolResizeQuantity, poolProp.maxPoolSize,
+                poolProp.poolIdleTimeoutInSeconds, loader);
+            _logger.log(Level.FINE, () -> "Using lock-free bean pool for " + ejbDescriptor.getName());
+            return;
+        }
         pool = new NonBlockingPool(getContainerId(), ejbDescriptor.getName(), sessionCtxFactory,
             poolProp.steadyPoolSize, poolProp.poolResizeQuantity, poolProp.maxPoolSize,
             poolProp.poolIdleTimeoutInSeconds, loader, Boolean.parseBoolean(val));
     }
 
 
+    private boolean isLockFreeBeanPool() {
+        String val = ejbDescriptor.getEjbBundleDescriptor().getEnterpriseBeansProperty(LOCK_FREE_BEAN_POOL_PROP);
+        if (val == null) {
+            return false;
+        }
+        if (Boolean.parseBoolean(val.trim())) {
+            return true;
+        }
+        for (String beanName : val.split(",")) {
+            if (beanName.trim().equals(ejbDescriptor.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
     @Override
     protected void registerMonitorableComponents() {
         super.registerMonitorableComponents();
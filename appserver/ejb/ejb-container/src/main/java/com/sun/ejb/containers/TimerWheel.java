@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers;
+
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hashed hierarchical timing wheel, an alternative to {@link java.util.Timer} for
+ * large numbers of short living tasks.
+ * <p>
+ * Time is split to ticks and each level of the wheel has {@value #SLOTS} slots; a slot
+ * of the level {@code n} spans {@code SLOTS^n} ticks. Task is placed to the lowest level
+ * where its tick differs from the current tick and moved to lower levels when the wheel
+ * reaches its slot, so scheduling and cancellation are O(1) and don't block each other.
+ * Scheduled and cancelled tasks are just enqueued by the calling thread and processed
+ * by the worker thread of the wheel on the next tick.
+ * <p>
+ * Tasks run in the worker thread, so they must not block; long running work should be
+ * passed to an executor. Tasks are never executed before their time, but may be late
+ * up to one tick.
+ */
+public final class TimerWheel {
+
+    private static final Logger LOG = EjbContainerUtilImpl.getLogger();
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    /** Enough levels to hold any tick of the long type */
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+    /** About 73 years, longer delays would overflow */
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Task[][] wheel = new Task[LEVELS][SLOTS];
+    private final Queue<Task> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Task> cancelled = new ConcurrentLinkedQueue<>();
+    private final LongAdder size = new LongAdder();
+    private final Thread worker;
+
+    /** Last processed tick, accessed just by the worker */
+    private long currentTick;
+    private volatile boolean stopped;
+
+
+    /**
+     * Creates the wheel and starts its daemon worker thread.
+     *
+     * @param name name of the worker thread
+     * @param tickMillis resolution of the wheel in milliseconds
+     */
+    public TimerWheel(String name, long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+
+    /**
+     * Schedules the task for execution at the specified time.
+     * If the time is in the past, the task is executed on the next tick.
+     *
+     * @param task task to be executed
+     * @param time time of the execution
+     * @throws IllegalStateException if the task was already scheduled or cancelled,
+     *             or the wheel was stopped.
+     */
+    public void schedule(Task task, Date time) {
+        final long delayMillis = Math.max(0L, time.getTime() - System.currentTimeMillis());
+        schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Schedules the task for execution after the specified delay.
+     *
+     * @param task task to be executed
+     * @param delay delay of the execution
+     * @param unit unit of the delay
+     * @throws IllegalStateException if the task was already scheduled or cancelled,
+     *             or the wheel was stopped.
+     */
+    public void schedule(Task task, long delay, TimeUnit unit) {
+        if (stopped) {
+            throw new IllegalStateException("Timer wheel " + worker.getName() + " was already stopped.");
+        }
+        final long delayNanos = Math.min(MAX_DELAY_NANOS, unit.toNanos(Math.max(0L, delay)));
+        // Round up, so the task never runs sooner than requested
+        final long tick = (System.nanoTime() + delayNanos - startNanos + tickNanos - 1) / tickNanos;
+        // The wheel must be set before the task can be cancelled
+        task.wheel = this;
+        size.increment();
+        if (!Task.STATE.compareAndSet(task, Task.NEW, Task.SCHEDULED)) {
+            size.decrement();
+            throw new IllegalStateException("Task already scheduled or cancelled.");
+        }
+        task.tick = tick;
+        scheduled.add(task);
+    }
+
+
+    /**
+     * @return count of scheduled tasks which were not executed nor cancelled yet.
+     */
+    public int size() {
+        return size.intValue();
+    }
+
+
+    /**
+     * Stops the worker thread. Tasks which were not executed yet are discarded.
+     */
+    public void stop() {
+        stopped = true;
+        LockSupport.unpark(worker);
+    }
+
+
+    private void run() {
+        while (!stopped) {
+            final long nextTickNanos = startNanos + (currentTick + 1) * tickNanos;
+            final long sleepNanos = nextTickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            processCancelled();
+            processScheduled();
+            final long nowTick = (System.nanoTime() - startNanos) / tickNanos;
+            while (currentTick < nowTick && !stopped) {
+                currentTick++;
+                cascade();
+                expire(removeSlot(0, (int) (currentTick & SLOT_MASK)));
+            }
+        }
+        scheduled.clear();
+        cancelled.clear();
+        size.reset();
+    }
+
+
+    private void processCancelled() {
+        for (Task task = cancelled.poll(); task != null; task = cancelled.poll()) {
+            if (task.level >= 0) {
+                unlink(task);
+            }
+        }
+    }
+
+
+    private void processScheduled() {
+        for (Task task = scheduled.poll(); task != null; task = scheduled.poll()) {
+            if (task.state == Task.SCHEDULED) {
+                place(task);
+            }
+        }
+    }
+
+
+    /**
+     * Moves tasks from slots of higher levels which start by the current tick to lower levels.
+     */
+    private void cascade() {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            final int shift = level * SLOT_BITS;
+            if ((currentTick & ((1L << shift) - 1)) == 0) {
+                Task task = removeSlot(level, (int) ((currentTick >>> shift) & SLOT_MASK));
+                while (task != null) {
+                    final Task next = task.next;
+                    task.next = null;
+                    place(task);
+                    task = next;
+                }
+            }
+        }
+    }
+
+
+    private void place(Task task) {
+        if (task.tick <= currentTick) {
+            task.next = null;
+            expire(task);
+            return;
+        }
+        final int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(task.tick ^ currentTick);
+        final int level = highestBit / SLOT_BITS;
+        final int slot = (int) ((task.tick >>> (level * SLOT_BITS)) & SLOT_MASK);
+        final Task head = wheel[level][slot];
+        task.level = level;
+        task.slot = slot;
+        task.prev = null;
+        task.next = head;
+        if (head != null) {
+            head.prev = task;
+        }
+        wheel[level][slot] = task;
+    }
+
+
+    private Task removeSlot(int level, int slot) {
+        final Task head = wheel[level][slot];
+        wheel[level][slot] = null;
+        for (Task task = head; task != null; task = task.next) {
+            task.level = -1;
+            task.prev = null;
+        }
+        return head;
+    }
+
+
+    private void unlink(Task task) {
+        if (task.prev == null) {
+            wheel[task.level][task.slot] = task.next;
+        } else {
+            task.prev.next = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.level = -1;
+        task.prev = null;
+        task.next = null;
+    }
+
+
+    private void expire(Task task) {
+        while (task != null) {
+            final Task next = task.next;
+            task.next = null;
+            if (Task.STATE.compareAndSet(task, Task.SCHEDULED, Task.EXECUTED)) {
+                size.decrement();
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    LOG.log(Level.WARNING, "Task " + task + " of the timer wheel " + worker.getName() + " failed.", e);
+                }
+            }
+            task = next;
+        }
+    }
+
+
+    /**
+     * Task executed by the {@link TimerWheel}.
+     */
+    public abstract static class Task implements Runnable {
+
+        private static final int NEW = 0;
+        private static final int SCHEDULED = 1;
+        private static final int EXECUTED = 2;
+        private static final int CANCELLED = 3;
+        private static final AtomicIntegerFieldUpdater<Task> STATE = AtomicIntegerFieldUpdater.newUpdater(Task.class,
+            "state");
+
+        private volatile int state;
+        private volatile TimerWheel wheel;
+
+        // Position in the wheel, accessed just by the worker
+        private long tick;
+        private int level = -1;
+        private int slot;
+        private Task prev;
+        private Task next;
+
+        /**
+         * Cancels the task. If the task is running, it will run to completion.
+         *
+         * @return true if the task was scheduled and this call prevented its execution.
+         */
+        public boolean cancel() {
+            if (STATE.compareAndSet(this, NEW, CANCELLED)) {
+                return false;
+            }
+            if (!STATE.compareAndSet(this, SCHEDULED, CANCELLED)) {
+                return false;
+            }
+            final TimerWheel timerWheel = wheel;
+            timerWheel.size.decrement();
+            timerWheel.cancelled.add(this);
+            return true;
+        }
+    }
+}
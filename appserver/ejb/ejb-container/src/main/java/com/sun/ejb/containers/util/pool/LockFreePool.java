@@ -0,0 +1,542 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers.util.pool;
+
+import com.sun.ejb.containers.EjbContainerUtilImpl;
+import com.sun.ejb.monitoring.probes.EjbPoolProbeProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.sun.enterprise.util.Utility.setContextClassLoader;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Pool of homogeneous objects which doesn't use any locks, so threads don't contend on it.
+ * <p>
+ * Each thread has an affinity slot; the object returned by the thread is kept in the slot and
+ * taken by the same thread on its next call, so threads of a thread pool mostly reuse their own
+ * objects. Objects which don't fit to slots are pushed to a lock-free stack shared by all threads.
+ * Slots are padded to separate cache lines and the fast path updates no shared counters.
+ * <p>
+ * Objects don't carry the time of their return, the clock is too expensive for the fast path.
+ * Instead, the resize task stamps objects it sees for the first time and destroys objects
+ * stamped before the idle timeout, so objects are destroyed after one or two idle timeouts.
+ * <p>
+ * Like {@link NonBlockingPool}, the pool never waits: when it is empty, a new object is created
+ * and the maxPoolSize limits just the count of idle objects kept in the pool. The steady pool size
+ * is restored asynchronously and objects idle longer than the idle timeout are destroyed
+ * periodically. The singleton bean pool mode is not supported.
+ */
+public class LockFreePool extends AbstractPool {
+
+    private static final int MAX_SLOT_COUNT = 1 << (Integer.SIZE
+        - Integer.numberOfLeadingZeros(2 * Runtime.getRuntime().availableProcessors() - 1));
+    /** Distance of slots in the array, so each slot has its own cache line */
+    private static final int SLOT_STRIDE = 16;
+
+    /** Slots and the overflow stack never hold more than maxPoolSize objects together */
+    private final int slotCount;
+    private final int overflowCapacity;
+    private final AtomicReferenceArray<Node> slots;
+    private final AtomicReference<Node> overflow = new AtomicReference<>();
+    private final AtomicInteger overflowSize = new AtomicInteger();
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger destroyed = new AtomicInteger();
+    private final LongAdder successful = new LongAdder();
+
+    private final AtomicBoolean addedResizeTask = new AtomicBoolean();
+    private final AtomicBoolean addedIdleBeanWork = new AtomicBoolean();
+    private final AtomicBoolean inResizing = new AtomicBoolean();
+
+    private final boolean maintainSteadySize;
+    private TimerTask poolTimerTask;
+    private volatile boolean poolClosed;
+
+    public LockFreePool(long beanId, String poolName, ObjectFactory factory, int steadyPoolSize, int resizeQuantity, int maxPoolSize,
+            int idleTimeoutInSeconds, ClassLoader loader) {
+        this.beanId = beanId;
+        this.poolName = poolName;
+        this.pooledObjectFactory = factory;
+        this.resizeQuantity = resizeQuantity <= 0 ? 0 : resizeQuantity;
+        this.maxPoolSize = maxPoolSize <= 0 ? Integer.MAX_VALUE : maxPoolSize;
+        this.steadyPoolSize = Math.min(steadyPoolSize <= 0 ? 0 : steadyPoolSize, this.maxPoolSize);
+        this.idleTimeoutInSeconds = idleTimeoutInSeconds <= 0 ? 0 : idleTimeoutInSeconds;
+        this.containerClassLoader = loader;
+        this.maintainSteadySize = this.steadyPoolSize > 0;
+        this.slotCount = Math.min(MAX_SLOT_COUNT, Integer.highestOneBit(this.maxPoolSize));
+        this.overflowCapacity = this.maxPoolSize - slotCount;
+        this.slots = new AtomicReferenceArray<>(slotCount * SLOT_STRIDE);
+        // Replaced by setInfo
+        this.poolProbeNotifier = new EjbPoolProbeProvider();
+
+        if (this.idleTimeoutInSeconds > 0 && this.resizeQuantity > 0) {
+            try {
+                this.poolTimerTask = new PoolResizeTimerTask();
+                EjbContainerUtilImpl.getInstance()
+                                    .getTimer()
+                                    .scheduleAtFixedRate(
+                                        poolTimerTask, idleTimeoutInSeconds * 1000L, idleTimeoutInSeconds * 1000L);
+
+                _logger.log(FINE, () -> "[Pool-" + poolName + "]: Added PoolResizeTimerTask...");
+            } catch (Throwable th) {
+                _logger.log(WARNING, "[Pool-" + poolName + "]: Could not add" + " PoolTimerTask. Continuing anyway...", th);
+            }
+        }
+    }
+
+    @Override
+    public Object getObject(Object param) {
+        final int own = slotIndex();
+        Node node = slots.get(own) == null ? null : slots.getAndSet(own, null);
+        if (node == null) {
+            node = takeShared(own);
+            // The size is checked just out of the fast path, it is below the steady size also when the pool is empty
+            if (maintainSteadySize && getSize() < steadyPoolSize && addedResizeTask.compareAndSet(false, true)) {
+                addResizeTaskForImmediateExecution();
+            }
+        }
+        if (node != null) {
+            successful.increment();
+            return node.object;
+        }
+
+        poolProbeNotifier.ejbObjectAddedEvent(beanId, appName, modName, ejbName);
+        created.incrementAndGet();
+        try {
+            return pooledObjectFactory.create(param);
+        } catch (RuntimeException th) {
+            poolProbeNotifier.ejbObjectAddFailedEvent(beanId, appName, modName, ejbName);
+            created.decrementAndGet();
+            throw th;
+        }
+    }
+
+    /**
+     * Return an object back to the pool. An object that is obtained through getObject() must always be returned back to the
+     * pool using either returnObject(obj) or through destroyObject(obj).
+     */
+    @Override
+    public void returnObject(Object object) {
+        if (!poolClosed && offer(new Node(object))) {
+            if (poolClosed) {
+                // close() could miss the object
+                destroyAll(drain(), "returnObject");
+            }
+            return;
+        }
+        destroyObject(object);
+    }
+
+    /**
+     * Destroys an Object. Note that applications should not ignore the reference to the object that they got from
+     * getObject(). An object that is obtained through getObject() must always be returned back to the pool using either
+     * returnObject(obj) or through destroyObject(obj). This method tells that the object should be destroyed and cannot be
+     * reused.
+     */
+    @Override
+    public void destroyObject(Object object) {
+        poolProbeNotifier.ejbObjectDestroyedEvent(beanId, appName, modName, ejbName);
+        destroyed.incrementAndGet();
+        try {
+            pooledObjectFactory.destroy(object);
+        } catch (Exception ex) {
+            _logger.log(FINE, "exception in destroyObject", ex);
+        }
+    }
+
+    /**
+     * Preload the pool with objects.
+     *
+     * @param count the number of objects to be added.
+     */
+    @Override
+    protected void preload(int count) {
+        List<Object> newInstances = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                newInstances.add(pooledObjectFactory.create(null));
+            }
+        } catch (Exception ex) {
+            // Need not throw this exception up since we are pre-populating
+        }
+        created.addAndGet(newInstances.size());
+
+        for (Object instance : newInstances) {
+            if (poolClosed || !offer(new Node(instance))) {
+                destroyObject(instance);
+            }
+        }
+        if (poolClosed) {
+            destroyAll(drain(), "preload");
+        }
+    }
+
+    /**
+     * Close the pool
+     */
+    @Override
+    public void close() {
+        poolClosed = true;
+        if (poolTimerTask != null) {
+            try {
+                poolTimerTask.cancel();
+            } catch (Throwable th) {
+                // Can safely ignore this!!
+            }
+            poolTimerTask = null;
+        }
+
+        // Since we're calling into EJB code, we need to set context class loader
+        ClassLoader origLoader = setContextClassLoader(containerClassLoader);
+        try {
+            List<Node> nodes = drain();
+            _logger.log(FINE, () -> "[Pool-" + poolName + "]: Destroying " + nodes.size() + " beans from the pool...");
+            destroyAll(nodes, "close");
+            unregisterProbeProvider();
+        } finally {
+            setContextClassLoader(origLoader);
+        }
+        _logger.log(FINE, () -> "[Pool-" + poolName + "]: Pool closed....");
+    }
+
+    @Override
+    protected void remove(int count) {
+        List<Node> removeList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Node node = take();
+            if (node == null) {
+                break;
+            }
+            removeList.add(node);
+        }
+        destroyAll(removeList, "remove");
+    }
+
+    @Override
+    protected void removeIdleObjects() {
+    }
+
+    /**
+     * Destroys objects idle longer than the idle timeout above the steady pool size and
+     * creates missing objects up to the steady pool size.
+     */
+    protected void doResize() {
+        if (poolClosed || !inResizing.compareAndSet(false, true)) {
+            return;
+        }
+        final long startTime = System.currentTimeMillis();
+        final ClassLoader previousClassLoader = setContextClassLoader(containerClassLoader);
+        try {
+            final int curSize = getSize();
+            if (curSize > steadyPoolSize) {
+                if (idleTimeoutInSeconds > 0 && resizeQuantity > 0) {
+                    int victimCount = Math.min(resizeQuantity, curSize - steadyPoolSize);
+                    _logger.log(FINE, () -> "[Pool-" + poolName + "]: Resize:: reducing " + " pool size by: " + victimCount);
+                    destroyAll(removeIdle(victimCount, startTime, startTime - idleTimeoutInSeconds * 1000L), "doResize");
+                }
+            } else if (curSize < steadyPoolSize && maintainSteadySize) {
+                int populateCount;
+                if (resizeQuantity <= 0) {
+                    populateCount = steadyPoolSize - curSize;
+                } else {
+                    populateCount = ((steadyPoolSize - curSize + resizeQuantity - 1) / resizeQuantity) * resizeQuantity;
+                    populateCount = (int) Math.min(populateCount, (long) maxPoolSize - curSize);
+                }
+                preload(populateCount);
+            }
+        } catch (Throwable th) {
+            _logger.log(WARNING, "[Pool-" + poolName + "]: Exception during reSize", th);
+        } finally {
+            inResizing.set(false);
+            setContextClassLoader(previousClassLoader);
+        }
+
+        if (_logger.isLoggable(FINE)) {
+            _logger.log(FINE, "[Pool-" + poolName + "]: Resize took: " + ((System.currentTimeMillis() - startTime) / 1000.0)
+                + " seconds; after reSize: " + getAllAttrValues());
+        }
+    }
+
+    private void addResizeTaskForImmediateExecution() {
+        try {
+            EjbContainerUtilImpl.getInstance().addWork(new ReSizeWork());
+            _logger.log(FINE, () -> "[Pool-" + poolName + "]: Added PoolResizeTimerTask...");
+        } catch (Exception ex) {
+            addedResizeTask.set(false);
+            _logger.log(WARNING, ex, () -> "[Pool-" + poolName + "]: Cannot perform " + " pool resize task");
+        }
+    }
+
+    private Node take() {
+        final int own = slotIndex();
+        final Node node = slots.get(own) == null ? null : slots.getAndSet(own, null);
+        return node == null ? takeShared(own) : node;
+    }
+
+    /**
+     * Takes the object from the overflow stack or the slot of another thread.
+     */
+    private Node takeShared(int own) {
+        Node node = pop();
+        for (int i = 1; node == null && i < slotCount; i++) {
+            final int index = (own + i * SLOT_STRIDE) % slots.length();
+            if (slots.get(index) != null) {
+                node = slots.getAndSet(index, null);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * @return false if the pool is full.
+     */
+    private boolean offer(Node node) {
+        final int own = slotIndex();
+        if (slots.get(own) == null && slots.compareAndSet(own, null, node)) {
+            return true;
+        }
+        if (overflowSize.incrementAndGet() <= overflowCapacity) {
+            push(node);
+            return true;
+        }
+        overflowSize.decrementAndGet();
+        for (int i = 1; i < slotCount; i++) {
+            final int index = (own + i * SLOT_STRIDE) % slots.length();
+            if (slots.get(index) == null && slots.compareAndSet(index, null, node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Every node is pushed just once, so the stack doesn't suffer from the ABA problem.
+     */
+    private void push(Node node) {
+        Node head;
+        do {
+            head = overflow.get();
+            node.next = head;
+        } while (!overflow.compareAndSet(head, node));
+    }
+
+    private Node pop() {
+        Node head;
+        do {
+            head = overflow.get();
+            if (head == null) {
+                return null;
+            }
+        } while (!overflow.compareAndSet(head, head.next));
+        head.next = null;
+        overflowSize.decrementAndGet();
+        return head;
+    }
+
+    private List<Node> removeIdle(int count, long now, long allowedIdleTime) {
+        final List<Node> victims = new ArrayList<>(count);
+        for (int i = 0; i < slots.length() && victims.size() < count; i += SLOT_STRIDE) {
+            final Node node = slots.get(i);
+            if (node != null && isIdle(node, now, allowedIdleTime) && slots.compareAndSet(i, node, null)) {
+                victims.add(node);
+            }
+        }
+        // The oldest objects are at the bottom of the stack
+        final List<Node> kept = new ArrayList<>();
+        for (Node node = overflow.getAndSet(null); node != null; node = node.next) {
+            kept.add(node);
+        }
+        for (int i = kept.size() - 1; i >= 0; i--) {
+            final Node node = kept.get(i);
+            if (victims.size() < count && isIdle(node, now, allowedIdleTime)) {
+                overflowSize.decrementAndGet();
+                victims.add(node);
+            } else {
+                push(new Node(node.object, node.idleSince));
+            }
+        }
+        return victims;
+    }
+
+    private static boolean isIdle(Node node, long now, long allowedIdleTime) {
+        if (node.idleSince == 0L) {
+            node.idleSince = now;
+            return false;
+        }
+        return node.idleSince <= allowedIdleTime;
+    }
+
+    private List<Node> drain() {
+        final List<Node> nodes = new ArrayList<>();
+        for (Node node = take(); node != null; node = take()) {
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    private void destroyAll(List<Node> nodes, String operation) {
+        for (Node node : nodes) {
+            poolProbeNotifier.ejbObjectDestroyedEvent(beanId, appName, modName, ejbName);
+            destroyed.incrementAndGet();
+            try {
+                pooledObjectFactory.destroy(node.object);
+            } catch (Throwable th) {
+                _logger.log(FINE, "exception in " + operation, th);
+            }
+        }
+    }
+
+    private int slotIndex() {
+        // Fibonacci hashing spreads sequential thread ids
+        return ((int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 40) & (slotCount - 1)) * SLOT_STRIDE;
+    }
+
+    /**************** For Monitoring ***********************/
+    /*******************************************************/
+
+    @Override
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    @Override
+    public int getDestroyedCount() {
+        return destroyed.get();
+    }
+
+    @Override
+    public int getPoolSuccess() {
+        return successful.intValue();
+    }
+
+    @Override
+    public int getSize() {
+        int size = overflowSize.get();
+        for (int i = 0; i < slots.length(); i += SLOT_STRIDE) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return Math.max(0, size);
+    }
+
+    @Override
+    public void appendStats(StringBuffer sbuf) {
+        sbuf.append("[Pool: ")
+            .append("SZ=").append(getSize()).append("; ")
+            .append("CC=").append(created.get()).append("; ")
+            .append("DC=").append(destroyed.get()).append("; ")
+            .append("WC=0; ")
+            .append("MSG=0");
+
+        if (configData != null) {
+            sbuf.append(configData);
+        }
+
+        sbuf.append("]");
+    }
+
+    @Override
+    public int getNumBeansInPool() {
+        return getSize();
+    }
+
+    @Override
+    public int getTotalBeansCreated() {
+        return created.get();
+    }
+
+    @Override
+    public int getTotalBeansDestroyed() {
+        return destroyed.get();
+    }
+
+    @Override
+    public String getAllMonitoredAttrbuteValues() {
+        return "createdCount=" + created.get() + ";destroyedCount=" + destroyed.get() + ";waitCount=0;size=" + getSize()
+            + ";maxPoolSize=" + maxPoolSize + ";";
+    }
+
+    @Override
+    public String getAllAttrValues() {
+        StringBuffer sbuf = new StringBuffer("[Pool-" + poolName + "] ");
+        sbuf.append("CC=").append(created.get()).append("; ").append("DC=").append(destroyed.get()).append("; ")
+            .append("CS=").append(getSize()).append("; ")
+            .append("SS=").append(steadyPoolSize).append("; ").append("MS=").append(maxPoolSize).append(";");
+        return sbuf.toString();
+    }
+
+    private static final class Node {
+
+        private final Object object;
+        /** Time when the resize task saw the node for the first time, zero if it didn't yet */
+        private volatile long idleSince;
+        private Node next;
+
+        Node(Object object) {
+            this.object = object;
+        }
+
+        Node(Object object, long idleSince) {
+            this.object = object;
+            this.idleSince = idleSince;
+        }
+    }
+
+    private class ReSizeWork implements Runnable {
+        @Override
+        public void run() {
+            try {
+                doResize();
+            } catch (Exception ex) {
+                _logger.log(WARNING, "[Pool-" + poolName + "]: Exception during reSize", ex);
+            } finally {
+                addedResizeTask.set(false);
+            }
+        }
+    }
+
+    private class PoolResizeTimerTask extends TimerTask {
+        @Override
+        public void run() {
+            if (!addedIdleBeanWork.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                EjbContainerUtilImpl.getInstance().addWork(() -> {
+                    try {
+                        doResize();
+                    } finally {
+                        addedIdleBeanWork.set(false);
+                    }
+                });
+            } catch (Exception ex) {
+                addedIdleBeanWork.set(false);
+                _logger.log(WARNING, "[Pool-" + poolName + "]: Cannot perform " + " pool idle bean cleanup", ex);
+            }
+        }
+    }
+}
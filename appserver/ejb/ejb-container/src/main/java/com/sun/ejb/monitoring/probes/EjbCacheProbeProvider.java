@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -45,4 +46,14 @@ public class EjbCacheProbeProvider {
             @ProbeParam("modName") String modName,
             @ProbeParam("ejbName") String ejbName,
             @ProbeParam("num") long num) {}
+
+
+    @Probe(name="beanPassivationCompletedEvent")
+    public void ejbBeanPassivationCompletedEvent(
+            @ProbeParam("beanId") long beanId,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("modName") String modName,
+            @ProbeParam("ejbName") String ejbName,
+            @ProbeParam("timeMillis") long timeMillis,
+            @ProbeParam("bytes") long bytes) {}
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -25,8 +26,10 @@ import org.glassfish.external.probe.provider.annotations.ProbeListener;
 import org.glassfish.external.probe.provider.annotations.ProbeParam;
 import org.glassfish.external.statistics.CountStatistic;
 import org.glassfish.external.statistics.RangeStatistic;
+import org.glassfish.external.statistics.TimeStatistic;
 import org.glassfish.external.statistics.impl.BoundedRangeStatisticImpl;
 import org.glassfish.external.statistics.impl.CountStatisticImpl;
+import org.glassfish.external.statistics.impl.TimeStatisticImpl;
 import org.glassfish.gmbal.AMXMetadata;
 import org.glassfish.gmbal.Description;
 import org.glassfish.gmbal.ManagedAttribute;
@@ -65,6 +68,12 @@ public class EjbCacheStatsProvider {
             "Provides a count value reflecting the number of passivations for a "
                 + "StatefulSessionBean from the bean cache that succeeded");
 
+    private CountStatisticImpl passivatedBytes = new CountStatisticImpl(
+            "PassivatedBytes", "bytes",
+            "Provides the total size of serialized states of passivated StatefulSessionBeans.");
+
+    private TimeStatisticImpl passivationTime;
+    private BoundedRangeStatisticImpl passivationSize;
     private BoundedRangeStatisticImpl cacheHits;
     private BoundedRangeStatisticImpl cacheMisses;
     private BoundedRangeStatisticImpl numBeans;
@@ -97,6 +106,14 @@ public class EjbCacheStatsProvider {
             0, 0, 0, Long.MAX_VALUE, 0, "CacheHits", "count",
             "Provides the number of times a user request hits an EJB in associated EJB cache instance",
             now, now);
+        passivationTime = new TimeStatisticImpl(
+            0, 0, 0, 0, "PassivationTime", "Milliseconds",
+            "Provides the number of passivations of StatefulSessionBeans and the time spent by them",
+            now, now);
+        passivationSize = new BoundedRangeStatisticImpl(
+            0, 0, 0, Long.MAX_VALUE, 0, "PassivationSize", "bytes",
+            "Provides the size of the serialized state of the last passivated StatefulSessionBean",
+            now, now);
         cacheMisses = new BoundedRangeStatisticImpl(
             0, 0, 0, Long.MAX_VALUE, 0, "CacheMisses", "count",
             "Provides the number of times a user request fails to find an EJB in associated EJB cache instance",
@@ -164,6 +181,24 @@ public class EjbCacheStatsProvider {
         return passivationSuccess;
     }
 
+    @ManagedAttribute(id="passivationtime")
+    @Description( "Number of passivations and time spent by them")
+    public TimeStatistic getPassivationTime() {
+        return passivationTime;
+    }
+
+    @ManagedAttribute(id="passivationsize")
+    @Description( "Size of the serialized state of the last passivated bean")
+    public RangeStatistic getPassivationSize() {
+        return passivationSize;
+    }
+
+    @ManagedAttribute(id="passivatedbytes")
+    @Description( "Total size of serialized states of passivated beans")
+    public CountStatistic getPassivatedBytes() {
+        return passivatedBytes;
+    }
+
     @ProbeListener("glassfish:ejb:cache:beanPassivatedEvent")
     public void ejbBeanPassivatedEvent(
             @ProbeParam("beanId") long beanId,
@@ -192,4 +227,19 @@ public class EjbCacheStatsProvider {
             expiredSessionsRemovedStat.increment(num);
         }
     }
+
+    @ProbeListener("glassfish:ejb:cache:beanPassivationCompletedEvent")
+    public void ejbBeanPassivationCompletedEvent(
+            @ProbeParam("beanId") long beanId,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("modName") String modName,
+            @ProbeParam("ejbName") String ejbName,
+            @ProbeParam("timeMillis") long timeMillis,
+            @ProbeParam("bytes") long bytes) {
+        if (this.beanId == beanId) {
+            passivationTime.incrementCount(timeMillis);
+            passivationSize.setCurrent(bytes);
+            passivatedBytes.increment(bytes);
+        }
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers;
+
+import com.sun.enterprise.container.common.spi.util.GlassFishInputStreamHandler;
+import com.sun.enterprise.container.common.spi.util.GlassFishOutputStreamHandler;
+import com.sun.enterprise.container.common.spi.util.JavaEEIOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PassivatedStateSerializerTest {
+
+    private final JavaEEIOUtils ioUtils = new PlainIOUtils();
+    private final PassivatedStateSerializer plain = new PassivatedStateSerializer(ioUtils, false);
+    private final PassivatedStateSerializer compressing = new PassivatedStateSerializer(ioUtils, true);
+
+    @Test
+    public void largeStateIsCompressed() throws Exception {
+        State state = new State(1000);
+        byte[] raw = plain.serialize(state);
+        byte[] compressed = compressing.serialize(state);
+        assertAll(
+            () -> assertFalse(PassivatedStateSerializer.isCompressed(raw), "raw"),
+            () -> assertTrue(PassivatedStateSerializer.isCompressed(compressed), "compressed"),
+            () -> assertThat(compressed.length, lessThan(raw.length / 4)),
+            () -> assertEquals(state, compressing.deserialize(compressed, getClass().getClassLoader()))
+        );
+    }
+
+
+    @Test
+    public void smallStateIsNotCompressed() throws Exception {
+        State state = new State(1);
+        assertArrayEquals(plain.serialize(state), compressing.serialize(state));
+    }
+
+
+    @Test
+    public void statesAreReadableRegardlessOfCompressionSetting() throws Exception {
+        State state = new State(500);
+        ClassLoader loader = getClass().getClassLoader();
+        assertAll(
+            () -> assertEquals(state, plain.deserialize(compressing.serialize(state), loader)),
+            () -> assertEquals(state, compressing.deserialize(plain.serialize(state), loader))
+        );
+    }
+
+
+    private static class State implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> items = new ArrayList<>();
+
+        State(int count) {
+            for (int i = 0; i < count; i++) {
+                items.add("item-" + i);
+            }
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof State && ((State) object).items.equals(items);
+        }
+
+        @Override
+        public int hashCode() {
+            return items.hashCode();
+        }
+    }
+
+
+    private static class PlainIOUtils implements JavaEEIOUtils {
+
+        @Override
+        public ObjectInputStream createObjectInputStream(InputStream is, boolean resolveObject, ClassLoader loader)
+            throws Exception {
+            return new ObjectInputStream(is);
+        }
+
+        @Override
+        public ObjectOutputStream createObjectOutputStream(OutputStream os, boolean replaceObject) throws IOException {
+            return new ObjectOutputStream(os);
+        }
+
+        @Override
+        public byte[] serializeObject(Object obj, boolean replaceObject) throws IOException {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = createObjectOutputStream(output, replaceObject)) {
+                oos.writeObject(obj);
+            }
+            return output.toByteArray();
+        }
+
+        @Override
+        public Object deserializeObject(byte[] data, boolean resolveObject, ClassLoader appClassLoader)
+            throws Exception {
+            try (ObjectInputStream ois = createObjectInputStream(new ByteArrayInputStream(data), resolveObject,
+                appClassLoader)) {
+                return ois.readObject();
+            }
+        }
+
+        @Override
+        public void addGlassFishOutputStreamHandler(GlassFishOutputStreamHandler handler) {
+        }
+
+        @Override
+        public void removeGlassFishOutputStreamHandler(GlassFishOutputStreamHandler handler) {
+        }
+
+        @Override
+        public void addGlassFishInputStreamHandler(GlassFishInputStreamHandler handler) {
+        }
+
+        @Override
+        public void removeGlassFishInputStreamHandler(GlassFishInputStreamHandler handler) {
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares throughput of scheduling and cancelling timers, the typical life cycle
+ * of short EJB timers, by several threads.
+ */
+@State(Scope.Benchmark)
+public class TimerWheelBenchmarkTest {
+
+    private TimerWheel wheel;
+    private Timer timer;
+
+    @Test
+    public void scheduleAndCancel() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(500L))
+            .measurementIterations(2).forks(1).measurementTime(TimeValue.milliseconds(500L))
+            .threads(4).timeout(TimeValue.seconds(10L))
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .mode(Mode.Throughput).shouldFailOnError(true)
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        Map<String, Double> scores = results.stream().collect(Collectors.toMap(
+            result -> result.getParams().getBenchmark().replaceFirst(".*\\.", ""),
+            result -> result.getPrimaryResult().getScore()));
+        assertThat(scores.get("timerWheel"), greaterThan(scores.get("jdkTimer")));
+    }
+
+
+    @Setup(Level.Trial)
+    public void start() {
+        wheel = new TimerWheel("benchmark-timer-wheel", 10L);
+        timer = new Timer(true);
+    }
+
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        wheel.stop();
+        timer.cancel();
+    }
+
+
+    @Benchmark
+    public boolean timerWheel() {
+        TimerWheel.Task task = new TimerWheel.Task() {
+
+            @Override
+            public void run() {
+            }
+        };
+        wheel.schedule(task, nextDelay(), TimeUnit.MILLISECONDS);
+        return task.cancel();
+    }
+
+
+    @Benchmark
+    public boolean jdkTimer() {
+        TimerTask task = new TimerTask() {
+
+            @Override
+            public void run() {
+            }
+        };
+        timer.schedule(task, nextDelay());
+        return task.cancel();
+    }
+
+
+    private static long nextDelay() {
+        return 1000L + ThreadLocalRandom.current().nextLong(60_000L);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimerWheelTest {
+
+    private TimerWheel wheel;
+
+    @BeforeEach
+    public void startWheel() {
+        wheel = new TimerWheel("test-timer-wheel", 1L);
+    }
+
+
+    @AfterEach
+    public void stopWheel() {
+        wheel.stop();
+    }
+
+
+    @Test
+    public void tasksRunNotBeforeTheirTime() throws Exception {
+        List<TestTask> tasks = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2000);
+        for (int i = 0; i < 2000; i++) {
+            // Delays span several levels of the wheel
+            TestTask task = new TestTask(latch);
+            tasks.add(task);
+            long delay = ThreadLocalRandom.current().nextLong(300L);
+            task.delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+            wheel.schedule(task, delay, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(latch.await(10L, TimeUnit.SECONDS), "All tasks executed");
+        assertAll(tasks.stream().map(task -> () -> {
+            assertEquals(1, task.executions.get(), "executions");
+            assertThat(task.executedNanos, greaterThanOrEqualTo(task.scheduledNanos + task.delayNanos));
+        }));
+        assertEquals(0, wheel.size());
+    }
+
+
+    @Test
+    public void pastDateRunsOnNextTick() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel.schedule(new TestTask(latch), new Date(System.currentTimeMillis() - 1000L));
+        assertTrue(latch.await(1L, TimeUnit.SECONDS));
+    }
+
+
+    @Test
+    public void cancelledTasksDontRun() throws Exception {
+        CountDownLatch latch = new CountDownLatch(100);
+        List<TestTask> cancelled = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            TestTask task = new TestTask(latch);
+            wheel.schedule(task, 50L + i, TimeUnit.MILLISECONDS);
+            if (i % 2 == 0) {
+                cancelled.add(task);
+            }
+        }
+        for (TestTask task : cancelled) {
+            assertTrue(task.cancel(), "first cancel");
+            assertFalse(task.cancel(), "second cancel");
+        }
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        Thread.sleep(100L);
+        cancelled.forEach(task -> assertEquals(0, task.executions.get()));
+        assertEquals(0, wheel.size());
+    }
+
+
+    @Test
+    public void distantTasksCanBeCancelled() {
+        TestTask task = new TestTask(new CountDownLatch(1));
+        wheel.schedule(task, 3650L, TimeUnit.DAYS);
+        assertEquals(1, wheel.size());
+        assertTrue(task.cancel());
+        assertEquals(0, wheel.size());
+    }
+
+
+    @Test
+    public void taskCanBeScheduledJustOnce() {
+        TestTask task = new TestTask(new CountDownLatch(1));
+        wheel.schedule(task, 1L, TimeUnit.HOURS);
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(task, 1L, TimeUnit.HOURS));
+        task.cancel();
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(task, 1L, TimeUnit.HOURS));
+    }
+
+
+    @Test
+    public void failingTaskDoesNotStopTheWheel() throws Exception {
+        wheel.schedule(new TimerWheel.Task() {
+
+            @Override
+            public void run() {
+                throw new IllegalStateException("Expected failure");
+            }
+        }, 1L, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel.schedule(new TestTask(latch), 10L, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(1L, TimeUnit.SECONDS));
+    }
+
+
+    private static class TestTask extends TimerWheel.Task {
+
+        private final CountDownLatch latch;
+        private final AtomicInteger executions = new AtomicInteger();
+        private final long scheduledNanos = System.nanoTime();
+        private volatile long delayNanos;
+        private volatile long executedNanos;
+
+        TestTask(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void run() {
+            executedNanos = System.nanoTime();
+            executions.incrementAndGet();
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers.util.pool;
+
+import com.sun.ejb.monitoring.probes.EjbPoolProbeProvider;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares throughput of pools used by several threads, each getting and returning
+ * an object like a stateless session bean invocation.
+ */
+@State(Scope.Benchmark)
+public class LockFreePoolBenchmarkTest {
+
+    private static final ObjectFactory FACTORY = new ObjectFactory() {
+
+        @Override
+        public Object create(Object param) {
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object object) {
+        }
+    };
+
+    private LockFreePool lockFreePool;
+    private NonBlockingPool nonBlockingPool;
+
+    @Test
+    public void getAndReturn() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(500L))
+            .measurementIterations(2).forks(1).measurementTime(TimeValue.milliseconds(500L))
+            .threads(8).timeout(TimeValue.seconds(10L))
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .mode(Mode.Throughput).shouldFailOnError(true)
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        Map<String, Double> scores = results.stream().collect(Collectors.toMap(
+            result -> result.getParams().getBenchmark().replaceFirst(".*\\.", ""),
+            result -> result.getPrimaryResult().getScore()));
+        assertThat(scores.get("lockFreePool"), greaterThan(scores.get("nonBlockingPool")));
+    }
+
+
+    @Setup(Level.Trial)
+    public void createPools() {
+        lockFreePool = new LockFreePool(1L, "benchmark", FACTORY, 0, 0, 64, 0, null);
+        nonBlockingPool = new NonBlockingPool(2L, "benchmark", FACTORY, 0, 0, 64, 0, null);
+        nonBlockingPool.poolProbeNotifier = new EjbPoolProbeProvider();
+    }
+
+
+    @Benchmark
+    public Object lockFreePool() {
+        Object object = lockFreePool.getObject(null);
+        lockFreePool.returnObject(object);
+        return object;
+    }
+
+
+    @Benchmark
+    public Object nonBlockingPool() {
+        Object object = nonBlockingPool.getObject(null);
+        nonBlockingPool.returnObject(object);
+        return object;
+    }
+}
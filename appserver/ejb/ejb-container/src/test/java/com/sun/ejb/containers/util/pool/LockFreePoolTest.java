@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers.util.pool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LockFreePoolTest {
+
+    private final TestFactory factory = new TestFactory();
+
+    @Test
+    public void threadGetsBackItsObject() {
+        LockFreePool pool = new LockFreePool(1L, "test", factory, 0, 0, 10, 0, null);
+        Object object = pool.getObject(null);
+        pool.returnObject(object);
+        assertSame(object, pool.getObject(null));
+        assertAll(
+            () -> assertEquals(1, pool.getCreatedCount(), "created"),
+            () -> assertEquals(1, pool.getPoolSuccess(), "success"),
+            () -> assertEquals(0, pool.getSize(), "size")
+        );
+    }
+
+
+    @Test
+    public void maxPoolSizeLimitsIdleObjects() {
+        LockFreePool pool = new LockFreePool(1L, "test", factory, 0, 0, 4, 0, null);
+        List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            objects.add(pool.getObject(null));
+        }
+        objects.forEach(pool::returnObject);
+        assertAll(
+            () -> assertEquals(4, pool.getSize(), "size"),
+            () -> assertEquals(10, pool.getCreatedCount(), "created"),
+            () -> assertEquals(6, pool.getDestroyedCount(), "destroyed"),
+            () -> assertEquals(6, factory.destroyed.get(), "destroyed by the factory")
+        );
+        for (int i = 0; i < 4; i++) {
+            pool.getObject(null);
+        }
+        assertEquals(10, pool.getCreatedCount(), "created after reuse");
+    }
+
+
+    @Test
+    public void objectIsNeverUsedByTwoThreads() throws Exception {
+        LockFreePool pool = new LockFreePool(1L, "test", factory, 0, 0, 16, 0, null);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 20_000; j++) {
+                        TestObject object = (TestObject) pool.getObject(null);
+                        assertTrue(object.inUse.compareAndSet(false, true), "object already in use");
+                        object.inUse.set(false);
+                        pool.returnObject(object);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30L, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(pool.getSize(), lessThanOrEqualTo(16));
+        assertEquals(pool.getCreatedCount() - pool.getDestroyedCount(), pool.getSize());
+    }
+
+
+    @Test
+    public void idleObjectsAboveSteadySizeAreDestroyed() throws Exception {
+        LockFreePool pool = new LockFreePool(1L, "test", factory, 0, 3, 10, 0, null);
+        pool.preload(5);
+        assertEquals(5, pool.getSize());
+        pool.idleTimeoutInSeconds = 1;
+        // The first resize just marks idle objects
+        pool.doResize();
+        assertEquals(5, pool.getSize());
+        Thread.sleep(1100L);
+        pool.doResize();
+        assertAll(
+            () -> assertEquals(2, pool.getSize(), "size"),
+            () -> assertEquals(3, pool.getDestroyedCount(), "destroyed")
+        );
+    }
+
+
+    @Test
+    public void recentlyUsedObjectsAreKept() {
+        LockFreePool pool = new LockFreePool(1L, "test", factory, 0, 3, 10, 0, null);
+        pool.preload(5);
+        pool.idleTimeoutInSeconds = 60;
+        pool.doResize();
+        pool.doResize();
+        assertEquals(5, pool.getSize());
+    }
+
+
+    @Test
+    public void closeDestroysAllObjects() {
+        LockFreePool pool = new LockFreePool(1L, "test", factory, 0, 0, 10, 0, null);
+        pool.preload(3);
+        Object object = pool.getObject(null);
+        pool.close();
+        assertEquals(0, pool.getSize());
+        pool.returnObject(object);
+        assertAll(
+            () -> assertEquals(0, pool.getSize(), "size"),
+            () -> assertEquals(3, factory.destroyed.get(), "destroyed")
+        );
+    }
+
+
+    private static class TestFactory implements ObjectFactory {
+
+        private final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public Object create(Object param) {
+            return new TestObject();
+        }
+
+        @Override
+        public void destroy(Object object) {
+            destroyed.incrementAndGet();
+        }
+    }
+
+
+    private static class TestObject {
+
+        private final AtomicBoolean inUse = new AtomicBoolean();
+    }
+}
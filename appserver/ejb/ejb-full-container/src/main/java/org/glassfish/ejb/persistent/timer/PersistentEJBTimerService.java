@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to Eclipse Foundation. All rights reserved.
+ * Copyright (c) 2022, 2026 Contributors to Eclipse Foundation. All rights reserved.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -95,6 +95,9 @@ public class PersistentEJBTimerService extends EJBTimerService {
     private final boolean removeOldTimers;
 
     private static final String strDBReadBeforeTimeout = "com.sun.ejb.timer.ReadDBBeforeTimeout";
+
+    // Count of timers restored in one transaction
+    private static final int RESTORE_PAGE_SIZE = Integer.getInteger("com.sun.ejb.timer.RestorePageSize", 1000);
     private boolean foundSysPropDBReadBeforeTimeout;
 
     EjbTimerService ejbt;
@@ -351,7 +354,7 @@ public class PersistentEJBTimerService extends EJBTimerService {
                 restoreTimers();
                 rc = true;
             } else {
-                int s = timerLocal_.findActiveTimersOwnedByThisServer().size();
+                int s = timerLocal_.countActiveTimersOwnedByThisServer();
                 if (s > 0) {
                     logger.log(Level.INFO, "[" + s + "] EJB Timers owned by this server will be restored when timeout beans are loaded");
                 } else {
@@ -378,27 +381,40 @@ public class PersistentEJBTimerService extends EJBTimerService {
         }
 
         TransactionManager tm = ejbContainerUtil.getTransactionManager();
-        try {
-            // create a tx in which to do database access for all timers
-            // needing restoration.  This gives us better performance that
-            // doing individual transactions per timer.
-            tm.begin();
+        String lastTimerId = "";
+        int loaded = 0;
+        List<TimerState> timers;
+        do {
+            try {
+                // create a tx in which to do database access for a page of
+                // timers needing restoration.  This gives us better performance
+                // than doing individual transactions per timer, while the
+                // persistence context doesn't have to hold all timers at once.
+                tm.begin();
 
-            // This operation can take a while, since in some configurations
-            // this will be the first time the connection to the database
-            // is initialized.  In addition, there's an initialization
-            // cost to generating the SQL for the underlying
-            // jpql queries the first time any TimerBean query is called.
-            _restoreTimers(timerLocal_.findActiveTimersOwnedByThisServer());
+                // The first page can take a while, since in some configurations
+                // this will be the first time the connection to the database
+                // is initialized.  In addition, there's an initialization
+                // cost to generating the SQL for the underlying
+                // jpql queries the first time any TimerBean query is called.
+                timers = timerLocal_.findActiveTimersOwnedByThisServer(lastTimerId, RESTORE_PAGE_SIZE);
+                _restoreTimers(timers);
 
-        } finally {
-            // try to commit regardless of success or failure.
-            try {
-                tm.commit();
-            } catch(Exception e) {
-                logger.log(Level.WARNING, "ejb.timer_service_init_error", e);
+            } finally {
+                // try to commit regardless of success or failure.
+                try {
+                    tm.commit();
+                } catch(Exception e) {
+                    logger.log(Level.WARNING, "ejb.timer_service_init_error", e);
+                }
             }
-        }
+            if (!timers.isEmpty()) {
+                lastTimerId = timers.get(timers.size() - 1).getTimerId();
+                loaded += timers.size();
+            }
+        } while (timers.size() == RESTORE_PAGE_SIZE);
+
+        logger.log(Level.FINE, "Loaded {0} active timers owned by this server", loaded);
     }
 
     /**
@@ -419,7 +435,7 @@ public class PersistentEJBTimerService extends EJBTimerService {
      * JDK timer tasks and checking for missed expirations.
      * @return the Set of restored timers
      */
-    private Set<TimerState> _restoreTimers(Set<TimerState> timersEligibleForRestoration) {
+    private Set<TimerState> _restoreTimers(Collection<TimerState> timersEligibleForRestoration) {
 
         // Do timer restoration in two passes.  The first pass updates
         // the timer cache with each timer.  The second pass schedules
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -40,6 +41,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -493,6 +495,15 @@ public class TimerBean implements TimerLocal {
                                 EJBTimerService.STATE_ACTIVE);
     }
 
+    public List<TimerState> findActiveTimersOwnedByThisServer(String afterTimerId, int maxResults) {
+        Query q = em.createNamedQuery("findTimersByOwnerAndStateAfterTimerId");
+        q.setParameter(1, getOwnerIdOfThisServer());
+        q.setParameter(2, EJBTimerService.STATE_ACTIVE);
+        q.setParameter(3, afterTimerId);
+        q.setMaxResults(maxResults);
+        return q.getResultList();
+    }
+
     public Set findCancelledTimersOwnedByThisServer() {
         return findTimersByOwnerAndState
                        (getOwnerIdOfThisServer(),
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -25,6 +26,7 @@ import jakarta.ejb.TimerConfig;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -92,6 +94,14 @@ public interface TimerLocal {
 
     Set findTimersOwnedByThisServer();
     Set findActiveTimersOwnedByThisServer();
+
+    /**
+     * Returns one page of active timers owned by this server, ordered by timer id.
+     *
+     * @param afterTimerId the last timer id of the previous page or empty string for the first page
+     * @param maxResults maximal size of the page
+     */
+    List<TimerState> findActiveTimersOwnedByThisServer(String afterTimerId, int maxResults);
     Set findCancelledTimersOwnedByThisServer();
 
     Set findTimersOwnedBy(String owner);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -27,6 +28,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.NamedQueries;
 import jakarta.persistence.NamedQuery;
@@ -101,6 +103,11 @@ import java.util.logging.Logger;
         name="findTimersByOwnerAndState",
         query="SELECT t FROM Timer t WHERE t.ownerId = ?1 AND t.state=?2"
     ),
+    @NamedQuery(
+        // Used for paging by timer restoration, next page starts after the last timer id
+        name="findTimersByOwnerAndStateAfterTimerId",
+        query="SELECT t FROM Timer t WHERE t.ownerId = ?1 AND t.state=?2 AND t.timerId > ?3 ORDER BY t.timerId"
+    ),
     @NamedQuery(
         name="countTimersByApplication",
         query="SELECT COUNT(t) FROM Timer t WHERE t.applicationId = ?1"
@@ -145,7 +152,10 @@ import java.util.logging.Logger;
         query="DELETE FROM Timer t WHERE t.applicationId = :applicationId"
     )
 })
-@Table(name="EJB__TIMER__TBL")
+@Table(name="EJB__TIMER__TBL", indexes = {
+    @Index(name="EJB__TIMER__OWNERID", columnList="OWNERID"),
+    @Index(name="EJB__TIMER__CONTAINERID", columnList="CONTAINERID")
+})
 @IdClass(com.sun.ejb.containers.TimerPrimaryKey.class)
 public class TimerState {
 
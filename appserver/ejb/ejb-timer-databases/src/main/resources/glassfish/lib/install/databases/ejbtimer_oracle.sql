@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -28,4 +29,6 @@ LASTEXPIRATIONRAW    NUMBER(19)    NOT NULL,
 SCHEDULE             VARCHAR(255)  NULL,
 APPLICATIONID        NUMBER(19)    NOT NULL,
 CONSTRAINT PK_EJB__TIMER__TBL PRIMARY KEY (TIMERID)
-)
+);
+CREATE INDEX EJB__TIMER__OWNERID ON EJB__TIMER__TBL (OWNERID);
+CREATE INDEX EJB__TIMER__CONTAINERID ON EJB__TIMER__TBL (CONTAINERID);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright:qw:wq (c) 2019 Fujitsu Limited and/or its affiliates. All rights
  * reserved.
  *
@@ -29,4 +30,6 @@ CREATE TABLE "EJB__TIMER__TBL" (
 "SCHEDULE"             CHARACTER VARYING(255),
 "APPLICATIONID"        BIGINT                 NOT NULL,
 CONSTRAINT "EJB__TIMER__TBL_pkey" PRIMARY KEY ("TIMERID")
-)
+);
+CREATE INDEX "EJB__TIMER__OWNERID" ON "EJB__TIMER__TBL" ("OWNERID");
+CREATE INDEX "EJB__TIMER__CONTAINERID" ON "EJB__TIMER__TBL" ("CONTAINERID");
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -31,3 +32,7 @@ PRIMARY KEY (TIMERID)
 );
 CREATE INDEX EJB__TIMER__TBL.IDX1 KEY(TIMERID)
 ;
+CREATE INDEX EJB__TIMER__TBL.IDX2 KEY(OWNERID)
+;
+CREATE INDEX EJB__TIMER__TBL.IDX3 KEY(CONTAINERID)
+;
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,3 +17,5 @@
 
 ALTER TABLE `EJB__TIMER__TBL` ADD COLUMN `SCHEDULE` VARCHAR(255)
 ALTER TABLE `EJB__TIMER__TBL` ADD COLUMN `APPLICATIONID` BIGINT DEFAULT 0
+CREATE INDEX `EJB__TIMER__OWNERID` ON `EJB__TIMER__TBL` (`OWNERID`)
+CREATE INDEX `EJB__TIMER__CONTAINERID` ON `EJB__TIMER__TBL` (`CONTAINERID`)
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright:qw:wq (c) 2019 Fujitsu Limited and/or its affiliates. All rights
  * reserved.
  *
@@ -17,3 +18,5 @@
 
 ALTER TABLE "EJB__TIMER__TBL" ADD COLUMN "SCHEDULE" CHARACTER VARYING(255) NULL
 ALTER TABLE "EJB__TIMER__TBL" ADD COLUMN "APPLICATIONID" BIGINT DEFAULT 0
+CREATE INDEX "EJB__TIMER__OWNERID" ON "EJB__TIMER__TBL" ("OWNERID")
+CREATE INDEX "EJB__TIMER__CONTAINERID" ON "EJB__TIMER__TBL" ("CONTAINERID")
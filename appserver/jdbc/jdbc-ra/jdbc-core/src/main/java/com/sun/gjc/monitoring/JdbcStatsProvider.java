@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,6 +17,7 @@
 
 package com.sun.gjc.monitoring;
 
+import com.sun.gjc.util.SQLProfiler;
 import com.sun.gjc.util.SQLTrace;
 import com.sun.gjc.util.SQLTraceCache;
 
@@ -25,6 +26,7 @@ import org.glassfish.external.probe.provider.annotations.ProbeListener;
 import org.glassfish.external.probe.provider.annotations.ProbeParam;
 import org.glassfish.external.statistics.CountStatistic;
 import org.glassfish.external.statistics.StringStatistic;
+import org.glassfish.external.statistics.annotations.Reset;
 import org.glassfish.external.statistics.impl.CountStatisticImpl;
 import org.glassfish.external.statistics.impl.StatisticImpl;
 import org.glassfish.external.statistics.impl.StringStatisticImpl;
@@ -60,8 +62,14 @@ public class JdbcStatsProvider {
             "NumPotentialStatementLeak", StatisticImpl.UNIT_COUNT,
             "The total number of potential Statement leaks");
 
+    private final StringStatisticImpl sqlProfile = new StringStatisticImpl(
+            "SqlProfile", "List",
+            "Latencies in microseconds of the most frequently executed sql statements");
+
     private final PoolInfo poolInfo;
     private SQLTraceCache sqlTraceCache;
+    private SQLProfiler sqlProfiler;
+    private int numStatementsToProfile;
 
     public JdbcStatsProvider(SimpleJndiName poolName, String appName, String moduleName, int sqlTraceCacheSize,
         long timeToKeepQueries) {
@@ -168,11 +176,34 @@ public class JdbcStatsProvider {
         return freqUsedSqlQueries;
     }
 
+    @ManagedAttribute(id="sqlprofile")
+    public StringStatistic getSqlProfile() {
+        if (sqlProfiler != null) {
+            sqlProfile.setCurrent(sqlProfiler.getReport(numStatementsToProfile));
+        }
+        return sqlProfile;
+    }
+
     @ManagedAttribute(id="numpotentialstatementleak")
     public CountStatistic getNumPotentialStatementLeak() {
         return numPotentialStatementLeak;
     }
 
+    /**
+     * Reset the statistics and the SQL profile.
+     * When annotated with @Reset, this method is invoked whenever monitoring
+     * is turned to HIGH from OFF, and reset() is not called on the statistics.
+     */
+    @Reset
+    public void reset() {
+        numStatementCacheHit.reset();
+        numStatementCacheMiss.reset();
+        numPotentialStatementLeak.reset();
+        if (sqlProfiler != null) {
+            sqlProfiler.reset();
+        }
+    }
+
     /**
      * Get the SQLTraceCache associated with this stats provider.
      * @return SQLTraceCache
@@ -180,4 +211,15 @@ public class JdbcStatsProvider {
     public SQLTraceCache getSqlTraceCache() {
         return sqlTraceCache;
     }
+
+    /**
+     * Set the SQL profiler whose statements are reported by this stats provider.
+     *
+     * @param sqlProfiler SQL profiler of the pool
+     * @param numStatementsToProfile number of the most executed statements to report
+     */
+    public void setSqlProfiler(SQLProfiler sqlProfiler, int numStatementsToProfile) {
+        this.sqlProfiler = sqlProfiler;
+        this.numStatementsToProfile = numStatementsToProfile;
+    }
 }
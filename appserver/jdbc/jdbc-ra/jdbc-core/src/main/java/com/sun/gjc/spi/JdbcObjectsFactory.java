@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -25,17 +25,11 @@ import jakarta.resource.spi.ConnectionManager;
 import jakarta.resource.spi.ConnectionRequestInfo;
 
 import java.io.Serializable;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.util.logging.Logger;
 
 import javax.sql.DataSource;
 
-import org.glassfish.api.jdbc.SQLTraceRecord;
-
-import static java.util.logging.Level.SEVERE;
 import static java.util.logging.Level.WARNING;
 
 /**
@@ -86,36 +80,4 @@ public abstract class JdbcObjectsFactory implements Serializable {
             ConnectionRequestInfo criObject, boolean statementWrapping,
             SQLTraceDelegator sqlTraceDelegator);
 
-    protected Connection getProxiedConnection(final Object conObject, Class[] connIntf, final SQLTraceDelegator sqlTraceDelegator) {
-        Connection proxiedConn = null;
-        try {
-            proxiedConn = (Connection) getProxyObject(conObject, connIntf, sqlTraceDelegator);
-        } catch (Exception ex) {
-            _logger.log(SEVERE, "jdbc.jdbc_proxied_connection_get_exception", ex.getMessage());
-        }
-
-        return proxiedConn;
-    }
-
-    protected <T> T getProxyObject(final Object actualObject, Class<T>[] ifaces, final SQLTraceDelegator sqlTraceDelegator) throws Exception {
-        InvocationHandler invocationHandler = new InvocationHandler() {
-
-            @Override
-            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-                SQLTraceRecord record = new SQLTraceRecord();
-                record.setMethodName(method.getName());
-                record.setParams(args);
-                record.setClassName(actualObject.getClass().getName());
-                record.setThreadName(Thread.currentThread().getName());
-                record.setThreadID(Thread.currentThread().getId());
-                record.setTimeStamp(System.currentTimeMillis());
-                sqlTraceDelegator.sqlTrace(record);
-
-                return method.invoke(actualObject, args);
-            }
-        };
-
-        return (T) Proxy.newProxyInstance(actualObject.getClass().getClassLoader(), ifaces, invocationHandler);
-    }
-
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,6 +22,8 @@ import com.sun.enterprise.util.i18n.StringManager;
 import com.sun.gjc.common.DataSourceObjectBuilder;
 import com.sun.gjc.common.DataSourceSpec;
 import com.sun.gjc.monitoring.JdbcStatsProvider;
+import com.sun.gjc.spi.base.datastructure.StatementUsageStatistics;
+import com.sun.gjc.util.SQLProfiler;
 import com.sun.gjc.util.SQLTraceDelegator;
 import com.sun.logging.LogDomains;
 
@@ -85,6 +87,7 @@ import static com.sun.gjc.util.SecurityUtils.isPasswordCredentialEqual;
 import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.INFO;
 import static java.util.logging.Level.SEVERE;
+import static java.util.logging.Level.WARNING;
 
 /**
  * <code>ManagedConnectionFactory</code> implementation for Generic JDBC
@@ -112,18 +115,24 @@ public abstract class ManagedConnectionFactoryImpl
     protected transient ResourceAdapter resourceAdapter;
     protected boolean statementWrapping;
     protected SQLTraceDelegator sqlTraceDelegator;
+    protected SQLProfiler sqlProfiler;
     protected LazyEnlistableConnectionManager connectionManager;
     protected boolean isLazyConnectionManager;
 
     private final JdbcObjectsFactory jdbcObjectsFactory = JdbcObjectsFactory.getInstance();
     private int statementCacheSize;
     private String statementCacheType;
+    // Usage of statements shared by the statement caches of all connections
+    private transient StatementUsageStatistics statementUsageStatistics;
     private long statementLeakTimeout;
     private boolean statementLeakReclaim;
 
     // Jdbc Stats provider that is created
     private JdbcStatsProvider jdbcStatsProvider;
 
+    // Count of statements tracked by the SQL profiler
+    private static final int SQL_PROFILER_CAPACITY = 100;
+
     /**
      * Creates a Connection Factory instance. The <code>ConnectionManager</code>
      * implementation of the resource adapter is used here.
@@ -1096,6 +1105,21 @@ public abstract class ManagedConnectionFactoryImpl
         spec.setDetail(DataSourceSpec.TIMETOKEEPQUERIESINMINUTES, timeToKeepQueries);
     }
 
+    public String getSqlProfilerSamplingRate() {
+        return spec.getDetail(DataSourceSpec.SQLPROFILERSAMPLINGRATE);
+    }
+
+    /**
+     * Enables the SQL profiler, which measures latencies of one of the given number
+     * of executed statements.
+     *
+     * @param samplingRate one of how many executions is sampled, 0 disables the profiler
+     */
+    public void setSqlProfilerSamplingRate(String samplingRate) {
+        spec.setDetail(DataSourceSpec.SQLPROFILERSAMPLINGRATE, samplingRate);
+        detectSqlProfiler();
+    }
+
     public String getInitSql() {
         return spec.getDetail(DataSourceSpec.INITSQL);
     }
@@ -1276,10 +1300,21 @@ public abstract class ManagedConnectionFactoryImpl
         return new PoolInfo(getPoolName(), getApplicationName(), getModuleName());
     }
 
+    /**
+     * @return usage statistics of statements shared by the statement caches of all
+     *         connections created by this factory
+     */
+    public synchronized StatementUsageStatistics getStatementUsageStatistics() {
+        if (statementUsageStatistics == null) {
+            statementUsageStatistics = new StatementUsageStatistics(statementCacheSize);
+        }
+        return statementUsageStatistics;
+    }
+
     protected ManagedConnectionImpl constructManagedConnection(PooledConnection pc, Connection sqlCon,
             PasswordCredential passCred, ManagedConnectionFactoryImpl mcf) throws ResourceException {
         return new ManagedConnectionImpl(pc, sqlCon, passCred, mcf, getPoolInfo(), statementCacheSize,
-                statementCacheType, sqlTraceDelegator, statementLeakTimeout, statementLeakReclaim);
+                statementCacheType, sqlTraceDelegator, sqlProfiler, statementLeakTimeout, statementLeakReclaim);
     }
 
     /**
@@ -1397,9 +1432,16 @@ public abstract class ManagedConnectionFactoryImpl
         _logger.finest("MCF Created");
 
         if (statementCacheSize > 0 || (sqlTraceListeners != null && !sqlTraceListeners.equals("null"))
-                || statementLeakTimeout > 0) {
+                || statementLeakTimeout > 0 || sqlProfiler != null) {
             jdbcStatsProvider = new JdbcStatsProvider(getPoolName(), getApplicationName(), getModuleName(),
                     sqlTraceCacheSize, timeToKeepQueries);
+            if (sqlProfiler != null) {
+                int numTopQueriesToReport = 10;
+                if (getNumberOfTopQueriesToReport() != null && !getNumberOfTopQueriesToReport().equals("null")) {
+                    numTopQueriesToReport = Integer.parseInt(getNumberOfTopQueriesToReport());
+                }
+                jdbcStatsProvider.setSqlProfiler(sqlProfiler, numTopQueriesToReport);
+            }
 
             // Get the poolname and use it to initialize the stats provider n register
             StatsProviderManager.register("jdbc-connection-pool", PluginPoint.SERVER, poolMonitoringSubTreeRoot,
@@ -1431,6 +1473,24 @@ public abstract class ManagedConnectionFactoryImpl
         }
     }
 
+    private void detectSqlProfiler() {
+        String samplingRate = getSqlProfilerSamplingRate();
+        sqlProfiler = null;
+        if (samplingRate != null && !samplingRate.isBlank() && !samplingRate.equals("null")) {
+            try {
+                int rate = Integer.parseInt(samplingRate.trim());
+                if (rate > 0) {
+                    sqlProfiler = new SQLProfiler(rate, SQL_PROFILER_CAPACITY);
+                }
+            } catch (NumberFormatException ex) {
+                _logger.log(WARNING, "Invalid SqlProfilerSamplingRate " + samplingRate + " for pool " + getPoolInfo());
+            }
+        }
+        if (_logger.isLoggable(FINE)) {
+            _logger.log(FINE, "SqlProfilerSamplingRate: " + samplingRate + " for pool : " + getPoolInfo());
+        }
+    }
+
     private void detectStatementLeakSupport() {
         String stmtLeakTimeout = getStatementLeakTimeoutInSeconds();
         String stmtLeakReclaim = getStatementLeakReclaim();
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -26,6 +27,7 @@ import com.sun.gjc.spi.base.ConnectionWrapper;
 import com.sun.gjc.spi.base.PreparedStatementWrapper;
 import com.sun.gjc.spi.base.datastructure.Cache;
 import com.sun.gjc.spi.base.datastructure.CacheFactory;
+import com.sun.gjc.util.SQLProfiler;
 import com.sun.gjc.util.SQLTraceDelegator;
 import com.sun.gjc.util.StatementLeakDetector;
 import com.sun.logging.LogDomains;
@@ -116,12 +118,14 @@ public class ManagedConnectionImpl
     private int cacheSize;
     private String cacheType;
     private boolean statementCaching;
+    private boolean frequentlyUsedStatementsPrepared;
     private long stmtLeakTimeout;
     private boolean stmtLeakReclaim;
     private boolean statementLeakTracing;
     protected StatementLeakDetector leakDetector;
 
     private SQLTraceDelegator sqlTraceDelegator;
+    private SQLProfiler sqlProfiler;
 
     private boolean aborted;
 
@@ -150,7 +154,7 @@ public class ManagedConnectionImpl
      */
     public ManagedConnectionImpl(PooledConnection pooledConn, Connection sqlConn, PasswordCredential passwdCred,
             ManagedConnectionFactory mcf, PoolInfo poolInfo, int statementCacheSize, String statementCacheType,
-            SQLTraceDelegator delegator, long statementLeakTimeout, boolean statementLeakReclaim)
+            SQLTraceDelegator delegator, SQLProfiler profiler, long statementLeakTimeout, boolean statementLeakReclaim)
             throws ResourceException {
 
         if (pooledConn == null && sqlConn == null) {
@@ -167,6 +171,7 @@ public class ManagedConnectionImpl
         connectionHandles = new Hashtable();
         passwdCredential = passwdCred;
         sqlTraceDelegator = delegator;
+        sqlProfiler = profiler;
 
         this.managedConnectionFactory = mcf;
         if (passwdCredential != null && this.managedConnectionFactory.equals(passwdCredential.getManagedConnectionFactory()) == false) {
@@ -184,6 +189,13 @@ public class ManagedConnectionImpl
         return leakDetector;
     }
 
+    /**
+     * @return profiler of SQL statements executed in the pool, null if the profiling is disabled
+     */
+    public SQLProfiler getSqlProfiler() {
+        return sqlProfiler;
+    }
+
     private void executeInitSql(final String initSql) {
         _logger.log(FINE, "jdbc.execute_init_sql_start");
         PreparedStatement statement = null;
@@ -217,7 +229,9 @@ public class ManagedConnectionImpl
         cacheType = statementCacheType;
         if (cacheSize > 0) {
             try {
-                statementCache = CacheFactory.getDataStructure(poolInfo, cacheType, cacheSize);
+                ManagedConnectionFactoryImpl managedConnectionFactoryImpl = (ManagedConnectionFactoryImpl) managedConnectionFactory;
+                statementCache = CacheFactory.getDataStructure(poolInfo, cacheType, cacheSize,
+                    managedConnectionFactoryImpl.getStatementUsageStatistics());
                 statementCaching = true;
             } catch (ResourceException ex) {
                 _logger.severe(ex.getMessage());
@@ -893,6 +907,7 @@ public class ManagedConnectionImpl
 
     public PreparedStatement prepareCachedStatement(ConnectionWrapper connection, String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
         if (statementCaching) {
+            prepareFrequentlyUsedStatements(connection);
             CacheObjectKey key =
                 new CacheObjectKey(sql, CacheObjectKey.PREPARED_STATEMENT, resultSetType, resultSetConcurrency);
 
@@ -934,6 +949,7 @@ public class ManagedConnectionImpl
     public PreparedStatement prepareCachedStatement(ConnectionWrapper connection, String sql, int resultSetType,
             int resultSetConcurrency, int resultSetHoldability) throws SQLException {
         if (statementCaching) {
+            prepareFrequentlyUsedStatements(connection);
             CacheObjectKey key =
                 new CacheObjectKey(sql, CacheObjectKey.PREPARED_STATEMENT, resultSetType, resultSetConcurrency, resultSetHoldability);
 
@@ -977,6 +993,7 @@ public class ManagedConnectionImpl
 
     public PreparedStatement prepareCachedStatement(ConnectionWrapper connection, String sql, String[] columnNames) throws SQLException {
         if (statementCaching) {
+            prepareFrequentlyUsedStatements(connection);
             CacheObjectKey key = new CacheObjectKey(sql, CacheObjectKey.PREPARED_STATEMENT, columnNames);
 
             // TODO-SC should a null check be done for statementCache?
@@ -1016,6 +1033,7 @@ public class ManagedConnectionImpl
 
     public PreparedStatement prepareCachedStatement(ConnectionWrapper connection, String sql, int[] columnIndexes) throws SQLException {
         if (statementCaching) {
+            prepareFrequentlyUsedStatements(connection);
             CacheObjectKey key = new CacheObjectKey(sql, CacheObjectKey.PREPARED_STATEMENT, columnIndexes);
 
             // TODO-SC should a null check be done for statementCache?
@@ -1055,6 +1073,7 @@ public class ManagedConnectionImpl
 
     public PreparedStatement prepareCachedStatement(ConnectionWrapper connection, String sql, int autoGeneratedKeys) throws SQLException {
         if (statementCaching) {
+            prepareFrequentlyUsedStatements(connection);
             CacheObjectKey key = new CacheObjectKey(sql, CacheObjectKey.PREPARED_STATEMENT, autoGeneratedKeys);
 
             // TODO-SC should a null check be done for statementCache?
@@ -1094,6 +1113,7 @@ public class ManagedConnectionImpl
 
     public CallableStatement prepareCachedCallableStatement(ConnectionWrapper connection, String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
         if (statementCaching) {
+            prepareFrequentlyUsedStatements(connection);
             // Adding the sql as well as the Statement type "CS" to the CacheObjectKey
             // object
             CacheObjectKey key = new CacheObjectKey(sql, CacheObjectKey.CALLABLE_STATEMENT, resultSetType, resultSetConcurrency);
@@ -1133,6 +1153,7 @@ public class ManagedConnectionImpl
     public CallableStatement prepareCachedCallableStatement(ConnectionWrapper connection, String sql, int resultSetType,
             int resultSetConcurrency, int resultSetHoldability) throws SQLException {
         if (statementCaching) {
+            prepareFrequentlyUsedStatements(connection);
 
             // Adding the sql as well as the Statement type "CS" to the CacheObjectKey object
             CacheObjectKey key = new CacheObjectKey(sql, CacheObjectKey.CALLABLE_STATEMENT, resultSetType,
@@ -1174,6 +1195,51 @@ public class ManagedConnectionImpl
         return connection.callableCachedStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability, false);
     }
 
+    /**
+     * Prepares the statements used most frequently in the pool, when the statement cache
+     * of the new physical connection is used for the first time.
+     */
+    private void prepareFrequentlyUsedStatements(ConnectionWrapper connection) {
+        if (frequentlyUsedStatementsPrepared) {
+            return;
+        }
+        frequentlyUsedStatementsPrepared = true;
+        for (CacheObjectKey key : statementCache.getFrequentlyUsedKeys()) {
+            try {
+                statementCache.addToCache(key, prepareCachedStatement(connection, key), false);
+            } catch (SQLException ex) {
+                _logger.log(FINE, "Failed to prepare the frequently used statement " + key.getSql(), ex);
+                return;
+            }
+        }
+    }
+
+    private static PreparedStatementWrapper prepareCachedStatement(ConnectionWrapper connection, CacheObjectKey key)
+            throws SQLException {
+        String sql = key.getSql();
+        if (CacheObjectKey.CALLABLE_STATEMENT.equals(key.getStatementType())) {
+            if (key.getResultSetHoldability() == 0) {
+                return connection.callableCachedStatement(sql, key.getResultSetType(), key.getResultSetConcurrency(), true);
+            }
+            return connection.callableCachedStatement(sql, key.getResultSetType(), key.getResultSetConcurrency(),
+                    key.getResultSetHoldability(), true);
+        }
+        if (key.getColumnNames() != null) {
+            return connection.prepareCachedStatement(sql, key.getColumnNames(), true);
+        }
+        if (key.getColumnIndexes() != null) {
+            return connection.prepareCachedStatement(sql, key.getColumnIndexes(), true);
+        }
+        if (key.getResultSetType() == 0) {
+            return connection.prepareCachedStatement(sql, key.getAutoGeneratedKeys(), true);
+        }
+        if (key.getResultSetHoldability() == 0) {
+            return connection.prepareCachedStatement(sql, key.getResultSetType(), key.getResultSetConcurrency(), true);
+        }
+        return connection.prepareCachedStatement(sql, key.getResultSetType(), key.getResultSetConcurrency(),
+                key.getResultSetHoldability(), true);
+    }
+
     boolean isFree(PreparedStatementWrapper cachedps) {
         return !cachedps.isBusy();
     }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,10 +45,11 @@ public abstract class CallableStatementWrapper extends PreparedStatementWrapper
      * Creates a new instance of CallableStatementWrapper<br>
      *
      * @param con ConnectionWrapper <br>
+     * @param sql SQL statement that was prepared <br>
      * @param statement Statement that is to be wrapped<br>
      */
-    public CallableStatementWrapper(Connection con, CallableStatement statement, boolean cachingEnabled) throws SQLException {
-        super(con, statement, cachingEnabled);
+    public CallableStatementWrapper(Connection con, String sql, CallableStatement statement, boolean cachingEnabled) throws SQLException {
+        super(con, sql, statement, cachingEnabled);
         callableStatement = statement;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -45,6 +45,7 @@ import java.util.logging.Level;
 public abstract class PreparedStatementWrapper extends StatementWrapper implements PreparedStatement, ResultSetClosedEventListener {
 
     protected PreparedStatement preparedStatement;
+    private final String sql;
     private boolean busy;
     private boolean cached;
     private int defaultMaxFieldSize;
@@ -63,12 +64,14 @@ public abstract class PreparedStatementWrapper extends StatementWrapper implemen
      * Abstract class for wrapping PreparedStatement <br>
      *
      * @param con Connection Wrapper <br>
+     * @param sql SQL statement that was prepared <br>
      * @param statement PreparedStatement that is to be wrapped.<br>
      * @param cachingEnabled boolean that enabled/ disables caching <br>
      * @throws SQLException Exception thrown from underlying statement<br>
      */
-    public PreparedStatementWrapper(Connection con, PreparedStatement statement, boolean cachingEnabled) throws SQLException {
+    public PreparedStatementWrapper(Connection con, String sql, PreparedStatement statement, boolean cachingEnabled) throws SQLException {
         super(con, statement);
+        this.sql = sql;
         preparedStatement = statement;
         cached = cachingEnabled;
         ConnectionHolder wrappedCon = (ConnectionHolder) con;
@@ -109,7 +112,12 @@ public abstract class PreparedStatementWrapper extends StatementWrapper implemen
      */
     @Override
     public int executeUpdate() throws SQLException {
-        return preparedStatement.executeUpdate();
+        final long start = startProfiling();
+        try {
+            return preparedStatement.executeUpdate();
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -513,7 +521,12 @@ public abstract class PreparedStatementWrapper extends StatementWrapper implemen
      */
     @Override
     public boolean execute() throws SQLException {
-        return preparedStatement.execute();
+        final long start = startProfiling();
+        try {
+            return preparedStatement.execute();
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -792,6 +805,11 @@ public abstract class PreparedStatementWrapper extends StatementWrapper implemen
         }
     }
 
+    @Override
+    protected String getProfiledSql() {
+        return sql;
+    }
+
     public boolean getCached() {
         return cached;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +18,7 @@
 package com.sun.gjc.spi.base;
 
 import com.sun.gjc.util.MethodExecutor;
+import com.sun.gjc.util.SQLProfiler;
 import com.sun.gjc.util.StatementLeakDetector;
 import com.sun.gjc.util.StatementLeakListener;
 import com.sun.logging.LogDomains;
@@ -48,6 +49,7 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
     protected MethodExecutor executor;
     private boolean closeOnCompletion;
     protected AtomicInteger resultSetCount = new AtomicInteger();
+    protected SQLProfiler sqlProfiler;
 
 
     /**
@@ -60,6 +62,9 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
         connection = con;
         jdbcStatement = statement;
         executor = new MethodExecutor();
+        if (con instanceof ConnectionHolder) {
+            sqlProfiler = ((ConnectionHolder) con).getManagedConnection().getSqlProfiler();
+        }
 
         // Start leak tracing if statement is a pure Statement & stmtWrapping is ON
         // Check if this is an instanceof PS/CS. There could exist
@@ -91,7 +96,12 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
      */
     @Override
     public int executeUpdate(final String sql) throws SQLException {
-        return jdbcStatement.executeUpdate(sql);
+        final long start = startProfiling();
+        try {
+            return jdbcStatement.executeUpdate(sql);
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -333,7 +343,12 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
      */
     @Override
     public boolean execute(final String sql) throws SQLException {
-        return jdbcStatement.execute(sql);
+        final long start = startProfiling();
+        try {
+            return jdbcStatement.execute(sql);
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -561,7 +576,39 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
      */
     @Override
     public int[] executeBatch() throws SQLException {
-        return jdbcStatement.executeBatch();
+        final long start = startProfiling();
+        try {
+            return jdbcStatement.executeBatch();
+        } finally {
+            stopProfiling(getProfiledSql(), start);
+        }
+    }
+
+    /**
+     * @return start time of the execution if it is sampled by the SQL profiler,
+     * {@link SQLProfiler#NOT_SAMPLED} otherwise
+     */
+    protected final long startProfiling() {
+        return sqlProfiler == null ? SQLProfiler.NOT_SAMPLED : sqlProfiler.start();
+    }
+
+    /**
+     * Records the execution sampled by the SQL profiler.
+     *
+     * @param sql executed SQL statement
+     * @param start value returned by {@link #startProfiling()}
+     */
+    protected final void stopProfiling(String sql, long start) {
+        if (start != SQLProfiler.NOT_SAMPLED) {
+            sqlProfiler.stop(sql, start);
+        }
+    }
+
+    /**
+     * @return SQL statement executed by {@link #executeBatch()}, null if not known
+     */
+    protected String getProfiledSql() {
+        return null;
     }
 
     /**
@@ -644,7 +691,12 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
      */
     @Override
     public int executeUpdate(final String sql, int autoGeneratedKeys) throws SQLException {
-        return jdbcStatement.executeUpdate(sql, autoGeneratedKeys);
+        final long start = startProfiling();
+        try {
+            return jdbcStatement.executeUpdate(sql, autoGeneratedKeys);
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -668,7 +720,12 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
      */
     @Override
     public int executeUpdate(final String sql, int columnIndexes[]) throws SQLException {
-        return jdbcStatement.executeUpdate(sql, columnIndexes);
+        final long start = startProfiling();
+        try {
+            return jdbcStatement.executeUpdate(sql, columnIndexes);
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -691,7 +748,12 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
      */
     @Override
     public int executeUpdate(final String sql, String columnNames[]) throws SQLException {
-        return jdbcStatement.executeUpdate(sql, columnNames);
+        final long start = startProfiling();
+        try {
+            return jdbcStatement.executeUpdate(sql, columnNames);
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -730,7 +792,12 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
      */
     @Override
     public boolean execute(final String sql, int autoGeneratedKeys) throws SQLException {
-        return jdbcStatement.execute(sql, autoGeneratedKeys);
+        final long start = startProfiling();
+        try {
+            return jdbcStatement.execute(sql, autoGeneratedKeys);
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -767,7 +834,12 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
      */
     @Override
     public boolean execute(final String sql, int columnIndexes[]) throws SQLException {
-        return jdbcStatement.execute(sql, columnIndexes);
+        final long start = startProfiling();
+        try {
+            return jdbcStatement.execute(sql, columnIndexes);
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -806,7 +878,12 @@ public abstract class StatementWrapper implements Statement, StatementLeakListen
      */
     @Override
     public boolean execute(final String sql, String columnNames[]) throws SQLException {
-        return jdbcStatement.execute(sql, columnNames);
+        final long start = startProfiling();
+        try {
+            return jdbcStatement.execute(sql, columnNames);
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 
     /**
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +19,9 @@ package com.sun.gjc.spi.base.datastructure;
 
 import com.sun.gjc.spi.base.CacheObjectKey;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  *
  * @author Shalini M
@@ -84,4 +88,16 @@ public interface Cache {
      * @param entry
      */
     void purge(Object entry);
+
+    /**
+     * Get the keys of the statements used most frequently in the connection pool,
+     * the most used first. Used to prepare the statements in advance when a new
+     * physical connection is created.
+     *
+     * @return keys of the statements to prepare, empty if the cache does not
+     * gather usage statistics.
+     */
+    default List<CacheObjectKey> getFrequentlyUsedKeys() {
+        return Collections.emptyList();
+    }
 }
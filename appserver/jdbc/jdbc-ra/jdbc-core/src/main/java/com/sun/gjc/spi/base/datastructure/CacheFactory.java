@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -43,6 +44,19 @@ public class CacheFactory {
     protected final static StringManager localStrings = StringManager.getManager(DataSourceObjectBuilder.class);
 
     public static Cache getDataStructure(PoolInfo poolInfo, String cacheType, int maxSize) throws ResourceException {
+        return getDataStructure(poolInfo, cacheType, maxSize, new StatementUsageStatistics(maxSize));
+    }
+
+    /**
+     * @param poolInfo connection pool
+     * @param cacheType LRU if empty, FIXED, CONCURRENT or a class name of a custom cache
+     * @param maxSize maximal count of cached statements
+     * @param statistics usage statistics of statements shared by all connections of the pool
+     * @return statement cache of a connection
+     * @throws ResourceException if the custom cache cannot be created
+     */
+    public static Cache getDataStructure(PoolInfo poolInfo, String cacheType, int maxSize,
+            StatementUsageStatistics statistics) throws ResourceException {
         Cache stmtCacheStructure;
 
         if (cacheType == null || cacheType.trim().equals("")) {
@@ -51,6 +65,9 @@ public class CacheFactory {
         } else if (cacheType.equals("FIXED")) {
             debug("Initializing FIXED Cache Implementation");
             stmtCacheStructure = new FIXEDCacheImpl(poolInfo, maxSize);
+        } else if (cacheType.equals("CONCURRENT")) {
+            debug("Initializing CONCURRENT Cache Implementation");
+            stmtCacheStructure = new ConcurrentCacheImpl(poolInfo, maxSize, statistics);
         } else { // consider the value of cacheType as a className
             stmtCacheStructure = initCustomCacheStructurePrivileged(cacheType, maxSize);
         }
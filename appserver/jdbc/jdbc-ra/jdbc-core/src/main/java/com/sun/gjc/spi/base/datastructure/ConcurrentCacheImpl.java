@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.gjc.spi.base.datastructure;
+
+import com.sun.gjc.monitoring.StatementCacheProbeProvider;
+import com.sun.gjc.spi.base.CacheObjectKey;
+import com.sun.gjc.spi.base.PreparedStatementWrapper;
+import com.sun.logging.LogDomains;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.resourcebase.resources.api.PoolInfo;
+
+/**
+ * Statement cache backed by a concurrent map, which does not need a lock.
+ * <p>
+ * When the cache is full, a few statements are taken from the head of a clock queue and the
+ * one with the least hits is evicted. The others get their hits halved and return to the tail
+ * of the queue, so statements which were used a lot long ago do not stay in the cache forever.
+ * A new statement replaces the evicted one only if it was used in the connection pool at least
+ * as often, so statements executed just once do not push out the frequently used ones.
+ * <p>
+ * Uses of statements are counted for the whole connection pool. The most frequently used
+ * statements are prepared in advance on new physical connections.
+ */
+public class ConcurrentCacheImpl implements Cache {
+
+    protected final static Logger _logger = LogDomains.getLogger(ConcurrentCacheImpl.class, LogDomains.RSR_LOGGER);
+
+    /** Count of statements examined to find the one to be evicted */
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final Map<CacheObjectKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    /** Cached entries in the order of their examination, may contain entries removed meanwhile */
+    private final Queue<CacheEntry> clock = new ConcurrentLinkedQueue<>();
+    private final int maxSize;
+    private final PoolInfo poolInfo;
+    private final StatementUsageStatistics statistics;
+    private StatementCacheProbeProvider probeProvider;
+
+    public ConcurrentCacheImpl(PoolInfo poolInfo, int maxSize) {
+        this(poolInfo, maxSize, new StatementUsageStatistics(maxSize));
+    }
+
+    /**
+     * @param poolInfo connection pool
+     * @param maxSize maximal count of cached statements
+     * @param statistics usage statistics shared by all connections of the pool
+     */
+    public ConcurrentCacheImpl(PoolInfo poolInfo, int maxSize, StatementUsageStatistics statistics) {
+        this.poolInfo = poolInfo;
+        this.maxSize = maxSize;
+        this.statistics = statistics;
+        try {
+            probeProvider = new StatementCacheProbeProvider();
+        } catch (Exception ex) {
+            _logger.log(Level.FINE, "Statement cache probe provider not available", ex);
+        }
+    }
+
+    @Override
+    public Object checkAndUpdateCache(CacheObjectKey key) {
+        statistics.used(key);
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            _logger.finest("Cache Miss");
+            if (probeProvider != null) {
+                probeProvider.statementCacheMissEvent(
+                    poolInfo.getName().toString(), poolInfo.getApplicationName(), poolInfo.getModuleName());
+            }
+            return null;
+        }
+        _logger.finest("Cache Hit");
+        entry.hits.incrementAndGet();
+        if (probeProvider != null) {
+            probeProvider.statementCacheHitEvent(
+                poolInfo.getName().toString(), poolInfo.getApplicationName(), poolInfo.getModuleName());
+        }
+        return entry.entryObj;
+    }
+
+    /**
+     * Add the key and entry value into the cache. If the cache is full and the statement
+     * is used less often than the statement to be evicted, the statement is not cached.
+     *
+     * @param key key that contains the sql string and its type (PS/CS)
+     * @param o entry that is the wrapper of PreparedStatement or CallableStatement
+     * @param force If the already existing key is to be overwritten
+     */
+    @Override
+    public void addToCache(CacheObjectKey key, Object o, boolean force) {
+        boolean cached = entries.containsKey(key);
+        if (cached && !force) {
+            return;
+        }
+        if (!cached && entries.size() >= maxSize && !evict(key)) {
+            if (o instanceof PreparedStatementWrapper) {
+                ((PreparedStatementWrapper) o).setCached(false);
+            }
+            return;
+        }
+        CacheEntry entry = new CacheEntry(key, o);
+        entries.put(key, entry);
+        clock.add(entry);
+    }
+
+    @Override
+    public void clearCache() {
+        _logger.fine("clearing objects in cache");
+        entries.clear();
+        clock.clear();
+    }
+
+    @Override
+    public void flushCache() {
+        for (Map.Entry<CacheObjectKey, CacheEntry> entry : entries.entrySet()) {
+            if (entries.remove(entry.getKey(), entry.getValue())) {
+                close(entry.getValue());
+            }
+        }
+        clock.clear();
+    }
+
+    @Override
+    public void purge() {
+        evict(null);
+    }
+
+    // Used only for purging the bad statements.
+    @Override
+    public void purge(Object obj) {
+        for (Map.Entry<CacheObjectKey, CacheEntry> entry : entries.entrySet()) {
+            if (entry.getValue().entryObj.equals(obj)) {
+                if (entries.remove(entry.getKey(), entry.getValue())) {
+                    _logger.log(Level.FINEST, "Purging an entry from cache");
+                    close(entry.getValue());
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public boolean isSynchronized() {
+        return true;
+    }
+
+    /**
+     * @return keys of the most used statements of the pool, filling up to a half of the cache,
+     *         so there is still room for statements used by the application meanwhile.
+     */
+    @Override
+    public List<CacheObjectKey> getFrequentlyUsedKeys() {
+        return statistics.getMostUsed(maxSize / 2);
+    }
+
+    /**
+     * Evicts the statement with the least hits among those at the head of the clock queue.
+     *
+     * @param candidate key of the statement to be cached instead, null to evict unconditionally
+     * @return false if the candidate is used less often than the statement to be evicted
+     */
+    private boolean evict(CacheObjectKey candidate) {
+        List<CacheEntry> sample = new ArrayList<>(EVICTION_SAMPLE_SIZE);
+        CacheEntry victim = null;
+        int victimHits = 0;
+        boolean victimBusy = false;
+        while (sample.size() < EVICTION_SAMPLE_SIZE) {
+            CacheEntry entry = clock.poll();
+            if (entry == null) {
+                break;
+            }
+            if (entries.get(entry.key) != entry) {
+                // Removed from the cache meanwhile
+                continue;
+            }
+            sample.add(entry);
+            int hits = entry.hits.get();
+            boolean busy = isBusy(entry);
+            // Statements in use are evicted only if there is nothing else
+            if (victim == null || (victimBusy && !busy) || (busy == victimBusy && hits < victimHits)) {
+                victim = entry;
+                victimHits = hits;
+                victimBusy = busy;
+            }
+        }
+        if (victim == null) {
+            return true;
+        }
+        if (candidate != null && statistics.getCount(candidate) < statistics.getCount(victim.key)) {
+            clock.addAll(sample);
+            return false;
+        }
+        for (CacheEntry entry : sample) {
+            if (entry != victim) {
+                entry.age();
+                clock.add(entry);
+            }
+        }
+        if (entries.remove(victim.key, victim)) {
+            close(victim);
+            if (probeProvider != null) {
+                probeProvider.statementCacheEvictionEvent(
+                    poolInfo.getName().toString(), poolInfo.getApplicationName(), poolInfo.getModuleName());
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBusy(CacheEntry entry) {
+        return entry.entryObj instanceof PreparedStatementWrapper && ((PreparedStatementWrapper) entry.entryObj).isBusy();
+    }
+
+    /**
+     * Closes the statement removed from the cache. A statement in use is closed by the
+     * application, which no longer returns it to the cache.
+     */
+    private static void close(CacheEntry entry) {
+        if (!(entry.entryObj instanceof PreparedStatementWrapper)) {
+            return;
+        }
+        try {
+            PreparedStatementWrapper ps = (PreparedStatementWrapper) entry.entryObj;
+            boolean busy = ps.isBusy();
+            ps.setCached(false);
+            if (!busy) {
+                ps.close();
+            }
+        } catch (SQLException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * Cache object that has an entry and counts its hits.
+     */
+    static final class CacheEntry {
+
+        private final CacheObjectKey key;
+        private final Object entryObj;
+        private final AtomicInteger hits = new AtomicInteger();
+
+        CacheEntry(CacheObjectKey key, Object o) {
+            this.key = key;
+            this.entryObj = o;
+        }
+
+        void age() {
+            hits.updateAndGet(h -> h / 2);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.gjc.spi.base.datastructure;
+
+import com.sun.gjc.spi.base.CacheObjectKey;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Approximate counts of statement uses in all connections of a connection pool.
+ * The statistics are owned by the managed connection factory of the pool, so they are
+ * released together with the pool.
+ * <p>
+ * The number of counted statements is limited. When the limit is exceeded, all counts
+ * are halved and the statements used just once are forgotten, so the statistics follow
+ * changes of the workload.
+ */
+public final class StatementUsageStatistics {
+
+    private static final int MIN_COUNTED_STATEMENTS = 64;
+
+    private final Map<CacheObjectKey, LongAdder> counts = new ConcurrentHashMap<>();
+    private final AtomicBoolean aging = new AtomicBoolean();
+    private final int maxCountedStatements;
+
+    /**
+     * @param cacheSize size of the statement cache of a connection
+     */
+    public StatementUsageStatistics(int cacheSize) {
+        this.maxCountedStatements = Math.max(MIN_COUNTED_STATEMENTS, cacheSize * 4);
+    }
+
+    void used(CacheObjectKey key) {
+        LongAdder count = counts.get(key);
+        if (count != null) {
+            count.increment();
+            return;
+        }
+        counts.computeIfAbsent(key, k -> new LongAdder()).increment();
+        if (counts.size() > maxCountedStatements) {
+            age();
+        }
+    }
+
+    long getCount(CacheObjectKey key) {
+        LongAdder count = counts.get(key);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * @param limit maximal number of returned keys
+     * @return keys of statements used repeatedly, the most used first
+     */
+    List<CacheObjectKey> getMostUsed(int limit) {
+        List<Map.Entry<CacheObjectKey, Long>> used = new ArrayList<>();
+        for (Map.Entry<CacheObjectKey, LongAdder> entry : counts.entrySet()) {
+            long count = entry.getValue().sum();
+            if (count > 1) {
+                used.add(Map.entry(entry.getKey(), count));
+            }
+        }
+        used.sort(Map.Entry.<CacheObjectKey, Long>comparingByValue().reversed());
+        List<CacheObjectKey> keys = new ArrayList<>(Math.min(limit, used.size()));
+        for (int i = 0; i < used.size() && i < limit; i++) {
+            keys.add(used.get(i).getKey());
+        }
+        return keys;
+    }
+
+    private void age() {
+        if (!aging.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Iterator<LongAdder> iterator = counts.values().iterator();
+            while (iterator.hasNext()) {
+                LongAdder count = iterator.next();
+                long half = count.sumThenReset() / 2;
+                if (half == 0) {
+                    iterator.remove();
+                } else {
+                    count.add(half);
+                }
+            }
+        } finally {
+            aging.set(false);
+        }
+    }
+}
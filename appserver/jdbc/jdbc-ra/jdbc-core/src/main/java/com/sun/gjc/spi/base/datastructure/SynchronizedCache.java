@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +19,8 @@ package com.sun.gjc.spi.base.datastructure;
 
 import com.sun.gjc.spi.base.CacheObjectKey;
 
+import java.util.List;
+
 /**
  *
  * @author Shalini M
@@ -60,4 +63,9 @@ public class SynchronizedCache implements Cache {
     public void purge(Object entry) {
         cacheImpl.purge(entry);
     }
+
+    @Override
+    public List<CacheObjectKey> getFrequentlyUsedKeys() {
+        return cacheImpl.getFrequentlyUsedKeys();
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.gjc.util;
+
+/**
+ * Normalizes SQL statements, so that statements differing just in literal values
+ * are reported as one statement.
+ * <p>
+ * Comments are removed, whitespace is collapsed to a single space, string and
+ * numeric literals are replaced by {@code ?} and lists of parameters of the IN
+ * predicate, ie. {@code IN (?, ?, ?)}, are collapsed to a single parameter.
+ * Other lists, ie. {@code VALUES (?, ?)}, are kept, because their length changes
+ * the statement. Quoted identifiers are kept as they are.
+ */
+public final class SQLNormalizer {
+
+    private SQLNormalizer() {
+    }
+
+    /**
+     * @param sql SQL statement
+     * @return normalized SQL statement, null if the statement was null
+     */
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        final int length = sql.length();
+        final StringBuilder normalized = new StringBuilder(length);
+        boolean space = false;
+        int i = 0;
+        while (i < length) {
+            final char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                i++;
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                space = true;
+                i = skipLineComment(sql, i);
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                space = true;
+                i = skipBlockComment(sql, i);
+            } else {
+                if (space && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                space = false;
+                if (c == '\'') {
+                    i = skipStringLiteral(sql, i);
+                    appendParameter(normalized);
+                } else if (c == '"' || c == '`') {
+                    final int end = skipQuoted(sql, i, c);
+                    normalized.append(sql, i, end);
+                    i = end;
+                } else if (Character.isDigit(c) && !isPartOfIdentifier(normalized)) {
+                    i = skipNumber(sql, i);
+                    appendParameter(normalized);
+                } else if (c == '?') {
+                    i++;
+                    appendParameter(normalized);
+                } else {
+                    normalized.append(c);
+                    i++;
+                }
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Appends the parameter unless it just continues a list of parameters of the IN predicate.
+     */
+    private static void appendParameter(StringBuilder normalized) {
+        int end = normalized.length();
+        if (end > 0 && normalized.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end > 1 && normalized.charAt(end - 1) == ',' && normalized.charAt(end - 2) == '?'
+            && isFirstInListItem(normalized, end - 2)) {
+            normalized.setLength(end - 2);
+        }
+        normalized.append('?');
+    }
+
+    /**
+     * Previous parameters of the list are already collapsed, so the parameter continues
+     * the list of the IN predicate just if it follows {@code IN (?}.
+     *
+     * @param parameter index of the previous parameter
+     */
+    private static boolean isFirstInListItem(StringBuilder normalized, int parameter) {
+        int i = skipSpace(normalized, parameter);
+        if (i == 0 || normalized.charAt(i - 1) != '(') {
+            return false;
+        }
+        i = skipSpace(normalized, i - 1);
+        return i > 1 && Character.toUpperCase(normalized.charAt(i - 1)) == 'N'
+            && Character.toUpperCase(normalized.charAt(i - 2)) == 'I'
+            && (i == 2 || !isIdentifierChar(normalized.charAt(i - 3)));
+    }
+
+    private static int skipSpace(StringBuilder normalized, int end) {
+        return end > 0 && normalized.charAt(end - 1) == ' ' ? end - 1 : end;
+    }
+
+    private static boolean isPartOfIdentifier(StringBuilder normalized) {
+        return normalized.length() > 0 && isIdentifierChar(normalized.charAt(normalized.length() - 1));
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.' || c == '"' || c == '`';
+    }
+
+    private static int skipLineComment(String sql, int start) {
+        final int end = sql.indexOf('\n', start);
+        return end < 0 ? sql.length() : end + 1;
+    }
+
+    private static int skipBlockComment(String sql, int start) {
+        final int end = sql.indexOf("*/", start + 2);
+        return end < 0 ? sql.length() : end + 2;
+    }
+
+    private static int skipStringLiteral(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                // Escaped quote
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipQuoted(String sql, int start, char quote) {
+        final int end = sql.indexOf(quote, start + 1);
+        return end < 0 ? sql.length() : end + 1;
+    }
+
+    private static int skipNumber(String sql, int start) {
+        int i = start;
+        while (i < sql.length()) {
+            final char c = sql.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '.') {
+                i++;
+            } else if ((c == '+' || c == '-') && (sql.charAt(i - 1) == 'e' || sql.charAt(i - 1) == 'E')) {
+                // Exponent
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.gjc.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sampling profiler of SQL statements executed in connections of a pool.
+ * <p>
+ * One of {@code samplingRate} executions is timed. Timed statements are normalized
+ * by {@link SQLNormalizer} and counted by the space-saving algorithm: at most
+ * {@code capacity} statements are tracked, a statement which is not tracked replaces
+ * the least executed one and inherits its count, so the most executed statements
+ * are always tracked and their counts are overestimated by at most the inherited count.
+ * Each tracked statement has its own {@link LatencyHistogram}.
+ * <p>
+ * The profiler does not use locks. Concurrent replacements of the same statement may
+ * lose some samples, which is acceptable for statistics.
+ */
+public class SQLProfiler {
+
+    /** Start time of executions which are not sampled */
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static final String LINE_BREAK = "%%%EOL%%%";
+
+    private final int samplingRate;
+    private final int capacity;
+    private final Map<String, StatementProfile> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * @param samplingRate one of how many executions is sampled
+     * @param capacity maximal number of tracked statements
+     */
+    public SQLProfiler(int samplingRate, int capacity) {
+        this.samplingRate = Math.max(1, samplingRate);
+        this.capacity = Math.max(1, capacity);
+    }
+
+    public int getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * @return start time of the execution if it is sampled, {@link #NOT_SAMPLED} otherwise
+     */
+    public long start() {
+        if (samplingRate == 1 || ThreadLocalRandom.current().nextInt(samplingRate) == 0) {
+            return System.nanoTime();
+        }
+        return NOT_SAMPLED;
+    }
+
+    /**
+     * Records the sampled execution.
+     *
+     * @param sql executed SQL statement
+     * @param start value returned by {@link #start()}
+     */
+    public void stop(String sql, long start) {
+        if (start == NOT_SAMPLED || sql == null) {
+            return;
+        }
+        final long elapsed = System.nanoTime() - start;
+        final StatementProfile profile = count(SQLNormalizer.normalize(sql));
+        if (profile != null) {
+            profile.latencies.record(TimeUnit.NANOSECONDS.toMicros(elapsed));
+        }
+    }
+
+    /**
+     * @param limit maximal number of returned profiles
+     * @return profiles of the most executed statements, the most executed first
+     */
+    public List<StatementProfile> getTopStatements(int limit) {
+        final List<StatementProfile> top = new ArrayList<>(profiles.values());
+        top.sort(Comparator.comparingLong(StatementProfile::getCount).reversed());
+        return top.size() > limit ? new ArrayList<>(top.subList(0, limit)) : top;
+    }
+
+    /**
+     * @param limit maximal number of reported statements
+     * @return report of the most executed statements with their latencies in microseconds
+     */
+    public String getReport(int limit) {
+        final StringBuilder report = new StringBuilder();
+        for (StatementProfile profile : getTopStatements(limit)) {
+            final LatencyHistogram latencies = profile.getLatencies();
+            report.append(LINE_BREAK).append(profile.getSql())
+                .append(" [executions: ").append(profile.getCount() * samplingRate)
+                .append(", sampled: ").append(latencies.getCount())
+                .append(", mean: ").append(latencies.getMean())
+                .append(", p50: ").append(latencies.getValueAtPercentile(50))
+                .append(", p95: ").append(latencies.getValueAtPercentile(95))
+                .append(", p99: ").append(latencies.getValueAtPercentile(99))
+                .append(", max: ").append(latencies.getMax())
+                .append(" us]");
+        }
+        return report.toString();
+    }
+
+    /**
+     * Forgets all tracked statements.
+     */
+    public void reset() {
+        profiles.clear();
+    }
+
+    private StatementProfile count(String sql) {
+        StatementProfile profile = profiles.get(sql);
+        if (profile == null) {
+            profile = profiles.size() < capacity
+                ? profiles.computeIfAbsent(sql, s -> new StatementProfile(s, 0))
+                : replaceLeastExecuted(sql);
+            if (profile == null) {
+                return null;
+            }
+        }
+        profile.count.increment();
+        return profile;
+    }
+
+    private StatementProfile replaceLeastExecuted(String sql) {
+        StatementProfile leastExecuted = null;
+        long leastCount = Long.MAX_VALUE;
+        for (StatementProfile profile : profiles.values()) {
+            final long count = profile.getCount();
+            if (count < leastCount) {
+                leastExecuted = profile;
+                leastCount = count;
+            }
+        }
+        if (leastExecuted == null) {
+            return profiles.computeIfAbsent(sql, s -> new StatementProfile(s, 0));
+        }
+        if (!profiles.remove(leastExecuted.sql, leastExecuted)) {
+            // Replaced by another thread meanwhile
+            return profiles.get(sql);
+        }
+        final StatementProfile replacement = new StatementProfile(sql, leastCount);
+        final StatementProfile existing = profiles.putIfAbsent(sql, replacement);
+        return existing == null ? replacement : existing;
+    }
+
+    /**
+     * Executions and latencies of a normalized statement.
+     */
+    public static final class StatementProfile {
+
+        private final String sql;
+        private final long overestimation;
+        private final LongAdder count = new LongAdder();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        StatementProfile(String sql, long overestimation) {
+            this.sql = sql;
+            this.overestimation = overestimation;
+            count.add(overestimation);
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        /**
+         * @return count of sampled executions, possibly overestimated
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @return maximal overestimation of the count of sampled executions
+         */
+        public long getOverestimation() {
+            return overestimation;
+        }
+
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+    }
+}
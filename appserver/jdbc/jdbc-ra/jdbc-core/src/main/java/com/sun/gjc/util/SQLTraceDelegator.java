@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022,2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -74,6 +74,24 @@ public class SQLTraceDelegator implements SQLTraceListener {
         sqlTraceListenersList.add(listener);
     }
 
+    /**
+     * Creates a record of the method call and passes it to the listeners.
+     *
+     * @param className class of the object whose method was called
+     * @param methodName name of the called method
+     * @param params parameters of the method call
+     */
+    public void sqlTrace(String className, String methodName, Object... params) {
+        SQLTraceRecord record = new SQLTraceRecord();
+        record.setMethodName(methodName);
+        record.setParams(params.length == 0 ? null : params);
+        record.setClassName(className);
+        record.setThreadName(Thread.currentThread().getName());
+        record.setThreadID(Thread.currentThread().getId());
+        record.setTimeStamp(System.currentTimeMillis());
+        sqlTrace(record);
+    }
+
     @Override
     public void sqlTrace(SQLTraceRecord record) {
         if (record != null) {
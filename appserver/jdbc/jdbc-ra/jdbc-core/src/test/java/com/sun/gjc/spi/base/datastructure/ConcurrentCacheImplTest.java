@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.gjc.spi.base.datastructure;
+
+import com.sun.gjc.spi.base.CacheObjectKey;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.glassfish.api.naming.SimpleJndiName;
+import org.glassfish.resourcebase.resources.api.PoolInfo;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ConcurrentCacheImplTest {
+
+    private static final PoolInfo POOL = new PoolInfo(new SimpleJndiName("testPool"));
+
+    private static final CacheObjectKey A = key("SELECT A");
+    private static final CacheObjectKey B = key("SELECT B");
+    private static final CacheObjectKey C = key("SELECT C");
+    private static final CacheObjectKey D = key("SELECT D");
+
+    @Test
+    public void cachedStatementIsHit() {
+        ConcurrentCacheImpl cache = new ConcurrentCacheImpl(POOL, 2);
+        assertNull(cache.checkAndUpdateCache(A));
+        cache.addToCache(A, "a", false);
+        assertAll(
+            () -> assertEquals("a", cache.checkAndUpdateCache(A)),
+            () -> assertNull(cache.checkAndUpdateCache(B)),
+            () -> assertEquals(1, cache.getSize())
+        );
+    }
+
+
+    @Test
+    public void leastHitStatementIsEvicted() {
+        ConcurrentCacheImpl cache = new ConcurrentCacheImpl(POOL, 3);
+        use(cache, A, 3);
+        use(cache, B, 2);
+        use(cache, C, 1);
+        use(cache, D, 1);
+        assertAll(
+            () -> assertEquals(3, cache.getSize()),
+            () -> assertNull(cache.checkAndUpdateCache(C)),
+            () -> assertNotNull(cache.checkAndUpdateCache(A)),
+            () -> assertNotNull(cache.checkAndUpdateCache(B)),
+            () -> assertNotNull(cache.checkAndUpdateCache(D))
+        );
+    }
+
+
+    @Test
+    public void oneOffStatementIsNotAdmitted() {
+        ConcurrentCacheImpl cache = new ConcurrentCacheImpl(POOL, 2);
+        use(cache, A, 3);
+        use(cache, B, 3);
+        use(cache, C, 1);
+        assertAll(
+            () -> assertEquals(2, cache.getSize()),
+            () -> assertNull(cache.checkAndUpdateCache(C)),
+            () -> assertNotNull(cache.checkAndUpdateCache(A)),
+            () -> assertNotNull(cache.checkAndUpdateCache(B))
+        );
+    }
+
+
+    @Test
+    public void idleStatementIsEvictedAfterAging() {
+        ConcurrentCacheImpl cache = new ConcurrentCacheImpl(POOL, 2);
+        use(cache, A, 5);
+        use(cache, B, 2);
+        // Every eviction halves the hits of A, until C, used more often meanwhile, replaces it
+        for (int i = 0; i < 10; i++) {
+            use(cache, C, 4);
+            use(cache, D, 4);
+        }
+        assertAll(
+            () -> assertNull(cache.checkAndUpdateCache(A)),
+            () -> assertEquals(2, cache.getSize())
+        );
+    }
+
+
+    @Test
+    public void purgeEvictsUnconditionally() {
+        ConcurrentCacheImpl cache = new ConcurrentCacheImpl(POOL, 3);
+        use(cache, A, 3);
+        use(cache, B, 1);
+        cache.purge();
+        assertAll(
+            () -> assertEquals(1, cache.getSize()),
+            () -> assertNull(cache.checkAndUpdateCache(B))
+        );
+        cache.clearCache();
+        assertEquals(0, cache.getSize());
+        cache.purge();
+        assertEquals(0, cache.getSize());
+    }
+
+
+    @Test
+    public void frequentlyUsedKeysAreSharedByPool() {
+        StatementUsageStatistics statistics = new StatementUsageStatistics(4);
+        ConcurrentCacheImpl cache1 = new ConcurrentCacheImpl(POOL, 4, statistics);
+        ConcurrentCacheImpl cache2 = new ConcurrentCacheImpl(POOL, 4, statistics);
+        use(cache1, A, 2);
+        use(cache1, B, 3);
+        use(cache1, C, 4);
+        List<CacheObjectKey> keys = cache2.getFrequentlyUsedKeys();
+        assertThat(keys, contains(C, B));
+    }
+
+
+    private static void use(Cache cache, CacheObjectKey key, int count) {
+        for (int i = 0; i < count; i++) {
+            if (cache.checkAndUpdateCache(key) == null) {
+                cache.addToCache(key, key.getSql(), false);
+            }
+        }
+    }
+
+
+    private static CacheObjectKey key(String sql) {
+        return new CacheObjectKey(sql, CacheObjectKey.PREPARED_STATEMENT, ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY);
+    }
+}
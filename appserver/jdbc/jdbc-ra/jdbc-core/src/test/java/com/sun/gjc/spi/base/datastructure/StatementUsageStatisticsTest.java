@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.gjc.spi.base.datastructure;
+
+import com.sun.gjc.spi.base.CacheObjectKey;
+
+import java.sql.ResultSet;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StatementUsageStatisticsTest {
+
+    @Test
+    public void mostUsedStatementsFirst() {
+        StatementUsageStatistics statistics = new StatementUsageStatistics(10);
+        CacheObjectKey once = key("SELECT ONCE");
+        CacheObjectKey twice = key("SELECT TWICE");
+        CacheObjectKey often = key("SELECT OFTEN");
+        use(statistics, once, 1);
+        use(statistics, twice, 2);
+        use(statistics, often, 5);
+        assertAll(
+            () -> assertEquals(5, statistics.getCount(often)),
+            () -> assertEquals(0, statistics.getCount(key("SELECT NEVER"))),
+            () -> assertThat(statistics.getMostUsed(10), contains(often, twice)),
+            () -> assertThat(statistics.getMostUsed(1), contains(often)),
+            () -> assertThat(statistics.getMostUsed(0), empty())
+        );
+    }
+
+
+    @Test
+    public void oneOffStatementsAreForgotten() {
+        // At least 64 statements are counted
+        StatementUsageStatistics statistics = new StatementUsageStatistics(1);
+        CacheObjectKey hot = key("SELECT HOT");
+        use(statistics, hot, 10);
+        for (int i = 0; i < 64; i++) {
+            use(statistics, key("SELECT " + i), 1);
+        }
+        assertAll(
+            () -> assertEquals(5, statistics.getCount(hot)),
+            () -> assertEquals(0, statistics.getCount(key("SELECT 0"))),
+            () -> assertThat(statistics.getMostUsed(10), contains(hot))
+        );
+    }
+
+
+    private static void use(StatementUsageStatistics statistics, CacheObjectKey key, int count) {
+        for (int i = 0; i < count; i++) {
+            statistics.used(key);
+        }
+    }
+
+
+    private static CacheObjectKey key(String sql) {
+        return new CacheObjectKey(sql, CacheObjectKey.PREPARED_STATEMENT, ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY);
+    }
+}
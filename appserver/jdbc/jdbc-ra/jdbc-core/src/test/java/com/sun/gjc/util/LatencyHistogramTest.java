@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.gjc.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void empty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertAll(
+            () -> assertEquals(0, histogram.getCount()),
+            () -> assertEquals(0, histogram.getMean()),
+            () -> assertEquals(0, histogram.getMax()),
+            () -> assertEquals(0, histogram.getValueAtPercentile(99))
+        );
+    }
+
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+        assertAll(
+            () -> assertEquals(20, histogram.getCount()),
+            () -> assertEquals(10, histogram.getMean()),
+            () -> assertEquals(20, histogram.getMax()),
+            () -> assertEquals(10, histogram.getValueAtPercentile(50)),
+            () -> assertEquals(19, histogram.getValueAtPercentile(95)),
+            () -> assertEquals(20, histogram.getValueAtPercentile(100))
+        );
+    }
+
+
+    @Test
+    public void largeValuesHaveRelativePrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertAll(
+            () -> assertTrue(p50 >= 500_000 && p50 < 500_000 * 17 / 16, "p50: " + p50),
+            () -> assertTrue(p99 >= 990_000 && p99 < 990_000 * 17 / 16, "p99: " + p99),
+            () -> assertEquals(1_000_000, histogram.getValueAtPercentile(100)),
+            () -> assertEquals(500_500, histogram.getMean())
+        );
+    }
+
+
+    @Test
+    public void outOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertAll(
+            () -> assertEquals(2, histogram.getCount()),
+            () -> assertEquals(0, histogram.getValueAtPercentile(50)),
+            () -> assertEquals((1L << 36) - 1, histogram.getMax()),
+            () -> assertEquals((1L << 36) - 1, histogram.getValueAtPercentile(100))
+        );
+    }
+
+
+    @Test
+    public void bucketsAreContiguous() {
+        for (int index = 1; index < LatencyHistogram.bucketIndex((1L << 36) - 1); index++) {
+            long lowest = LatencyHistogram.highestValue(index - 1) + 1;
+            assertEquals(index, LatencyHistogram.bucketIndex(lowest), "lowest value of bucket " + index);
+            assertEquals(index, LatencyHistogram.bucketIndex(LatencyHistogram.highestValue(index)),
+                "highest value of bucket " + index);
+        }
+    }
+}
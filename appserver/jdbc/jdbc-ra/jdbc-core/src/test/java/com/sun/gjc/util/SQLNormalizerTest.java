@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.gjc.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SQLNormalizerTest {
+
+    @Test
+    public void literalsAndWhitespace() {
+        assertAll(
+            () -> assertNull(SQLNormalizer.normalize(null)),
+            () -> assertEquals("SELECT * FROM T WHERE A = ? AND B = ?",
+                SQLNormalizer.normalize("SELECT *\n  FROM T\tWHERE A = 'it''s' AND B = 1.5e-3")),
+            () -> assertEquals("SELECT COL1 FROM T2 WHERE C = ?",
+                SQLNormalizer.normalize("SELECT COL1 FROM T2 WHERE C = 42")),
+            () -> assertEquals("SELECT \"A 1\", `B 2` FROM T",
+                SQLNormalizer.normalize("SELECT \"A 1\", `B 2` FROM T"))
+        );
+    }
+
+
+    @Test
+    public void comments() {
+        assertEquals("SELECT A FROM T WHERE B = ?",
+            SQLNormalizer.normalize("SELECT A -- column\nFROM T /* table */ WHERE B = ?"));
+    }
+
+
+    @Test
+    public void inListIsCollapsed() {
+        assertAll(
+            () -> assertEquals("SELECT A FROM T WHERE B IN (?)",
+                SQLNormalizer.normalize("SELECT A FROM T WHERE B IN (1, 2, 3)")),
+            () -> assertEquals("SELECT A FROM T WHERE B IN (?)",
+                SQLNormalizer.normalize("SELECT A FROM T WHERE B IN (?,?)")),
+            () -> assertEquals("SELECT A FROM T WHERE B not in ( ? )",
+                SQLNormalizer.normalize("SELECT A FROM T WHERE B not in ( 'x', 'y' )"))
+        );
+    }
+
+
+    @Test
+    public void otherListsAreKept() {
+        assertAll(
+            () -> assertEquals("INSERT INTO T (A, B) VALUES (?, ?)",
+                SQLNormalizer.normalize("INSERT INTO T (A, B) VALUES (1, 'b')")),
+            () -> assertEquals("SELECT COALESCE(A, ?, ?) FROM T",
+                SQLNormalizer.normalize("SELECT COALESCE(A, ?, ?) FROM T")),
+            () -> assertEquals("SELECT A FROM T WHERE B = MIN(?, ?)",
+                SQLNormalizer.normalize("SELECT A FROM T WHERE B = MIN(1, 2)")),
+            () -> assertEquals("SELECT A FROM T WHERE PIN (?, ?)",
+                SQLNormalizer.normalize("SELECT A FROM T WHERE PIN (1, 2)"))
+        );
+    }
+}
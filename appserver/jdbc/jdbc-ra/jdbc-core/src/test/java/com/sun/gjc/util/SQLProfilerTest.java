@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.gjc.util;
+
+import com.sun.gjc.util.SQLProfiler.StatementProfile;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class SQLProfilerTest {
+
+    @Test
+    public void normalizedStatementsAreCounted() {
+        SQLProfiler profiler = new SQLProfiler(1, 10);
+        execute(profiler, "SELECT A FROM T WHERE B = 1", 1);
+        execute(profiler, "SELECT A FROM T WHERE B = 2", 2);
+        execute(profiler, "DELETE FROM T", 1);
+        List<StatementProfile> top = profiler.getTopStatements(10);
+        assertAll(
+            () -> assertThat(top, hasSize(2)),
+            () -> assertEquals("SELECT A FROM T WHERE B = ?", top.get(0).getSql()),
+            () -> assertEquals(3, top.get(0).getCount()),
+            () -> assertEquals(3, top.get(0).getLatencies().getCount()),
+            () -> assertEquals(0, top.get(0).getOverestimation()),
+            () -> assertEquals("DELETE FROM T", top.get(1).getSql()),
+            () -> assertThat(profiler.getTopStatements(1), hasSize(1))
+        );
+    }
+
+
+    @Test
+    public void leastExecutedStatementIsReplaced() {
+        SQLProfiler profiler = new SQLProfiler(1, 2);
+        execute(profiler, "SELECT HOT", 5);
+        execute(profiler, "SELECT WARM", 2);
+        execute(profiler, "SELECT NEW", 1);
+        List<StatementProfile> top = profiler.getTopStatements(10);
+        assertAll(
+            () -> assertThat(top, hasSize(2)),
+            () -> assertEquals("SELECT HOT", top.get(0).getSql()),
+            () -> assertEquals("SELECT NEW", top.get(1).getSql()),
+            () -> assertEquals(3, top.get(1).getCount()),
+            () -> assertEquals(2, top.get(1).getOverestimation()),
+            () -> assertEquals(1, top.get(1).getLatencies().getCount())
+        );
+    }
+
+
+    @Test
+    public void notSampledExecutionsAreIgnored() {
+        SQLProfiler profiler = new SQLProfiler(1, 10);
+        profiler.stop("SELECT A", SQLProfiler.NOT_SAMPLED);
+        profiler.stop(null, profiler.start());
+        assertAll(
+            () -> assertNotEquals(SQLProfiler.NOT_SAMPLED, profiler.start()),
+            () -> assertThat(profiler.getTopStatements(10), empty())
+        );
+    }
+
+
+    @Test
+    public void reportAndReset() {
+        SQLProfiler profiler = new SQLProfiler(1, 10);
+        execute(profiler, "SELECT A FROM T WHERE B IN (1, 2)", 2);
+        String report = profiler.getReport(5);
+        assertAll(
+            () -> assertThat(report, containsString("SELECT A FROM T WHERE B IN (?) [executions: 2, sampled: 2")),
+            () -> assertThat(report, containsString(" us]"))
+        );
+        profiler.reset();
+        assertAll(
+            () -> assertThat(profiler.getTopStatements(10), empty()),
+            () -> assertEquals("", profiler.getReport(5))
+        );
+    }
+
+
+    private static void execute(SQLProfiler profiler, String sql, int times) {
+        for (int i = 0; i < times; i++) {
+            profiler.stop(sql, profiler.start());
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,10 +44,11 @@ public class CallableStatementWrapper40 extends CallableStatementWrapper {
      * Creates a new instance of CallableStatement wrapper for JDBC 3.0<br>
      *
      * @param con ConnectionWrapper<br>
+     * @param sql SQL statement that was prepared<br>
      * @param statement CallableStatement that is wrapped<br>
      */
-    public CallableStatementWrapper40(Connection con, CallableStatement statement, boolean cachingEnabled) throws SQLException {
-        super(con, statement, cachingEnabled);
+    public CallableStatementWrapper40(Connection con, String sql, CallableStatement statement, boolean cachingEnabled) throws SQLException {
+        super(con, sql, statement, cachingEnabled);
     }
 
     /**
@@ -1440,7 +1441,13 @@ public class CallableStatementWrapper40 extends CallableStatementWrapper {
      */
     @Override
     public java.sql.ResultSet executeQuery() throws java.sql.SQLException {
-        ResultSet rs = callableStatement.executeQuery();
+        final long start = startProfiling();
+        ResultSet rs;
+        try {
+            rs = callableStatement.executeQuery();
+        } finally {
+            stopProfiling(getProfiledSql(), start);
+        }
         incrementResultSetReferenceCount();
         return new ResultSetWrapper40(this, rs);
     }
@@ -1459,7 +1466,13 @@ public class CallableStatementWrapper40 extends CallableStatementWrapper {
      */
     @Override
     public java.sql.ResultSet executeQuery(String sql) throws java.sql.SQLException {
-        ResultSet rs = callableStatement.executeQuery(sql);
+        final long start = startProfiling();
+        ResultSet rs;
+        try {
+            rs = callableStatement.executeQuery(sql);
+        } finally {
+            stopProfiling(sql, start);
+        }
         incrementResultSetReferenceCount();
         return new ResultSetWrapper40(this, rs);
     }
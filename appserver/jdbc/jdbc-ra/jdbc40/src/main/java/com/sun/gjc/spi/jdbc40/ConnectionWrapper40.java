@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -237,43 +238,43 @@ public class ConnectionWrapper40 extends ConnectionHolder40 implements Connectio
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, int resultSetType, int resultSetConcurrency, boolean enableCaching) throws SQLException {
         return new PreparedStatementWrapper40(
-            this,
+            this, sql,
             super.prepareStatement(sql, resultSetType, resultSetConcurrency),
             enableCaching);
     }
 
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, String[] columnNames, boolean enableCaching) throws SQLException {
-        return new PreparedStatementWrapper40(this, super.prepareStatement(sql, columnNames), enableCaching);
+        return new PreparedStatementWrapper40(this, sql, super.prepareStatement(sql, columnNames), enableCaching);
     }
 
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability, boolean enableCaching) throws SQLException {
         return new PreparedStatementWrapper40(
-            this,
+            this, sql,
             super.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
             enableCaching);
     }
 
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, int[] columnIndexes, boolean enableCaching) throws SQLException {
-        return new PreparedStatementWrapper40(this, super.prepareStatement(sql, columnIndexes), enableCaching);
+        return new PreparedStatementWrapper40(this, sql, super.prepareStatement(sql, columnIndexes), enableCaching);
     }
 
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, int autoGeneratedKeys, boolean enableCaching) throws SQLException {
-        return new PreparedStatementWrapper40(this, super.prepareStatement(sql, autoGeneratedKeys), enableCaching);
+        return new PreparedStatementWrapper40(this, sql, super.prepareStatement(sql, autoGeneratedKeys), enableCaching);
     }
 
     @Override
     public CallableStatementWrapper40 callableCachedStatement(String sql, int resultSetType, int resultSetConcurrency, boolean enableCaching) throws SQLException {
-        return new CallableStatementWrapper40(this, super.prepareCall(sql, resultSetType, resultSetConcurrency), enableCaching);
+        return new CallableStatementWrapper40(this, sql, super.prepareCall(sql, resultSetType, resultSetConcurrency), enableCaching);
     }
 
     @Override
     public CallableStatementWrapper40 callableCachedStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability, boolean enableCaching) throws SQLException {
         return new CallableStatementWrapper40(
-            this,
+            this, sql,
             super.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
             enableCaching);
     }
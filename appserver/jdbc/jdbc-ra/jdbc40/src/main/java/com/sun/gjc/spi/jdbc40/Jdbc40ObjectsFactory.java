@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -65,9 +66,8 @@ public class Jdbc40ObjectsFactory extends JdbcObjectsFactory {
 
         if (statementWrapping) {
             if (sqlTraceDelegator != null) {
-                Class<?>[] connIntf = new Class[] { Connection.class };
-                Connection proxiedConn = getProxiedConnection(conObject, connIntf, sqlTraceDelegator);
-                connection = new ProfiledConnectionWrapper40(proxiedConn, mcObject, criObject, jdbc30Connection, sqlTraceDelegator);
+                Connection tracedConn = new TracedConnection40(conObject, sqlTraceDelegator);
+                connection = new ProfiledConnectionWrapper40(tracedConn, mcObject, criObject, jdbc30Connection, sqlTraceDelegator);
             } else {
                 connection = new ConnectionWrapper40(conObject, mcObject, criObject, jdbc30Connection);
             }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -38,10 +39,11 @@ public class PreparedStatementWrapper40 extends PreparedStatementWrapper {
      * Creates a new instance of PreparedStatement Wrapper for JDBC 3.0<br>
      *
      * @param con ConnectionWrapper<br>
+     * @param sql SQL statement that was prepared<br>
      * @param statement PreparedStatement that is wrapped<br>
      */
-    public PreparedStatementWrapper40(Connection con, PreparedStatement statement, boolean statementCaching) throws SQLException {
-        super(con, statement, statementCaching);
+    public PreparedStatementWrapper40(Connection con, String sql, PreparedStatement statement, boolean statementCaching) throws SQLException {
+        super(con, sql, statement, statementCaching);
     }
 
     /**
@@ -653,7 +655,13 @@ public class PreparedStatementWrapper40 extends PreparedStatementWrapper {
      */
     @Override
     public ResultSet executeQuery() throws SQLException {
-        ResultSet resultSet = preparedStatement.executeQuery();
+        final long start = startProfiling();
+        ResultSet resultSet;
+        try {
+            resultSet = preparedStatement.executeQuery();
+        } finally {
+            stopProfiling(getProfiledSql(), start);
+        }
         incrementResultSetReferenceCount();
         return new ResultSetWrapper40(this, resultSet);
     }
@@ -672,7 +680,13 @@ public class PreparedStatementWrapper40 extends PreparedStatementWrapper {
      */
     @Override
     public ResultSet executeQuery(String sql) throws SQLException {
-        ResultSet resultSet = preparedStatement.executeQuery(sql);
+        final long start = startProfiling();
+        ResultSet resultSet;
+        try {
+            resultSet = preparedStatement.executeQuery(sql);
+        } finally {
+            stopProfiling(sql, start);
+        }
         incrementResultSetReferenceCount();
         return new ResultSetWrapper40(this, resultSet);
     }
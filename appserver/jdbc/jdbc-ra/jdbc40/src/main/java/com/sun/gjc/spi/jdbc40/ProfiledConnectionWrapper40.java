@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,9 +23,6 @@ import com.sun.gjc.util.SQLTraceDelegator;
 
 import jakarta.resource.spi.ConnectionRequestInfo;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -32,8 +30,6 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 
-import org.glassfish.api.jdbc.SQLTraceRecord;
-
 import static java.sql.ResultSet.CONCUR_READ_ONLY;
 import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
 
@@ -46,7 +42,7 @@ import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
  */
 public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements ConnectionWrapper {
 
-    private SQLTraceDelegator sqlTraceDelegator;
+    private final SQLTraceDelegator sqlTraceDelegator;
 
     /**
      * Instantiates connection wrapper to wrap JDBC objects.
@@ -68,14 +64,7 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public Statement createStatement() throws SQLException {
-        Statement output = null;
-        try {
-            output = (Statement) getProxyObject(new StatementWrapper40(this, super.createStatement()), new Class<?>[] { Statement.class });
-        } catch (Exception e) {
-            // TODO SQLexception or any other type?
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedStatement40(new StatementWrapper40(this, super.createStatement()), sqlTraceDelegator);
     }
 
     /**
@@ -88,16 +77,7 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
-        Statement output = null;
-        try {
-            output = (Statement)
-                getProxyObject(
-                    new StatementWrapper40(this, super.createStatement(resultSetType, resultSetConcurrency)), new Class<?>[] { Statement.class });
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-
-        return output;
+        return new TracedStatement40(new StatementWrapper40(this, super.createStatement(resultSetType, resultSetConcurrency)), sqlTraceDelegator);
     }
 
     /**
@@ -111,16 +91,9 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-        Statement output = null;
-        Class<?>[] intf = new Class[] { Statement.class };
-        try {
-            output = (Statement)
-                getProxyObject(
-                    new StatementWrapper40(this, super.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability)), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedStatement40(
+            new StatementWrapper40(this, super.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability)),
+            sqlTraceDelegator);
     }
 
     /**
@@ -145,16 +118,9 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public CallableStatement prepareCall(String sql) throws SQLException {
-        CallableStatement output = null;
-        Class<?>[] intf = new Class[] { java.sql.CallableStatement.class };
-        try {
-            output = (CallableStatement)
-                getProxyObject(
-                    managedConnectionImpl.prepareCachedCallableStatement(this, sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedCallableStatement40(
+            managedConnectionImpl.prepareCachedCallableStatement(this, sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY),
+            sqlTraceDelegator);
     }
 
     /**
@@ -169,16 +135,9 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-        CallableStatement output = null;
-        Class<?>[] intf = new Class[] { java.sql.CallableStatement.class };
-        try {
-            output = (CallableStatement)
-                getProxyObject(
-                    managedConnectionImpl.prepareCachedCallableStatement(this, sql, resultSetType, resultSetConcurrency), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedCallableStatement40(
+            managedConnectionImpl.prepareCachedCallableStatement(this, sql, resultSetType, resultSetConcurrency),
+            sqlTraceDelegator);
     }
 
     /**
@@ -194,16 +153,9 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-        CallableStatement output = null;
-        Class<?>[] intf = new Class[] { CallableStatement.class };
-        try {
-            output = (CallableStatement)
-                getProxyObject(
-                    managedConnectionImpl.prepareCachedCallableStatement(this, sql, resultSetType, resultSetConcurrency, resultSetHoldability), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedCallableStatement40(
+            managedConnectionImpl.prepareCachedCallableStatement(this, sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+            sqlTraceDelegator);
     }
 
     /**
@@ -216,17 +168,9 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public PreparedStatement prepareStatement(String sql) throws SQLException {
-        PreparedStatement output = null;
-        Class<?>[] intf = new Class[] { PreparedStatement.class };
-
-        try {
-            output = (PreparedStatement)
-                getProxyObject(
-                    managedConnectionImpl.prepareCachedStatement(this, sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedPreparedStatement40(
+            managedConnectionImpl.prepareCachedStatement(this, sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY),
+            sqlTraceDelegator);
     }
 
     /**
@@ -241,15 +185,7 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
-        PreparedStatement output = null;
-        Class<?>[] intf = new Class[] { PreparedStatement.class };
-        try {
-            output = (PreparedStatement)
-                getProxyObject(managedConnectionImpl.prepareCachedStatement(this, sql, autoGeneratedKeys), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedPreparedStatement40(managedConnectionImpl.prepareCachedStatement(this, sql, autoGeneratedKeys), sqlTraceDelegator);
     }
 
     /**
@@ -264,15 +200,7 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
-        PreparedStatement output = null;
-        Class<?>[] intf = new Class[] { PreparedStatement.class };
-        try {
-            output = (PreparedStatement)
-                getProxyObject(managedConnectionImpl.prepareCachedStatement(this, sql, columnIndexes), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedPreparedStatement40(managedConnectionImpl.prepareCachedStatement(this, sql, columnIndexes), sqlTraceDelegator);
     }
 
     /**
@@ -287,15 +215,9 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
      */
     @Override
     public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-        PreparedStatement output = null;
-        Class<?>[] intf = new Class[] { PreparedStatement.class };
-        try {
-            output = (PreparedStatement)
-                getProxyObject(managedConnectionImpl.prepareCachedStatement(this, sql, resultSetType, resultSetConcurrency), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedPreparedStatement40(
+            managedConnectionImpl.prepareCachedStatement(this, sql, resultSetType, resultSetConcurrency),
+            sqlTraceDelegator);
     }
 
     /**
@@ -312,16 +234,9 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
     @Override
     public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability)
             throws SQLException {
-        PreparedStatement output = null;
-        Class<?>[] intf = new Class[] { PreparedStatement.class };
-        try {
-            output = (PreparedStatement)
-                getProxyObject(
-                    managedConnectionImpl.prepareCachedStatement(this, sql, resultSetType, resultSetConcurrency, resultSetHoldability), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedPreparedStatement40(
+            managedConnectionImpl.prepareCachedStatement(this, sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+            sqlTraceDelegator);
     }
 
     /**
@@ -337,76 +252,46 @@ public class ProfiledConnectionWrapper40 extends ConnectionHolder40 implements C
     public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
         checkValidity();
         jdbcPreInvoke();
-        PreparedStatement output = null;
-        Class<?>[] intf = new Class[] { PreparedStatement.class };
-        try {
-            output = (PreparedStatement)
-                getProxyObject(managedConnectionImpl.prepareCachedStatement(this, sql, columnNames), intf);
-        } catch (Exception e) {
-            throw new SQLException(e);
-        }
-        return output;
+        return new TracedPreparedStatement40(managedConnectionImpl.prepareCachedStatement(this, sql, columnNames), sqlTraceDelegator);
 
     }
 
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, int resultSetType, int resultSetConcurrency, boolean enableCaching) throws SQLException {
-        return new PreparedStatementWrapper40(this, super.prepareStatement(sql, resultSetType, resultSetConcurrency), enableCaching);
+        return new PreparedStatementWrapper40(this, sql, super.prepareStatement(sql, resultSetType, resultSetConcurrency), enableCaching);
     }
 
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, String[] columnNames, boolean enableCaching) throws SQLException {
-        return new PreparedStatementWrapper40(this, super.prepareStatement(sql, columnNames), enableCaching);
+        return new PreparedStatementWrapper40(this, sql, super.prepareStatement(sql, columnNames), enableCaching);
     }
 
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability, boolean enableCaching) throws SQLException {
-        return new PreparedStatementWrapper40(this, super.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+        return new PreparedStatementWrapper40(this, sql, super.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
                 enableCaching);
     }
 
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, int[] columnIndexes, boolean enableCaching) throws SQLException {
-        return new PreparedStatementWrapper40(this, super.prepareStatement(sql, columnIndexes), enableCaching);
+        return new PreparedStatementWrapper40(this, sql, super.prepareStatement(sql, columnIndexes), enableCaching);
     }
 
     @Override
     public PreparedStatementWrapper40 prepareCachedStatement(String sql, int autoGeneratedKeys, boolean enableCaching) throws SQLException {
-        return new PreparedStatementWrapper40(this, super.prepareStatement(sql, autoGeneratedKeys), enableCaching);
+        return new PreparedStatementWrapper40(this, sql, super.prepareStatement(sql, autoGeneratedKeys), enableCaching);
     }
 
     @Override
     public CallableStatementWrapper40 callableCachedStatement(String sql, int resultSetType, int resultSetConcurrency,
             boolean enableCaching) throws SQLException {
-        return new CallableStatementWrapper40(this, super.prepareCall(sql, resultSetType, resultSetConcurrency), enableCaching);
+        return new CallableStatementWrapper40(this, sql, super.prepareCall(sql, resultSetType, resultSetConcurrency), enableCaching);
     }
 
     @Override
     public CallableStatementWrapper40 callableCachedStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability, boolean enableCaching) throws SQLException {
-        return new CallableStatementWrapper40(this, super.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+        return new CallableStatementWrapper40(this, sql, super.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
                 enableCaching);
     }
 
-    // TODO refactor this method and move to a higher level
-    @SuppressWarnings("unchecked")
-    private <T> T getProxyObject(final Object actualObject, Class<?>[] ifaces) throws Exception {
-        InvocationHandler ih = new InvocationHandler() {
-
-            @Override
-            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-                SQLTraceRecord record = new SQLTraceRecord();
-                record.setMethodName(method.getName());
-                record.setParams(args);
-                record.setClassName(actualObject.getClass().getName());
-                record.setThreadName(Thread.currentThread().getName());
-                record.setThreadID(Thread.currentThread().getId());
-                record.setTimeStamp(System.currentTimeMillis());
-                sqlTraceDelegator.sqlTrace(record);
-                return method.invoke(actualObject, args);
-            }
-        };
-
-        return (T) Proxy.newProxyInstance(actualObject.getClass().getClassLoader(), ifaces, ih);
-    }
-
 }
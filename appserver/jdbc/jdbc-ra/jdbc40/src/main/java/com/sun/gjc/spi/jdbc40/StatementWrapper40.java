@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -226,6 +227,11 @@ public class StatementWrapper40 extends StatementWrapper {
      */
     @Override
     public ResultSet executeQuery(final String sql) throws SQLException {
-        return new ResultSetWrapper40(this, jdbcStatement.executeQuery(sql));
+        final long start = startProfiling();
+        try {
+            return new ResultSetWrapper40(this, jdbcStatement.executeQuery(sql));
+        } finally {
+            stopProfiling(sql, start);
+        }
     }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.gjc.spi.jdbc40;
+
+import com.sun.gjc.util.SQLTraceDelegator;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.glassfish.api.jdbc.SQLTraceRecord;
+import org.glassfish.api.naming.SimpleJndiName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TracedDelegatorsTest {
+
+    private final RecordingSQLTraceDelegator sqlTraceDelegator = new RecordingSQLTraceDelegator();
+    private final List<String> delegatedCalls = new ArrayList<>();
+
+    @Test
+    public void connectionTracesAndDelegatesAllMethods() throws Exception {
+        assertTracesAndDelegatesAllMethods(Connection.class, TracedConnection40::new);
+    }
+
+    @Test
+    public void statementTracesAndDelegatesAllMethods() throws Exception {
+        assertTracesAndDelegatesAllMethods(Statement.class, TracedStatement40::new);
+    }
+
+    @Test
+    public void preparedStatementTracesAndDelegatesAllMethods() throws Exception {
+        assertTracesAndDelegatesAllMethods(PreparedStatement.class, TracedPreparedStatement40::new);
+    }
+
+    @Test
+    public void callableStatementTracesAndDelegatesAllMethods() throws Exception {
+        assertTracesAndDelegatesAllMethods(CallableStatement.class, TracedCallableStatement40::new);
+    }
+
+    /**
+     * Default methods added by JDBC 4.2 and 4.3 would not reach the driver if they were not overridden.
+     */
+    @Test
+    public void defaultMethodsAreOverridden() {
+        assertAll(
+            () -> assertOverridesDefaultMethods(Connection.class, TracedConnection40.class),
+            () -> assertOverridesDefaultMethods(Statement.class, TracedStatement40.class),
+            () -> assertOverridesDefaultMethods(PreparedStatement.class, TracedPreparedStatement40.class),
+            () -> assertOverridesDefaultMethods(CallableStatement.class, TracedCallableStatement40.class)
+        );
+    }
+
+    @Test
+    public void callsAreTracedWithParameters() throws Exception {
+        Statement delegate = stub(Statement.class);
+        Statement statement = new TracedStatement40(delegate, sqlTraceDelegator);
+        statement.executeQuery("SELECT 1");
+        statement.cancel();
+
+        List<SQLTraceRecord> records = sqlTraceDelegator.records;
+        assertThat(records, hasSize(2));
+        assertAll(
+            () -> assertEquals(delegate.getClass().getName(), records.get(0).getClassName()),
+            () -> assertEquals("executeQuery", records.get(0).getMethodName()),
+            () -> assertThat(records.get(0).getParams(), arrayContaining("SELECT 1")),
+            () -> assertEquals(Thread.currentThread().getName(), records.get(0).getThreadName()),
+            () -> assertEquals("cancel", records.get(1).getMethodName()),
+            () -> assertThat(records.get(1).getParams(), nullValue())
+        );
+    }
+
+    /**
+     * Dynamic proxies used before threw UndeclaredThrowableException instead of exceptions of the driver.
+     */
+    @Test
+    public void sqlExceptionsOfDriverAreThrown() {
+        SQLException exception = new SQLException("Driver failure");
+        Connection connection = new TracedConnection40(failing(Connection.class, exception), sqlTraceDelegator);
+        Statement statement = new TracedStatement40(failing(Statement.class, exception), sqlTraceDelegator);
+        PreparedStatement preparedStatement = new TracedPreparedStatement40(failing(PreparedStatement.class, exception),
+            sqlTraceDelegator);
+        CallableStatement callableStatement = new TracedCallableStatement40(failing(CallableStatement.class, exception),
+            sqlTraceDelegator);
+        assertAll(
+            () -> assertSame(exception, assertThrows(SQLException.class, () -> connection.prepareStatement("SELECT 1"))),
+            () -> assertSame(exception, assertThrows(SQLException.class, () -> connection.beginRequest())),
+            () -> assertSame(exception, assertThrows(SQLException.class, () -> statement.executeUpdate("DELETE FROM T"))),
+            () -> assertSame(exception, assertThrows(SQLException.class, () -> statement.executeLargeUpdate("DELETE FROM T"))),
+            () -> assertSame(exception, assertThrows(SQLException.class, () -> preparedStatement.executeQuery())),
+            () -> assertSame(exception, assertThrows(SQLException.class, () -> callableStatement.getString(1)))
+        );
+    }
+
+    private <T> void assertTracesAndDelegatesAllMethods(Class<T> iface,
+        BiFunction<T, SQLTraceDelegator, ? extends T> factory) throws Exception {
+        T traced = factory.apply(stub(iface), sqlTraceDelegator);
+        for (Method method : iface.getMethods()) {
+            delegatedCalls.clear();
+            sqlTraceDelegator.records.clear();
+            try {
+                method.invoke(traced, defaultArguments(method));
+            } catch (InvocationTargetException e) {
+                throw new AssertionError("Call of " + method + " failed", e.getCause());
+            }
+            assertEquals(List.of(signature(method)), delegatedCalls, "Delegated calls of " + method);
+            assertThat("Trace records of " + method, sqlTraceDelegator.records, hasSize(1));
+            assertEquals(method.getName(), sqlTraceDelegator.records.get(0).getMethodName());
+        }
+    }
+
+    private static void assertOverridesDefaultMethods(Class<?> iface, Class<?> traced) throws Exception {
+        List<Method> defaultMethods = Arrays.stream(iface.getMethods()).filter(Method::isDefault)
+            .collect(Collectors.toList());
+        assertThat(defaultMethods, not(empty()));
+        for (Method method : defaultMethods) {
+            assertFalse(traced.getMethod(method.getName(), method.getParameterTypes()).isDefault(),
+                method + " is not overridden");
+        }
+    }
+
+    private <T> T stub(Class<T> iface) {
+        return iface.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {iface}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() != Object.class) {
+                delegatedCalls.add(signature(method));
+            }
+            return defaultValue(method.getReturnType());
+        }));
+    }
+
+    private <T> T failing(Class<T> iface, SQLException exception) {
+        return iface.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {iface}, (proxy, method, args) -> {
+            throw exception;
+        }));
+    }
+
+    private static String signature(Method method) {
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+
+    private static Object[] defaultArguments(Method method) {
+        return Arrays.stream(method.getParameterTypes()).map(TracedDelegatorsTest::defaultValue).toArray();
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() && type != void.class ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+    static class RecordingSQLTraceDelegator extends SQLTraceDelegator {
+
+        final List<SQLTraceRecord> records = new ArrayList<>();
+
+        RecordingSQLTraceDelegator() {
+            super(new SimpleJndiName("traced-pool"), null);
+        }
+
+        @Override
+        public void sqlTrace(SQLTraceRecord record) {
+            records.add(record);
+        }
+    }
+}
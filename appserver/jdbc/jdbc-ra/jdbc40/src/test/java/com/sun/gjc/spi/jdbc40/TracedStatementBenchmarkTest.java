@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.gjc.spi.jdbc40;
+
+import com.sun.gjc.util.SQLTraceDelegator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.glassfish.api.jdbc.SQLTraceRecord;
+import org.glassfish.api.naming.SimpleJndiName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares throughput of traced calls of a prepared statement dispatched by {@link TracedPreparedStatement40}
+ * and by the dynamic proxy it replaced.
+ * <p>
+ * Both paths create the same trace records and call the same statement stub, which does nothing, so the difference
+ * is the cost of the reflective dispatch of the traced calls.
+ */
+@State(Scope.Benchmark)
+public class TracedStatementBenchmarkTest {
+
+    private static final String NAME = "benchmark";
+
+    private PreparedStatement delegator;
+    private PreparedStatement proxy;
+
+    @Test
+    public void tracedCalls() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(500L))
+            .measurementIterations(2).forks(1).measurementTime(TimeValue.milliseconds(500L))
+            .threads(4).timeout(TimeValue.seconds(10L))
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .mode(Mode.Throughput).shouldFailOnError(true)
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        Map<String, Double> scores = results.stream().collect(Collectors.toMap(
+            result -> result.getParams().getBenchmark().replaceFirst(".*\\.", ""),
+            result -> result.getPrimaryResult().getScore()));
+        assertThat(scores.get("delegatorCalls"), greaterThan(scores.get("proxyCalls")));
+    }
+
+
+    @Setup(Level.Trial)
+    public void createStatements() {
+        PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {PreparedStatement.class}, (stub, method, args) -> null);
+        SQLTraceDelegator sqlTraceDelegator = new DiscardingSQLTraceDelegator();
+        delegator = new TracedPreparedStatement40(statement, sqlTraceDelegator);
+        proxy = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {PreparedStatement.class}, new TracingInvocationHandler(statement, sqlTraceDelegator));
+    }
+
+
+    @Benchmark
+    public ResultSet delegatorCalls() throws SQLException {
+        delegator.setString(1, NAME);
+        return delegator.executeQuery();
+    }
+
+
+    @Benchmark
+    public ResultSet proxyCalls() throws SQLException {
+        proxy.setString(1, NAME);
+        return proxy.executeQuery();
+    }
+
+
+    /**
+     * Invocation handler of the replaced proxies, unwrapping exceptions of the statement.
+     */
+    private static class TracingInvocationHandler implements InvocationHandler {
+
+        private final Object statement;
+        private final SQLTraceDelegator sqlTraceDelegator;
+
+        TracingInvocationHandler(Object statement, SQLTraceDelegator sqlTraceDelegator) {
+            this.statement = statement;
+            this.sqlTraceDelegator = sqlTraceDelegator;
+        }
+
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            SQLTraceRecord record = new SQLTraceRecord();
+            record.setMethodName(method.getName());
+            record.setParams(args);
+            record.setClassName(statement.getClass().getName());
+            record.setThreadName(Thread.currentThread().getName());
+            record.setThreadID(Thread.currentThread().getId());
+            record.setTimeStamp(System.currentTimeMillis());
+            sqlTraceDelegator.sqlTrace(record);
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+
+    private static class DiscardingSQLTraceDelegator extends SQLTraceDelegator {
+
+        DiscardingSQLTraceDelegator() {
+            super(new SimpleJndiName("benchmark-pool"), null);
+        }
+
+
+        @Override
+        public void sqlTrace(SQLTraceRecord record) {
+            // the listeners are not measured
+        }
+    }
+}
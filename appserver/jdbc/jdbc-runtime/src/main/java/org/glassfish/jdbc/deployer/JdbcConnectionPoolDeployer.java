@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -490,6 +490,16 @@ public class JdbcConnectionPoolDeployer implements ResourceDeployer<JdbcConnecti
                     connectorConnectionPool.setPreferValidateOverRecreate(toBoolean(value, false));
                     LOG.log(Level.FINEST, "PREFER-VALIDATE-OVER-RECREATE: {0}", value);
 
+                } else if ("ADAPTIVE-RESIZING".equals(name.toUpperCase(LOCALE))) {
+                    String value = adminPoolProperty.getValue();
+                    connectorConnectionPool.setAdaptiveResizing(toBoolean(value, false));
+                    LOG.log(Level.FINEST, "ADAPTIVE-RESIZING: {0}", value);
+
+                } else if ("BACKGROUND-VALIDATION".equals(name.toUpperCase(LOCALE))) {
+                    String value = adminPoolProperty.getValue();
+                    connectorConnectionPool.setBackgroundValidation(toBoolean(value, false));
+                    LOG.log(Level.FINEST, "BACKGROUND-VALIDATION: {0}", value);
+
                 } else if ("STATEMENT-CACHE-TYPE".equals(name.toUpperCase(Locale.getDefault()))) {
                     if (adminPool.getStatementCacheType() != null) {
                         configProperties.add(
@@ -504,6 +514,10 @@ public class JdbcConnectionPoolDeployer implements ResourceDeployer<JdbcConnecti
                     configProperties.add(new ConnectorConfigProperty("TimeToKeepQueriesInMinutes", adminPoolProperty.getValue(), "TimeToKeepQueriesInMinutes",
                             String.class.getName()));
 
+                } else if ("SQL-PROFILER-SAMPLING-RATE".equals(name.toUpperCase(Locale.getDefault()))) {
+                    configProperties.add(new ConnectorConfigProperty("SqlProfilerSamplingRate", adminPoolProperty.getValue(), "SqlProfilerSamplingRate",
+                            String.class.getName()));
+
                 } else if (mcfConPropKeys.containsKey(name.toUpperCase(Locale.getDefault()))) {
                     configProperties.add(new ConnectorConfigProperty(mcfConPropKeys.get(name.toUpperCase(Locale.getDefault())),
                             adminPoolProperty.getValue() == null ? "" : adminPoolProperty.getValue(), "Some property", String.class.getName()));
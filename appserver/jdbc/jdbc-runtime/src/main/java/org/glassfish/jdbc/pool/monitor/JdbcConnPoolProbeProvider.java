@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -255,4 +256,19 @@ public class JdbcConnPoolProbeProvider extends ConnectionPoolProbeProvider {
     public void connectionRequestDequeuedEvent(@ProbeParam("poolName") String poolName, @ProbeParam("appName") String appName,
             @ProbeParam("moduleName") String moduleName) {
     }
+
+    /**
+     * Emits probe event/notification that the adaptive resizer has forecast the size
+     * of the given jdbc connection pool <code>poolName</code> and created connections.
+     *
+     * @param poolName
+     * @param targetPoolSize forecast pool size
+     * @param count number of connections created, may be 0
+     */
+    @Probe(name = "connectionsPrewarmedEvent")
+    @Override
+    public void connectionsPrewarmedEvent(@ProbeParam("poolName") String poolName, @ProbeParam("appName") String appName,
+            @ProbeParam("moduleName") String moduleName, @ProbeParam("targetPoolSize") int targetPoolSize,
+            @ProbeParam("count") int count) {
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -123,7 +123,29 @@ public class JdbcConnPoolStatsProvider {
     private final CountStatisticImpl waitQueueLength = new CountStatisticImpl(
             "WaitQueueLength", StatisticImpl.UNIT_COUNT,
             "Number of connection requests in the queue waiting to be serviced.");
+    private final CountStatisticImpl numConnPrewarmed = new CountStatisticImpl(
+            "NumConnPrewarmed", StatisticImpl.UNIT_COUNT,
+            "The number of physical connections that were created by the adaptive " +
+            "resizer ahead of demand since the last reset.");
+    private final RangeStatisticImpl targetPoolSize = new RangeStatisticImpl(
+            0, 0, 0,
+            "TargetPoolSize", StatisticImpl.UNIT_COUNT, "The pool size forecast " +
+            "by the adaptive resizer as of the last sampling.",
+            System.currentTimeMillis(), System.currentTimeMillis());
+    private final CountStatisticImpl numStatementCacheHit = new CountStatisticImpl(
+            "NumStatementCacheHit", StatisticImpl.UNIT_COUNT,
+            "Number of statement cache hits in connections of the pool");
+    private final CountStatisticImpl numStatementCacheMiss = new CountStatisticImpl(
+            "NumStatementCacheMiss", StatisticImpl.UNIT_COUNT,
+            "Number of statement cache misses in connections of the pool");
+    private final CountStatisticImpl statementCacheHitRate = new CountStatisticImpl(
+            "StatementCacheHitRate", "percent",
+            "Percentage of statement cache lookups which found the prepared statement");
+    private final CountStatisticImpl numStatementCacheEviction = new CountStatisticImpl(
+            "NumStatementCacheEviction", StatisticImpl.UNIT_COUNT,
+            "Number of statements evicted from full statement caches of connections of the pool");
     private static final String JDBC_PROBE_LISTENER = "glassfish:jdbc:connection-pool:";
+    private static final String STATEMENT_CACHE_PROBE_LISTENER = "glassfish:jdbcra:statementcache:";
 
 
     public JdbcConnPoolStatsProvider(PoolInfo poolInfo, Logger logger) {
@@ -458,6 +480,12 @@ public class JdbcConnPoolStatsProvider {
         averageConnWaitTime.reset();
         totalConnRequestWaitTime.reset();
         waitQueueLength.reset();
+        numConnPrewarmed.reset();
+        targetPoolSize.reset();
+        numStatementCacheHit.reset();
+        numStatementCacheMiss.reset();
+        statementCacheHitRate.reset();
+        numStatementCacheEviction.reset();
     }
 
     /**
@@ -542,6 +570,81 @@ public class JdbcConnPoolStatsProvider {
         }
     }
 
+    /**
+     * When the adaptive resizer forecasts the pool size, update the targetPoolSize
+     * and increment the numConnPrewarmed by the number of created connections.
+     */
+    @ProbeListener(JDBC_PROBE_LISTENER + "connectionsPrewarmedEvent")
+    public void connectionsPrewarmedEvent(
+            @ProbeParam("poolName") String poolName,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("moduleName") String moduleName,
+            @ProbeParam("targetPoolSize") int targetPoolSize,
+            @ProbeParam("count") int count
+            ) {
+
+        PoolInfo poolInfo = new PoolInfo(SimpleJndiName.of(poolName), appName, moduleName);
+        if (this.poolInfo.equals(poolInfo)) {
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest("Connections prewarmed event received - poolName = " + poolName
+                    + ", targetPoolSize = " + targetPoolSize + ", count = " + count);
+            }
+            this.targetPoolSize.setCurrent(targetPoolSize);
+            numConnPrewarmed.increment(count);
+        }
+    }
+
+    /**
+     * Whenever statement cache of a connection of the pool is hit, increment numStatementCacheHit.
+     */
+    @ProbeListener(STATEMENT_CACHE_PROBE_LISTENER + "statementCacheHitEvent")
+    public void statementCacheHitEvent(
+            @ProbeParam("poolName") String poolName,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("moduleName") String moduleName
+            ) {
+
+        PoolInfo poolInfo = new PoolInfo(SimpleJndiName.of(poolName), appName, moduleName);
+        if (this.poolInfo.equals(poolInfo)) {
+            numStatementCacheHit.increment();
+        }
+    }
+
+    /**
+     * Whenever statement cache of a connection of the pool is missed, increment numStatementCacheMiss.
+     */
+    @ProbeListener(STATEMENT_CACHE_PROBE_LISTENER + "statementCacheMissEvent")
+    public void statementCacheMissEvent(
+            @ProbeParam("poolName") String poolName,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("moduleName") String moduleName
+            ) {
+
+        PoolInfo poolInfo = new PoolInfo(SimpleJndiName.of(poolName), appName, moduleName);
+        if (this.poolInfo.equals(poolInfo)) {
+            numStatementCacheMiss.increment();
+        }
+    }
+
+    /**
+     * Whenever a statement is evicted from a full statement cache, increment numStatementCacheEviction.
+     */
+    @ProbeListener(STATEMENT_CACHE_PROBE_LISTENER + "statementCacheEvictionEvent")
+    public void statementCacheEvictionEvent(
+            @ProbeParam("poolName") String poolName,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("moduleName") String moduleName
+            ) {
+
+        PoolInfo poolInfo = new PoolInfo(SimpleJndiName.of(poolName), appName, moduleName);
+        if (this.poolInfo.equals(poolInfo)) {
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest("Statement cache eviction event received - poolName = " + poolName);
+            }
+            numStatementCacheEviction.increment();
+        }
+    }
+
     public PoolInfo getPoolInfo() {
         return poolInfo;
     }
@@ -629,4 +732,29 @@ public class JdbcConnPoolStatsProvider {
     public CountStatistic getWaitQueueLength() {
         return waitQueueLength;
     }
+
+    @ManagedAttribute(id="numconnprewarmed")
+    public CountStatistic getNumConnPrewarmed() {
+        return numConnPrewarmed;
+    }
+
+    @ManagedAttribute(id="targetpoolsize")
+    public RangeStatistic getTargetPoolSize() {
+        return targetPoolSize;
+    }
+
+    @ManagedAttribute(id="statementcachehitrate")
+    public CountStatistic getStatementCacheHitRate() {
+        // Percentage of lookups in the sampling period which were hits.
+        long hits = numStatementCacheHit.getCount();
+        long lookups = hits + numStatementCacheMiss.getCount();
+
+        statementCacheHitRate.setCount(lookups == 0 ? 0 : hits * 100 / lookups);
+        return statementCacheHitRate;
+    }
+
+    @ManagedAttribute(id="numstatementcacheeviction")
+    public CountStatistic getNumStatementCacheEviction() {
+        return numStatementCacheEviction;
+    }
 }
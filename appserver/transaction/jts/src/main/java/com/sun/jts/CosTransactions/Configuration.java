@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1995-1997 IBM Corp. All rights reserved.
  *
@@ -187,6 +188,18 @@ public class Configuration extends Object {
      */
     public final static String TIMEOUT_INTERVAL = "com.sun.jts.timeoutInterval" ;
 
+    /**The property key used to specify how long a forced write to the transaction log
+     * may wait in microseconds for other transactions being written, so that a single
+     * force of the log makes all of them durable (group commit). Writes arriving while
+     * the log is being forced are always grouped for the next force.
+     * <p>
+     * The value is <em><b>com.sun.jts.groupCommitMaxWait</b></em>.
+     * <p>
+     * The default value for this property is 0, forced writes don't wait for others.
+     * A negative value disables group commit, each forced write then forces the log.
+     */
+    public final static String GROUP_COMMIT_MAX_WAIT = "com.sun.jts.groupCommitMaxWait";
+
     /**The default subdirectory in which log and repository files are stored.
      */
     public final static String JTS_SUBDIRECTORY = "jts"/*#Frozen*/;
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.jts.CosTransactions;
+
+import com.sun.logging.LogDomains;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes records of the transaction log to the database in batches.
+ * <p>
+ * Records are written on a dedicated connection with cached prepared statements.
+ * Inserts of concurrent transactions are grouped: the first waiting thread writes all
+ * pending inserts in one batch and one commit, the others wait for the result.
+ * Deletes of completed transactions are just queued; they are written in the same
+ * transaction as the next batch of inserts or when their count reaches the limit. A record which was not deleted
+ * because of a crash only makes the recovery check the transaction.
+ */
+class LogDBBatchWriter {
+
+    private static final Logger _logger = LogDomains.getLogger(LogDBBatchWriter.class, LogDomains.TRANSACTION_LOGGER);
+
+    private final Callable<Connection> connectionFactory;
+    private final String insertStatement;
+    private final String deleteStatement;
+    private final int deleteBatchSize;
+
+    /** Guards the pending records and the writing flag */
+    private final Object lock = new Object();
+    private List<Insert> pendingInserts = new ArrayList<>();
+    private List<Delete> pendingDeletes = new ArrayList<>();
+    private boolean writing;
+
+    /** Used just by the writing thread */
+    private Connection connection;
+    private PreparedStatement insertStmt;
+    private PreparedStatement deleteStmt;
+
+    /**
+     * @param connectionFactory provides the non transactional connection used for writing
+     * @param insertStatement insert of the record with the local TID, server name, instance name and data
+     * @param deleteStatement delete of the record with the local TID and server name
+     * @param deleteBatchSize count of queued deletes which are written without waiting for inserts
+     */
+    LogDBBatchWriter(Callable<Connection> connectionFactory, String insertStatement, String deleteStatement,
+        int deleteBatchSize) {
+        this.connectionFactory = connectionFactory;
+        this.insertStatement = insertStatement;
+        this.deleteStatement = deleteStatement;
+        this.deleteBatchSize = Math.max(1, deleteBatchSize);
+    }
+
+
+    /**
+     * Inserts the record and waits until it is committed.
+     *
+     * @return true if the record was committed
+     */
+    boolean insert(long localTID, String serverName, String instanceName, byte[] data) {
+        final Insert insert = new Insert(localTID, serverName, instanceName, data);
+        boolean interrupted = false;
+        try {
+            synchronized (lock) {
+                pendingInserts.add(insert);
+                while (writing && !insert.done) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        // The caller needs to know the result
+                        interrupted = true;
+                    }
+                }
+                if (insert.done) {
+                    return insert.success;
+                }
+                writing = true;
+            }
+            write();
+            return insert.success;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Queues the delete of the record.
+     */
+    void delete(long localTID, String serverName) {
+        synchronized (lock) {
+            pendingDeletes.add(new Delete(localTID, serverName));
+            if (writing || pendingDeletes.size() < deleteBatchSize) {
+                return;
+            }
+            writing = true;
+        }
+        write();
+    }
+
+
+    /**
+     * Writes all pending records, including queued deletes.
+     */
+    void flush() {
+        if (awaitWriting()) {
+            write();
+        }
+    }
+
+
+    /**
+     * Writes pending records and closes the connection.
+     */
+    void close() {
+        if (!awaitWriting()) {
+            return;
+        }
+        try {
+            write();
+        } finally {
+            synchronized (lock) {
+                // The writer may have been replaced meanwhile, but nobody uses the connection
+                while (writing) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                closeConnection();
+            }
+        }
+    }
+
+
+    /**
+     * Waits until no other thread writes and makes the current thread the writer.
+     *
+     * @return false if the thread was interrupted.
+     */
+    private boolean awaitWriting() {
+        synchronized (lock) {
+            while (writing) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            writing = true;
+            return true;
+        }
+    }
+
+
+    private void write() {
+        final List<Insert> inserts;
+        final List<Delete> deletes;
+        synchronized (lock) {
+            inserts = pendingInserts;
+            deletes = pendingDeletes;
+            pendingInserts = new ArrayList<>();
+            pendingDeletes = new ArrayList<>();
+        }
+        boolean success = false;
+        try {
+            success = write(deletes, inserts);
+            if (!success && !deletes.isEmpty() && !inserts.isEmpty()) {
+                // Records of completed transactions are harmless, inserts may still succeed
+                success = write(List.of(), inserts);
+            }
+        } finally {
+            synchronized (lock) {
+                for (Insert insert : inserts) {
+                    insert.success = success;
+                    insert.done = true;
+                }
+                writing = false;
+                lock.notifyAll();
+            }
+        }
+    }
+
+
+    /**
+     * Writes deletes and inserts in one transaction.
+     *
+     * @return true if the transaction was committed
+     */
+    private boolean write(List<Delete> deletes, List<Insert> inserts) {
+        if (deletes.isEmpty() && inserts.isEmpty()) {
+            return true;
+        }
+        try {
+            prepare();
+            if (!deletes.isEmpty()) {
+                for (Delete delete : deletes) {
+                    deleteStmt.setString(1, Long.toString(delete.localTID));
+                    deleteStmt.setString(2, delete.serverName);
+                    deleteStmt.addBatch();
+                }
+                deleteStmt.executeBatch();
+            }
+            if (!inserts.isEmpty()) {
+                for (Insert insert : inserts) {
+                    insertStmt.setString(1, Long.toString(insert.localTID));
+                    insertStmt.setString(2, insert.serverName);
+                    insertStmt.setString(3, insert.instanceName);
+                    insertStmt.setBytes(4, insert.data);
+                    insertStmt.addBatch();
+                }
+                insertStmt.executeBatch();
+            }
+            connection.commit();
+            if (_logger.isLoggable(Level.FINE)) {
+                _logger.fine("LogDBBatchWriter deleted records: " + deletes.size() + ", inserted records: "
+                    + inserts.size());
+            }
+            return true;
+        } catch (Exception ex) {
+            _logger.log(Level.SEVERE, "jts.exception_in_db_log_resource", ex);
+            closeConnection();
+            return false;
+        }
+    }
+
+
+    private void prepare() throws Exception {
+        if (connection != null) {
+            return;
+        }
+        Connection conn = connectionFactory.call();
+        try {
+            conn.setAutoCommit(false);
+            insertStmt = conn.prepareStatement(insertStatement);
+            deleteStmt = conn.prepareStatement(deleteStatement);
+            connection = conn;
+        } catch (SQLException ex) {
+            connection = conn;
+            closeConnection();
+            throw ex;
+        }
+    }
+
+
+    /**
+     * Closes the connection after a failure, so the next write gets a new one.
+     */
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.rollback();
+        } catch (Exception ex) {
+            _logger.log(Level.FINE, "Rollback of the transaction log connection failed", ex);
+        }
+        try {
+            // Closes the statements too
+            connection.close();
+        } catch (Exception ex) {
+            _logger.log(Level.SEVERE, "jts.exception_in_db_log_resource", ex);
+        }
+        connection = null;
+        insertStmt = null;
+        deleteStmt = null;
+    }
+
+
+    private static final class Insert {
+
+        private final long localTID;
+        private final String serverName;
+        private final String instanceName;
+        private final byte[] data;
+        /** Guarded by the lock of the writer */
+        private boolean done;
+        private boolean success;
+
+        Insert(long localTID, String serverName, String instanceName, byte[] data) {
+            this.localTID = localTID;
+            this.serverName = serverName;
+            this.instanceName = instanceName;
+            this.data = data;
+        }
+    }
+
+
+    private static final class Delete {
+
+        private final long localTID;
+        private final String serverName;
+
+        Delete(long localTID, String serverName) {
+            this.localTID = localTID;
+            this.serverName = serverName;
+        }
+    }
+}
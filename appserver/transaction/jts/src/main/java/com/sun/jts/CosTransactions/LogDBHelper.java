@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -63,9 +64,14 @@ class LogDBHelper {
     private static final String createTableStatement =
                  "create table txn_log_table (localtid varchar(20), servername varchar(150), instancename varchar(150), gtrid blob)";
     private static final boolean useNonTxConnectionForAddRecord = Boolean.getBoolean("com.sun.jts.dblogging.use.nontx.connection.for.add");
+    // Batched writes on a dedicated non transactional connection, see LogDBBatchWriter
+    private static final boolean useBatchWrites = Boolean.getBoolean("com.sun.jts.dblogging.batch");
+    private static final int deleteBatchSize = Integer.getInteger("com.sun.jts.dblogging.batch.deletesize", 100);
     private static Logger _logger = LogDomains.getLogger(LogDBHelper.class, LogDomains.TRANSACTION_LOGGER);
     private static LogDBHelper _instance = new LogDBHelper();
 
+    private LogDBBatchWriter batchWriter;
+
     static LogDBHelper getInstance() {
         return _instance;
     }
@@ -83,6 +89,11 @@ class LogDBHelper {
 
             createTable();
 
+            if (useBatchWrites) {
+                batchWriter = new LogDBBatchWriter(
+                    () -> (Connection) getNonTxConnectionMethod.invoke(ds, null), insertStatement, deleteStatement,
+                    deleteBatchSize);
+            }
         } catch (Throwable t) {
             _logger.log(Level.SEVERE,"jts.unconfigured_db_log_resource",resName);
             _logger.log(Level.SEVERE,"",t);
@@ -91,6 +102,7 @@ class LogDBHelper {
             _logger.fine("LogDBHelper.resName: " + resName);
             _logger.fine("LogDBHelper.ds: " + ds);
             _logger.fine("LogDBHelper.getNonTxConnectionMethod: " + getNonTxConnectionMethod);
+            _logger.fine("LogDBHelper.batchWriter: " + batchWriter);
         }
     }
 
@@ -131,6 +143,9 @@ class LogDBHelper {
                 _logger.fine("LogDBHelper.addRecord for serverName: " + serverName);
                 _logger.fine("LogDBHelper.addRecord for instanceName: " + instanceName);
             }
+            if (batchWriter != null) {
+                return batchWriter.insert(localTID, serverName, instanceName, data);
+            }
             Connection conn = null;
             PreparedStatement prepStmt1 = null;
             try {
@@ -167,9 +182,26 @@ class LogDBHelper {
     }
 
     boolean deleteRecord(long localTID) {
+        if (ds != null && batchWriter != null) {
+            if (_logger.isLoggable(Level.FINE)) {
+                _logger.fine("LogDBHelper.deleteRecord queued for localTID: " + localTID);
+            }
+            // Deleted lazily, a leftover record of a completed transaction is harmless
+            batchWriter.delete(localTID, serverName);
+            return true;
+        }
         return deleteRecord(localTID, serverName);
     }
 
+    /**
+     * Writes queued changes of the batch mode and releases its connection.
+     */
+    void close() {
+        if (batchWriter != null) {
+            batchWriter.close();
+        }
+    }
+
     boolean deleteRecord(long localTID, String serverName0) {
         if (ds != null) {
             if (_logger.isLoggable(Level.FINE)) {
@@ -210,6 +242,9 @@ class LogDBHelper {
 
     Map getGlobalTIDMap(String serverName0) {
         Map gtidMap = new HashMap();
+        if (batchWriter != null) {
+            batchWriter.flush();
+        }
         if (ds != null) {
             if (_logger.isLoggable(Level.FINE)) {
                 _logger.fine("LogDBHelper get records for serverName: " + serverName0);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1995-1997 IBM Corp. All rights reserved.
  *
@@ -33,7 +34,11 @@ package com.sun.jts.CosTransactions;
 import com.sun.jts.utils.LogFormatter;
 import com.sun.logging.LogDomains;
 
+import java.util.List;
 import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -80,6 +85,26 @@ class LogFile {
      */
     LogHandle handle = null;
 
+    /**Group commit of forced writes, see {@link Configuration#GROUP_COMMIT_MAX_WAIT}.
+     * A negative wait disables it.
+     */
+    private final long groupCommitMaxWaitNanos;
+
+    /**Number of the last forced write appended to the log, guarded by this object.
+     */
+    private long lastForcedWrite = 0;
+
+    /**Count of forced writes which are being appended to the log.
+     */
+    private final AtomicInteger appendingForcedWrites = new AtomicInteger();
+
+    /**Number of the last forced write which is durable and the indicator
+     * of a force in progress, guarded by forceLock.
+     */
+    private final Object forceLock = new Object();
+    private long lastDurableWrite = 0;
+    private boolean forceInProgress = false;
+
     /**LogFile constructor.
      *
      * @param LogHandle
@@ -89,10 +114,26 @@ class LogFile {
      * @see
      */
     LogFile( LogHandle handle ) {
+        this(handle, getGroupCommitMaxWait());
+    }
+
+    /**LogFile constructor.
+     *
+     * @param handle                    The handle of the log file.
+     * @param groupCommitMaxWaitMicros  Maximal wait of forced writes for others, negative to
+     *                                  force the log by each forced write.
+     *
+     * @return
+     *
+     * @see
+     */
+    LogFile( LogHandle handle, long groupCommitMaxWaitMicros ) {
 
         // Set up the instance variables to those values passed in.
 
         this.handle = handle;
+        this.groupCommitMaxWaitNanos = groupCommitMaxWaitMicros < 0 ? -1
+            : TimeUnit.MICROSECONDS.toNanos(groupCommitMaxWaitMicros);
 
     }
 
@@ -106,6 +147,9 @@ class LogFile {
      * <p>
      * Returns true if the write completed successfully and false if the write
      * did not complete.
+     * <p>
+     * Forced writes of concurrent threads are made durable by a single force of the
+     * log (group commit); the write returns when its record is forced.
      *
      * @param writeType   Forced/non-forced write indicator.
      * @param record      Log record data.
@@ -116,30 +160,156 @@ class LogFile {
      *
      * @see
      */
-    synchronized boolean write( int    writeType,
-                                byte[] record,
-                                int    recordType,
-                                LogLSN recordLSN ) {
+    boolean write( int    writeType,
+                   byte[] record,
+                   int    recordType,
+                   LogLSN recordLSN ) {
 
         boolean result = true;
+        boolean groupForce = writeType == LogFile.FORCED && groupCommitMaxWaitNanos >= 0;
+        long writeNumber;
 
         // Write the record.
         // Set the result based on return code from log write.
 
+        if( groupForce )
+            appendingForcedWrites.incrementAndGet();
+        try {
+            synchronized( this ) {
+                try {
+                    LogLSN resultLSN = handle.writeRecord(record,recordType,
+                                                          (writeType==LogFile.FORCED && !groupForce ? LogHandle.FORCE : LogHandle.BUFFER));
+                    if( recordLSN != null )
+                        recordLSN.copy(resultLSN);
+                } catch( LogException le ) {
+                    throw logError(le);
+                    //if( recordLSN != null )
+                    //recordLSN.copy(LogLSN.NULL_LSN);
+                    //result = false;
+                }
+                writeNumber = groupForce ? ++lastForcedWrite : 0;
+            }
+        } finally {
+            if( groupForce )
+                appendingForcedWrites.decrementAndGet();
+        }
+
+        if( groupForce )
+            waitUntilDurable(writeNumber);
+
+        return result;
+    }
+
+    /**Waits until the given forced write is durable.
+     * <p>
+     * The first waiting thread becomes the leader: it lets writes being appended join
+     * the group, flushes the log and forces it without holding the lock of the log.
+     * Threads arriving meanwhile wait for the next force, which covers all of them.
+     *
+     * @param writeNumber  The number of the forced write.
+     *
+     * @return
+     *
+     * @see
+     */
+    private void waitUntilDurable( long writeNumber ) {
+
+        boolean interrupted = false;
+        synchronized( forceLock ) {
+            while( forceInProgress && lastDurableWrite < writeNumber ) {
+                try {
+                    forceLock.wait();
+                } catch( InterruptedException e ) {
+                    // The record must be durable before returning
+                    interrupted = true;
+                }
+            }
+            if( lastDurableWrite >= writeNumber ) {
+                if( interrupted )
+                    Thread.currentThread().interrupt();
+                return;
+            }
+            forceInProgress = true;
+        }
+
+        long forcedWrite = 0;
+        boolean forced = false;
         try {
-            LogLSN resultLSN = handle.writeRecord(record,recordType,
-                                                  (writeType==LogFile.FORCED ? LogHandle.FORCE : LogHandle.BUFFER));
-            if( recordLSN != null )
-                recordLSN.copy(resultLSN);
+            awaitAppendingWrites();
+            List<LogFileHandle> files;
+            synchronized( this ) {
+                forcedWrite = lastForcedWrite;
+                files = handle.flushRecords();
+            }
+            for( LogFileHandle file : files )
+                file.fileForce();
+            forced = true;
         } catch( LogException le ) {
-            _logger.log(Level.SEVERE,"jts.log_error",le.toString());
-             String msg = LogFormatter.getLocalizedMessage(_logger,"jts.log_error",
-                                        new java.lang.Object[] {le.toString()});
-             throw (org.omg.CORBA.INTERNAL) (new org.omg.CORBA.INTERNAL(msg)).initCause(le);
-            //if( recordLSN != null )
-            //recordLSN.copy(LogLSN.NULL_LSN);
-            //result = false;
+            throw logError(le);
+        } finally {
+            synchronized( forceLock ) {
+                forceInProgress = false;
+                if( forced && forcedWrite > lastDurableWrite )
+                    lastDurableWrite = forcedWrite;
+                forceLock.notifyAll();
+            }
+            if( interrupted )
+                Thread.currentThread().interrupt();
         }
+    }
+
+    /**Waits at most the configured time for forced writes being appended to the log,
+     * so that they are forced together with the records appended before.
+     *
+     * @param
+     *
+     * @return
+     *
+     * @see
+     */
+    private void awaitAppendingWrites() {
+        if( groupCommitMaxWaitNanos <= 0 )
+            return;
+
+        long deadline = System.nanoTime() + groupCommitMaxWaitNanos;
+        long remaining = groupCommitMaxWaitNanos;
+        while( appendingForcedWrites.get() > 0 && remaining > 0 ) {
+            LockSupport.parkNanos(Math.min(remaining, TimeUnit.MICROSECONDS.toNanos(10)));
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**Logs the failure of the log and converts it to the exception thrown to callers.
+     *
+     * @param le  The failure.
+     *
+     * @return  The exception to be thrown.
+     *
+     * @see
+     */
+    private static org.omg.CORBA.INTERNAL logError( LogException le ) {
+        _logger.log(Level.SEVERE,"jts.log_error",le.toString());
+        String msg = LogFormatter.getLocalizedMessage(_logger,"jts.log_error",
+                                   new java.lang.Object[] {le.toString()});
+        return (org.omg.CORBA.INTERNAL) (new org.omg.CORBA.INTERNAL(msg)).initCause(le);
+    }
+
+    /**Returns the maximal wait of group commit configured by
+     * {@link Configuration#GROUP_COMMIT_MAX_WAIT}.
+     *
+     * @param
+     *
+     * @return  The wait in microseconds.
+     *
+     * @see
+     */
+    private static long getGroupCommitMaxWait() {
+        long result = 0;
+        String maxWait = Configuration.getPropertyValue(Configuration.GROUP_COMMIT_MAX_WAIT);
+        if( maxWait != null )
+            try {
+                result = Long.parseLong(maxWait.trim());
+            } catch( Throwable e ) {}
 
         return result;
     }
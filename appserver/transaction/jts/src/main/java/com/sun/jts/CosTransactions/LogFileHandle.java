@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1995-1997 IBM Corp. All rights reserved.
  *
@@ -36,6 +37,9 @@ import com.sun.enterprise.util.i18n.StringManager;
 import java.io.File;
 import java.io.FileDescriptor;
 import java.io.RandomAccessFile;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**This class encapsulates file I/O operations and the file handle.
  *
@@ -108,12 +112,19 @@ class LogFileHandle {
      */
     private RandomAccessFile fhandle = null;
     private FileDescriptor   fd      = null;
+    private volatile FileChannel channel = null;
     private byte[] bufferData = null;
     boolean buffered = false;
     int bufferUpdateStart = -1;
     int bufferUpdateEnd   = -1;
     int buffPos = 0;
 
+    /**Counts of flushes of the buffer and of the flushes forced to the file system.
+     * Flushes are counted under the lock of the LogHandle, forces may run without it.
+     */
+    private volatile long flushCount = 0;
+    private final AtomicLong forcedFlushCount = new AtomicLong();
+
     static {
         dsyncProp = System.getProperty(DSYNC_PROPERTY);
         if (dsyncProp != null) {
@@ -336,6 +347,7 @@ class LogFileHandle {
         try {
             fhandle = new RandomAccessFile(file,fileMode);
             fd = fhandle.getFD();
+            channel = fhandle.getChannel();
 
             // If buffering, and the opened file has contents, then allocate the buffer
             // and read the file contents in.  Otherwise make the buffer an empty array.
@@ -372,11 +384,12 @@ class LogFileHandle {
             // If buffered, then ensure that the buffer is stored and synced with the
             // file system.
 
-            if( bufferUpdateStart != -1 )
+            if( bufferUpdateStart != -1 || isForcePending() )
                 fileSync();
 
             // Close the file.
 
+            channel = null;
             fhandle.close();
         } catch( Throwable e ) {
             throw new LogException(LogException.LOG_CLOSE_FAILURE,1,
@@ -449,12 +462,28 @@ class LogFileHandle {
         // Synchronization is only done for buffered files which have been updated.
         // Non-buffered files have every write synchronized with the file system.
 
+        fileFlush();
+        fileForce();
+    }
+
+    /**Writes the updated part of the buffer to the file without synchronising it
+     * with the file system, {@link #fileForce()} has to follow.
+     *
+     * @param
+     *
+     * @return
+     *
+     * @exception LogException The write failed
+     *
+     * @see
+     */
+    void fileFlush() throws LogException {
+
         if( bufferUpdateStart != -1 )
             try {
                 fhandle.seek(bufferUpdateStart);
                 fhandle.write(bufferData,bufferUpdateStart,bufferUpdateEnd-bufferUpdateStart);
-                if (dsyncProp == null)
-                    fd.sync();
+                flushCount++;
 
                 bufferUpdateStart = -1;
                 bufferUpdateEnd   = -1;
@@ -462,7 +491,51 @@ class LogFileHandle {
                 throw new LogException(LogException.LOG_READ_FAILURE,1,
                         sm.getString("jts.log_file_sync_failed"), e);
             }
+    }
+
+    /**Forces flushed updates of the file to the storage device.
+     * <p>
+     * Unlike other operations this may be called without holding the lock of the LogHandle,
+     * so other records can be written to the buffer while the device is busy.
+     * If the file gets closed meanwhile, it is forced by {@link #fileClose()}.
+     *
+     * @param
+     *
+     * @return
+     *
+     * @exception LogException The sync failed
+     *
+     * @see
+     */
+    void fileForce() throws LogException {
 
+        final long flushed = flushCount;
+        final FileChannel fileChannel = channel;
+        if( fileChannel == null || forcedFlushCount.get() >= flushed )
+            return;
+
+        try {
+            if (dsyncProp == null)
+                fileChannel.force(true);
+            forcedFlushCount.accumulateAndGet(flushed, Math::max);
+        } catch (ClosedChannelException e) {
+            // Closed by fileClose, which has forced the file before.
+        } catch (Throwable e) {
+            throw new LogException(LogException.LOG_READ_FAILURE,1,
+                    sm.getString("jts.log_file_sync_failed"), e);
+        }
+    }
+
+    /**Returns true if some flushed updates were not forced yet.
+     *
+     * @param
+     *
+     * @return
+     *
+     * @see
+     */
+    boolean isForcePending() {
+        return forcedFlushCount.get() < flushCount;
     }
 
     /**Reads a vector of records from the file.
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1995-1997 IBM Corp. All rights reserved.
  *
@@ -38,6 +39,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.Hashtable;
+import java.util.List;
 
 /**A class containing attributes of an open log file.
  *
@@ -582,6 +584,41 @@ class LogHandle {
         return result;
     }
 
+    /**Writes buffered records of the log to the extent files without forcing them.
+     * <p>
+     * Used for group commit: the caller forces the returned files without holding the lock
+     * of the log, so records written meanwhile can be made durable by the next force.
+     *
+     * @param
+     *
+     * @return  The extent files to be forced by {@link LogFileHandle#fileForce()}.
+     *
+     * @exception LogException The write failed.
+     *
+     * @see
+     */
+    synchronized List<LogFileHandle> flushRecords()
+        throws LogException {
+
+        List<LogFileHandle> result = new ArrayList<>();
+        Enumeration extents = extentTable.elements();
+        while( extents.hasMoreElements() ) {
+            LogExtent nextEDP = (LogExtent)extents.nextElement();
+            if( nextEDP.writtenSinceLastForce )
+                try {
+                    nextEDP.fileHandle.fileFlush();
+                    nextEDP.writtenSinceLastForce = false;
+                } catch (LogException le) {
+                    throw new LogException(LogException.LOG_ERROR_FORCING_LOG, 14,
+                            sm.getString("jts.log_file_sync_failed"), le);
+                }
+            if( nextEDP.fileHandle.isForcePending() )
+                result.add(nextEDP.fileHandle);
+        }
+
+        return result;
+    }
+
     /**Reads a record from the log.
      *
      * @param readLSN  The LSN of the record to be read.
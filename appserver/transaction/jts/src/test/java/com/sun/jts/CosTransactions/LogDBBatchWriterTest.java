@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.jts.CosTransactions;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogDBBatchWriterTest {
+
+    private static final String INSERT = "insert";
+    private static final String DELETE = "delete";
+
+    private final FakeDatabase database = new FakeDatabase();
+
+    @Test
+    public void statementsArePreparedOnceOnDedicatedConnection() {
+        LogDBBatchWriter writer = new LogDBBatchWriter(database::connect, INSERT, DELETE, 10);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(writer.insert(i, "server", "instance", new byte[] {1}));
+        }
+        assertAll(
+            () -> assertEquals(1, database.connections.get(), "connections"),
+            () -> assertEquals(2, database.prepared.get(), "prepared statements"),
+            () -> assertEquals(5, database.inserted.get(), "inserted")
+        );
+    }
+
+
+    @Test
+    public void concurrentInsertsShareCommits() throws Exception {
+        LogDBBatchWriter writer = new LogDBBatchWriter(database::connect, INSERT, DELETE, 10);
+        database.commitMillis = 2;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final long localTID = i;
+                futures.add(executor.submit(() -> writer.insert(localTID, "server", "instance", new byte[] {1})));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get(30L, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(200, database.inserted.get());
+        assertThat(database.commits.get(), lessThanOrEqualTo(100));
+    }
+
+
+    @Test
+    public void deletesAreWrittenInBulk() {
+        LogDBBatchWriter writer = new LogDBBatchWriter(database::connect, INSERT, DELETE, 3);
+        writer.delete(1, "server");
+        writer.delete(2, "server");
+        assertEquals(0, database.deleted.get(), "queued");
+        writer.delete(3, "server");
+        assertEquals(3, database.deleted.get(), "batch size reached");
+        writer.delete(4, "server");
+        writer.insert(5, "server", "instance", new byte[] {1});
+        assertEquals(4, database.deleted.get(), "written with inserts");
+        writer.delete(6, "server");
+        writer.close();
+        assertAll(
+            () -> assertEquals(5, database.deleted.get(), "written on close"),
+            () -> assertEquals(1, database.closed.get(), "closed connections")
+        );
+    }
+
+
+    @Test
+    public void deletesAndInsertsShareTransaction() {
+        LogDBBatchWriter writer = new LogDBBatchWriter(database::connect, INSERT, DELETE, 10);
+        writer.delete(1, "server");
+        writer.delete(2, "server");
+        assertTrue(writer.insert(3, "server", "instance", new byte[] {1}));
+        assertAll(
+            () -> assertEquals(1, database.commits.get(), "commits"),
+            () -> assertEquals(2, database.deleted.get(), "deleted"),
+            () -> assertEquals(1, database.inserted.get(), "inserted")
+        );
+    }
+
+
+    @Test
+    public void failedDeletesDontFailInserts() {
+        LogDBBatchWriter writer = new LogDBBatchWriter(database::connect, INSERT, DELETE, 10);
+        database.failDeletes = true;
+        writer.delete(1, "server");
+        assertTrue(writer.insert(2, "server", "instance", new byte[] {1}));
+        assertAll(
+            () -> assertEquals(2, database.connections.get(), "connections"),
+            () -> assertEquals(0, database.deleted.get(), "deleted"),
+            () -> assertEquals(1, database.inserted.get(), "inserted")
+        );
+    }
+
+
+    @Test
+    public void failedBatchIsReportedAndConnectionReplaced() {
+        LogDBBatchWriter writer = new LogDBBatchWriter(database::connect, INSERT, DELETE, 10);
+        database.failBatches = true;
+        assertFalse(writer.insert(1, "server", "instance", new byte[] {1}));
+        database.failBatches = false;
+        assertTrue(writer.insert(2, "server", "instance", new byte[] {1}));
+        assertAll(
+            () -> assertEquals(2, database.connections.get(), "connections"),
+            () -> assertEquals(1, database.closed.get(), "closed connections"),
+            () -> assertEquals(1, database.inserted.get(), "inserted")
+        );
+    }
+
+
+    private static class FakeDatabase {
+
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger closed = new AtomicInteger();
+        private final AtomicInteger prepared = new AtomicInteger();
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger inserted = new AtomicInteger();
+        private final AtomicInteger deleted = new AtomicInteger();
+        private volatile boolean failBatches;
+        private volatile boolean failDeletes;
+        private volatile long commitMillis;
+
+        Connection connect() {
+            connections.incrementAndGet();
+            // Rows in the current batches and in the uncommitted transaction
+            int[] batch = new int[2];
+            int[] uncommitted = new int[2];
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (connection, method, args) -> {
+                    switch (method.getName()) {
+                        case "prepareStatement":
+                            prepared.incrementAndGet();
+                            return statement(INSERT.equals(args[0]) ? 0 : 1, batch, uncommitted);
+                        case "commit":
+                            Thread.sleep(commitMillis);
+                            commits.incrementAndGet();
+                            inserted.addAndGet(uncommitted[0]);
+                            deleted.addAndGet(uncommitted[1]);
+                            uncommitted[0] = 0;
+                            uncommitted[1] = 0;
+                            return null;
+                        case "rollback":
+                            uncommitted[0] = 0;
+                            uncommitted[1] = 0;
+                            return null;
+                        case "close":
+                            closed.incrementAndGet();
+                            return null;
+                        default:
+                            return null;
+                    }
+                });
+        }
+
+        private PreparedStatement statement(int type, int[] batch, int[] uncommitted) {
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {PreparedStatement.class}, (statement, method, args) -> {
+                    switch (method.getName()) {
+                        case "addBatch":
+                            batch[type]++;
+                            return null;
+                        case "executeBatch":
+                            int count = batch[type];
+                            batch[type] = 0;
+                            if (failBatches || failDeletes && type == 1) {
+                                throw new SQLException("Connection lost");
+                            }
+                            uncommitted[type] += count;
+                            return new int[count];
+                        default:
+                            return null;
+                    }
+                });
+        }
+    }
+}
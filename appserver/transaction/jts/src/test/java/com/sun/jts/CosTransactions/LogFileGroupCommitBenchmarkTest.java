@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.jts.CosTransactions;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares commits per second of threads writing forced records to the transaction log
+ * with the group commit and with the force of the log by every record.
+ */
+@State(Scope.Benchmark)
+public class LogFileGroupCommitBenchmarkTest {
+
+    private static final byte[] RECORD = new byte[256];
+
+    private File logDirectory;
+    private LogFile groupCommitLog;
+    private LogFile forcePerRecordLog;
+
+    @Test
+    public void forcedWrites() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.seconds(1L))
+            .measurementIterations(2).forks(1).measurementTime(TimeValue.seconds(1L))
+            .threads(8).timeout(TimeValue.seconds(30L))
+            .timeUnit(TimeUnit.SECONDS)
+            .mode(Mode.Throughput).shouldFailOnError(true)
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        Map<String, Double> scores = results.stream().collect(Collectors.toMap(
+            result -> result.getParams().getBenchmark().replaceFirst(".*\\.", ""),
+            result -> result.getPrimaryResult().getScore()));
+        assertThat(scores.get("groupCommit"), greaterThan(scores.get("forcePerRecord")));
+    }
+
+
+    @Setup(Level.Trial)
+    public void openLogs() throws Exception {
+        logDirectory = Files.createTempDirectory("jts-log").toFile();
+        LogControl logControl = new LogControl();
+        logControl.initLog(true, false, logDirectory.getAbsolutePath());
+        groupCommitLog = new LogFile(logControl.openFile("group", null, null, new boolean[1]), 0L);
+        forcePerRecordLog = new LogFile(logControl.openFile("single", null, null, new boolean[1]), -1L);
+    }
+
+
+    @TearDown(Level.Trial)
+    public void closeLogs() {
+        groupCommitLog.close(true);
+        forcePerRecordLog.close(true);
+        LogControl.clearDirectory(logDirectory.getAbsolutePath());
+        logDirectory.delete();
+    }
+
+
+    @Benchmark
+    public boolean groupCommit() {
+        return groupCommitLog.write(LogFile.FORCED, RECORD, LogFile.NORMAL, null);
+    }
+
+
+    @Benchmark
+    public boolean forcePerRecord() {
+        return forcePerRecordLog.write(LogFile.FORCED, RECORD, LogFile.NORMAL, null);
+    }
+}
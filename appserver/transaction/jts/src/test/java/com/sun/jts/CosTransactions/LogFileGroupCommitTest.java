@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.jts.CosTransactions;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LogFileGroupCommitTest {
+
+    private static final int THREADS = 8;
+    private static final int WRITES = 200;
+
+    @TempDir
+    File logDirectory;
+
+    @Test
+    public void concurrentForcedWritesAreAllInTheLog() throws Exception {
+        LogFile logFile = openLog(true, 100L);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final int thread = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < WRITES; j++) {
+                        byte[] record = (thread + "-" + j).getBytes(StandardCharsets.US_ASCII);
+                        logFile.write(LogFile.FORCED, record, LogFile.NORMAL, new LogLSN());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60L, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        logFile.close(false);
+
+        Vector<?> records = openLog(false, 0L).getLogRecords();
+        Set<String> texts = new HashSet<>();
+        for (Object record : records) {
+            texts.add(new String((byte[]) record, StandardCharsets.US_ASCII));
+        }
+        assertEquals(THREADS * WRITES, texts.size());
+    }
+
+
+    private LogFile openLog(boolean coldStart, long groupCommitMaxWaitMicros) throws LogException {
+        LogControl logControl = new LogControl();
+        logControl.initLog(coldStart, false, logDirectory.getAbsolutePath());
+        LogHandle handle = logControl.openFile("test", null, null, new boolean[1]);
+        return new LogFile(handle, groupCommitMaxWaitMicros);
+    }
+}
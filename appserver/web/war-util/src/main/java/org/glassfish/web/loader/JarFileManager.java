@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -26,12 +26,15 @@ import java.lang.System.Logger;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -64,6 +67,17 @@ class JarFileManager implements Closeable {
     /** The list of JARs, in the order they should be searched for locally loaded classes or resources. */
     private final List<JarResource> files = new ArrayList<>();
 
+    /**
+     * Directory of the entry path mapped to JARs containing any entry in that directory,
+     * in the same order as {@link #files}. Built when JARs are opened, null when invalidated.
+     */
+    private volatile Map<String, List<JarResource>> packageIndex;
+
+    /** Count of resource lookups, for diagnostics */
+    private final LongAdder lookups = new LongAdder();
+    /** Count of JAR entry lookups done to find resources, for diagnostics */
+    private final LongAdder jarProbes = new LongAdder();
+
     private final ScheduledExecutorService scheduler = newScheduledThreadPool(1, new JarFileManagerThreadFactory());
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
     private final Lock readLock = lock.readLock();
@@ -79,6 +93,7 @@ class JarFileManager implements Closeable {
         writeLock.lock();
         try {
             files.add(new JarResource(file));
+            packageIndex = null;
         } finally {
             writeLock.unlock();
         }
@@ -126,8 +141,12 @@ class JarFileManager implements Closeable {
         readLock.lock();
         try {
             lastJarFileAccess = System.currentTimeMillis();
-            for (JarResource jarResource : files) {
+            lookups.increment();
+            final Map<String, List<JarResource>> index = packageIndex;
+            final List<JarResource> candidates = index == null ? files : index.getOrDefault(toIndexKey(path), List.of());
+            for (JarResource jarResource : candidates) {
                 final JarFile jarFile = jarResource.jarFile;
+                jarProbes.increment();
                 final JarEntry jarEntry = jarFile.getJarEntry(path);
                 if (jarEntry == null) {
                     continue;
@@ -179,7 +198,10 @@ class JarFileManager implements Closeable {
         writeLock.lock();
         try {
             lastJarFileAccess = 0L;
+            // Invalidated also on reload, JARs could have been changed meanwhile.
+            packageIndex = null;
             closeJarFiles(files);
+            LOG.log(DEBUG, "Resource lookups: {0}, JAR entry lookups: {1}", lookups.sum(), jarProbes.sum());
         } finally {
             // No need to interrupt, just cancel next executions
             if (this.unusedJarsCheck != null) {
@@ -221,6 +243,9 @@ class JarFileManager implements Closeable {
                     return false;
                 }
             }
+            if (packageIndex == null) {
+                packageIndex = createPackageIndex(files);
+            }
             LOG.log(DEBUG, "JAR files are open. If unused, will be closed after {0} s", SECONDS_TO_CLOSE_UNUSED_JARS);
             this.unusedJarsCheck = scheduler.scheduleAtFixedRate(this::closeJarFilesIfNotUsed, SECONDS_TO_CHECK_UNUSED_JARS,
                 SECONDS_TO_CHECK_UNUSED_JARS, TimeUnit.SECONDS);
@@ -236,6 +261,40 @@ class JarFileManager implements Closeable {
     }
 
 
+    /**
+     * Maps directories of all entries to JARs containing them, so lookups don't have to probe
+     * every JAR file. Even multi-release entries are found under their base names.
+     */
+    private static Map<String, List<JarResource>> createPackageIndex(List<JarResource> files) {
+        final long start = System.nanoTime();
+        final Map<String, List<JarResource>> index = new HashMap<>();
+        for (JarResource jarResource : files) {
+            Iterator<JarEntry> jarEntries = jarResource.jarFile.versionedStream().iterator();
+            while (jarEntries.hasNext()) {
+                final List<JarResource> jars = index.computeIfAbsent(toIndexKey(jarEntries.next().getName()),
+                    k -> new ArrayList<>(1));
+                if (jars.isEmpty() || jars.get(jars.size() - 1) != jarResource) {
+                    jars.add(jarResource);
+                }
+            }
+        }
+        LOG.log(DEBUG, "Indexed {0} directories of {1} JAR files in {2} ms.", index.size(), files.size(),
+            (System.nanoTime() - start) / 1_000_000L);
+        return index;
+    }
+
+
+    /**
+     * @param path entry path, ie. <code>org/glassfish/Foo.class</code> or <code>META-INF/dir/</code>
+     * @return path of the parent directory with the trailing slash or an empty string for the root.
+     */
+    private static String toIndexKey(String path) {
+        // JarFile finds directories even without the trailing slash
+        final int end = path.endsWith("/") ? path.length() - 1 : path.length();
+        return path.substring(0, path.lastIndexOf('/', end - 1) + 1);
+    }
+
+
     private ResourceEntry createResourceEntry(String name, File file, JarFile jarFile, JarEntry jarEntry, String entryPath) {
         final URL codeBase;
         try {
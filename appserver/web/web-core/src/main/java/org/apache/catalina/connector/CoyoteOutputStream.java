@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -21,6 +22,7 @@ import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.WriteListener;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ResourceBundle;
 
 import org.apache.catalina.LogFacade;
@@ -115,6 +117,25 @@ public class CoyoteOutputStream
     }
 
 
+    /**
+     * Writes the buffer without copying it to the response buffer.
+     *
+     * @param buffer content to be written from its position to its limit,
+     *  must not be modified until the release callback is called
+     * @param release called once the buffer is not used any more, or never
+     *  if the write fails
+     */
+    public void write(ByteBuffer buffer, Runnable release)
+        throws IOException {
+        // Disallow operation if the object has gone out of scope
+        if (ob == null) {
+            throw new IllegalStateException(rb.getString(LogFacade.OBJECT_INVALID_SCOPE_EXCEPTION));
+        }
+
+        ob.write(buffer, release);
+    }
+
+
     /**
      * Will send the buffer to the client.
      */
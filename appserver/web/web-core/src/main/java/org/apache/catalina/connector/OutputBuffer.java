@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -23,11 +24,13 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.channels.InterruptedByTimeoutException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,6 +45,7 @@ import org.apache.catalina.util.RequestUtil;
 import org.glassfish.common.util.InputValidationUtil;
 import org.glassfish.grizzly.WriteHandler;
 import org.glassfish.grizzly.http.util.ByteChunk;
+import org.glassfish.grizzly.memory.ByteBufferWrapper;
 
 /**
  * The buffer used by Tomcat response. This is a derivative of the Tomcat 3.3
@@ -286,6 +290,30 @@ public class OutputBuffer extends Writer
     }
 
 
+    /**
+     * Writes the buffer without copying it to the response buffer. The buffer
+     * must not be modified until the release callback is called.
+     *
+     * @param buffer content to be written from its position to its limit
+     * @param release called once the buffer is not used any more, or never
+     *  if the write fails
+     */
+    public void write(ByteBuffer buffer, Runnable release) throws IOException {
+
+        if (suspended || grizzlyOutputBuffer.isClosed()) {
+            release.run();
+            return;
+        }
+        if (log.isLoggable(Level.FINE))
+            log.log(Level.FINE, "write(ByteBuffer)");
+
+        int len = buffer.remaining();
+        grizzlyOutputBuffer.writeBuffer(new ReleasingBuffer(buffer, release));
+        bytesWritten += len;
+
+    }
+
+
     private void writeBytes(byte b[], int off, int len)
         throws IOException {
 
@@ -854,4 +882,30 @@ public class OutputBuffer extends Writer
             return Thread.currentThread().getContextClassLoader();
         }
     }
+
+
+    /**
+     * Buffer calling the release callback when Grizzly disposes it after
+     * it was written.
+     */
+    private static final class ReleasingBuffer extends ByteBufferWrapper {
+
+        private final AtomicReference<Runnable> release;
+
+        ReleasingBuffer(ByteBuffer buffer, Runnable release) {
+            super(buffer);
+            this.release = new AtomicReference<>(release);
+            allowBufferDispose(true);
+        }
+
+
+        @Override
+        public void dispose() {
+            super.dispose();
+            Runnable callback = release.getAndSet(null);
+            if (callback != null) {
+                callback.run();
+            }
+        }
+    }
 }
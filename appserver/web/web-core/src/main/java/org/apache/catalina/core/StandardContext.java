@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2024 Contributors to Eclipse Foundation.
+ * Copyright (c) 2021, 2026 Contributors to Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -648,6 +648,11 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
      */
     protected int cacheTTL = 5000;
 
+    /**
+     * Keep cached static content off the Java heap.
+     */
+    protected boolean cacheOffHeap;
+
     /**
      * Non proxied resources.
      */
@@ -914,6 +919,20 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
         this.cacheMaxSize = cacheMaxSize;
     }
 
+    /**
+     * @return true if cached static content is kept off the Java heap.
+     */
+    public boolean isCacheOffHeap() {
+        return cacheOffHeap;
+    }
+
+    /**
+     * Set whether cached static content is kept in direct buffers off the Java heap.
+     */
+    public void setCacheOffHeap(boolean cacheOffHeap) {
+        this.cacheOffHeap = cacheOffHeap;
+    }
+
     /**
      * @return the "follow standard delegation model" flag used to configure our ClassLoader.
      */
@@ -1607,6 +1626,7 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
             baseDirContext.setCached(isCachingAllowed());
             baseDirContext.setCacheTTL(getCacheTTL());
             baseDirContext.setCacheMaxSize(getCacheMaxSize());
+            baseDirContext.setCacheOffHeap(isCacheOffHeap());
         }
 
         if (resources instanceof FileDirContext) {
@@ -1638,6 +1658,7 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
             ((BaseDirContext) resources).setCached(isCachingAllowed());
             ((BaseDirContext) resources).setCacheTTL(getCacheTTL());
             ((BaseDirContext) resources).setCacheMaxSize(getCacheMaxSize());
+            ((BaseDirContext) resources).setCacheOffHeap(isCacheOffHeap());
         }
 
         if (resources instanceof FileDirContext) {
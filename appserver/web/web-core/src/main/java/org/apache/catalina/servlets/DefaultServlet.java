@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -46,6 +46,7 @@ import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
 import java.security.AccessController;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -74,6 +75,7 @@ import javax.xml.transform.stream.StreamSource;
 
 import org.apache.catalina.Globals;
 import org.apache.catalina.LogFacade;
+import org.apache.catalina.connector.CoyoteOutputStream;
 import org.apache.catalina.core.ContextsAdapterUtility;
 import org.apache.catalina.util.ServerInfo;
 import org.apache.catalina.util.URLEncoder;
@@ -1936,7 +1938,7 @@ public class DefaultServlet
                                   long length, Range range) {
         if ((sendfileSize > 0)
             && (entry.resource != null)
-            && ((length > sendfileSize) || (entry.resource.getContent() == null))
+            && ((length > sendfileSize) || (!entry.resource.isContentLoaded()))
             && (entry.attributes.getCanonicalPath() != null)
             && (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support")))
             && (request.getClass().getName().equals("org.apache.catalina.connector.RequestFacade"))
@@ -2160,6 +2162,15 @@ public class DefaultServlet
                 ostream.write(buffer, 0, buffer.length);
                 return;
             }
+            // Content kept off the heap is passed to the connector without copying
+            if (ostream instanceof CoyoteOutputStream) {
+                Resource resource = cacheEntry.resource;
+                ByteBuffer contentBuffer = resource.acquireContentBuffer();
+                if (contentBuffer != null) {
+                    ((CoyoteOutputStream) ostream).write(contentBuffer, resource::releaseContentBuffer);
+                    return;
+                }
+            }
             resourceInputStream = cacheEntry.resource.streamContent();
         } else {
             resourceInputStream = is;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -27,6 +27,7 @@ import com.sun.enterprise.web.accesslog.AccessLogFormatter;
 import com.sun.enterprise.web.accesslog.CombinedAccessLogFormatterImpl;
 import com.sun.enterprise.web.accesslog.CommonAccessLogFormatterImpl;
 import com.sun.enterprise.web.accesslog.DefaultAccessLogFormatterImpl;
+import com.sun.enterprise.web.accesslog.StripedAccessLogBuffer;
 import com.sun.enterprise.web.pluggable.WebContainerFeatureFactory;
 
 import java.io.File;
@@ -68,6 +69,10 @@ import static java.time.Instant.ofEpochMilli;
  * </p>This class uses a direct <code>ByteBuffer</code> to store and write
  * logs.
  *
+ * </p>In the striped mode, request threads format entries to the
+ * {@link StripedAccessLogBuffer} instead of the single shared buffer, so they
+ * don't contend on a single lock.
+ *
  * @author Jean-Francois Arcand
  * @author Charlie J. Hunt
  */
@@ -215,8 +220,22 @@ public final class PEAccessLogValve
 
     /**
      * The <code>CharBuffer</code> used to store the logs.
+     * Null in the striped mode, methods read it just once.
+     */
+    private volatile CharBuffer charBuffer;
+
+
+    /**
+     * The buffer used to store the logs in the striped mode.
+     * Null in the shared buffer mode, methods read it just once.
+     */
+    private volatile StripedAccessLogBuffer stripedBuffer;
+
+
+    /**
+     * Should we use the striped buffer instead of the shared one?
      */
-    private CharBuffer charBuffer;
+    private boolean striped;
 
 
     /**
@@ -335,6 +354,24 @@ public final class PEAccessLogValve
         return bufferSize;
     }
 
+
+    /**
+     * Should request threads use striped buffers?
+     */
+    public boolean isStriped() {
+        return striped;
+    }
+
+
+    /**
+     * Set the value if request threads should use striped buffers.
+     *
+     * @param striped true to use the {@link StripedAccessLogBuffer}
+     */
+    public void setStriped(boolean striped) {
+        this.striped = striped;
+    }
+
     // ------------------------------------------------------------- Properties
 
 
@@ -548,6 +585,16 @@ public final class PEAccessLogValve
             return;
         }
 
+        final StripedAccessLogBuffer stripes = stripedBuffer;
+        if (stripes != null) {
+            postInvokeStriped(stripes, request, response);
+            return;
+        }
+
+        final CharBuffer charBuffer = this.charBuffer;
+        if (charBuffer == null) {
+            return;
+        }
         synchronized (lock){
             // Reset properly the buffer in case of an unexpected
             // exception.
@@ -582,6 +629,34 @@ public final class PEAccessLogValve
     }
 
 
+    /**
+     * Appends the entry to the stripe of the current thread. If the stripe is
+     * full, all stripes are written to make room for the current request.
+     */
+    private void postInvokeStriped(StripedAccessLogBuffer stripes, Request request, Response response)
+        throws IOException {
+        if (formatter == null) {
+            return;
+        }
+        for (int i = 0; i < 2; i++) {
+            try {
+                if (stripes.append(formatter, request, response)) {
+                    if (flushRealTime) {
+                        log();
+                    }
+                    return;
+                }
+            } catch (BufferOverflowException ex) {
+                // The entry is longer than the buffer.
+                _logger.log(Level.SEVERE, LogFacade.ACCESS_LOG_UNABLE_TO_WRITE, new Object[] {ex});
+                return;
+            }
+            log();
+        }
+        _logger.log(Level.SEVERE, LogFacade.ACCESS_LOG_UNABLE_TO_WRITE, new Object[] {new BufferOverflowException()});
+    }
+
+
     /**
      * Log the specified message to the log file, switching files if the date
      * has changed since the previous log call.
@@ -611,6 +686,19 @@ public final class PEAccessLogValve
         }
 
         synchronized (lock) {
+            final StripedAccessLogBuffer stripes = stripedBuffer;
+            if (stripes != null) {
+                try {
+                    stripes.writeTo(fileChannel);
+                } catch (IOException ex) {
+
+                }
+                return;
+            }
+            final CharBuffer charBuffer = this.charBuffer;
+            if (charBuffer == null) {
+                return;
+            }
             try {
                 charBuffer.flip();
                 ByteBuffer byteBuffer = ByteBuffer.wrap(charBuffer.toString().getBytes(Charset.defaultCharset()));
@@ -745,6 +833,12 @@ public final class PEAccessLogValve
             }
         }
 
+        /*
+         * The accessLogStriped property defined under <virtual-server>
+         * enables striped buffers.
+         */
+        setStriped(Boolean.parseBoolean(vsBean.getPropertyValue(Constants.ACCESS_LOG_STRIPED_PROPERTY, "false")));
+
         return true;
     }
 
@@ -993,7 +1087,13 @@ public final class PEAccessLogValve
             bufferSize = MIN_BUFFER_SIZE;
         }
 
-        charBuffer = CharBuffer.allocate(bufferSize);
+        if (striped) {
+            charBuffer = null;
+            stripedBuffer = new StripedAccessLogBuffer(bufferSize, Charset.defaultCharset());
+        } else {
+            stripedBuffer = null;
+            charBuffer = CharBuffer.allocate(bufferSize);
+        }
 
         if (fileDateFormat == null) {
             fileDateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
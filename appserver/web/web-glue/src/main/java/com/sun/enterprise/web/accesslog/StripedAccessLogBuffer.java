@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.web.accesslog;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import org.apache.catalina.Request;
+import org.apache.catalina.Response;
+
+/**
+ * Access log buffer split to stripes, so request threads don't contend on a single lock.
+ * <p>
+ * Every thread always uses the same stripe chosen by its id, which preserves the order
+ * of entries logged by the thread. Entries are encoded directly to the byte buffer
+ * of the stripe.
+ * <p>
+ * Stripes are double buffered: the writer swaps filled buffers for empty ones and writes
+ * all of them by a single gathering write, while request threads continue to append
+ * to the empty buffers.
+ */
+public final class StripedAccessLogBuffer {
+
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final ByteBuffer[] gathered;
+
+
+    /**
+     * @param bufferSize size of the buffer of each stripe
+     * @param charset charset of the access log file
+     */
+    public StripedAccessLogBuffer(int bufferSize, Charset charset) {
+        int stripeCount = 1;
+        while (stripeCount < Runtime.getRuntime().availableProcessors() && stripeCount < MAX_STRIPES) {
+            stripeCount <<= 1;
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(bufferSize, charset);
+        }
+        this.mask = stripeCount - 1;
+        this.gathered = new ByteBuffer[stripeCount];
+    }
+
+
+    /**
+     * Appends an access log entry line to the stripe of the current thread.
+     *
+     * @param formatter formatter of the entry
+     * @param request The request object from which to obtain access log info
+     * @param response The response object from which to obtain access log info
+     * @return false if there is not enough space in the stripe, so it must be written first.
+     * @throws BufferOverflowException if the entry is longer than the buffer size
+     */
+    public boolean append(AccessLogFormatter formatter, Request request, Response response) {
+        final Stripe stripe = stripes[(int) Thread.currentThread().getId() & mask];
+        synchronized (stripe) {
+            return stripe.append(formatter, request, response);
+        }
+    }
+
+
+    /**
+     * Writes content of all stripes to the channel.
+     * <p>
+     * Calls must be serialized by the caller, the order of entries is preserved only
+     * if stripes are not written in parallel.
+     *
+     * @param channel
+     * @throws IOException
+     */
+    public void writeTo(FileChannel channel) throws IOException {
+        int count = 0;
+        long length = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                final ByteBuffer filled = stripe.swap();
+                if (filled != null) {
+                    gathered[count++] = filled;
+                    length += filled.remaining();
+                }
+            }
+        }
+        try {
+            while (length > 0) {
+                length -= channel.write(gathered, 0, count);
+            }
+        } finally {
+            for (int i = 0; i < count; i++) {
+                gathered[i].clear();
+                gathered[i] = null;
+            }
+        }
+    }
+
+
+    private static final class Stripe {
+
+        private final CharBuffer chars;
+        private final CharsetEncoder encoder;
+        private ByteBuffer bytes;
+        private ByteBuffer spare;
+
+        Stripe(int bufferSize, Charset charset) {
+            this.chars = CharBuffer.allocate(bufferSize);
+            this.encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            // Heap buffers, the encoder has a fast path for them.
+            this.bytes = ByteBuffer.allocate(bufferSize);
+            this.spare = ByteBuffer.allocate(bufferSize);
+        }
+
+
+        boolean append(AccessLogFormatter formatter, Request request, Response response) {
+            chars.clear();
+            formatter.appendLogEntry(request, response, chars);
+            chars.put('\n');
+            chars.flip();
+            final int position = bytes.position();
+            encoder.reset();
+            CoderResult result = encoder.encode(chars, bytes, true);
+            if (!result.isOverflow()) {
+                result = encoder.flush(bytes);
+            }
+            if (result.isOverflow()) {
+                bytes.position(position);
+                return false;
+            }
+            return true;
+        }
+
+
+        /**
+         * @return flipped buffer with content or null if there's nothing to write
+         */
+        ByteBuffer swap() {
+            if (bytes.position() == 0) {
+                return null;
+            }
+            final ByteBuffer filled = bytes;
+            bytes = spare;
+            spare = filled;
+            filled.flip();
+            return filled;
+        }
+    }
+}
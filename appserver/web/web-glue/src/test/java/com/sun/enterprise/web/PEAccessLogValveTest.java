@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.catalina.Request;
+import org.apache.catalina.Response;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+
+public class PEAccessLogValveTest {
+
+    private static final int THREAD_COUNT = 4;
+    private static final int REQUEST_COUNT = 500;
+
+    @TempDir
+    private Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void logsAllRequests(final boolean striped) throws Exception {
+        final PEAccessLogValve valve = new PEAccessLogValve();
+        valve.setDirectory(tempDir.toString());
+        valve.setPrefix("access_log");
+        valve.setSuffix(".txt");
+        valve.setRotatable(false);
+        valve.setStriped(striped);
+        valve.setPattern("%http-method% %http-uri%");
+        valve.start();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                final String uri = "/app/" + t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < REQUEST_COUNT; i++) {
+                        valve.postInvoke(createRequest(uri), createResponse());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            valve.stop();
+        }
+        final List<String> lines = Files.readAllLines(tempDir.resolve("access_log.txt"), Charset.defaultCharset());
+        assertThat(lines, hasSize(THREAD_COUNT * REQUEST_COUNT));
+        assertThat(lines, everyItem(startsWith("\"GET\" \"/app/")));
+    }
+
+
+    private static Request createRequest(final String uri) {
+        final HttpServletRequest httpRequest = createNiceMock(HttpServletRequest.class);
+        expect(httpRequest.getMethod()).andStubReturn("GET");
+        expect(httpRequest.getRequestURI()).andStubReturn(uri);
+        final Request request = createNiceMock(Request.class);
+        expect(request.getRequest()).andStubReturn(httpRequest);
+        replay(httpRequest, request);
+        return request;
+    }
+
+
+    private static Response createResponse() {
+        final HttpServletResponse httpResponse = createNiceMock(HttpServletResponse.class);
+        final Response response = createNiceMock(Response.class);
+        expect(response.getResponse()).andStubReturn(httpResponse);
+        replay(httpResponse, response);
+        return response;
+    }
+}
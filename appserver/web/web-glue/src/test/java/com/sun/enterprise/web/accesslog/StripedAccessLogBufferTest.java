@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.web.accesslog;
+
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.catalina.Request;
+import org.apache.catalina.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StripedAccessLogBufferTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void writesAppendedEntries() throws Exception {
+        final StripedAccessLogBuffer buffer = new StripedAccessLogBuffer(1024, StandardCharsets.UTF_8);
+        assertAll(
+            () -> assertTrue(buffer.append(new FixedFormatter("first"), null, null)),
+            () -> assertTrue(buffer.append(new FixedFormatter("\u010Ddruh\u00FD"), null, null))
+        );
+        assertThat(write(buffer), contains("first", "\u010Ddruh\u00FD"));
+        assertThat("written stripes are empty", write(buffer), hasSize(0));
+    }
+
+
+    @Test
+    public void fullStripe() throws Exception {
+        final StripedAccessLogBuffer buffer = new StripedAccessLogBuffer(16, StandardCharsets.UTF_8);
+        final FixedFormatter formatter = new FixedFormatter("0123456789");
+        assertAll(
+            () -> assertTrue(buffer.append(formatter, null, null)),
+            () -> assertFalse(buffer.append(formatter, null, null), "no space left")
+        );
+        assertThat(write(buffer), contains("0123456789"));
+        assertTrue(buffer.append(formatter, null, null), "space released by the write");
+        assertThat(write(buffer), contains("0123456789"));
+    }
+
+
+    @Test
+    public void entryLongerThanBuffer() {
+        final StripedAccessLogBuffer buffer = new StripedAccessLogBuffer(16, StandardCharsets.UTF_8);
+        assertThrows(BufferOverflowException.class,
+            () -> buffer.append(new FixedFormatter("0123456789ABCDEFGH"), null, null));
+    }
+
+
+    @Test
+    public void threadsKeepOrderOfTheirEntries() throws Exception {
+        final int threadCount = 8;
+        final int entryCount = 1000;
+        final StripedAccessLogBuffer buffer = new StripedAccessLogBuffer(256, StandardCharsets.UTF_8);
+        final Path file = tempDir.resolve("access.log");
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < entryCount; i++) {
+                        final FixedFormatter formatter = new FixedFormatter(thread + ":" + i);
+                        while (!buffer.append(formatter, null, null)) {
+                            synchronized (buffer) {
+                                buffer.writeTo(channel);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            synchronized (buffer) {
+                buffer.writeTo(channel);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(lines, hasSize(threadCount * entryCount));
+        final int[] expected = new int[threadCount];
+        for (String line : lines) {
+            final String[] entry = line.split(":");
+            final int thread = Integer.parseInt(entry[0]);
+            assertEquals(expected[thread]++, Integer.parseInt(entry[1]), line);
+        }
+    }
+
+
+    private List<String> write(final StripedAccessLogBuffer buffer) throws Exception {
+        final Path file = Files.createTempFile(tempDir, "access", ".log");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            buffer.writeTo(channel);
+        }
+        return Files.readAllLines(file, StandardCharsets.UTF_8);
+    }
+
+
+    private static class FixedFormatter extends AccessLogFormatter {
+
+        private final String entry;
+
+        FixedFormatter(final String entry) {
+            super(null);
+            this.entry = entry;
+        }
+
+
+        @Override
+        public void appendLogEntry(Request request, Response response, CharBuffer charBuffer) {
+            charBuffer.put(entry);
+        }
+    }
+}
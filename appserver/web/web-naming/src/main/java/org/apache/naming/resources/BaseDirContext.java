@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -105,6 +106,12 @@ public abstract class BaseDirContext implements DirContext {
     protected int cacheMaxSize = 10240; // 10 MB
 
 
+    /**
+     * Keep cached content off the Java heap.
+     */
+    protected boolean cacheOffHeap = false;
+
+
     // ------------------------------------------------------------- Properties
 
     /**
@@ -201,6 +208,22 @@ public abstract class BaseDirContext implements DirContext {
     }
 
 
+    /**
+     * Is cached content kept off the Java heap ?
+     */
+    public boolean isCacheOffHeap() {
+        return cacheOffHeap;
+    }
+
+
+    /**
+     * Set whether cached content is kept in direct buffers off the Java heap.
+     */
+    public void setCacheOffHeap(boolean cacheOffHeap) {
+        this.cacheOffHeap = cacheOffHeap;
+    }
+
+
     // --------------------------------------------------------- Public Methods
 
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.apache.naming.resources;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of direct buffers for the content of cached resources.
+ * <p>
+ * Direct buffers are freed by the garbage collector only, which doesn't
+ * notice them, because they take just few bytes of the heap. Buffers of
+ * evicted resources are returned to the pool when their last user releases
+ * them, so newly cached content reuses their memory instead of allocating
+ * more. Capacities are rounded up to powers of two, so a released buffer
+ * fits content of a similar size. Released buffers over the pool limit are
+ * left to the garbage collector.
+ */
+final class DirectBufferPool {
+
+    /**
+     * Smallest pooled capacity is 4 KB.
+     */
+    private static final int MIN_SHIFT = 12;
+
+    /**
+     * Largest pooled capacity is 1 GB.
+     */
+    private static final int MAX_SHIFT = 30;
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentLinkedQueue<ByteBuffer>[] pools = new ConcurrentLinkedQueue[MAX_SHIFT - MIN_SHIFT + 1];
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private volatile long maxPooledBytes;
+
+
+    /**
+     * @param maxPooledBytes maximal total capacity of buffers kept in the pool
+     */
+    DirectBufferPool(long maxPooledBytes) {
+        this.maxPooledBytes = maxPooledBytes;
+        for (int i = 0; i < pools.length; i++) {
+            pools[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+
+    /**
+     * @param maxPooledBytes maximal total capacity of buffers kept in the pool
+     */
+    void setMaxPooledBytes(long maxPooledBytes) {
+        this.maxPooledBytes = maxPooledBytes;
+    }
+
+
+    /**
+     * @return total capacity of buffers kept in the pool
+     */
+    long getPooledBytes() {
+        return pooledBytes.get();
+    }
+
+
+    /**
+     * Takes a pooled buffer or allocates a new one.
+     *
+     * @param length required length of the content
+     * @return buffer with the limit set to the length, or null if there is
+     *  not enough direct memory
+     */
+    ByteBuffer allocate(int length) {
+        int shift = Math.max(MIN_SHIFT, 32 - Integer.numberOfLeadingZeros(length - 1));
+        ByteBuffer buffer = null;
+        if (shift <= MAX_SHIFT) {
+            buffer = pools[shift - MIN_SHIFT].poll();
+            if (buffer != null) {
+                pooledBytes.addAndGet(-buffer.capacity());
+            }
+        }
+        if (buffer == null) {
+            try {
+                buffer = ByteBuffer.allocateDirect(shift <= MAX_SHIFT ? 1 << shift : length);
+            } catch (OutOfMemoryError e) {
+                // Direct memory limit reached, the caller falls back to the heap
+                return null;
+            }
+        }
+        buffer.clear().limit(length);
+        return buffer;
+    }
+
+
+    /**
+     * Returns the buffer to the pool. The buffer must not be used any more.
+     *
+     * @param buffer buffer obtained from {@link #allocate(int)}
+     */
+    void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (Integer.bitCount(capacity) != 1 || capacity < 1 << MIN_SHIFT || capacity > 1 << MAX_SHIFT) {
+            return;
+        }
+        if (pooledBytes.addAndGet(capacity) > maxPooledBytes) {
+            pooledBytes.addAndGet(-capacity);
+            return;
+        }
+        pools[Integer.numberOfTrailingZeros(capacity) - MIN_SHIFT].offer(buffer);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2023, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -1075,12 +1075,13 @@ public class FileDirContext extends BaseDirContext {
         @Override
         public InputStream streamContent()
             throws IOException {
-            if (binaryContent == null) {
-                FileInputStream fin = new FileInputStream(file);
-                inputStream = fin;
-                return fin;
+            InputStream loadedContent = streamLoadedContent();
+            if (loadedContent != null) {
+                return loadedContent;
             }
-            return super.streamContent();
+            FileInputStream fin = new FileInputStream(file);
+            inputStream = fin;
+            return fin;
         }
 
         @Override
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.apache.naming.resources;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Resource cache for content kept in direct buffers off the Java heap.
+ * <p>
+ * The size of the cache is counted in bytes of the cached content, so several
+ * gigabytes of content can be cached precisely. Lookups don't lock, allocate,
+ * load and unload are synchronized on the cache by the caller as for the
+ * {@link ResourceCache}.
+ * <p>
+ * Content buffers are taken from a {@link DirectBufferPool}. Unloaded entries
+ * release their buffers, which return to the pool when the last reader
+ * released them too.
+ */
+public class OffHeapResourceCache extends ResourceCache {
+
+    /**
+     * Estimated heap size of the cache entry and its attributes.
+     */
+    static final long ENTRY_OVERHEAD = 512;
+
+    /**
+     * Part of the cache size which can be kept in the pool of released buffers.
+     */
+    static final int POOLED_PART = 10;
+
+    private final ConcurrentHashMap<String, SampledEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CacheEntry> notFoundEntries = new ConcurrentHashMap<>();
+
+    /**
+     * Entries to sample when making space, guarded by the cache monitor.
+     */
+    private final List<SampledEntry> sampled = new ArrayList<>();
+
+    private long cacheMaxBytes = cacheMaxSize * 1024L;
+    private long cacheBytes;
+    private final DirectBufferPool bufferPool = new DirectBufferPool(cacheMaxBytes / POOLED_PART);
+
+
+    @Override
+    public void setCacheMaxSize(int cacheMaxSize) {
+        super.setCacheMaxSize(cacheMaxSize);
+        this.cacheMaxBytes = cacheMaxSize * 1024L;
+        bufferPool.setMaxPooledBytes(cacheMaxBytes / POOLED_PART);
+    }
+
+
+    /**
+     * Allocates the buffer for the content of a resource. Doesn't need
+     * the cache monitor.
+     *
+     * @param length length of the content
+     * @return buffer with the limit set to the length, or null if there is
+     *  not enough direct memory
+     */
+    public ByteBuffer allocateContent(int length) {
+        return bufferPool.allocate(length);
+    }
+
+
+    /**
+     * Returns the buffer allocated by {@link #allocateContent(int)} to the pool.
+     * Doesn't need the cache monitor.
+     *
+     * @param buffer content buffer which is not used any more
+     */
+    public void releaseContent(ByteBuffer buffer) {
+        bufferPool.release(buffer);
+    }
+
+
+    /**
+     * Return the current cache size in KB.
+     */
+    @Override
+    public int getCacheSize() {
+        return (int) Math.min(Integer.MAX_VALUE, cacheBytes / 1024);
+    }
+
+
+    /**
+     * Return the current cache size in bytes.
+     */
+    public long getCacheBytes() {
+        return cacheBytes;
+    }
+
+
+    @Override
+    public boolean allocate(CacheEntry entry) {
+        return allocateBytes(sizeOf(entry));
+    }
+
+
+    @Override
+    public boolean allocate(int space) {
+        return allocateBytes(space * 1024L);
+    }
+
+
+    @Override
+    public CacheEntry lookup(String name) {
+        accessCount++;
+        SampledEntry sampledEntry = entries.get(name);
+        CacheEntry cacheEntry = sampledEntry == null ? notFoundEntries.get(name) : sampledEntry.entry;
+        if (cacheEntry != null) {
+            hitsCount++;
+        }
+        return cacheEntry;
+    }
+
+
+    @Override
+    public void load(CacheEntry entry) {
+        if (entry.exists) {
+            SampledEntry sampledEntry = new SampledEntry(entry, sampled.size());
+            if (entries.putIfAbsent(entry.name, sampledEntry) == null) {
+                sampled.add(sampledEntry);
+                cacheBytes += sizeOf(entry);
+            }
+        } else if (notFoundEntries.put(entry.name, entry) == null) {
+            cacheBytes += ENTRY_OVERHEAD;
+        }
+    }
+
+
+    @Override
+    public boolean unload(String name) {
+        SampledEntry removedEntry = entries.remove(name);
+        if (removedEntry != null) {
+            removeSampled(removedEntry);
+            cacheBytes -= sizeOf(removedEntry.entry);
+            if (removedEntry.entry.resource != null) {
+                removedEntry.entry.resource.releaseContentBuffer();
+            }
+            return true;
+        } else if (notFoundEntries.remove(name) != null) {
+            cacheBytes -= ENTRY_OVERHEAD;
+            return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Frees randomly selected entries which are not used frequently.
+     */
+    private boolean allocateBytes(long space) {
+        long toFree = space - (cacheMaxBytes - cacheBytes);
+        if (toFree <= 0) {
+            return true;
+        }
+
+        // Increase the amount to free so that allocate won't have to run right
+        // away again
+        toFree += cacheMaxBytes / 20;
+
+        int notFound = notFoundEntries.size();
+        if (notFound > spareNotFoundEntries) {
+            notFoundEntries.clear();
+            cacheBytes -= notFound * ENTRY_OVERHEAD;
+            toFree -= notFound * ENTRY_OVERHEAD;
+        }
+        if (toFree <= 0) {
+            return true;
+        }
+
+        List<CacheEntry> toRemove = new ArrayList<>();
+        long accesses = Math.max(1, accessCount);
+        for (int attempts = 0; toFree > 0; attempts++) {
+            if (attempts == maxAllocateIterations || toRemove.size() == sampled.size()) {
+                // Give up, no changes are made to the current cache
+                return false;
+            }
+            CacheEntry candidate = sampled.get(ThreadLocalRandom.current().nextInt(sampled.size())).entry;
+            if (!toRemove.contains(candidate)
+                && (candidate.accessCount * 100) / accesses < desiredEntryAccessRatio) {
+                toRemove.add(candidate);
+                toFree -= sizeOf(candidate);
+            }
+        }
+
+        for (CacheEntry entry : toRemove) {
+            unload(entry.name);
+        }
+        return true;
+    }
+
+
+    private void removeSampled(SampledEntry entry) {
+        // the order doesn't matter
+        SampledEntry last = sampled.remove(sampled.size() - 1);
+        if (last != entry) {
+            last.index = entry.index;
+            sampled.set(entry.index, last);
+        }
+    }
+
+
+    /**
+     * @return exact size of the cached content plus the estimated overhead
+     */
+    static long sizeOf(CacheEntry entry) {
+        long size = ENTRY_OVERHEAD;
+        if (entry.resource != null) {
+            if (entry.resource.getContent() != null) {
+                size += entry.resource.getContent().length;
+            } else {
+                size += entry.resource.getContentBufferCapacity();
+            }
+        }
+        return size;
+    }
+
+
+    /**
+     * Entry with its index in the sampled list, so it can be removed
+     * without searching the list.
+     */
+    private static final class SampledEntry {
+
+        private final CacheEntry entry;
+        private int index;
+
+        SampledEntry(CacheEntry entry, int index) {
+            this.entry = entry;
+            this.index = index;
+        }
+    }
+}
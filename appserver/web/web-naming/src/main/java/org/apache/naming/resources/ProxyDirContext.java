@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -18,9 +19,20 @@
 package org.apache.naming.resources;
 
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Hashtable;
 
 import javax.naming.Binding;
@@ -69,11 +81,17 @@ public class ProxyDirContext implements DirContext {
             // the caching policy.
             BaseDirContext baseDirContext = (BaseDirContext) dirContext;
             if (baseDirContext.isCached()) {
+                cacheOffHeap = baseDirContext.isCacheOffHeap();
+                if (cacheOffHeap) {
+                    cacheClassName = OffHeapResourceCache.class.getName();
+                }
                 cache = (ResourceCache)
                     Class.forName(cacheClassName).newInstance();
                 cache.setCacheMaxSize(baseDirContext.getCacheMaxSize());
                 cacheTTL = baseDirContext.getCacheTTL();
-                cacheObjectMaxSize = baseDirContext.getCacheMaxSize() / 20;
+                // Direct buffers don't burden the garbage collector,
+                // so they may take a bigger part of the cache
+                cacheObjectMaxSize = baseDirContext.getCacheMaxSize() / (cacheOffHeap ? 4 : 20);
             }
         }
         hostName = env.get(HOST);
@@ -127,6 +145,12 @@ public class ProxyDirContext implements DirContext {
     protected int cacheObjectMaxSize = 512; // 512 KB
 
 
+    /**
+     * Keep the cached content in direct buffers.
+     */
+    protected boolean cacheOffHeap = false;
+
+
     /**
      * Immutable name not found exception.
      */
@@ -1436,7 +1460,7 @@ public class ProxyDirContext implements DirContext {
         if (((!entry.exists)
              || (entry.context != null)
              || ((entry.resource != null)
-                 && (entry.resource.getContent() != null)))
+                 && (entry.resource.isContentLoaded())))
             && (System.currentTimeMillis() < entry.timestamp)) {
             return true;
         }
@@ -1522,7 +1546,7 @@ public class ProxyDirContext implements DirContext {
 
         // Load object content
         if ((exists) && (entry.resource != null)
-            && (entry.resource.getContent() == null)
+            && (!entry.resource.isContentLoaded())
             && (entry.attributes.getContentLength() >= 0)
             && (entry.attributes.getContentLength() <
                 (cacheObjectMaxSize * 1024L))) {
@@ -1533,15 +1557,29 @@ public class ProxyDirContext implements DirContext {
             InputStream is = null;
             try {
                 is = entry.resource.streamContent();
-                int pos = 0;
-                byte[] b = new byte[length];
-                while (pos < length) {
-                    int n = is.read(b, pos, length - pos);
-                    if (n < 0)
-                        break;
-                    pos = pos + n;
+                OffHeapResourceCache offHeapCache = cacheOffHeap && cache instanceof OffHeapResourceCache
+                    ? (OffHeapResourceCache) cache : null;
+                // Without enough direct memory the content is kept on the heap
+                ByteBuffer buffer = offHeapCache == null ? null : offHeapCache.allocateContent(length);
+                if (buffer != null) {
+                    try {
+                        readContentBuffer(entry.resource, is, buffer);
+                    } catch (IOException e) {
+                        offHeapCache.releaseContent(buffer);
+                        throw e;
+                    }
+                    entry.resource.setContent(buffer, offHeapCache::releaseContent);
+                } else {
+                    int pos = 0;
+                    byte[] b = new byte[length];
+                    while (pos < length) {
+                        int n = is.read(b, pos, length - pos);
+                        if (n < 0)
+                            break;
+                        pos = pos + n;
+                    }
+                    entry.resource.setContent(b);
                 }
-                entry.resource.setContent(b);
             } catch (IOException e) {
                 // Ignore
             } finally {
@@ -1563,7 +1601,7 @@ public class ProxyDirContext implements DirContext {
         // Add new entry to cache
         synchronized (cache) {
             // Check cache size, and remove elements if too big
-            if ((cache.lookup(name) == null) && cache.allocate(entry.size)) {
+            if ((cache.lookup(name) == null) && cache.allocate(entry)) {
                 cache.load(entry);
             }
         }
@@ -1571,6 +1609,61 @@ public class ProxyDirContext implements DirContext {
     }
 
 
+    /**
+     * Read the content to a direct buffer. Files are read by their
+     * channel, either of the file stream or of the file of the resource,
+     * without copying the content through the heap. Other streams are copied
+     * through a heap buffer of the stream channel.
+     *
+     * @param resource resource of the content
+     * @param is stream of the content
+     * @param buffer buffer with the limit set to the length of the content,
+     *  it is flipped after reading.
+     */
+    protected void readContentBuffer(Resource resource, InputStream is,
+        ByteBuffer buffer) throws IOException {
+        if (is instanceof FileInputStream) {
+            readFully(((FileInputStream) is).getChannel(), buffer);
+        } else {
+            Path file = getFile(resource);
+            if (file == null) {
+                readFully(Channels.newChannel(is), buffer);
+            } else {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    readFully(channel, buffer);
+                }
+            }
+        }
+        buffer.flip();
+    }
+
+
+    private static void readFully(ReadableByteChannel channel,
+        ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+    }
+
+
+    /**
+     * @return file of the resource, null if the resource is not a file
+     */
+    private static Path getFile(Resource resource) {
+        if (!(resource instanceof UrlResource)) {
+            return null;
+        }
+        try {
+            URL url = ((UrlResource) resource).getUrl();
+            return "file".equals(url.getProtocol()) ? Paths.get(url.toURI()) : null;
+        } catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+
     /**
      * Remove entry from cache.
      */
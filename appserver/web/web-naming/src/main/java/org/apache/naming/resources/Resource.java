@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -20,6 +21,9 @@ package org.apache.naming.resources;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Encapsultes the contents of a resource.
@@ -56,6 +60,25 @@ public class Resource {
     protected byte[] binaryContent = null;
 
 
+    /**
+     * Binary content kept off the Java heap.
+     */
+    protected ByteBuffer contentBuffer = null;
+
+
+    /**
+     * Receives the content buffer when nobody uses it any more.
+     */
+    private Consumer<ByteBuffer> contentBufferRecycler = null;
+
+
+    /**
+     * Count of users of the content buffer, including this resource.
+     * Zero if there is no buffer or it was released.
+     */
+    private final AtomicInteger contentBufferUsers = new AtomicInteger();
+
+
     /**
      * Input stream.
      */
@@ -72,10 +95,29 @@ public class Resource {
      */
     public InputStream streamContent()
         throws IOException {
+        InputStream loadedContent = streamLoadedContent();
+        if (loadedContent != null) {
+            return loadedContent;
+        }
+        return inputStream;
+    }
+
+
+    /**
+     * Content accessor.
+     *
+     * @return InputStream of the content loaded to the memory or null if
+     *  the content is not loaded. The stream must be closed.
+     */
+    protected InputStream streamLoadedContent() {
         if (binaryContent != null) {
             return new ByteArrayInputStream(binaryContent);
         }
-        return inputStream;
+        ByteBuffer buffer = acquireContentBuffer();
+        if (buffer != null) {
+            return new ByteBufferInputStream(buffer);
+        }
+        return null;
     }
 
 
@@ -89,6 +131,63 @@ public class Resource {
     }
 
 
+    /**
+     * Content accessor. The content buffer must be released by
+     * {@link #releaseContentBuffer()} when it is not used any more.
+     *
+     * @return read only view of the content buffer with its own position,
+     *  or null if the content is not kept in a buffer
+     */
+    public ByteBuffer acquireContentBuffer() {
+        while (true) {
+            int users = contentBufferUsers.get();
+            if (users == 0) {
+                return null;
+            }
+            if (contentBufferUsers.compareAndSet(users, users + 1)) {
+                return contentBuffer.asReadOnlyBuffer();
+            }
+        }
+    }
+
+
+    /**
+     * Releases the content buffer acquired by {@link #acquireContentBuffer()}.
+     * The resource releases its own use of the buffer when it is not cached
+     * any more. The last release passes the buffer to its recycler.
+     */
+    public void releaseContentBuffer() {
+        while (true) {
+            int users = contentBufferUsers.get();
+            if (users == 0) {
+                return;
+            }
+            if (contentBufferUsers.compareAndSet(users, users - 1)) {
+                if (users == 1 && contentBufferRecycler != null) {
+                    contentBufferRecycler.accept(contentBuffer);
+                }
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * @return capacity of the content buffer or 0 if there is no buffer
+     */
+    public int getContentBufferCapacity() {
+        return contentBuffer == null ? 0 : contentBuffer.capacity();
+    }
+
+
+    /**
+     * @return true if the content was loaded to the memory
+     */
+    public boolean isContentLoaded() {
+        return binaryContent != null || contentBufferUsers.get() > 0;
+    }
+
+
     /**
      * Content mutator.
      *
@@ -109,4 +208,84 @@ public class Resource {
     }
 
 
+    /**
+     * Content mutator.
+     *
+     * @param contentBuffer New content buffer, usually a direct one
+     */
+    public void setContent(ByteBuffer contentBuffer) {
+        setContent(contentBuffer, null);
+    }
+
+
+    /**
+     * Content mutator.
+     *
+     * @param contentBuffer New content buffer, usually a direct one
+     * @param recycler receives the buffer when it was released by all users,
+     *  can be null
+     */
+    public void setContent(ByteBuffer contentBuffer, Consumer<ByteBuffer> recycler) {
+        this.contentBuffer = contentBuffer;
+        this.contentBufferRecycler = recycler;
+        this.contentBufferUsers.set(contentBuffer == null ? 0 : 1);
+    }
+
+
+    /**
+     * Stream of the content buffer, releases the buffer when closed.
+     */
+    private final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+        private boolean closed;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                buffer.position(buffer.limit());
+                releaseContentBuffer();
+            }
+        }
+
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  * Copyright (c) 2021 Contributors to the Eclipse Foundation
@@ -200,6 +201,16 @@ public class ResourceCache {
     // --------------------------------------------------------- Public Methods
 
 
+    /**
+     * Makes space for the entry which is going to be loaded.
+     *
+     * @return false if there is not enough space for the entry
+     */
+    public boolean allocate(CacheEntry entry) {
+        return allocate(entry.size);
+    }
+
+
     public boolean allocate(int space) {
 
         int toFree = space - (cacheMaxSize - cacheSize);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -969,16 +970,17 @@ public class WARDirContext extends BaseDirContext {
          */
         public InputStream streamContent()
             throws IOException {
+            InputStream loadedContent = streamLoadedContent();
+            if (loadedContent != null) {
+                return loadedContent;
+            }
             try {
-                if (binaryContent == null) {
-                    InputStream is = base.getInputStream(entry);
-                    inputStream = is;
-                    return is;
-                }
+                InputStream is = base.getInputStream(entry);
+                inputStream = is;
+                return is;
             } catch (ZipException e) {
                 throw new IOException(e.getMessage());
             }
-            return super.streamContent();
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2023, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2013-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -470,12 +470,13 @@ public class WebDirContext extends FileDirContext {
         @Override
         public InputStream streamContent()
             throws IOException {
-            if (binaryContent == null) {
-                InputStream jin = jarFile.getInputStream(jarEntry);
-                inputStream = jin;
-                return jin;
+            InputStream loadedContent = streamLoadedContent();
+            if (loadedContent != null) {
+                return loadedContent;
             }
-            return super.streamContent();
+            InputStream jin = jarFile.getInputStream(jarEntry);
+            inputStream = jin;
+            return jin;
         }
 
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.apache.naming.resources;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.apache.naming.resources.OffHeapResourceCache.ENTRY_OVERHEAD;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapResourceCacheTest {
+
+    private static final int CONTENT_LENGTH = 3000;
+    private static final int CAPACITY = 4096;
+
+    private final OffHeapResourceCache cache = new OffHeapResourceCache();
+
+    @Test
+    public void loadAndUnload() {
+        final CacheEntry entry = createEntry("/index.html");
+        assertTrue(cache.allocate(entry));
+        cache.load(entry);
+        assertAll(
+            () -> assertSame(entry, cache.lookup("/index.html")),
+            () -> assertEquals(ENTRY_OVERHEAD + CAPACITY, cache.getCacheBytes())
+        );
+        assertTrue(cache.unload("/index.html"));
+        assertAll(
+            () -> assertNull(cache.lookup("/index.html")),
+            () -> assertEquals(0L, cache.getCacheBytes()),
+            () -> assertFalse(cache.unload("/index.html"))
+        );
+    }
+
+
+    @Test
+    public void notFoundEntry() {
+        final CacheEntry entry = new CacheEntry();
+        entry.name = "/missing.html";
+        entry.exists = false;
+        cache.load(entry);
+        assertAll(
+            () -> assertSame(entry, cache.lookup("/missing.html")),
+            () -> assertEquals(ENTRY_OVERHEAD, cache.getCacheBytes())
+        );
+        assertTrue(cache.unload("/missing.html"));
+        assertEquals(0L, cache.getCacheBytes());
+    }
+
+
+    @Test
+    public void unloadedBufferIsReused() {
+        final CacheEntry entry = createEntry("/index.html");
+        cache.load(entry);
+        cache.unload("/index.html");
+        final ByteBuffer reused = cache.allocateContent(CONTENT_LENGTH - 1);
+        assertAll(
+            () -> assertFalse(entry.resource.isContentLoaded()),
+            () -> assertSame(unwrap(entry), reused),
+            () -> assertEquals(0, reused.position()),
+            () -> assertEquals(CONTENT_LENGTH - 1, reused.limit()),
+            () -> assertTrue(reused.isDirect())
+        );
+    }
+
+
+    @Test
+    public void bufferInUseIsNotReused() throws Exception {
+        final CacheEntry entry = createEntry("/index.html");
+        cache.load(entry);
+        final ByteBuffer used = entry.resource.acquireContentBuffer();
+        cache.unload("/index.html");
+        final ByteBuffer other = cache.allocateContent(CONTENT_LENGTH);
+        assertNotSame(unwrap(entry), other);
+        assertEquals(CONTENT_LENGTH, used.remaining(), "the buffer is still readable");
+
+        entry.resource.releaseContentBuffer();
+        assertSame(unwrap(entry), cache.allocateContent(CONTENT_LENGTH));
+    }
+
+
+    @Test
+    public void evictsRarelyUsedEntries() {
+        cache.setCacheMaxSize(64);
+        final CacheEntry hot = createEntry("/hot.html");
+        hot.accessCount = 1_000_000L;
+        cache.load(hot);
+        final int count = (int) (64 * 1024 / (ENTRY_OVERHEAD + CAPACITY));
+        for (int i = 1; i < count; i++) {
+            cache.load(createEntry("/cold" + i + ".html"));
+        }
+        final long full = cache.getCacheBytes();
+        final CacheEntry entry = createEntry("/new.html");
+        assertTrue(cache.allocate(entry));
+        cache.load(entry);
+        assertAll(
+            () -> assertTrue(cache.getCacheBytes() < full, "entries were evicted"),
+            () -> assertTrue(cache.getCacheBytes() <= 64 * 1024),
+            () -> assertSame(hot, cache.lookup("/hot.html")),
+            () -> assertSame(entry, cache.lookup("/new.html"))
+        );
+    }
+
+
+    @Test
+    public void unloadInAnyOrder() {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            names.add("/" + i + ".html");
+            cache.load(createEntry(names.get(i)));
+        }
+        Collections.shuffle(names);
+        for (String name : names.subList(0, 50)) {
+            assertTrue(cache.unload(name), name);
+        }
+        for (String name : names.subList(50, 100)) {
+            assertNotNull(cache.lookup(name), name);
+            assertTrue(cache.unload(name), name);
+        }
+        assertEquals(0L, cache.getCacheBytes());
+    }
+
+
+    private CacheEntry createEntry(final String name) {
+        final ByteBuffer buffer = cache.allocateContent(CONTENT_LENGTH);
+        buffer.put(new byte[CONTENT_LENGTH]).flip();
+        final CacheEntry entry = new CacheEntry();
+        entry.name = name;
+        entry.resource = new Resource();
+        entry.resource.setContent(buffer, cache::releaseContent);
+        return entry;
+    }
+
+
+    private static ByteBuffer unwrap(final CacheEntry entry) {
+        return entry.resource.contentBuffer;
+    }
+}
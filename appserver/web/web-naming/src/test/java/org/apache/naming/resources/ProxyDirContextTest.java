@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.apache.naming.resources;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Hashtable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class ProxyDirContextTest {
+
+    private static final byte[] CONTENT = "Hello, off-heap world!".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    File tempDir;
+
+    private File file;
+    private ProxyDirContext context;
+
+    @BeforeEach
+    public void createFile() throws Exception {
+        file = new File(tempDir, "hello.txt");
+        Files.write(file.toPath(), CONTENT);
+        context = new ProxyDirContext(new Hashtable<>(), null);
+    }
+
+    @Test
+    public void readFileStream() throws Exception {
+        try (InputStream stream = new FileInputStream(file)) {
+            assertContent(readContentBuffer(new Resource(), stream));
+        }
+    }
+
+    @Test
+    public void readFileOfResource() throws Exception {
+        FileDirContext.FileResource resource = new FileDirContext.FileResource(file);
+        try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+            assertContent(readContentBuffer(resource, stream));
+        }
+    }
+
+    @Test
+    public void readOtherStream() throws Exception {
+        try (InputStream stream = new ByteArrayInputStream(CONTENT)) {
+            assertContent(readContentBuffer(new Resource(), stream));
+        }
+    }
+
+    private ByteBuffer readContentBuffer(Resource resource, InputStream stream) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        buffer.limit(CONTENT.length);
+        context.readContentBuffer(resource, stream, buffer);
+        return buffer;
+    }
+
+    private static void assertContent(ByteBuffer buffer) {
+        byte[] content = new byte[buffer.remaining()];
+        buffer.get(content);
+        assertArrayEquals(CONTENT, content);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.apache.naming.resources;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResourceTest {
+
+    private static final byte[] CONTENT = "Hello, off-heap world!".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void streamContentBuffer() throws Exception {
+        final Resource resource = new Resource();
+        resource.setContent(directBuffer());
+        try (InputStream stream = resource.streamContent()) {
+            assertAll(
+                () -> assertEquals(CONTENT.length, stream.available()),
+                () -> assertEquals('H', stream.read()),
+                () -> assertEquals(5, stream.skip(5)),
+                () -> assertEquals(0, stream.read(new byte[4], 0, 0))
+            );
+            final byte[] rest = new byte[64];
+            final int count = stream.read(rest, 0, rest.length);
+            assertAll(
+                () -> assertEquals(CONTENT.length - 6, count),
+                () -> assertEquals(" off-heap world!", new String(rest, 0, count, StandardCharsets.US_ASCII)),
+                () -> assertEquals(-1, stream.read()),
+                () -> assertEquals(-1, stream.read(rest, 0, rest.length)),
+                () -> assertEquals(0, stream.skip(10))
+            );
+        }
+        try (InputStream stream = resource.streamContent()) {
+            assertArrayEquals(CONTENT, stream.readAllBytes(), "every stream has its own position");
+        }
+    }
+
+
+    @Test
+    public void releaseAfterLastUser() throws Exception {
+        final List<ByteBuffer> recycled = new ArrayList<>();
+        final ByteBuffer buffer = directBuffer();
+        final Resource resource = new Resource();
+        resource.setContent(buffer, recycled::add);
+        final InputStream stream = resource.streamContent();
+        final ByteBuffer view = resource.acquireContentBuffer();
+        assertTrue(view.isReadOnly());
+
+        resource.releaseContentBuffer();
+        stream.close();
+        assertAll(
+            () -> assertThat(recycled, empty()),
+            () -> assertTrue(resource.isContentLoaded())
+        );
+        resource.releaseContentBuffer();
+        assertAll(
+            () -> assertThat(recycled, contains(buffer)),
+            () -> assertFalse(resource.isContentLoaded()),
+            () -> assertNull(resource.acquireContentBuffer()),
+            () -> assertEquals(-1, stream.read(), "closed stream doesn't read the released buffer")
+        );
+        stream.close();
+        resource.releaseContentBuffer();
+        assertThat("released just once", recycled, contains(buffer));
+    }
+
+
+    @Test
+    public void binaryContentHasPriority() throws Exception {
+        final Resource resource = new Resource(CONTENT);
+        assertAll(
+            () -> assertTrue(resource.isContentLoaded()),
+            () -> assertNull(resource.acquireContentBuffer())
+        );
+        try (InputStream stream = resource.streamContent()) {
+            assertArrayEquals(CONTENT, stream.readAllBytes());
+        }
+    }
+
+
+    private static ByteBuffer directBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(CONTENT.length);
+        buffer.put(CONTENT).flip();
+        return buffer;
+    }
+}
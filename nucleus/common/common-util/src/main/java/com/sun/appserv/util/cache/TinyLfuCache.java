@@ -0,0 +1,852 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.appserv.util.cache;
+
+import com.sun.enterprise.util.CULoggerInfo;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TinyLfuCache
+ * in-memory bounded cache with the W-TinyLFU eviction policy.
+ * <p>
+ * Reads don't take any lock: the entry is looked up in a {@link ConcurrentHashMap} and
+ * the access is recorded to a lossy striped buffer, which is replayed to the eviction policy
+ * in batches. New entries are admitted to a small LRU window; entries leaving the window
+ * compete with the eviction victim of the main segmented LRU space by their estimated
+ * access frequency, so a burst of one-time requests doesn't flush the frequently used
+ * entries as it does in the {@link LruCache}.
+ * <p>
+ * It can be used instead of the {@link LruCache} by the cache class name, ie. the
+ * <code>cacheClassName</code> property of the servlet cache. Keys are single valued,
+ * <code>add</code> replaces the value as <code>put</code> does.
+ */
+public class TinyLfuCache implements Cache {
+
+    /** Maximal count of locks used by waitRefresh and notifyRefresh */
+    private static final int MAX_REFRESH_LOCKS = 1024;
+    private static final int MAX_READ_BUFFERS = 64;
+
+    // maximum number of entries this cache may ever hold
+    private int maxEntries;
+    private int maxWindow;
+    private int maxProtected;
+
+    private ConcurrentHashMap<Object, Node> data;
+
+    // eviction policy guarded by the evictionLock
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AccessOrderList window = new AccessOrderList();
+    private final AccessOrderList probation = new AccessOrderList();
+    private final AccessOrderList protectedList = new AccessOrderList();
+    private FrequencySketch sketch;
+    private ReadBuffer[] readBuffers;
+    private int readBufferMask;
+
+    // locks for item thread-safe refreshes
+    private Object[] refreshLocks;
+    private boolean[] refreshFlags;
+
+    private final List<CacheListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder removalCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder addCount = new LongAdder();
+    private final LongAdder trimCount = new LongAdder();
+
+    /**
+     * default constructor
+     */
+    public TinyLfuCache() { }
+
+    /**
+     * initialize the cache
+     * @param maxEntries maximum number of entries expected in the cache
+     * @param props opaque list of properties for a given cache implementation
+     * @throws a generic Exception if the initialization failed
+     */
+    @Override
+    public void init(int maxEntries, Properties props) throws Exception {
+        init(maxEntries, BaseCache.DEFAULT_LOAD_FACTOR, props);
+    }
+
+    /**
+     * initialize the cache
+     * @param maxEntries maximum number of entries expected in the cache
+     * @param loadFactor ignored, the cache never exceeds the maxEntries
+     * @param props opaque list of properties for a given cache implementation
+     * @throws a generic Exception if the initialization failed
+     */
+    @Override
+    public void init(int maxEntries, float loadFactor, Properties props) {
+        if (maxEntries <= 0) {
+            String msg = CULoggerInfo.getString(CULoggerInfo.illegalMaxEntries);
+            throw new IllegalArgumentException(MessageFormat.format(msg, maxEntries));
+        }
+        if (maxEntries > BaseCache.MAX_ENTRIES) {
+            maxEntries = BaseCache.MAX_ENTRIES;
+        }
+        this.maxEntries = maxEntries;
+        // 1% for the window, 80% of the rest for the protected segment
+        this.maxWindow = Math.max(1, maxEntries / 100);
+        this.maxProtected = (int) ((maxEntries - maxWindow) * 0.8f);
+
+        this.data = new ConcurrentHashMap<>(Math.min(maxEntries, 1024));
+        this.sketch = new FrequencySketch(maxEntries);
+
+        int readBufferCount = 1;
+        while (readBufferCount < Runtime.getRuntime().availableProcessors() && readBufferCount < MAX_READ_BUFFERS) {
+            readBufferCount <<= 1;
+        }
+        this.readBuffers = new ReadBuffer[readBufferCount];
+        for (int i = 0; i < readBufferCount; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+        this.readBufferMask = readBufferCount - 1;
+
+        int refreshLockCount = 1;
+        while (refreshLockCount < maxEntries && refreshLockCount < MAX_REFRESH_LOCKS) {
+            refreshLockCount <<= 1;
+        }
+        this.refreshLocks = new Object[refreshLockCount];
+        for (int i = 0; i < refreshLockCount; i++) {
+            refreshLocks[i] = new Object();
+        }
+        this.refreshFlags = new boolean[refreshLockCount];
+    }
+
+    /**
+     * add the cache module listener
+     * @param listener <code>CacheListener</code> implementation
+     */
+    @Override
+    public void addCacheListener(CacheListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * get the index of the item given a key
+     * @param key of the entry
+     * @return the index to be used in the cache
+     */
+    @Override
+    public int getIndex(Object key) {
+        return spread(key.hashCode()) & (refreshLocks.length - 1);
+    }
+
+    /**
+     * get the item stored at the key.
+     * @param key lookup key
+     * @returns the item stored at the key; null if not found.
+     */
+    @Override
+    public Object get(Object key) {
+        Node node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    /**
+     * get all the items stored at the key.
+     * @param key lookup key
+     * @returns an Iterator over the items with the given key.
+     */
+    @Override
+    public Iterator getAll(Object key) {
+        Object value = get(key);
+        if (value == null) {
+            return Collections.emptyIterator();
+        }
+        return Collections.singletonList(value).iterator();
+    }
+
+    /**
+     * check if the cache contains the item at the key
+     * @param key lookup key
+     * @returns true if there is an item stored at the key; false if not.
+     */
+    @Override
+    public boolean contains(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * get an Iterator for the keys stored in the cache
+     * @returns an Iterator
+     */
+    @Override
+    public Iterator keys() {
+        return new ArrayList<>(data.keySet()).iterator();
+    }
+
+    /**
+     * get an Enumeration for the keys stored in the cache
+     * @returns an Enumeration
+     */
+    @Override
+    public Enumeration elements() {
+        return Collections.enumeration(new ArrayList<>(data.keySet()));
+    }
+
+    /**
+     * get an Iterator for the values stored in the cache
+     * @returns an Iterator
+     */
+    @Override
+    public Iterator values() {
+        List<Object> values = new ArrayList<>(data.size());
+        for (Node node : data.values()) {
+            values.add(node.value);
+        }
+        return values.iterator();
+    }
+
+    /**
+     * cache the given value at the specified key and return previous value
+     * @param key lookup key
+     * @param object item value to be stored
+     * @returns the previous item stored at the key; null if not found.
+     */
+    @Override
+    public Object put(Object key, Object value) {
+        return put(key, value, -1);
+    }
+
+    /**
+     * cache the given value at the specified key and return previous value
+     * @param key lookup key
+     * @param object item value to be stored
+     * @param size in bytes of the value being cached
+     * @returns the previous item stored at the key; null if not found.
+     */
+    @Override
+    public Object put(Object key, Object value, int size) {
+        Node added = new Node(key, value, size);
+        Object[] oldValue = new Object[1];
+        Node node = data.compute(key, (k, prior) -> {
+            if (prior == null) {
+                return added;
+            }
+            oldValue[0] = prior.value;
+            prior.value = value;
+            prior.size = size;
+            return prior;
+        });
+
+        if (node == added) {
+            addCount.increment();
+            afterWrite(added);
+        } else {
+            refreshCount.increment();
+            afterRead(node);
+        }
+        return oldValue[0];
+    }
+
+    /**
+     * add the given value to the cache at the specified key
+     * @param key lookup key
+     * @param object item value to be stored
+     *
+     * Keys are single valued, so the value replaces the previous one.
+     */
+    @Override
+    public void add(Object key, Object value) {
+        put(key, value, -1);
+    }
+
+    /**
+     * add the given value with specified size to the cache at specified key
+     * @param key lookup key
+     * @param object item value to be stored
+     * @param size in bytes of the value being added
+     *
+     * Keys are single valued, so the value replaces the previous one.
+     */
+    @Override
+    public void add(Object key, Object value, int size) {
+        put(key, value, size);
+    }
+
+    /**
+     * remove the item stored at the key.
+     * @param key lookup key
+     * @returns the item stored at the key; null if not found.
+     */
+    @Override
+    public Object remove(Object key) {
+        Node removed = data.remove(key);
+        return afterRemove(removed);
+    }
+
+    /**
+     * remove the given value stored at the key; value-specific removals.
+     * @param key lookup key
+     * @param value to match
+     * @returns the item stored at the key; null if not found.
+     */
+    @Override
+    public Object remove(Object key, Object value) {
+        if (value == null) {
+            return remove(key);
+        }
+        Node[] removed = new Node[1];
+        data.computeIfPresent(key, (k, node) -> {
+            if (node.value == value) {
+                removed[0] = node;
+                return null;
+            }
+            return node;
+        });
+        return afterRemove(removed[0]);
+    }
+
+    /**
+     * remove all the item with the given key.
+     * @param key lookup key
+     */
+    @Override
+    public void removeAll(Object key) {
+        remove(key);
+    }
+
+    /**
+     * wait for a refresh on the object associated with the key
+     * @param index index of the entry
+     * @returns true on successful notification, or false if there is
+     *  no thread refreshing this entry.
+     */
+    @Override
+    public boolean waitRefresh(int index) {
+        synchronized (refreshLocks[index]) {
+            if (!refreshFlags[index]) {
+                refreshFlags[index] = true;
+                return false;
+            }
+
+            // wait till refresh is finished
+            try {
+                while (refreshFlags[index]) {
+                    refreshLocks[index].wait();
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * notify threads waiting for a refresh on the object associated with the key
+     * @param index index of the entry
+     */
+    @Override
+    public void notifyRefresh(int index) {
+        synchronized (refreshLocks[index]) {
+            refreshFlags[index] = false;
+            refreshLocks[index].notifyAll();
+        }
+    }
+
+    /**
+     * clear all the entries from the cache.
+     * @returns the number of entries cleared from the cache
+     */
+    @Override
+    public int clear() {
+        int count = 0;
+        evictionLock.lock();
+        try {
+            for (ReadBuffer buffer : readBuffers) {
+                buffer.drain(null);
+            }
+            for (Map.Entry<Object, Node> entry : data.entrySet()) {
+                if (data.remove(entry.getKey(), entry.getValue())) {
+                    count++;
+                }
+            }
+            window.clear();
+            probation.clear();
+            protectedList.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+        return count;
+    }
+
+    /**
+     * trim the expired entries from the cache.
+     * @param maxCount maximum number of invalid entries to trim
+     *
+     * Entries of this cache don't expire.
+     */
+    @Override
+    public void trimExpiredEntries(int maxCount) {
+    }
+
+    /**
+     * is this cache empty?
+     * @returns true if the cache is empty; false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    /**
+     * get the number of entries in the cache
+     * @return the number of entries the cache currently holds
+     */
+    @Override
+    public int getEntryCount() {
+        return data.size();
+    }
+
+    /**
+     * get the desired statistic counter
+     * @param key to corresponding stat
+     * @return an Object corresponding to the stat
+     * See also: Constant.java for the key
+     */
+    @Override
+    public Object getStatByName(String key) {
+        if (key == null) {
+            return null;
+        }
+        return getStats().get(key);
+    }
+
+    /**
+     * get the stats snapshot
+     * @return a Map of stats
+     * See also: Constant.java for the keys
+     */
+    @Override
+    public Map getStats() {
+        HashMap<String, Object> stats = new HashMap<>();
+        stats.put(Constants.STAT_BASECACHE_MAX_ENTRIES, maxEntries);
+        stats.put(Constants.STAT_BASECACHE_THRESHOLD, maxEntries);
+        stats.put(Constants.STAT_BASECACHE_TABLE_SIZE, refreshLocks.length);
+        stats.put(Constants.STAT_BASECACHE_ENTRY_COUNT, data.size());
+        stats.put(Constants.STAT_BASECACHE_HIT_COUNT, hitCount.intValue());
+        stats.put(Constants.STAT_BASECACHE_MISS_COUNT, missCount.intValue());
+        stats.put(Constants.STAT_BASECACHE_REMOVAL_COUNT, removalCount.intValue());
+        stats.put(Constants.STAT_BASECACHE_REFRESH_COUNT, refreshCount.intValue());
+        stats.put(Constants.STAT_BASECACHE_OVERFLOW_COUNT, 0);
+        stats.put(Constants.STAT_BASECACHE_ADD_COUNT, addCount.intValue());
+        stats.put(Constants.STAT_TINYLFUCACHE_TRIM_COUNT, trimCount.intValue());
+        return stats;
+    }
+
+    /**
+     * clear all stats
+     */
+    @Override
+    public void clearStats() {
+        hitCount.reset();
+        missCount.reset();
+        removalCount.reset();
+        refreshCount.reset();
+        addCount.reset();
+        trimCount.reset();
+    }
+
+    /**
+     * Destroys this cache.
+     */
+    @Override
+    public void destroy() {
+        if (data != null) {
+            clear();
+        }
+        listeners.clear();
+    }
+
+    private void afterRead(Node node) {
+        ReadBuffer buffer = readBuffers[(int) Thread.currentThread().getId() & readBufferMask];
+        if (!buffer.offer(node) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(Node node) {
+        List<Node> evicted = new ArrayList<>(1);
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            // the node might have been removed before we got the lock
+            if (data.get(node.key) == node) {
+                sketch.increment(node.key);
+                node.queue = Node.WINDOW;
+                window.addLast(node);
+                evict(evicted);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        for (Node trimmed : evicted) {
+            trimCount.increment();
+            for (CacheListener listener : listeners) {
+                listener.trimEvent(trimmed.key, trimmed.value);
+            }
+        }
+    }
+
+    private Object afterRemove(Node removed) {
+        if (removed == null) {
+            missCount.increment();
+            return null;
+        }
+        removalCount.increment();
+        hitCount.increment();
+        evictionLock.lock();
+        try {
+            unlink(removed);
+        } finally {
+            evictionLock.unlock();
+        }
+        return removed.value;
+    }
+
+    /**
+     * Moves the window overflow to the main space, or evicts it if it is used less
+     * often than the victim of the main space.
+     *
+     * The evictionLock is held by the caller.
+     */
+    private void evict(List<Node> evicted) {
+        while (window.size > maxWindow) {
+            Node candidate = window.removeFirst();
+            if (probation.size + protectedList.size < maxEntries - maxWindow) {
+                candidate.queue = Node.PROBATION;
+                probation.addLast(candidate);
+                continue;
+            }
+            Node victim = probation.size > 0 ? probation.first() : protectedList.first();
+            if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                candidate.queue = Node.PROBATION;
+                probation.addLast(candidate);
+                candidate = victim;
+                unlink(victim);
+            } else {
+                candidate.queue = Node.NONE;
+            }
+            if (data.remove(candidate.key, candidate)) {
+                evicted.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * The evictionLock is held by the caller.
+     */
+    private void drainReadBuffers() {
+        for (ReadBuffer buffer : readBuffers) {
+            buffer.drain(this);
+        }
+    }
+
+    /**
+     * Replays the access to the eviction policy.
+     *
+     * The evictionLock is held by the caller.
+     */
+    private void onAccess(Node node) {
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case Node.WINDOW:
+                window.moveToLast(node);
+                break;
+            case Node.PROBATION:
+                probation.remove(node);
+                node.queue = Node.PROTECTED;
+                protectedList.addLast(node);
+                if (protectedList.size > maxProtected) {
+                    Node demoted = protectedList.removeFirst();
+                    demoted.queue = Node.PROBATION;
+                    probation.addLast(demoted);
+                }
+                break;
+            case Node.PROTECTED:
+                protectedList.moveToLast(node);
+                break;
+            default:
+                // removed or not linked yet
+                break;
+        }
+    }
+
+    /**
+     * The evictionLock is held by the caller.
+     */
+    private void unlink(Node node) {
+        switch (node.queue) {
+            case Node.WINDOW:
+                window.remove(node);
+                break;
+            case Node.PROBATION:
+                probation.remove(node);
+                break;
+            case Node.PROTECTED:
+                protectedList.remove(node);
+                break;
+            default:
+                break;
+        }
+        node.queue = Node.NONE;
+    }
+
+    private static int spread(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /** cache entry, links are guarded by the evictionLock */
+    static final class Node {
+        static final int NONE = 0;
+        static final int WINDOW = 1;
+        static final int PROBATION = 2;
+        static final int PROTECTED = 3;
+
+        final Object key;
+        volatile Object value;
+        volatile int size;
+
+        int queue;
+        Node prev;
+        Node next;
+
+        Node(Object key, Object value, int size) {
+            this.key = key;
+            this.value = value;
+            this.size = size;
+        }
+    }
+
+    /** doubly linked list, the first node is the least recently used one */
+    private static final class AccessOrderList {
+        private Node head;
+        private Node tail;
+        private int size;
+
+        Node first() {
+            return head;
+        }
+
+        void addLast(Node node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        Node removeFirst() {
+            Node node = head;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void remove(Node node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToLast(Node node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            for (Node node = head; node != null;) {
+                Node next = node.next;
+                node.queue = Node.NONE;
+                node.prev = null;
+                node.next = null;
+                node = next;
+            }
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * Lossy buffer of accessed nodes. Any thread may offer, only the holder
+     * of the evictionLock drains. Accesses are dropped when the buffer is full
+     * or on contention, it doesn't matter for the frequency estimation.
+     */
+    private static final class ReadBuffer {
+        private static final int SIZE = 16;
+        private static final int MASK = SIZE - 1;
+
+        private final AtomicReferenceArray<Node> buffer = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        /**
+         * @return false if the buffer is full and should be drained
+         */
+        boolean offer(Node node) {
+            long tail = writeCounter.get();
+            if (tail - readCounter >= SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & MASK), node);
+            }
+            return true;
+        }
+
+        /**
+         * @param cache the cache to replay the access to, null to discard nodes
+         */
+        void drain(TinyLfuCache cache) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & MASK);
+                Node node = buffer.get(index);
+                if (node == null) {
+                    // the writer didn't finish yet
+                    break;
+                }
+                buffer.lazySet(index, null);
+                if (cache != null) {
+                    cache.onAccess(node);
+                }
+            }
+            readCounter = head;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters estimating how often keys were used recently.
+     * Counters are halved periodically, so the history ages.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int size;
+
+        FrequencySketch(int maxEntries) {
+            int length = 16;
+            while (length < maxEntries && length < (1 << 26)) {
+                length <<= 1;
+            }
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = (int) Math.min(10L * maxEntries, Integer.MAX_VALUE);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), start + i);
+            }
+            if (added && ++size >= sampleSize) {
+                reset();
+            }
+        }
+
+        private boolean incrementAt(int index, int counter) {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            size >>>= 1;
+        }
+    }
+}
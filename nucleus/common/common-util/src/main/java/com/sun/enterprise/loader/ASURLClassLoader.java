@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2006, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -53,12 +53,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -101,6 +104,31 @@ public class ASURLClassLoader extends GlassfishUrlClassLoader
     /** cache of not found classes */
     private final Map<String, String> notFoundClasses = new ConcurrentHashMap<>();
 
+    /**
+     * Directory of the entry path mapped to url entries which can contain it, in the order of
+     * the 'urlSet'. Directory url entries are present in every list, because their content can change.
+     * Guarded by 'this', built on the first lookup, null when invalidated.
+     */
+    private Map<String, List<URLEntry>> packageIndex;
+
+    /** url entries which are directories, used for paths not present in the 'packageIndex' */
+    private List<URLEntry> directoryEntries;
+
+    /** count of class and resource lookups, for diagnostics */
+    private final LongAdder lookups = new LongAdder();
+
+    /** count of url entry lookups done to find classes and resources, for diagnostics */
+    private final LongAdder urlEntryProbes = new LongAdder();
+
+    /** file of the persistent index of this class loader, null if the index should not be persisted */
+    private File indexFile;
+
+    /** index loaded from or to be stored to the 'indexFile', guarded by 'this' */
+    private ClassLoaderIndex storedIndex;
+
+    /** true if the 'storedIndex' differs from the content of the 'indexFile', guarded by 'this' */
+    private boolean storedIndexChanged;
+
     /**
      * State flag to track whether this instance has been shut off.
      * Note: 'volatile' *does not by itself eliminate a race condition* similar
@@ -213,9 +241,18 @@ public class ASURLClassLoader extends GlassfishUrlClassLoader
                 u = null;
             }
 
+            _logger.log(Level.FINE, "Class and resource lookups: {0}, url entry lookups: {1}",
+                new Object[] {lookups.sum(), urlEntryProbes.sum()});
+            if (storedIndexChanged) {
+                storedIndex.store(indexFile);
+                storedIndex.dumpSharedArchive(indexFile);
+                storedIndexChanged = false;
+            }
+
             // clears out the tables
             // Clear all values. Because fields are 'final' (for thread safety), cannot null them
             this.urlSet.clear();
+            invalidatePackageIndex();
             this.notFoundResources.clear();
             this.notFoundClasses.clear();
         }
@@ -290,6 +327,7 @@ public class ASURLClassLoader extends GlassfishUrlClassLoader
 
             // clears the "not found" cache since we are adding a new url
             clearNotFoundCaches();
+            invalidatePackageIndex();
         } catch (IOException ioe) {
             _logger.log(Level.SEVERE, CULoggerInfo.getString(CULoggerInfo.badUrlEntry, url), ioe);
         }
@@ -356,6 +394,7 @@ public class ASURLClassLoader extends GlassfishUrlClassLoader
      */
     public synchronized void refresh() throws IOException {
         clearNotFoundCaches();
+        invalidatePackageIndex();
     }
 
 
@@ -389,6 +428,145 @@ public class ASURLClassLoader extends GlassfishUrlClassLoader
     }
 
 
+    /**
+     * Enables the persistent index of entries of this class loader and names of classes loaded by it.
+     * The index is loaded from the file, if it is valid for url entries of this class loader,
+     * so jar files don't have to be scanned. The index is stored when this class loader is
+     * closed, if it was changed.
+     *
+     * @param indexFile file of the index, usually in generated artifacts of the application
+     */
+    public synchronized void setIndexFile(File indexFile) {
+        this.indexFile = indexFile;
+        invalidatePackageIndex();
+    }
+
+
+    private synchronized void invalidatePackageIndex() {
+        this.packageIndex = null;
+        this.directoryEntries = null;
+    }
+
+
+    /**
+     * Returns url entries which may contain the given path, so that jar files which don't contain
+     * anything in the same directory don't have to be searched.
+     *
+     * @param path path of the class file or resource
+     * @return url entries to search, in the order of the 'urlSet'
+     */
+    private synchronized List<URLEntry> getCandidates(String path) {
+        if (packageIndex == null) {
+            createPackageIndex();
+        }
+        lookups.increment();
+        List<URLEntry> candidates = packageIndex.get(toIndexKey(path));
+        return candidates == null ? directoryEntries : candidates;
+    }
+
+
+    private void createPackageIndex() {
+        final URLEntry[] entries = this.urlSet.toArray(new URLEntry[0]);
+        final List<URLEntry> directories = new ArrayList<>();
+        for (URLEntry u : entries) {
+            if (!u.isJar) {
+                directories.add(u);
+            }
+        }
+        Map<String, List<URLEntry>> index = indexFile == null ? null : loadPackageIndex(entries);
+        if (index == null) {
+            index = scanPackageIndex(entries);
+            if (indexFile != null) {
+                Set<String> classNames = storedIndex == null ? new LinkedHashSet<>() : storedIndex.getClassNames();
+                storedIndex = new ClassLoaderIndex(ClassLoaderIndex.checksum(Arrays.asList(entries)),
+                    toStoredIndex(index, entries), classNames);
+                storedIndexChanged = true;
+            }
+        }
+        this.packageIndex = index;
+        this.directoryEntries = directories;
+    }
+
+
+    /**
+     * @return index loaded from the 'indexFile' or null if the index is not valid for the url entries
+     */
+    private Map<String, List<URLEntry>> loadPackageIndex(URLEntry[] entries) {
+        final long checksum = ClassLoaderIndex.checksum(Arrays.asList(entries));
+        if (storedIndex == null || storedIndex.getChecksum() != checksum) {
+            final ClassLoaderIndex loaded = ClassLoaderIndex.load(indexFile);
+            if (loaded == null || loaded.getChecksum() != checksum) {
+                return null;
+            }
+            storedIndex = loaded;
+            storedIndexChanged = false;
+        }
+        final Map<String, List<URLEntry>> index = new HashMap<>();
+        for (Map.Entry<String, int[]> directory : storedIndex.getDirectories().entrySet()) {
+            final List<URLEntry> list = new ArrayList<>(directory.getValue().length);
+            for (int ordinal : directory.getValue()) {
+                if (ordinal < 0 || ordinal >= entries.length) {
+                    return null;
+                }
+                list.add(entries[ordinal]);
+            }
+            index.put(directory.getKey(), list);
+        }
+        _logger.log(Level.FINE, "Loaded index of {0} directories of {1} url entries from {2}",
+            new Object[] {index.size(), entries.length, indexFile});
+        return index;
+    }
+
+
+    private static Map<String, int[]> toStoredIndex(Map<String, List<URLEntry>> index, URLEntry[] entries) {
+        final Map<URLEntry, Integer> ordinals = new IdentityHashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            ordinals.put(entries[i], i);
+        }
+        final Map<String, int[]> stored = new HashMap<>(index.size() * 4 / 3 + 1);
+        for (Map.Entry<String, List<URLEntry>> directory : index.entrySet()) {
+            stored.put(directory.getKey(), directory.getValue().stream().mapToInt(ordinals::get).toArray());
+        }
+        return stored;
+    }
+
+
+    private static Map<String, List<URLEntry>> scanPackageIndex(URLEntry[] entries) {
+        final Map<String, List<URLEntry>> index = new HashMap<>();
+        final List<URLEntry> directories = new ArrayList<>();
+        for (URLEntry u : entries) {
+            if (u.isJar) {
+                Iterator<JarEntry> jarEntries = u.zip.versionedStream().iterator();
+                while (jarEntries.hasNext()) {
+                    List<URLEntry> list = index.computeIfAbsent(toIndexKey(jarEntries.next().getName()),
+                        k -> new ArrayList<>(directories));
+                    if (list.isEmpty() || list.get(list.size() - 1) != u) {
+                        list.add(u);
+                    }
+                }
+            } else {
+                directories.add(u);
+                for (List<URLEntry> list : index.values()) {
+                    list.add(u);
+                }
+            }
+        }
+        _logger.log(Level.FINE, "Indexed {0} directories of {1} url entries.", new Object[] {index.size(), entries.length});
+        return index;
+    }
+
+
+    /**
+     * @param path entry path, ie. <code>org/glassfish/Foo.class</code> or <code>META-INF/dir/</code>
+     * @return path of the parent directory with the trailing slash or an empty string for the root.
+     */
+    private static String toIndexKey(String path) {
+        // JarFile finds directories even without the trailing slash
+        final int end = path.endsWith("/") ? path.length() - 1 : path.length();
+        return path.substring(0, path.lastIndexOf('/', end - 1) + 1);
+    }
+
+
     /**
      * Internal implementation of find resource.
      *
@@ -467,11 +645,12 @@ public class ASURLClassLoader extends GlassfishUrlClassLoader
         }
 
         synchronized(this) {
-            for (final URLEntry u : this.urlSet) {
+            for (final URLEntry u : getCandidates(name)) {
 
                 if (!u.hasItem(name)) {
                     continue;
                 }
+                urlEntryProbes.increment();
 
                 final URL url = findResource0(u, name);
                 if (url != null) {
@@ -510,7 +689,8 @@ public class ASURLClassLoader extends GlassfishUrlClassLoader
             return Collections.emptyEnumeration();
         }
 
-        for (URLEntry urlEntry : this.urlSet) {
+        for (URLEntry urlEntry : getCandidates(name)) {
+            urlEntryProbes.increment();
             final URL url = findResource0(urlEntry, name);
             if (url != null) {
                 resourcesList.add(url);
@@ -748,12 +928,16 @@ public class ASURLClassLoader extends GlassfishUrlClassLoader
         // search through the JARs for a file of the form java/lang/Object.class
         String entryName = name.replace('.', '/') + ".class";
 
-        for (URLEntry u : this.urlSet) {
+        for (URLEntry u : getCandidates(entryName)) {
             if (!u.hasItem(entryName)) {
                 continue;
             }
+            urlEntryProbes.increment();
             byte[] result = loadClassData0(u, entryName);
             if (result != null) {
+                if (storedIndex != null && storedIndex.getClassNames().add(name)) {
+                    storedIndexChanged = true;
+                }
                 if (System.getSecurityManager() == null) {
                     return new ClassData(result, u.pd);
                 }
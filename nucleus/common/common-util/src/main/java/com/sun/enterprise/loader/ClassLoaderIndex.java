@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.loader;
+
+import com.sun.enterprise.loader.ASURLClassLoader.URLEntry;
+import com.sun.enterprise.util.CULoggerInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Persistent index of the {@link ASURLClassLoader}, stored next to generated artifacts
+ * of the application, so that the next start of the unchanged application doesn't have
+ * to scan its jar files again.
+ * <p>
+ * The index is valid only for the same url entries in the same order, and the same sizes
+ * and modification times of their files, see {@link #checksum(Collection)}.
+ * It contains directories of all entries mapped to url entries and names of classes loaded
+ * by the class loader during previous runs.
+ */
+final class ClassLoaderIndex {
+
+    private static final Logger LOG = CULoggerInfo.getLogger();
+
+    private static final int VERSION = 1;
+
+    /** JVM option required for dynamic dumps of the class data sharing archive */
+    private static final String RECORD_DYNAMIC_DUMP_INFO = "-XX:+RecordDynamicDumpInfo";
+
+    /** Dynamic archive can be dumped just once by the JVM */
+    private static volatile boolean archiveDumped;
+
+    private final long checksum;
+    private final Map<String, int[]> directories;
+    private final Set<String> classNames;
+
+    ClassLoaderIndex(long checksum, Map<String, int[]> directories, Set<String> classNames) {
+        this.checksum = checksum;
+        this.directories = directories;
+        this.classNames = classNames;
+    }
+
+
+    long getChecksum() {
+        return checksum;
+    }
+
+
+    /**
+     * @return directories of entries mapped to indexes of url entries containing them.
+     */
+    Map<String, int[]> getDirectories() {
+        return directories;
+    }
+
+
+    /**
+     * @return names of classes loaded by the class loader, in the order of loading.
+     */
+    Set<String> getClassNames() {
+        return classNames;
+    }
+
+
+    /**
+     * @param indexFile
+     * @return loaded index or null if the file does not exist or cannot be read.
+     */
+    static ClassLoaderIndex load(File indexFile) {
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(indexFile.toPath())))) {
+            if (input.readInt() != VERSION) {
+                return null;
+            }
+            final long checksum = input.readLong();
+            final int directoryCount = input.readInt();
+            final Map<String, int[]> directories = new HashMap<>(directoryCount * 4 / 3 + 1);
+            for (int i = 0; i < directoryCount; i++) {
+                final String directory = input.readUTF();
+                final int[] entries = new int[input.readInt()];
+                for (int j = 0; j < entries.length; j++) {
+                    entries[j] = input.readInt();
+                }
+                directories.put(directory, entries);
+            }
+            final int classCount = input.readInt();
+            final Set<String> classNames = new LinkedHashSet<>(classCount * 4 / 3 + 1);
+            for (int i = 0; i < classCount; i++) {
+                classNames.add(input.readUTF());
+            }
+            return new ClassLoaderIndex(checksum, directories, classNames);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not read the class loader index " + indexFile + ", it will be recreated.", e);
+            return null;
+        }
+    }
+
+
+    /**
+     * Writes the index to a temporary file first, so the index file is always complete.
+     *
+     * @param indexFile
+     */
+    void store(File indexFile) {
+        final File parent = indexFile.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            LOG.log(Level.WARNING, "Could not create the directory {0} for the class loader index.", parent);
+            return;
+        }
+        final File tmpFile = new File(parent, indexFile.getName() + ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tmpFile.toPath())))) {
+                output.writeInt(VERSION);
+                output.writeLong(checksum);
+                output.writeInt(directories.size());
+                for (Map.Entry<String, int[]> directory : directories.entrySet()) {
+                    output.writeUTF(directory.getKey());
+                    output.writeInt(directory.getValue().length);
+                    for (int entry : directory.getValue()) {
+                        output.writeInt(entry);
+                    }
+                }
+                output.writeInt(classNames.size());
+                for (String className : classNames) {
+                    output.writeUTF(className);
+                }
+            }
+            Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            LOG.log(Level.FINE, "Stored class loader index {0} with {1} directories and {2} classes.",
+                new Object[] {indexFile, directories.size(), classNames.size()});
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not store the class loader index " + indexFile, e);
+        }
+    }
+
+
+    /**
+     * Writes names of loaded classes to a class list file next to the index and requests the JVM
+     * to dump the dynamic class data sharing archive named by the checksum, if it was not dumped
+     * yet. The archive can be used by the next start of the JVM by the
+     * <code>-XX:SharedArchiveFile</code> option.
+     * <p>
+     * The dump is possible only if the JVM was started with the
+     * <code>-XX:+RecordDynamicDumpInfo</code> option, otherwise just the class list is written.
+     *
+     * @param indexFile
+     */
+    void dumpSharedArchive(File indexFile) {
+        final File classList = new File(indexFile.getParentFile(), indexFile.getName() + ".classlist");
+        try {
+            List<String> lines = new ArrayList<>(classNames.size());
+            for (String className : classNames) {
+                lines.add(className.replace('.', '/'));
+            }
+            Files.write(classList.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not write the class list " + classList, e);
+            return;
+        }
+        final File archive = new File(indexFile.getParentFile(), Long.toHexString(checksum) + ".jsa");
+        if (archiveDumped || archive.exists()
+            || !ManagementFactory.getRuntimeMXBean().getInputArguments().contains(RECORD_DYNAMIC_DUMP_INFO)) {
+            return;
+        }
+        archiveDumped = true;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName diagnosticCommand = new ObjectName("com.sun.management:type=DiagnosticCommand");
+            Object result = server.invoke(diagnosticCommand, "vmCds",
+                new Object[] {new String[] {"dynamic_dump", archive.getAbsolutePath()}},
+                new String[] {String[].class.getName()});
+            LOG.log(Level.INFO, "Dumped the class data sharing archive {0}: {1}", new Object[] {archive, result});
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Could not dump the class data sharing archive " + archive, e);
+        }
+    }
+
+
+    /**
+     * @param entries url entries of the class loader
+     * @return checksum of urls and sizes and modification times of their files.
+     */
+    static long checksum(Collection<URLEntry> entries) {
+        final CRC32 crc = new CRC32();
+        for (URLEntry entry : entries) {
+            final File file = entry.file;
+            crc.update(entry.source.toString().getBytes(StandardCharsets.UTF_8));
+            crc.update(Long.toString(entry.isJar ? file.length() : 0L).getBytes(StandardCharsets.UTF_8));
+            crc.update(Long.toString(file.lastModified()).getBytes(StandardCharsets.UTF_8));
+        }
+        return crc.getValue() << 32 | entries.size();
+    }
+}
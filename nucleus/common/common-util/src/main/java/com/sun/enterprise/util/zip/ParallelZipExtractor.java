@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.util.zip;
+
+import com.sun.enterprise.util.CULoggerInfo;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Extracts zip files to a directory by several threads.
+ * <p>
+ * Entries are partitioned to tasks of similar compressed size, which run in a bounded executor
+ * shared by all extractions. Files are preallocated to the size of the entry. Stored entries are
+ * copied from the archive's own channel by {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+ * so the kernel can copy them without passing the bytes through the heap; compressed entries
+ * are inflated and written by {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}.
+ * Files which already exist
+ * with the same size and CRC as the entry are not written again, so extracting a redeployed
+ * archive over the previous directory writes just the changed files.
+ */
+public final class ParallelZipExtractor {
+
+    private static final Logger LOG = CULoggerInfo.getLogger();
+
+    private static final int PARALLELISM = Math.max(1, Integer.getInteger("com.sun.enterprise.util.zip.extractorThreads",
+        Math.min(8, Runtime.getRuntime().availableProcessors())));
+
+    /** Smaller archives are extracted by the calling thread */
+    private static final long MIN_PARALLEL_SIZE = 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 0x10000;
+
+    // Zip format constants, see the PKWARE APPNOTE.TXT
+    private static final int LOCSIG = 0x04034b50;
+    private static final int LOCHDR = 30;
+    private static final int CENSIG = 0x02014b50;
+    private static final int CENHDR = 46;
+    private static final int ENDSIG = 0x06054b50;
+    private static final int ENDHDR = 22;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private ParallelZipExtractor() {
+        // utility class
+    }
+
+
+    /**
+     * Extracts all entries of the zip file to the destination directory.
+     *
+     * @param source zip file
+     * @param destination target directory, created if it does not exist
+     * @return count of written files, excluding unchanged files.
+     * @throws IOException if any entry could not be extracted
+     */
+    public static int extract(File source, File destination) throws IOException {
+        final long start = System.nanoTime();
+        final Path root = destination.toPath().toAbsolutePath().normalize();
+        try (java.util.zip.ZipFile zip = new java.util.zip.ZipFile(source);
+            FileChannel archiveChannel = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+            final List<ZipEntry> files = new ArrayList<>(zip.size());
+            long totalSize = 0;
+            boolean stored = false;
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                final ZipEntry entry = entries.nextElement();
+                // Directories are created before the parallel part, so threads don't race on them.
+                final Path target = resolve(root, entry);
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.createDirectories(target.getParent());
+                    files.add(entry);
+                    totalSize += Math.max(0, entry.getCompressedSize());
+                    stored |= entry.getMethod() == ZipEntry.STORED;
+                }
+            }
+            final Archive archive = new Archive(zip, archiveChannel, stored);
+
+            final int written;
+            if (PARALLELISM == 1 || files.size() <= 1 || totalSize < MIN_PARALLEL_SIZE) {
+                written = extract(archive, root, files);
+            } else {
+                written = extractParallel(archive, root, files);
+            }
+            LOG.log(Level.FINE, "Extracted {0} of {1} files from {2} in {3} ms",
+                new Object[] {written, files.size(), source, (System.nanoTime() - start) / 1_000_000L});
+            return written;
+        }
+    }
+
+
+    private static int extractParallel(Archive archive, Path root, List<ZipEntry> files) throws IOException {
+        // The largest first to the currently smallest partition
+        files.sort(Comparator.comparingLong(ZipEntry::getCompressedSize).reversed());
+        final int partitionCount = Math.min(PARALLELISM, files.size());
+        final List<List<ZipEntry>> partitions = new ArrayList<>(partitionCount);
+        final long[] partitionSizes = new long[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (ZipEntry entry : files) {
+            int smallest = 0;
+            for (int i = 1; i < partitionCount; i++) {
+                if (partitionSizes[i] < partitionSizes[smallest]) {
+                    smallest = i;
+                }
+            }
+            partitions.get(smallest).add(entry);
+            partitionSizes[smallest] += Math.max(1, entry.getCompressedSize());
+        }
+
+        final List<Future<Integer>> futures = new ArrayList<>(partitionCount);
+        for (List<ZipEntry> partition : partitions) {
+            futures.add(EXECUTOR.submit(() -> extract(archive, root, partition)));
+        }
+        int written = 0;
+        IOException failure = null;
+        for (Future<Integer> future : futures) {
+            try {
+                written += future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof IOException
+                        ? (IOException) e.getCause() : new IOException(e.getCause());
+                    futures.forEach(f -> f.cancel(true));
+                }
+            } catch (CancellationException e) {
+                // cancelled after the failure of another task
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IOException("Interrupted while extracting " + archive.zip.getName(), e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return written;
+    }
+
+
+    private static int extract(Archive archive, Path root, List<ZipEntry> files) throws IOException {
+        int written = 0;
+        for (ZipEntry entry : files) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IOException("Interrupted while extracting " + archive.zip.getName());
+            }
+            if (extractEntry(archive, entry, resolve(root, entry))) {
+                written++;
+            }
+        }
+        return written;
+    }
+
+
+    /**
+     * @return false if the file has the same content as the entry.
+     */
+    private static boolean extractEntry(Archive archive, ZipEntry entry, Path target) throws IOException {
+        final long size = entry.getSize();
+        if (size >= 0 && entry.getCrc() >= 0 && isUnchanged(target, size, entry.getCrc())) {
+            return false;
+        }
+        if (size < 0) {
+            try (InputStream input = archive.zip.getInputStream(entry);
+                FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                input.transferTo(Channels.newOutputStream(channel));
+            }
+            return true;
+        }
+        final long dataOffset = entry.getMethod() == ZipEntry.STORED ? archive.getDataOffset(entry) : -1L;
+        try (RandomAccessFile file = new RandomAccessFile(target.toFile(), "rw")) {
+            // Preallocates the file and drops the old content
+            file.setLength(size);
+            final FileChannel channel = file.getChannel();
+            if (dataOffset >= 0) {
+                // Positional transfers don't move the shared channel, so threads don't interfere.
+                long position = 0;
+                while (position < size) {
+                    final long transferred = archive.channel.transferTo(dataOffset + position, size - position,
+                        channel);
+                    if (transferred <= 0) {
+                        throw unexpectedEnd(archive, entry, position);
+                    }
+                    position += transferred;
+                }
+                return true;
+            }
+            try (InputStream input = archive.zip.getInputStream(entry)) {
+                final ReadableByteChannel inputChannel = Channels.newChannel(input);
+                long position = 0;
+                while (position < size) {
+                    final long transferred = channel.transferFrom(inputChannel, position, size - position);
+                    if (transferred <= 0) {
+                        throw unexpectedEnd(archive, entry, position);
+                    }
+                    position += transferred;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    private static IOException unexpectedEnd(Archive archive, ZipEntry entry, long position) {
+        return new EOFException("Unexpected end of entry " + entry.getName() + " in " + archive.zip.getName()
+            + " at " + position + " of " + entry.getSize() + " bytes");
+    }
+
+
+    private static boolean isUnchanged(Path file, long size, long crc) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != size) {
+            return false;
+        }
+        final CRC32 checksum = new CRC32();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+        return checksum.getValue() == crc;
+    }
+
+
+    private static Path resolve(Path root, ZipEntry entry) throws IOException {
+        final Path target = root.resolve(entry.getName()).normalize();
+        if (!target.startsWith(root)) {
+            throw new IOException("Entry " + entry.getName() + " is outside of the target directory " + root);
+        }
+        return target;
+    }
+
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of file at " + (position + buffer.position()));
+            }
+        }
+        buffer.flip();
+    }
+
+
+    private static ThreadPoolExecutor createExecutor() {
+        final AtomicInteger counter = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "ParallelZipExtractor-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+
+    /**
+     * The zip file with its own channel and the positions of local headers of stored entries.
+     * The {@link java.util.zip.ZipFile} API doesn't expose them, so they are read from the central
+     * directory. Entries which can't be located safely (zip64, encrypted, duplicate names) are
+     * read by the stream of the {@link java.util.zip.ZipFile}.
+     */
+    static final class Archive {
+
+        private final java.util.zip.ZipFile zip;
+        private final FileChannel channel;
+        private final Map<String, Long> localHeaders;
+
+        Archive(java.util.zip.ZipFile zip, FileChannel channel, boolean stored) throws IOException {
+            this.zip = zip;
+            this.channel = channel;
+            this.localHeaders = stored ? readLocalHeaders(channel) : Map.of();
+        }
+
+
+        /**
+         * @return position of the data of the stored entry in the archive or -1 if it is unknown.
+         */
+        long getDataOffset(ZipEntry entry) throws IOException {
+            final Long header = localHeaders.get(entry.getName());
+            if (header == null || header < 0) {
+                return -1L;
+            }
+            final ByteBuffer loc = ByteBuffer.allocate(LOCHDR).order(LITTLE_ENDIAN);
+            readFully(channel, loc, header);
+            if (loc.getInt(0) != LOCSIG) {
+                return -1L;
+            }
+            return header + LOCHDR + Short.toUnsignedInt(loc.getShort(26)) + Short.toUnsignedInt(loc.getShort(28));
+        }
+
+
+        private static Map<String, Long> readLocalHeaders(FileChannel channel) throws IOException {
+            final long fileSize = channel.size();
+            // The end record is followed just by the archive comment of at most 64 KiB
+            final int tailSize = (int) Math.min(fileSize, ENDHDR + 0xFFFF);
+            final ByteBuffer tail = ByteBuffer.allocate(tailSize).order(LITTLE_ENDIAN);
+            readFully(channel, tail, fileSize - tailSize);
+            int end = tailSize - ENDHDR;
+            while (end >= 0 && tail.getInt(end) != ENDSIG) {
+                end--;
+            }
+            if (end < 0) {
+                return Map.of();
+            }
+            final long cenSize = Integer.toUnsignedLong(tail.getInt(end + 12));
+            final long cenOffset = Integer.toUnsignedLong(tail.getInt(end + 16));
+            final long cenPosition = fileSize - tailSize + end - cenSize;
+            // Offsets are relative to the start of the zip, which may be preceded by other data
+            final long base = cenPosition - cenOffset;
+            if (cenSize == ZIP64_MAGIC || cenOffset == ZIP64_MAGIC || cenSize > Integer.MAX_VALUE || base < 0) {
+                return Map.of();
+            }
+            final ByteBuffer cen = ByteBuffer.allocate((int) cenSize).order(LITTLE_ENDIAN);
+            readFully(channel, cen, cenPosition);
+            final Map<String, Long> headers = new HashMap<>();
+            int position = 0;
+            while (position + CENHDR <= cenSize && cen.getInt(position) == CENSIG) {
+                final boolean encrypted = (cen.getShort(position + 8) & 1) != 0;
+                final int method = Short.toUnsignedInt(cen.getShort(position + 10));
+                final long compressedSize = Integer.toUnsignedLong(cen.getInt(position + 20));
+                final long size = Integer.toUnsignedLong(cen.getInt(position + 24));
+                final int nameLength = Short.toUnsignedInt(cen.getShort(position + 28));
+                final int extraLength = Short.toUnsignedInt(cen.getShort(position + 30));
+                final int commentLength = Short.toUnsignedInt(cen.getShort(position + 32));
+                final long header = Integer.toUnsignedLong(cen.getInt(position + 42));
+                if (position + CENHDR + nameLength > cenSize) {
+                    break;
+                }
+                final byte[] name = new byte[nameLength];
+                cen.position(position + CENHDR);
+                cen.get(name);
+                final boolean usable = method == ZipEntry.STORED && !encrypted && compressedSize == size
+                    && size != ZIP64_MAGIC && header != ZIP64_MAGIC;
+                final String entryName = new String(name, UTF_8);
+                if (headers.putIfAbsent(entryName, usable ? base + header : -1L) != null) {
+                    headers.put(entryName, -1L);
+                }
+                position += CENHDR + nameLength + extraLength + commentLength;
+            }
+            return headers;
+        }
+    }
+}
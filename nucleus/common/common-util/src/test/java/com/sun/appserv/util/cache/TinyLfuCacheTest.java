@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.appserv.util.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLfuCacheTest {
+
+    @Test
+    public void putGetRemove() throws Exception {
+        Cache cache = createCache(10);
+        assertNull(cache.put("a", "1"));
+        assertEquals("1", cache.put("a", "2"));
+        assertEquals("2", cache.get("a"));
+        assertTrue(cache.contains("a"));
+        assertNull(cache.remove("a", "1"));
+        assertEquals("2", cache.remove("a", "2"));
+        assertNull(cache.get("a"));
+        assertTrue(cache.isEmpty());
+        assertAll(
+            () -> assertEquals(1, cache.getStatByName(Constants.STAT_BASECACHE_ADD_COUNT)),
+            () -> assertEquals(1, cache.getStatByName(Constants.STAT_BASECACHE_REFRESH_COUNT)),
+            () -> assertEquals(1, cache.getStatByName(Constants.STAT_BASECACHE_REMOVAL_COUNT)),
+            () -> assertEquals(2, cache.getStatByName(Constants.STAT_BASECACHE_MISS_COUNT))
+        );
+    }
+
+
+    @Test
+    public void boundedWithTrimEvents() throws Exception {
+        Cache cache = createCache(100);
+        List<Object> trimmed = new ArrayList<>();
+        cache.addCacheListener((key, value) -> trimmed.add(key));
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(100, cache.getEntryCount());
+        assertEquals(900, trimmed.size());
+        assertEquals(900, cache.getStatByName(Constants.STAT_TINYLFUCACHE_TRIM_COUNT));
+        assertEquals(100, cache.clear());
+        assertTrue(cache.isEmpty());
+    }
+
+
+    @Test
+    public void frequentEntriesSurviveScan() throws Exception {
+        LruCache lruCache = new LruCache();
+        lruCache.init(100, new Properties());
+        int lruHits = countHotHits(lruCache);
+        int tinyLfuHits = countHotHits(createCache(100));
+        assertThat(tinyLfuHits, greaterThan(9_000));
+        assertThat(tinyLfuHits, greaterThan(lruHits));
+    }
+
+
+    @Test
+    public void refresh() throws Exception {
+        Cache cache = createCache(10);
+        int index = cache.getIndex("key");
+        assertFalse(cache.waitRefresh(index), "first thread refreshes");
+        cache.notifyRefresh(index);
+        assertFalse(cache.waitRefresh(index), "refresh finished");
+        cache.notifyRefresh(index);
+    }
+
+
+    @Test
+    public void concurrentAccess() throws Exception {
+        Cache cache = createCache(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 100_000; i++) {
+                        Integer key = random.nextInt(5000);
+                        if (cache.get(key) == null) {
+                            cache.put(key, key);
+                        }
+                        if (i % 100 == 0) {
+                            cache.remove(random.nextInt(5000));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.getEntryCount(), lessThanOrEqualTo(1000));
+        assertThat((Integer) cache.getStatByName(Constants.STAT_BASECACHE_HIT_COUNT), greaterThan(0));
+        cache.values().forEachRemaining(value -> assertEquals(value, cache.get(value)));
+    }
+
+
+    /**
+     * Hot keys are reused after more than maxEntries one-time keys.
+     */
+    private static int countHotHits(Cache cache) {
+        int hits = 0;
+        for (int i = 0; i < 20_000; i++) {
+            cache.put("scan" + i, i);
+            cache.put("scan" + i + "b", i);
+            String hot = "hot" + (i % 50);
+            if (cache.get(hot) == null) {
+                cache.put(hot, i);
+            } else if (i >= 10_000) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+
+    private static Cache createCache(int maxEntries) throws Exception {
+        Cache cache = new TinyLfuCache();
+        cache.init(maxEntries, new Properties());
+        return cache;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.loader;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ASURLClassLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void resourcesFoundInOrderOfUrls() throws Exception {
+        File jar1 = createJar("jar1.jar", "org/example/a.txt", "org/example/sub/b.txt", "root.txt");
+        File jar2 = createJar("jar2.jar", "org/example/a.txt", "org/other/c.txt");
+        Path dir = Files.createDirectories(tempDir.resolve("dir"));
+        Files.createDirectories(dir.resolve("org/other"));
+        Files.writeString(dir.resolve("org/other/c.txt"), "dir");
+        try (ASURLClassLoader loader = new ASURLClassLoader(null)) {
+            loader.appendURL(dir.toFile());
+            loader.appendURL(jar1);
+            loader.appendURL(jar2);
+            assertAll(
+                () -> assertEquals("jar1.jar", read(loader, "org/example/a.txt")),
+                () -> assertEquals("jar1.jar", read(loader, "org/example/sub/b.txt")),
+                () -> assertEquals("jar1.jar", read(loader, "root.txt")),
+                () -> assertEquals("dir", read(loader, "org/other/c.txt")),
+                () -> assertNotNull(loader.findResource("org/other")),
+                () -> assertNull(loader.findResource("org/example/missing.txt")),
+                () -> assertThat(Collections.list(loader.findResources("org/example/a.txt")), hasSize(2))
+            );
+        }
+    }
+
+
+    @Test
+    void indexInvalidatedByAppendedUrl() throws Exception {
+        File jar1 = createJar("jar1.jar", "org/example/a.txt");
+        File jar2 = createJar("jar2.jar", "org/example/b.txt");
+        try (ASURLClassLoader loader = new ASURLClassLoader(null)) {
+            loader.appendURL(jar1);
+            assertNull(loader.findResource("org/example/b.txt"));
+            loader.appendURL(jar2);
+            URL url = loader.findResource("org/example/b.txt");
+            assertNotNull(url);
+            assertThat(url.toExternalForm(), endsWith("jar2.jar!/org/example/b.txt"));
+        }
+    }
+
+
+    @Test
+    void fileAddedToDirectoryFound() throws Exception {
+        File jar = createJar("jar1.jar", "org/example/a.txt");
+        Path dir = Files.createDirectories(tempDir.resolve("dir"));
+        try (ASURLClassLoader loader = new ASURLClassLoader(null)) {
+            loader.appendURL(jar);
+            loader.appendURL(dir.toFile());
+            assertNull(loader.findResource("org/later/b.txt"));
+            Files.createDirectories(dir.resolve("org/later"));
+            Files.writeString(dir.resolve("org/later/b.txt"), "dir");
+            loader.refresh();
+            assertEquals("dir", read(loader, "org/later/b.txt"));
+        }
+    }
+
+
+    @Test
+    void persistentIndex() throws Exception {
+        File jar = tempDir.resolve("jar1.jar").toFile();
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+            output.putNextEntry(new JarEntry("org/example/a.txt"));
+            output.write("jar1.jar".getBytes(StandardCharsets.UTF_8));
+            output.putNextEntry(new JarEntry(ClassLoaderIndex.class.getName().replace('.', '/') + ".class"));
+            try (InputStream input = ClassLoaderIndex.class.getResourceAsStream("ClassLoaderIndex.class")) {
+                input.transferTo(output);
+            }
+        }
+        File indexFile = tempDir.resolve("index").resolve("lib.index").toFile();
+        try (ASURLClassLoader loader = new ASURLClassLoader(null)) {
+            loader.setIndexFile(indexFile);
+            loader.appendURL(jar);
+            assertEquals("jar1.jar", read(loader, "org/example/a.txt"));
+            assertNotNull(loader.loadClass(ClassLoaderIndex.class.getName()));
+        }
+        ClassLoaderIndex index = ClassLoaderIndex.load(indexFile);
+        assertNotNull(index);
+        assertAll(
+            () -> assertThat(index.getClassNames(), contains(ClassLoaderIndex.class.getName())),
+            () -> assertThat(index.getDirectories().keySet(),
+                containsInAnyOrder("org/example/", "com/sun/enterprise/loader/"))
+        );
+
+        try (ASURLClassLoader loader = new ASURLClassLoader(null)) {
+            loader.setIndexFile(indexFile);
+            loader.appendURL(jar);
+            assertEquals("jar1.jar", read(loader, "org/example/a.txt"));
+            assertNull(loader.findResource("org/other/a.txt"));
+        }
+        assertEquals(index.getChecksum(), ClassLoaderIndex.load(indexFile).getChecksum());
+
+        File jar2 = createJar("jar2.jar", "org/other/a.txt");
+        try (ASURLClassLoader loader = new ASURLClassLoader(null)) {
+            loader.setIndexFile(indexFile);
+            loader.appendURL(jar);
+            loader.appendURL(jar2);
+            assertEquals("jar2.jar", read(loader, "org/other/a.txt"));
+        }
+        ClassLoaderIndex changed = ClassLoaderIndex.load(indexFile);
+        assertNotEquals(index.getChecksum(), changed.getChecksum());
+        assertThat(changed.getDirectories().keySet(), hasItem("org/other/"));
+    }
+
+
+    private static String read(ASURLClassLoader loader, String name) throws Exception {
+        try (InputStream stream = loader.findResource(name).openStream()) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+
+    /**
+     * Creates a jar file where content of each entry is the name of the jar file.
+     */
+    private File createJar(String name, String... entries) throws Exception {
+        File file = tempDir.resolve(name).toFile();
+        try (OutputStream output = Files.newOutputStream(file.toPath());
+            JarOutputStream jar = new JarOutputStream(output)) {
+            for (String entry : List.of(entries)) {
+                jar.putNextEntry(new JarEntry(entry));
+                jar.write(name.getBytes(StandardCharsets.UTF_8));
+                jar.closeEntry();
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.util.zip;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelZipExtractorTest {
+
+    private static final int FILE_COUNT = 40;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void extractAndSkipUnchanged() throws Exception {
+        File zip = tempDir.resolve("test.zip").toFile();
+        byte[][] contents = new byte[FILE_COUNT][];
+        Random random = new Random(1);
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(zip.toPath()))) {
+            output.putNextEntry(new ZipEntry("empty/"));
+            for (int i = 0; i < FILE_COUNT; i++) {
+                // random content doesn't compress, so the archive is large enough for parallel extraction
+                contents[i] = new byte[random.nextInt(100_000)];
+                random.nextBytes(contents[i]);
+                ZipEntry entry = new ZipEntry("dir" + (i % 3) + "/file" + i + ".bin");
+                if (i % 2 == 0) {
+                    CRC32 crc = new CRC32();
+                    crc.update(contents[i]);
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(contents[i].length);
+                    entry.setCrc(crc.getValue());
+                }
+                output.putNextEntry(entry);
+                output.write(contents[i]);
+            }
+        }
+
+        Path target = tempDir.resolve("target");
+        assertEquals(FILE_COUNT, ParallelZipExtractor.extract(zip, target.toFile()));
+        assertTrue(Files.isDirectory(target.resolve("empty")));
+        for (int i = 0; i < FILE_COUNT; i++) {
+            assertArrayEquals(contents[i], Files.readAllBytes(target.resolve("dir" + (i % 3) + "/file" + i + ".bin")));
+        }
+
+        Path changed = target.resolve("dir1/file1.bin");
+        byte[] changedContent = contents[1].clone();
+        changedContent[0]++;
+        Files.write(changed, changedContent);
+        Files.write(target.resolve("dir2/file2.bin"), new byte[] {1, 2, 3});
+        assertEquals(2, ParallelZipExtractor.extract(zip, target.toFile()));
+        assertArrayEquals(contents[1], Files.readAllBytes(changed));
+        assertArrayEquals(contents[2], Files.readAllBytes(target.resolve("dir2/file2.bin")));
+    }
+
+
+    @Test
+    void storedEntriesAfterPrependedData() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // like a self extracting archive
+        bytes.write(new byte[1000]);
+        byte[][] contents = new byte[3][];
+        try (ZipOutputStream output = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < contents.length; i++) {
+                contents[i] = ("Stored content " + i).getBytes(UTF_8);
+                CRC32 crc = new CRC32();
+                crc.update(contents[i]);
+                ZipEntry entry = new ZipEntry("dir/stored" + i + ".txt");
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(contents[i].length);
+                entry.setCrc(crc.getValue());
+                // unknown extra field with i * 2 bytes of data, moves the data of the entry
+                byte[] extra = new byte[4 + i * 2];
+                extra[0] = (byte) 0xFE;
+                extra[1] = (byte) 0xCA;
+                extra[2] = (byte) (i * 2);
+                entry.setExtra(extra);
+                output.putNextEntry(entry);
+                output.write(contents[i]);
+            }
+        }
+        File zip = tempDir.resolve("prepended.zip").toFile();
+        Files.write(zip.toPath(), bytes.toByteArray());
+
+        try (ZipFile zipFile = new ZipFile(zip);
+            FileChannel channel = FileChannel.open(zip.toPath(), StandardOpenOption.READ)) {
+            ParallelZipExtractor.Archive archive = new ParallelZipExtractor.Archive(zipFile, channel, true);
+            for (int i = 0; i < contents.length; i++) {
+                ZipEntry entry = zipFile.getEntry("dir/stored" + i + ".txt");
+                assertEquals(indexOf(bytes.toByteArray(), contents[i]), archive.getDataOffset(entry), entry.getName());
+            }
+        }
+
+        Path target = tempDir.resolve("target");
+        assertEquals(contents.length, ParallelZipExtractor.extract(zip, target.toFile()));
+        for (int i = 0; i < contents.length; i++) {
+            assertArrayEquals(contents[i], Files.readAllBytes(target.resolve("dir/stored" + i + ".txt")));
+        }
+    }
+
+
+    @Test
+    void entryOutsideOfTarget() throws Exception {
+        File zip = tempDir.resolve("slip.zip").toFile();
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(zip.toPath()))) {
+            output.putNextEntry(new ZipEntry("../outside.txt"));
+            output.write(1);
+        }
+        assertThrows(IOException.class, () -> ParallelZipExtractor.extract(zip, tempDir.resolve("target").toFile()));
+        assertTrue(Files.notExists(tempDir.resolve("outside.txt")));
+    }
+
+
+    private static long indexOf(byte[] data, byte[] part) {
+        for (int i = 0; i <= data.length - part.length; i++) {
+            if (Arrays.equals(data, i, i + part.length, part, 0, part.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2008, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -52,4 +52,16 @@ public interface WritableArchive extends Archive {
      * @return the Archive instance for this abstraction
      */
     WritableArchive createSubArchive(String name) throws IOException;
+
+    /**
+     * Extracts all entries of the source archive to this archive, if this archive can do it
+     * faster than copying the entries one by one.
+     *
+     * @param source the archive to extract
+     * @return true if the source was extracted, false if the caller has to copy the entries
+     * @throws IOException if the source could not be extracted
+     */
+    default boolean extract(ReadableArchive source) throws IOException {
+        return false;
+    }
 }
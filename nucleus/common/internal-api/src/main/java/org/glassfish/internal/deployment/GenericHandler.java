@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -58,6 +58,9 @@ public abstract class GenericHandler implements ArchiveHandler {
      */
     @Override
     public void expand(ReadableArchive source, WritableArchive target, DeploymentContext context) throws IOException {
+        if (target.extract(source)) {
+            return;
+        }
         Enumeration<String> e = source.entries();
         while (e.hasMoreElements()) {
             String entryName = e.nextElement();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2024 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -89,6 +89,7 @@ import org.glassfish.api.virtualization.VirtualizationEnv;
 import org.glassfish.common.util.admin.ParameterMapExtractor;
 import org.glassfish.deployment.common.ApplicationConfigInfo;
 import org.glassfish.deployment.common.ClientJarWriter;
+import org.glassfish.deployment.common.DeployableTypesCache;
 import org.glassfish.deployment.common.DeploymentContextImpl;
 import org.glassfish.deployment.common.DeploymentProperties;
 import org.glassfish.deployment.common.DeploymentUtils;
@@ -577,28 +578,44 @@ public class ApplicationLifecycle implements Deployment, PostConstruct {
             }
 
             try {
-                // Scan the jar and store the result in the deployment context.
-                Parser parser = new Parser(
-                    new ParsingContext.Builder()
-                                      .logger(context.getLogger())
-                                      .executorService(executorService)
-                                      .locator(getResourceLocator())
-                                      .build());
-
-                try (ReadableArchiveScannerAdapter scannerAdapter = new ReadableArchiveScannerAdapter(parser, context.getSource())) {
-                    parser.parse(scannerAdapter, null);
-
-                    List<ReadableArchive> externalLibraries = getExternalLibraries(context);
+                List<ReadableArchive> externalLibraries = getExternalLibraries(context);
+
+                // Reuse the class model of an unchanged application after redeployment
+                String appName = context.getCommandParameters(OpsParams.class).name();
+                List<URI> archives = new ArrayList<>();
+                archives.add(context.getSource().getURI());
+                for (ReadableArchive externalLibrary : externalLibraries) {
+                    archives.add(externalLibrary.getURI());
+                }
+                DeployableTypesCache typesCache = DeployableTypesCache.getInstance();
+                String key = DeployableTypesCache.createKey(archives);
+                Parser parser = typesCache.get(appName, key);
+
+                if (parser == null) {
+                    // Scan the jar and store the result in the deployment context.
+                    parser = new Parser(
+                        new ParsingContext.Builder()
+                                          .logger(context.getLogger())
+                                          .executorService(executorService)
+                                          .locator(getResourceLocator())
+                                          .build());
+
+                    try (ReadableArchiveScannerAdapter scannerAdapter = new ReadableArchiveScannerAdapter(parser, context.getSource())) {
+                        parser.parse(scannerAdapter, null);
+
+                        for (ReadableArchive externalLibrary : externalLibraries) {
+                            parser.parse(new ReadableArchiveScannerAdapter(parser, externalLibrary), null);
+                        }
 
-                    for (ReadableArchive externalLibrary : externalLibraries) {
-                        parser.parse(new ReadableArchiveScannerAdapter(parser, externalLibrary), null);
+                        parser.awaitTermination();
                     }
+                    typesCache.put(appName, key, parser);
+                } else {
+                    LOG.log(FINE, "Reusing the class model of the unchanged application {0}", appName);
+                }
 
-                    parser.awaitTermination();
-
-                    for (ReadableArchive externalLibrary : externalLibraries) {
-                        externalLibrary.close();
-                    }
+                for (ReadableArchive externalLibrary : externalLibraries) {
+                    externalLibrary.close();
                 }
 
                 context.addTransientAppMetaData(Types.class.getName(), parser.getContext().getTypes());
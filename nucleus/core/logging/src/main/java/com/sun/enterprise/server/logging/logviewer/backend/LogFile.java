@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,22 +17,16 @@
 
 package com.sun.enterprise.server.logging.logviewer.backend;
 
-import com.sun.enterprise.server.logging.parser.LogParser;
-import com.sun.enterprise.server.logging.parser.LogParserFactory;
-import com.sun.enterprise.server.logging.parser.LogParserListener;
 import com.sun.enterprise.server.logging.parser.ParsedLogRecord;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.InputStreamReader;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.Charset;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Level;
-
-import static com.sun.enterprise.server.logging.LogFacade.LOGGING_LOGGER;
+import java.util.function.Predicate;
 
 
 /**
@@ -40,8 +34,11 @@ import static com.sun.enterprise.server.logging.LogFacade.LOGGING_LOGGER;
  * This class encapsulates the log file so that its details are not
  * exposed. "getLongEntries" returns an unfiltered List of LogEntry objects
  * from the requested record number. It will always search forward.
- * getIndexSize() returns the number of records between each index.
- * getLastIndexNumber returns the last index.
+ * </P>
+ * <P>
+ * Records are located using the {@link LogFileIndex}, which is updated before each query,
+ * so records are read directly from their position and only records which can match
+ * the query are parsed.
  * </P>
  * <P>
  * This class also contains an inner class for storing LogEntry
@@ -55,30 +52,31 @@ public class LogFile implements java.io.Serializable {
 
     private static final long serialVersionUID = -2960142541274652618L;
 
-    private final long _indexSize = 10;
+    /** Count of records returned when the count was not requested */
+    static final long DEFAULT_PAGE_SIZE = 10;
+
     private final String _logFileName;
-    private final List<Long> _recordIdx = new ArrayList<>();
+    private transient LogFileIndex index;
 
     /**
      * Constructor
      */
     public LogFile(String name) {
         _logFileName = name;
-        _recordIdx.add(0L);
     }
 
     /**
-     * This method returns up to _indexSize records starting with the given
+     * This method returns up to {@value #DEFAULT_PAGE_SIZE} records starting with the given
      * record number.
      *
      * @param    startingRecord    The starting point to search for LogEntries
      */
-    public List getLogEntries(long startingRecord) {
-        return getLogEntries(startingRecord, getIndexSize());
+    public List<LogEntry> getLogEntries(long startingRecord) {
+        return getLogEntries(startingRecord, DEFAULT_PAGE_SIZE);
     }
 
     /**
-     * This method returns up to _indexSize records starting with the given
+     * This method returns records starting with the given
      * record number.  It will return up to "maxRecords" records.
      *
      * @param    startingRecord    The starting point to search for LogEntries
@@ -88,128 +86,71 @@ public class LogFile implements java.io.Serializable {
         if (startingRecord < 0) {
             return null;
         }
-
-        // Open the file at the desired starting Record
-        final long recordsToIgnore = (startingRecord % getIndexSize());
-        try (BufferedReader reader = getFilePosition(startingRecord - recordsToIgnore)) {
-            final List<LogEntry> results = new ArrayList<>();
-            if (reader == null) {
-                return results;
-            }
-
-            File logFile = new File(getLogFileName());
-            LogParser logParser = LogParserFactory.getInstance().createLogParser(logFile );
-            logParser.parseLog(reader, new LogParserListener() {
-
-                long counter = 0;
+        return findLogEntries(startingRecord, true, maxRecords, LogRecordIndexFilter.ALL, entry -> true);
+    }
 
 
-                @Override
-                public void foundLogRecord(long position, ParsedLogRecord logRecord) {
-                    counter++;
-                    if (counter <= recordsToIgnore) {
-                        return;
+    /**
+     * Streams records from the startingRecord in the given direction and returns up to
+     * maxResults records matching both filters. Records rejected by the indexFilter are not
+     * read at all.
+     *
+     * @param startingRecord the first record to check, it is limited to existing records.
+     * @param ascending true to search to the end of the file, false to search to its beginning
+     * @param maxResults maximal count of returned records
+     * @param indexFilter filter evaluated using the index
+     * @param filter filter evaluated on parsed records
+     * @return matching records in the order of the search
+     */
+    List<LogEntry> findLogEntries(final long startingRecord, final boolean ascending, final long maxResults,
+        final LogRecordIndexFilter indexFilter, final Predicate<LogEntry> filter) {
+        final LogFileIndex logFileIndex = getIndex();
+        final List<LogEntry> results = new ArrayList<>();
+        try {
+            final int count = logFileIndex.update();
+            try (LogFileIndex.RecordReader reader = logFileIndex.openReader()) {
+                final int step = ascending ? 1 : -1;
+                long recordNumber = ascending ? Math.max(0, startingRecord) : Math.min(startingRecord, count - 1);
+                for (; recordNumber >= 0 && recordNumber < count && results.size() < maxResults; recordNumber += step) {
+                    if (!logFileIndex.mayMatch((int) recordNumber, indexFilter)) {
+                        continue;
                     }
-                    if (results.size() < maxRecords) {
-                        LogEntry entry = new LogEntry(startingRecord + results.size());
-                        entry.setLoggedDateTime(logRecord.getTimestamp());
-                        entry.setLoggedLevel(logRecord.getLevel());
-                        entry.setLoggedLoggerName(logRecord.getLogger());
-                        entry.setLoggedMessage(logRecord.getMessage());
-                        entry.setLoggedNameValuePairs(logRecord.getSupplementalAttributes().toString());
-                        entry.setLoggedProduct(logRecord.getProductId());
-                        entry.setMessageId(logRecord.getMessageKey());
+                    final ParsedLogRecord logRecord = reader.read((int) recordNumber);
+                    // the record might have been read for the first time, then the index knows more
+                    if (logRecord == null || !logFileIndex.mayMatch((int) recordNumber, indexFilter)) {
+                        continue;
+                    }
+                    final LogEntry entry = toLogEntry(recordNumber, logRecord);
+                    if (filter.test(entry)) {
                         results.add(entry);
                     }
                 }
-            });
+            }
             return results;
-        } catch (Exception ex) {
-            throw new IllegalStateException(ex);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Error reading from file: " + getLogFileName(), ex);
         }
     }
 
 
-    /**
-     * This method builds the file index in the beginning.  The index is for
-     * the beginning of every record after the size specified by '_indexSize'
-     * variable.
-     */
-    private synchronized void buildLogFileIndex() {
-        // Open the file and skip to the where we left off
-        final long startPos = _recordIdx.get(_recordIdx.size() - 1);
-        final long localIndexSize = getIndexSize();
-        try (BufferedReader reader = getLogFileReader(startPos)) {
-            File logFile = new File(getLogFileName());
-            LogParser logParser = LogParserFactory.getInstance().createLogParser(logFile);
-            if (logParser != null) {
-                logParser.parseLog(reader, new LogParserListener() {
-
-                    long recordNumber = (_recordIdx.size() - 1) * localIndexSize;
-
-                    @Override
-                    public void foundLogRecord(long position, ParsedLogRecord object) {
-                        long modIndex = recordNumber % localIndexSize;
-                        if (modIndex == 0) {
-                            _recordIdx.add(startPos + position);
-                        }
-                        recordNumber++;
-                    }
-                });
-            }
-        } catch (Exception ex) {
-            throw new RuntimeException(ex);
-        }
+    private static LogEntry toLogEntry(final long recordNumber, final ParsedLogRecord logRecord) {
+        final LogEntry entry = new LogEntry(recordNumber);
+        entry.setLoggedDateTime(logRecord.getTimestamp());
+        entry.setLoggedLevel(logRecord.getLevel());
+        entry.setLoggedLoggerName(logRecord.getLogger());
+        entry.setLoggedMessage(logRecord.getMessage());
+        entry.setLoggedNameValuePairs(logRecord.getSupplementalAttributes().toString());
+        entry.setLoggedProduct(logRecord.getProductId());
+        entry.setMessageId(logRecord.getMessageKey());
+        return entry;
     }
 
-    /**
-     * This method returns the file position given the record number.
-     *
-     * @return The file position.
-     * @param    recordNumber    The Record Number
-     */
-    private BufferedReader getFilePosition(long recordNumber) {
-        // The index is stored from the second slot. i.e., if there
-        // are 100 records and the index will be on 20, 40, 60, 80, 100
-        // if the _indexSize is 20. We don't store '0' hence we subtract
-        // from 1 to get the right index
-        int index = (int) (recordNumber / getIndexSize());
-        if (index >= _recordIdx.size()) {
-            return null;
-        }
-        Long filePosition = _recordIdx.get(index);
-        return getLogFileReader(filePosition);
-    }
 
-    /**
-     * This method opens the server.log file and moves the stream to
-     * the specified filePosition.
-     */
-    protected BufferedReader getLogFileReader(long fromFilePosition) {
-        FileInputStream file = null;
-        try {
-            file = new FileInputStream(getLogFileName());
-            long bytesToSkip = fromFilePosition - 1;
-            if (bytesToSkip > 0) {
-                long bytesSkipped = file.skip(bytesToSkip);
-                if (bytesSkipped != bytesToSkip) {
-                    LOGGING_LOGGER.log(Level.WARNING, "Did not skip {0} bytes while positioning reader in {1}",
-                        new Object[] {bytesToSkip, getLogFileName()});
-                }
-            }
-            BufferedReader reader = new BufferedReader(new InputStreamReader(file));
-            return reader;
-        } catch (Exception ex) {
-            LOGGING_LOGGER.log(Level.SEVERE, "Error reading from file: " + getLogFileName(), ex);
-            if (file != null) {
-                try {
-                    file.close();
-                } catch (Exception ex2) {
-                    LOGGING_LOGGER.log(Level.SEVERE, "Error closing file: " + getLogFileName(), ex2);
-                }
-            }
+    private synchronized LogFileIndex getIndex() {
+        if (index == null) {
+            index = new LogFileIndex(new File(getLogFileName()).toPath(), Charset.defaultCharset());
         }
-        return null;
+        return index;
     }
 
 
@@ -218,17 +159,15 @@ public class LogFile implements java.io.Serializable {
     }
 
     /**
-     * The log records are indexed, this method returns the last index.  It
-     * will ensure that the indexes are up-to-date.
+     * Returns count of records in the file. It will ensure that
+     * the indexes are up-to-date.
      */
-    public long getLastIndexNumber() {
-        buildLogFileIndex();
-        return _recordIdx.size() - 1;
-    }
-
-
-    public long getIndexSize() {
-        return _indexSize;
+    public long getRecordCount() {
+        try {
+            return getIndex().update();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Error reading from file: " + getLogFileName(), ex);
+        }
     }
 
     /**
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.server.logging.logviewer.backend;
+
+import com.sun.enterprise.server.logging.parser.LogParser;
+import com.sun.enterprise.server.logging.parser.LogParserException;
+import com.sun.enterprise.server.logging.parser.LogParserFactory;
+import com.sun.enterprise.server.logging.parser.ParsedLogRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+
+import static com.sun.enterprise.server.logging.LogFacade.LOGGING_LOGGER;
+
+/**
+ * Index of log records in a log file.
+ * <p>
+ * Remembers the file offset of every record and the time, level and logger of every record
+ * already read, in primitive arrays, so queries can skip records without reading and parsing
+ * them again and single records can be read directly from their offset.
+ * <p>
+ * The index is updated incrementally, only the content appended since the last update is
+ * scanned for starts of records, without parsing them. Records are parsed when some query
+ * reads them for the first time, so the first query from the end of a large file doesn't
+ * parse the whole file. The last record can still continue, so it is always scanned again.
+ * An incomplete line at the end of the file is ignored until it is finished. When the file
+ * was replaced or truncated, typically by the log rotation, the index is rebuilt.
+ * <p>
+ * The file is read by positional reads and is open only while the index is updated or
+ * a reader is open, so the index never prevents the log rotation from renaming or deleting
+ * the file.
+ * <p>
+ * The instance is thread safe.
+ */
+final class LogFileIndex {
+
+    /** Used when the record doesn't contain the date */
+    static final long UNKNOWN_TIME = Long.MIN_VALUE;
+    /** Used when the level can't be parsed */
+    static final int UNKNOWN_LEVEL = Integer.MIN_VALUE;
+
+    private static final int UNKNOWN_LOGGER = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    /** Size of a block of the file scanned at once */
+    private static final int SCAN_BLOCK_SIZE = 1024 * 1024;
+    /** Count of first bytes of the file used to detect that the file was replaced */
+    private static final int PREFIX_LENGTH = 64;
+
+    private final Path file;
+    private final Charset charset;
+
+    private LogParser parser;
+    private Object fileKey;
+    private byte[] prefix = new byte[0];
+    /** End of the last complete line */
+    private long indexedLength;
+
+    private int size;
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    /** Records with known time, level and logger */
+    private final BitSet parsedRecords = new BitSet();
+    private long[] times = new long[INITIAL_CAPACITY];
+    private int[] levels = new int[INITIAL_CAPACITY];
+    private int[] loggers = new int[INITIAL_CAPACITY];
+    private final List<String> loggerNames = new ArrayList<>();
+    private final Map<String, Integer> loggerIds = new HashMap<>();
+    private final Map<String, Integer> levelValues = new HashMap<>();
+
+
+    /**
+     * @param file indexed log file
+     * @param charset charset of the log file
+     */
+    LogFileIndex(final Path file, final Charset charset) {
+        this.file = file;
+        this.charset = charset;
+    }
+
+
+    /**
+     * Scans the content of the file appended since the last update.
+     *
+     * @return count of indexed records
+     * @throws IOException
+     */
+    synchronized int update() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long length = channel.size();
+            if (isReplaced(channel, length)) {
+                LOGGING_LOGGER.log(Level.FINE, "Log file {0} was replaced, rebuilding its index.", file);
+                reset();
+            }
+            if (length > indexedLength) {
+                if (indexedLength == 0) {
+                    parser = LogParserFactory.getInstance().createLogParser(file.toFile());
+                }
+                final long from;
+                if (size == 0) {
+                    from = indexedLength;
+                } else {
+                    // the last record might continue
+                    size--;
+                    parsedRecords.clear(size);
+                    from = offsets[size];
+                }
+                scan(channel, from, length);
+                updatePrefix(channel);
+            }
+            fileKey = readFileKey();
+            return size;
+        } catch (NoSuchFileException e) {
+            reset();
+            return 0;
+        }
+    }
+
+
+    /**
+     * @return count of indexed records, without updating the index.
+     */
+    synchronized int getRecordCount() {
+        return size;
+    }
+
+
+    /**
+     * Checks the record using indexed values only. Records not read yet and values not known
+     * to the index are considered matching.
+     *
+     * @param recordNumber
+     * @param filter
+     * @return false if the record certainly doesn't match the filter or doesn't exist.
+     */
+    synchronized boolean mayMatch(final int recordNumber, final LogRecordIndexFilter filter) {
+        if (recordNumber >= size) {
+            return false;
+        }
+        if (!parsedRecords.get(recordNumber)) {
+            return true;
+        }
+        final int loggerId = loggers[recordNumber];
+        final String logger = loggerId == UNKNOWN_LOGGER ? null : loggerNames.get(loggerId);
+        return filter.mayMatch(times[recordNumber], levels[recordNumber], logger);
+    }
+
+
+    /**
+     * @return new reader of indexed records. The reader must be closed.
+     * @throws IOException
+     */
+    RecordReader openReader() throws IOException {
+        return new RecordReader(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+
+    private void scan(final FileChannel channel, final long from, final long length) throws IOException {
+        final ByteBuffer block = ByteBuffer.allocate((int) Math.min(SCAN_BLOCK_SIZE, length - from));
+        final byte[] bytes = block.array();
+        long blockStart = from;
+        while (blockStart < length) {
+            final int blockSize = (int) Math.min(bytes.length, length - blockStart);
+            block.clear().limit(blockSize);
+            readFully(channel, block, blockStart);
+            int lineStart = 0;
+            for (int i = 0; i < blockSize; i++) {
+                if (bytes[i] == '\n') {
+                    onLine(blockStart + lineStart, decodeLine(bytes, lineStart, i));
+                    lineStart = i + 1;
+                }
+            }
+            if (lineStart == 0) {
+                if (blockSize < bytes.length) {
+                    // incomplete line, wait for the rest
+                    break;
+                }
+                // extremely long line, split it
+                onLine(blockStart, decodeLine(bytes, 0, blockSize));
+                lineStart = blockSize;
+            }
+            blockStart += lineStart;
+            indexedLength = blockStart;
+        }
+    }
+
+
+    private String decodeLine(final byte[] bytes, final int start, final int end) {
+        final int length = end > start && bytes[end - 1] == '\r' ? end - start - 1 : end - start;
+        return new String(bytes, start, length, charset);
+    }
+
+
+    private void onLine(final long offset, final String line) {
+        if (!parser.isRecordStart(line)) {
+            return;
+        }
+        if (size == offsets.length) {
+            final int capacity = size * 2;
+            offsets = Arrays.copyOf(offsets, capacity);
+            times = Arrays.copyOf(times, capacity);
+            levels = Arrays.copyOf(levels, capacity);
+            loggers = Arrays.copyOf(loggers, capacity);
+        }
+        offsets[size] = offset;
+        size++;
+    }
+
+
+    /**
+     * Remembers values of the record read by the {@link RecordReader}, if the file was not
+     * replaced meanwhile.
+     */
+    private synchronized void onRecordRead(final int recordNumber, final long offset, final LogParser recordParser,
+        final ParsedLogRecord record) {
+        if (recordNumber >= size || offsets[recordNumber] != offset || parser != recordParser) {
+            return;
+        }
+        times[recordNumber] = record == null ? UNKNOWN_TIME : toTime(record.getTimestamp());
+        levels[recordNumber] = record == null ? UNKNOWN_LEVEL : toLevelValue(record.getLevel());
+        loggers[recordNumber] = record == null ? UNKNOWN_LOGGER : toLoggerId(record.getLogger());
+        parsedRecords.set(recordNumber);
+    }
+
+
+    private static long toTime(final OffsetDateTime timestamp) {
+        return timestamp == null ? UNKNOWN_TIME : timestamp.toInstant().toEpochMilli();
+    }
+
+
+    private int toLevelValue(final String level) {
+        if (level == null) {
+            return UNKNOWN_LEVEL;
+        }
+        return levelValues.computeIfAbsent(level, LogRecordIndexFilter::toLevelValue);
+    }
+
+
+    private int toLoggerId(final String logger) {
+        if (logger == null) {
+            return UNKNOWN_LOGGER;
+        }
+        final Integer id = loggerIds.get(logger);
+        if (id != null) {
+            return id;
+        }
+        final int newId = loggerNames.size();
+        loggerNames.add(logger);
+        loggerIds.put(logger, newId);
+        return newId;
+    }
+
+
+    private boolean isReplaced(final FileChannel channel, final long length) throws IOException {
+        if (length < indexedLength) {
+            return true;
+        }
+        if (fileKey != null && !Objects.equals(fileKey, readFileKey())) {
+            return true;
+        }
+        return !Arrays.equals(prefix, readPrefix(channel, prefix.length));
+    }
+
+
+    private Object readFileKey() throws IOException {
+        return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+    }
+
+
+    private void updatePrefix(final FileChannel channel) throws IOException {
+        final int length = (int) Math.min(PREFIX_LENGTH, indexedLength);
+        if (prefix.length < length) {
+            prefix = readPrefix(channel, length);
+        }
+    }
+
+
+    private static byte[] readPrefix(final FileChannel channel, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        final int count = readFully(channel, buffer, 0);
+        return count == length ? buffer.array() : Arrays.copyOf(buffer.array(), count);
+    }
+
+
+    /**
+     * Reads the file from the position until the buffer is full or the end of file is reached.
+     *
+     * @return count of read bytes
+     */
+    private static int readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+        throws IOException {
+        final int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position() - start) < 0) {
+                break;
+            }
+        }
+        return buffer.position() - start;
+    }
+
+
+    private void reset() {
+        parser = null;
+        fileKey = null;
+        prefix = new byte[0];
+        indexedLength = 0;
+        size = 0;
+        parsedRecords.clear();
+        loggerNames.clear();
+        loggerIds.clear();
+    }
+
+
+    /**
+     * Reads indexed records directly from their offsets and remembers their values in the index.
+     */
+    final class RecordReader implements Closeable {
+
+        private final FileChannel channel;
+
+        private RecordReader(final FileChannel channel) {
+            this.channel = channel;
+        }
+
+
+        /**
+         * @param recordNumber
+         * @return parsed record or null if the record is not valid.
+         * @throws IOException
+         */
+        ParsedLogRecord read(final int recordNumber) throws IOException {
+            final LogParser recordParser;
+            final long start;
+            final long end;
+            synchronized (LogFileIndex.this) {
+                if (recordNumber >= size) {
+                    return null;
+                }
+                recordParser = parser;
+                start = offsets[recordNumber];
+                end = recordNumber + 1 < size ? offsets[recordNumber + 1] : indexedLength;
+            }
+            final ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+            if (readFully(channel, buffer, start) < buffer.capacity()) {
+                // replaced meanwhile
+                return null;
+            }
+            ParsedLogRecord record;
+            try {
+                record = recordParser.parseLogRecord(new String(buffer.array(), charset));
+            } catch (LogParserException | RuntimeException e) {
+                LOGGING_LOGGER.log(Level.FINEST, "Could not parse the log record " + recordNumber, e);
+                record = null;
+            }
+            onRecordRead(recordNumber, start, recordParser, record);
+            return record;
+        }
+
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
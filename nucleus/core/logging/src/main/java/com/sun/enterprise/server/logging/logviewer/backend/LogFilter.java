@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.List;
@@ -175,7 +176,7 @@ public class LogFilter {
         }
         boolean forwd = forward == null ? true : forward.booleanValue();
         boolean nxt = next == null ? true : next.booleanValue();
-        long reqCount = requestedCount == null ? logFile.getIndexSize() : requestedCount.intValue();
+        long reqCount = requestedCount == null ? LogFile.DEFAULT_PAGE_SIZE : requestedCount.intValue();
         long startingRecord;
         if (fromRecord == -1) {
             // In this case next/previous (before/after) don't mean much since
@@ -183,10 +184,9 @@ public class LogFilter {
             // according to the direction.
             nxt = forwd;
 
-            // We +1 for reverse so that we see the very end of the file (the
-            // query will not go past the "startingRecord", so we have to put
-            // it after the end of the file)
-            startingRecord = forwd ? -1 : (logFile.getLastIndexNumber() + 1) * logFile.getIndexSize();
+            // For reverse we start after the last record so that we see the very
+            // end of the file (the query will not include the "startingRecord")
+            startingRecord = forwd ? -1 : logFile.getRecordCount();
         } else {
             startingRecord = fromRecord.longValue();
             if (startingRecord < -1) {
@@ -194,10 +194,6 @@ public class LogFilter {
             }
         }
 
-        // TO DO: If the fromRecord count is zero and the fromDate entry is
-        // non-null, then the system should take advantage of file Indexing.
-        // It should move the file position to the marker where the DateTime
-        // query matches.
         try {
             return fetchRecordsUsingQuery(logFile, startingRecord, nxt, forwd,
                 reqCount, fromDate, toDate, logLevel,
@@ -419,7 +415,7 @@ public class LogFilter {
         boolean forwd = (forward == null) ? true : forward.booleanValue();
         boolean nxt = (next == null) ? true : next.booleanValue();
         long reqCount = (requestedCount == null) ?
-            logFile.getIndexSize() : requestedCount.intValue();
+            LogFile.DEFAULT_PAGE_SIZE : requestedCount.intValue();
         long startingRecord;
         if (fromRecord == -1) {
             // In this case next/previous (before/after) don't mean much since
@@ -427,11 +423,9 @@ public class LogFilter {
             // according to the direction.
             nxt = forwd;
 
-            // We +1 for reverse so that we see the very end of the file (the
-            // query will not go past the "startingRecord", so we have to put
-            // it after the end of the file)
-            startingRecord = forwd ?
-                (-1) : ((logFile.getLastIndexNumber() + 1) * logFile.getIndexSize());
+            // For reverse we start after the last record so that we see the very
+            // end of the file (the query will not include the "startingRecord")
+            startingRecord = forwd ? -1 : logFile.getRecordCount();
         } else {
             startingRecord = fromRecord.longValue();
             if (startingRecord < -1) {
@@ -440,10 +434,6 @@ public class LogFilter {
             }
         }
 
-        // TO DO: If the fromRecord count is zero and the fromDate entry is
-        // non-null, then the system should take advantage of file Indexing.
-        // It should move the file position to the marker where the DateTime
-        // query matches.
         try {
             return fetchRecordsUsingQuery(logFile, startingRecord, nxt, forwd,
                 reqCount, fromDate, toDate, logLevel,
@@ -457,108 +447,25 @@ public class LogFilter {
 
     /**
      * Internal method that will be called from getLogRecordsUsingQuery()
+     * <p/>
+     * Records are streamed from the record after (next) or before (previous)
+     * the startingRecord. The date, level and module criteria are evaluated
+     * on the log file index first, so other records are not read at all.
      */
     protected AttributeList fetchRecordsUsingQuery(
         LogFile logFile, long startingRecord, boolean next, boolean forward,
         long requestedCount, Instant fromDate, Instant toDate, String logLevel,
         boolean onlyLevel, List listOfModules, Properties nameValueMap, String anySearch) {
-        // If !next, then set to search in reverse
-        boolean origForward = forward;
-        if (next) {
-            startingRecord++;
-            forward = true;
-        } else {
-            forward = false;
-        }
-
-        // Setup forward/reverse stuff
-        int inc = 1;
-        int start = 0;  // depends on length of results (for reverse)
-        int end = -1;   // depends on length of results (for forward)
-        long searchChunkIncrement = requestedCount;
-        if (!forward) {
-            inc = -1;
-            // Move back to find records before the startingRecord
-            // -1 because we still want to see the starting record (only if in
-            // "next" mode)
-            startingRecord -=
-                ((next) ? (searchChunkIncrement - 1) : (searchChunkIncrement));
-            if (startingRecord < 0) {
-                // Don't go past the original startingRecord
-                searchChunkIncrement += startingRecord;
-                startingRecord = 0;
-            }
-        }
-
-        // Make sure the module names are correct
-        //updateModuleList(listOfModules);
-
-        // Keep pulling records to search through until we get enough matches
-        List results = new ArrayList();
-        List records = null;
-        LogFile.LogEntry entry = null;
-        while (results.size() < requestedCount) {
-            // The following will always return unfiltered forward records
-            records = logFile.getLogEntries(
-                startingRecord, searchChunkIncrement);
-            if (records == null) {
-                break;
-            }
-
-            // Determine end/start
-            if (forward) {
-                end = records.size();
-            } else {
-                start = records.size() - 1;
-            }
-
-            // Loop through the records, filtering and storing the matches
-            for (int count = start;
-                (count != end) && (results.size() < requestedCount);
-                count += inc) {
-                entry = (LogFile.LogEntry) records.get(count);
-                if (allChecks(entry, fromDate, toDate, logLevel, onlyLevel,
-                    listOfModules, nameValueMap, anySearch)) {
-                    results.add(entry);
-                }
-            }
-
-            // Update startingRecord / searchChunkIncrement & check for finish
-            if (forward) {
-                // If the record size is smaller than requested, then there
-                // are no more records.
-                if (records.size() < searchChunkIncrement) {
-                    break;
-                }
-
-                // Get starting record BEFORE updating searchChunkIncrement to
-                // skip all the records we already saw
-                startingRecord += searchChunkIncrement * inc;
-                searchChunkIncrement = requestedCount - results.size();
-            } else {
-                // If we already searched from 0, then there are no more
-                if (startingRecord == 0) {
-                    break;
-                }
-
-                // Get starting record AFTER updating searchChunkIncrement
-                searchChunkIncrement = requestedCount - results.size();
-                startingRecord += searchChunkIncrement * inc;
-                if (startingRecord < 1) {
-                    searchChunkIncrement += startingRecord;
-                    startingRecord = 0;
-                }
-            }
-        }
+        // If !next, then search in reverse to find records before the startingRecord
+        final long firstRecord = next ? startingRecord + 1 : startingRecord - 1;
+        final LogRecordIndexFilter indexFilter = new LogRecordIndexFilter(fromDate, toDate, logLevel, onlyLevel,
+            listOfModules);
+        List<LogFile.LogEntry> results = logFile.findLogEntries(firstRecord, next, requestedCount, indexFilter,
+            entry -> allChecks(entry, fromDate, toDate, logLevel, onlyLevel, listOfModules, nameValueMap, anySearch));
 
         // Deal with previous&forward or next&reverse
-        if (next ^ origForward) {
-            List reversedResults = new ArrayList();
-            // Reverse the results
-            for (int count = results.size() - 1; count > -1; count--) {
-                reversedResults.add(results.get(count));
-            }
-            results = reversedResults;
+        if (next ^ forward) {
+            Collections.reverse(results);
         }
 
         // Return the matches.  If this is less than requested, then there are
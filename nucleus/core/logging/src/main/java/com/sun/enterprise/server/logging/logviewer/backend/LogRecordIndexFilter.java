@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.server.logging.logviewer.backend;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Level;
+
+import static com.sun.enterprise.server.logging.logviewer.backend.LogFileIndex.UNKNOWN_LEVEL;
+import static com.sun.enterprise.server.logging.logviewer.backend.LogFileIndex.UNKNOWN_TIME;
+
+/**
+ * Part of the log query which can be evaluated using values stored in the {@link LogFileIndex}.
+ * <p>
+ * The filter is benevolent, it never rejects a record which could match the same query
+ * evaluated by the {@link LogFilter} on the parsed record. Unknown values always match.
+ */
+final class LogRecordIndexFilter {
+
+    /** Doesn't filter anything */
+    static final LogRecordIndexFilter ALL = new LogRecordIndexFilter(null, null, null, false, null);
+
+    private final long fromMillis;
+    private final long toMillis;
+    private final int levelValue;
+    private final boolean onlyLevel;
+    private final Set<String> loggers;
+
+    /**
+     * @param fromDate can be null, then the time is not filtered
+     * @param toDate can be null, then the time is not filtered
+     * @param level can be null
+     * @param onlyLevel true to match just the same level, false to match also more severe levels
+     * @param loggers can be null or empty, then loggers are not filtered
+     */
+    LogRecordIndexFilter(final Instant fromDate, final Instant toDate, final String level, final boolean onlyLevel,
+        final Collection<?> loggers) {
+        final boolean timeFilter = fromDate != null && toDate != null;
+        // the index has millisecond precision
+        this.fromMillis = timeFilter ? fromDate.toEpochMilli() : Long.MIN_VALUE;
+        this.toMillis = timeFilter ? toDate.toEpochMilli() : Long.MAX_VALUE;
+        // same as LogFilter.levelCheck
+        this.levelValue = level == null ? UNKNOWN_LEVEL : toLevelValue(onlyLevel ? level.trim() : level);
+        this.onlyLevel = onlyLevel;
+        if (loggers == null || loggers.isEmpty()) {
+            this.loggers = null;
+        } else {
+            this.loggers = new HashSet<>();
+            for (Object logger : loggers) {
+                this.loggers.add(logger.toString().trim());
+            }
+        }
+    }
+
+
+    /**
+     * @param time epoch millis or {@link LogFileIndex#UNKNOWN_TIME}
+     * @param level level value or {@link LogFileIndex#UNKNOWN_LEVEL}
+     * @param logger logger name or null
+     * @return false if the record certainly doesn't match.
+     */
+    boolean mayMatch(final long time, final int level, final String logger) {
+        if (time != UNKNOWN_TIME && (time < fromMillis || time > toMillis)) {
+            return false;
+        }
+        if (levelValue != UNKNOWN_LEVEL && level != UNKNOWN_LEVEL) {
+            if (onlyLevel ? level != levelValue : level < levelValue) {
+                return false;
+            }
+        }
+        return loggers == null || logger == null || loggers.contains(logger.trim());
+    }
+
+
+    /**
+     * @param level level name or value
+     * @return {@link Level#intValue()} or {@link LogFileIndex#UNKNOWN_LEVEL}
+     */
+    static int toLevelValue(final String level) {
+        try {
+            return Level.parse(level).intValue();
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN_LEVEL;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,8 +18,11 @@
 package com.sun.enterprise.server.logging.parser;
 
 import java.io.BufferedReader;
+import java.io.StringReader;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 import static java.time.temporal.ChronoField.HOUR_OF_DAY;
@@ -88,4 +91,30 @@ public interface LogParser {
 
     void parseLog(BufferedReader reader, LogParserListener listener) throws LogParserException;
 
+
+    /**
+     * Detects lines which start a new log record, so the log file can be split to records
+     * without parsing them.
+     *
+     * @param line line of the log file without the line separator
+     * @return true if the line starts a new record, false if it continues the previous one.
+     */
+    default boolean isRecordStart(String line) {
+        return true;
+    }
+
+
+    /**
+     * Parses a single log record, ie. the text starting with the line detected by
+     * the {@link #isRecordStart(String)} and ending before the next record.
+     *
+     * @param logRecord text of the log record
+     * @return {@link ParsedLogRecord} or null if the text doesn't contain any valid record.
+     * @throws LogParserException
+     */
+    default ParsedLogRecord parseLogRecord(String logRecord) throws LogParserException {
+        final List<ParsedLogRecord> records = new ArrayList<>(1);
+        parseLog(new BufferedReader(new StringReader(logRecord)), (position, record) -> records.add(record));
+        return records.isEmpty() ? null : records.get(0);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,8 +44,7 @@ final class ODLLogParser implements LogParser {
             final StringBuilder buffer = new StringBuilder();
             long position = 0L;
             while ((line = reader.readLine()) != null) {
-                Matcher m = RECORD_START.matcher(line);
-                if (m.matches()) {
+                if (isRecordStart(line)) {
                     // We have found another record
                     // Construct a parsed log record from the prior content
                     String logRecord = buffer.toString();
@@ -64,6 +63,12 @@ final class ODLLogParser implements LogParser {
     }
 
 
+    @Override
+    public boolean isRecordStart(String line) {
+        return RECORD_START.matcher(line).matches();
+    }
+
+
     private void process(long position, String logRecord, LogParserListener listener) {
         ParsedLogRecord parsedLogRecord = parse(logRecord);
         if (parsedLogRecord != null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -41,7 +41,7 @@ final class UniformLogParser implements LogParser {
             StringBuilder buffer = new StringBuilder();
             long position = 0L;
             while ((line = reader.readLine()) != null) {
-                if (line.startsWith(LOG_RECORD_BEGIN_MARKER)) {
+                if (isRecordStart(line)) {
                     // Construct a parsed log record from the prior content
                     String logRecord = buffer.toString();
                     parseLogRecord(position, logRecord, listener);
@@ -60,6 +60,12 @@ final class UniformLogParser implements LogParser {
     }
 
 
+    @Override
+    public boolean isRecordStart(String line) {
+        return line.startsWith(LOG_RECORD_BEGIN_MARKER);
+    }
+
+
     private void parseLogRecord(long position, String logRecord, LogParserListener listener) {
         ParsedLogRecord parsedLogRecord = parse(logRecord);
         if (parsedLogRecord != null) {
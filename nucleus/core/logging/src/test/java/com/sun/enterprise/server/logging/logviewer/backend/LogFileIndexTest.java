@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.server.logging.logviewer.backend;
+
+import com.sun.enterprise.server.logging.logviewer.backend.LogFile.LogEntry;
+import com.sun.enterprise.server.logging.parser.LogParser;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogFileIndexTest {
+
+    private static final String LOGGER_CORE = "jakarta.enterprise.system.core";
+    private static final String ONELINE_RECORD = "14:43:28.000001  SEVERE                 main"
+        + "      org.acme.Test.method Appended message\n";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void uniformFormat() throws Exception {
+        final LogFile logFile = copyLog("uniform-server.log");
+        assertEquals(16, logFile.getRecordCount());
+        assertThat(logFile.getLogEntries(0), hasSize((int) LogFile.DEFAULT_PAGE_SIZE));
+
+        final List<LogEntry> entries = logFile.getLogEntries(0, 100);
+        assertThat(entries, hasSize(16));
+        assertAll(
+            () -> assertEquals(0L, entries.get(0).getRecordNumber()),
+            () -> assertEquals("NCLS-LOGGING-00009", entries.get(0).getMessageId()),
+            () -> assertEquals("jakarta.enterprise.logging", entries.get(0).getLoggedLoggerName()),
+            () -> assertEquals(15L, entries.get(15).getRecordNumber()),
+            () -> assertEquals("jakarta.enterprise.bootstrap", entries.get(15).getLoggedLoggerName())
+        );
+        assertThat(recordNumbers(logFile.getLogEntries(14, 10)), contains(14L, 15L));
+    }
+
+
+    @Test
+    public void lastRecordsOfLogger() throws Exception {
+        final LogFile logFile = copyLog("uniform-server.log");
+        final LogRecordIndexFilter filter = new LogRecordIndexFilter(null, null, "INFO", false, List.of(LOGGER_CORE));
+        final List<LogEntry> entries = logFile.findLogEntries(Long.MAX_VALUE, false, 2, filter, entry -> true);
+        assertThat(recordNumbers(entries), contains(14L, 11L));
+
+        final LogRecordIndexFilter severe = new LogRecordIndexFilter(null, null, "SEVERE", false, null);
+        assertThat(logFile.findLogEntries(Long.MAX_VALUE, false, 2, severe, entry -> true), hasSize(0));
+    }
+
+
+    @Test
+    public void recordsParsedOnFirstRead() throws Exception {
+        final LogFile logFile = copyLog("uniform-server.log");
+        final LogFileIndex index = new LogFileIndex(new File(logFile.getLogFileName()).toPath(),
+            Charset.defaultCharset());
+        assertEquals(16, index.update());
+        final LogRecordIndexFilter severe = new LogRecordIndexFilter(null, null, "SEVERE", false, null);
+        assertTrue(index.mayMatch(15, severe), "not read yet");
+        try (LogFileIndex.RecordReader reader = index.openReader()) {
+            assertEquals("jakarta.enterprise.bootstrap", reader.read(15).getLogger());
+        }
+        assertAll(
+            () -> assertFalse(index.mayMatch(15, severe), "read INFO record"),
+            () -> assertTrue(index.mayMatch(14, severe), "not read yet")
+        );
+    }
+
+
+    @Test
+    public void timeRange() throws Exception {
+        final LogFile logFile = copyLog("uniform-server.log");
+        final LogRecordIndexFilter filter = new LogRecordIndexFilter(Instant.parse("2022-06-30T20:57:35.740Z"),
+            Instant.parse("2022-06-30T20:57:35.786Z"), null, false, null);
+        final List<LogEntry> entries = logFile.findLogEntries(0, true, 100, filter, entry -> true);
+        assertThat(recordNumbers(entries), contains(7L, 8L, 9L, 10L));
+    }
+
+
+    @Test
+    public void odlFormat() throws Exception {
+        final LogFile logFile = copyLog("odl-server.log");
+        assertEquals(17, logFile.getRecordCount());
+        assertThat(logFile.getLogEntries(0, 100), hasSize(17));
+    }
+
+
+    @Test
+    public void appendedRecords() throws Exception {
+        final LogFile logFile = copyLog("oneline-server.log");
+        final LogRecordIndexFilter severe = new LogRecordIndexFilter(null, null, "SEVERE", true, null);
+        assertThat(recordNumbers(logFile.findLogEntries(Long.MAX_VALUE, false, 10, severe, entry -> true)),
+            contains(2L, 1L));
+
+        final Path path = new File(logFile.getLogFileName()).toPath();
+        append(path, ONELINE_RECORD + ONELINE_RECORD.substring(0, 20));
+        assertEquals(4, logFile.getRecordCount(), "incomplete line is not indexed yet");
+        append(path, ONELINE_RECORD.substring(20));
+        assertEquals(5, logFile.getRecordCount());
+        assertThat(recordNumbers(logFile.findLogEntries(Long.MAX_VALUE, false, 10, severe, entry -> true)),
+            contains(4L, 3L, 2L, 1L));
+    }
+
+
+    @Test
+    public void appendedMultilineRecord() throws Exception {
+        final LogFile logFile = copyLog("uniform-server.log");
+        assertEquals(16, logFile.getRecordCount());
+        final Path path = new File(logFile.getLogFileName()).toPath();
+        append(path, "[#|2022-07-24T14:21:58.000001+02:00|SEVERE|glassfish 7.0|org.acme|_ThreadID=1;"
+            + "_ThreadName=main;|First line\n");
+        assertEquals(17, logFile.getRecordCount());
+        append(path, "Second line|#]\n\n");
+        assertEquals(17, logFile.getRecordCount());
+        final List<LogEntry> entries = logFile.getLogEntries(16, 10);
+        assertThat(entries, hasSize(1));
+        assertAll(
+            () -> assertEquals("SEVERE", entries.get(0).getLoggedLevel()),
+            () -> assertEquals("First line\nSecond line", entries.get(0).getLoggedMessage().replace("\r", ""))
+        );
+    }
+
+
+    @Test
+    public void rotatedFile() throws Exception {
+        final LogFile logFile = copyLog("uniform-server.log");
+        assertEquals(16, logFile.getRecordCount());
+        final Path path = new File(logFile.getLogFileName()).toPath();
+        Files.move(path, tempDir.resolve("server.log_2026-01-01T00-00-00"));
+        assertEquals(0, logFile.getRecordCount());
+        Files.writeString(path, ONELINE_RECORD, Charset.defaultCharset());
+        assertEquals(1, logFile.getRecordCount());
+        assertEquals("org.acme.Test.method", logFile.getLogEntries(0, 10).get(0).getLoggedLoggerName());
+    }
+
+
+    private LogFile copyLog(final String resource) throws Exception {
+        final Path target = tempDir.resolve("server.log");
+        try (InputStream input = LogParser.class.getResourceAsStream(resource)) {
+            Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return new LogFile(target.toString());
+    }
+
+
+    private static void append(final Path path, final String text) throws Exception {
+        Files.writeString(path, text, Charset.defaultCharset(), StandardOpenOption.APPEND);
+    }
+
+
+    private static List<Long> recordNumbers(final List<LogEntry> entries) {
+        return entries.stream().map(LogEntry::getRecordNumber).collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation. All rights reserved.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2006, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,8 +17,10 @@
 
 package com.sun.enterprise.deploy.shared;
 
+import com.sun.enterprise.deployment.deploy.shared.InputJarArchive;
 import com.sun.enterprise.deployment.deploy.shared.Util;
 import com.sun.enterprise.util.io.FileUtils;
+import com.sun.enterprise.util.zip.ParallelZipExtractor;
 
 import jakarta.inject.Inject;
 
@@ -470,6 +472,34 @@ public class FileArchive extends AbstractReadableArchive implements WritableArch
         return new WritableArchiveEntry(() -> outputStream, outputStream::close);
     }
 
+    /**
+     * Extracts a jar file by several threads, files which already exist with the same content
+     * are not written again.
+     *
+     * @param source the archive to extract
+     * @return false if the source is not a local jar file, then the caller has to copy the entries
+     */
+    @Override
+    public boolean extract(ReadableArchive source) throws IOException {
+        final URI sourceURI = source.getURI();
+        if (!(source instanceof InputJarArchive) || sourceURI == null || !"file".equals(sourceURI.getScheme())) {
+            return false;
+        }
+        final File sourceFile = new File(sourceURI);
+        if (!sourceFile.isFile()) {
+            return false;
+        }
+        ParallelZipExtractor.extract(sourceFile, archive);
+        for (Enumeration<String> entries = source.entries(); entries.hasMoreElements();) {
+            staleFileManager().recordValidEntry(new File(archive, entries.nextElement()));
+        }
+        final File manifest = new File(archive, JarFile.MANIFEST_NAME);
+        if (manifest.exists()) {
+            staleFileManager().recordValidEntry(manifest);
+        }
+        return true;
+    }
+
     /**
      * Returns the name portion of the archive's URI.
      * <p>
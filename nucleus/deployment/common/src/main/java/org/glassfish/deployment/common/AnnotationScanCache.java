@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.deployment.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.glassfish.api.admin.ServerEnvironment;
+import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.internal.api.Globals;
+
+/**
+ * Results of annotation scans of jar files, keyed by the content hash of the jar file and
+ * scanned annotations. Jar files which didn't change since the previous deployment don't
+ * have to be scanned again.
+ * <p>
+ * The content hash is computed from names, sizes and CRC checksums of all entries, which
+ * are read from the central directory of the jar file, so it is much cheaper than parsing
+ * all classes.
+ * <p>
+ * The cache is stored in the generated directory of the server, so it survives restarts.
+ */
+public final class AnnotationScanCache {
+
+    private static final Logger LOG = DeploymentContextImpl.deplLogger;
+
+    private static final String CACHE_FILE_NAME = "annotation-scan-cache.properties";
+
+    /** Cache is cleared when it has more entries, entries of old jars are never used again */
+    private static final int MAX_ENTRIES = Integer.getInteger("org.glassfish.deployment.annotationScanCache.maxEntries",
+        10_000);
+
+    private static volatile AnnotationScanCache instance;
+
+    private final File cacheFile;
+    private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+    private volatile boolean changed;
+
+
+    AnnotationScanCache(File cacheFile) {
+        this.cacheFile = cacheFile;
+        load();
+    }
+
+
+    /**
+     * @return cache stored in the generated directory of the server or cache kept just in memory
+     *         when running out of the server.
+     */
+    public static AnnotationScanCache getInstance() {
+        if (instance == null) {
+            synchronized (AnnotationScanCache.class) {
+                if (instance == null) {
+                    instance = new AnnotationScanCache(getDefaultCacheFile());
+                }
+            }
+        }
+        return instance;
+    }
+
+
+    /**
+     * @param key key created by {@link #createKey(File, List)}
+     * @return cached result of the scan or null if the jar was not scanned yet
+     */
+    public Boolean get(String key) {
+        return results.get(key);
+    }
+
+
+    /**
+     * @param key key created by {@link #createKey(File, List)}
+     * @param found true if the jar contains some of the annotations
+     */
+    public void put(String key, boolean found) {
+        if (results.size() >= MAX_ENTRIES) {
+            results.clear();
+        }
+        if (!Boolean.valueOf(found).equals(results.put(key, found))) {
+            changed = true;
+        }
+    }
+
+
+    /**
+     * Stores the cache to the file, if it was changed.
+     */
+    public synchronized void store() {
+        if (!changed || cacheFile == null) {
+            return;
+        }
+        changed = false;
+        final Properties properties = new Properties();
+        results.forEach((key, found) -> properties.setProperty(key, found.toString()));
+        final File tmpFile = new File(cacheFile.getParentFile(), cacheFile.getName() + ".tmp");
+        try {
+            if (!cacheFile.getParentFile().isDirectory() && !cacheFile.getParentFile().mkdirs()) {
+                throw new IOException("Could not create directory " + cacheFile.getParentFile());
+            }
+            try (OutputStream output = Files.newOutputStream(tmpFile.toPath())) {
+                properties.store(output, null);
+            }
+            Files.move(tmpFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not store the annotation scan cache to " + cacheFile, e);
+        }
+    }
+
+
+    /**
+     * @param jarFile scanned jar file
+     * @param annotations descriptors of scanned annotations
+     * @return key of the scan result.
+     * @throws IOException if the jar file cannot be read
+     */
+    public static String createKey(File jarFile, List<String> annotations) throws IOException {
+        final MessageDigest digest = createDigest();
+        digestJar(digest, jarFile);
+        for (String annotation : annotations) {
+            digest.update(annotation.getBytes(StandardCharsets.UTF_8));
+        }
+        return toKey(digest);
+    }
+
+
+    /**
+     * Updates the digest with names, sizes and CRC checksums of all entries of the jar file.
+     */
+    static void digestJar(MessageDigest digest, File jarFile) throws IOException {
+        try (ZipFile zip = new ZipFile(jarFile)) {
+            final Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                final ZipEntry entry = entries.nextElement();
+                digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+                digest.update(toBytes(entry.getSize()));
+                digest.update(toBytes(entry.getCrc()));
+            }
+        }
+    }
+
+
+    static String toKey(MessageDigest digest) {
+        return new BigInteger(1, digest.digest()).toString(Character.MAX_RADIX);
+    }
+
+
+    private void load() {
+        if (cacheFile == null || !cacheFile.isFile()) {
+            return;
+        }
+        final Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(cacheFile.toPath())) {
+            properties.load(input);
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.log(Level.WARNING, "Could not load the annotation scan cache from " + cacheFile + ", it will be recreated.", e);
+            return;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            results.put(key, Boolean.valueOf(properties.getProperty(key)));
+        }
+        LOG.log(Level.FINE, "Loaded {0} annotation scan results from {1}", new Object[] {results.size(), cacheFile});
+    }
+
+
+    private static File getDefaultCacheFile() {
+        final ServiceLocator locator = Globals.getDefaultHabitat();
+        if (locator == null) {
+            return null;
+        }
+        final ServerEnvironment env = locator.getService(ServerEnvironment.class);
+        return env == null ? null : new File(env.getApplicationStubPath(), CACHE_FILE_NAME);
+    }
+
+
+    static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    static byte[] toBytes(long value) {
+        final byte[] bytes = new byte[Long.BYTES];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (value >>> (i * 8));
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.deployment.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.glassfish.hk2.classmodel.reflect.Parser;
+
+/**
+ * Class models of deployed applications, keyed by the application name. The class model
+ * parsed by a previous deployment is reused when the application is deployed again and
+ * the content hash of its archive and external libraries didn't change.
+ * <p>
+ * The content hash of a jar file is computed like in {@link AnnotationScanCache}, files of
+ * directories are hashed by their names, sizes and CRC checksums. Modification times are not
+ * used, because the expanded archive is written again by every deployment.
+ * <p>
+ * Class models are kept just in memory and are softly referenced, so they are released
+ * when the memory is needed.
+ */
+public final class DeployableTypesCache {
+
+    private static final Logger LOG = DeploymentContextImpl.deplLogger;
+
+    private static final DeployableTypesCache INSTANCE = new DeployableTypesCache();
+
+    private final Map<String, CachedParser> parsers = new ConcurrentHashMap<>();
+
+
+    DeployableTypesCache() {
+    }
+
+
+    /**
+     * @return cache shared by all deployments
+     */
+    public static DeployableTypesCache getInstance() {
+        return INSTANCE;
+    }
+
+
+    /**
+     * @param appName name of the application
+     * @param key key created by {@link #createKey(List)}, can be null
+     * @return parser holding the class model of the application or null if the application
+     *         was not parsed yet, was changed since or the class model was released
+     */
+    public Parser get(String appName, String key) {
+        if (appName == null || key == null) {
+            return null;
+        }
+        final CachedParser cached = parsers.get(appName);
+        if (cached == null || !cached.key.equals(key)) {
+            return null;
+        }
+        final Parser parser = cached.parser.get();
+        if (parser == null) {
+            parsers.remove(appName, cached);
+        }
+        return parser;
+    }
+
+
+    /**
+     * @param appName name of the application
+     * @param key key created by {@link #createKey(List)}, if null, nothing is cached
+     * @param parser parser holding the class model of the application
+     */
+    public void put(String appName, String key, Parser parser) {
+        if (appName == null || key == null) {
+            return;
+        }
+        parsers.put(appName, new CachedParser(key, parser));
+    }
+
+
+    /**
+     * Releases the class model of the application.
+     *
+     * @param appName name of the application
+     */
+    public void remove(String appName) {
+        if (appName != null) {
+            parsers.remove(appName);
+        }
+    }
+
+
+    /**
+     * @param archives URIs of the application archive and of its external libraries
+     * @return key of the class model or null if some archive is not a local file or directory
+     */
+    public static String createKey(List<URI> archives) {
+        final MessageDigest digest = AnnotationScanCache.createDigest();
+        try {
+            for (URI uri : archives) {
+                if (!"file".equals(uri.getScheme())) {
+                    return null;
+                }
+                final File file = new File(uri);
+                digest.update(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+                if (file.isDirectory()) {
+                    digestDirectory(digest, file.toPath());
+                } else if (file.isFile()) {
+                    AnnotationScanCache.digestJar(digest, file);
+                } else {
+                    return null;
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.log(Level.FINE, "Could not compute the content hash of " + archives, e);
+            return null;
+        }
+        return AnnotationScanCache.toKey(digest);
+    }
+
+
+    private static void digestDirectory(MessageDigest digest, Path directory) throws IOException {
+        final List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        final byte[] buffer = new byte[8192];
+        for (Path file : files) {
+            digest.update(directory.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(AnnotationScanCache.toBytes(Files.size(file)));
+            digest.update(AnnotationScanCache.toBytes(crc(file, buffer)));
+        }
+    }
+
+
+    private static long crc(Path file, byte[] buffer) throws IOException {
+        final CRC32 crc = new CRC32();
+        try (InputStream input = Files.newInputStream(file)) {
+            int count;
+            while ((count = input.read(buffer)) != -1) {
+                crc.update(buffer, 0, count);
+            }
+        }
+        return crc.getValue();
+    }
+
+
+    private static final class CachedParser {
+
+        private final String key;
+        private final SoftReference<Parser> parser;
+
+        CachedParser(String key, Parser parser) {
+            this.key = key;
+            this.parser = new SoftReference<>(parser);
+        }
+    }
+}
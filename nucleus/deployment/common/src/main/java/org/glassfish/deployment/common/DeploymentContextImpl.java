@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2006, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,6 +44,7 @@ import org.glassfish.api.ActionReport;
 import org.glassfish.api.admin.ServerEnvironment;
 import org.glassfish.api.deployment.InstrumentableClassLoader;
 import org.glassfish.api.deployment.OpsParams;
+import org.glassfish.api.deployment.UndeployCommandParameters;
 import org.glassfish.api.deployment.archive.ArchiveHandler;
 import org.glassfish.api.deployment.archive.ReadableArchive;
 import org.glassfish.deployment.versioning.VersioningUtils;
@@ -473,6 +474,13 @@ public class DeploymentContextImpl implements ExtendedDeploymentContext, PreDest
             // Remove generated/jsp
             whack(getScratchDir("jsp"));
 
+            // Remove generated/classloader and the cached class model unless the application
+            // is redeployed, then they can be reused
+            if (!isRedeploy()) {
+                whack(getScratchDir("classloader"));
+                DeployableTypesCache.getInstance().remove(parameters.name());
+            }
+
             // Remove the internal archive directory which holds the original
             // archive (and possibly deployment plan) that cluster sync can use
             whack(getAppInternalDir());
@@ -493,6 +501,11 @@ public class DeploymentContextImpl implements ExtendedDeploymentContext, PreDest
         }
     }
 
+    private boolean isRedeploy() {
+        return parameters instanceof UndeployCommandParameters
+            && TRUE.equals(((UndeployCommandParameters) parameters).isRedeploy());
+    }
+
     @Override
     public ArchiveHandler getArchiveHandler() {
         return archiveHandler;
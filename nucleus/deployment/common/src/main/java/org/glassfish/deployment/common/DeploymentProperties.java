@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -446,6 +447,7 @@ public class DeploymentProperties extends Properties {
     public static final String EXTERNALLY_MANAGED = "externallyManaged";
     public static final String PATH = "path";
     public static final String COMPATIBILITY = "compatibility";
+    public static final String CLASS_LOADER_INDEX = "classLoaderIndex";
     public static final String DEFAULT_APP_NAME = "defaultAppName";
 
     ////////////////////////////////////////////////
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -270,6 +270,24 @@ public class DeploymentUtils {
         return V2_COMPATIBILITY.equals(context.getAppProps().getProperty(DeploymentProperties.COMPATIBILITY));
     }
 
+    /**
+     * Returns the file of the persistent class loader index, if enabled by the
+     * {@link DeploymentProperties#CLASS_LOADER_INDEX} deployment property.
+     * The file is placed in the <code>generated/classloader</code> directory which is removed
+     * on undeployment, but not on redeployment, so the index can be reused after redeployment
+     * of an unchanged application.
+     *
+     * @param context deployment context of the module
+     * @param name name of the index file
+     * @return the index file or null if the index is not enabled
+     */
+    public static File getClassLoaderIndexFile(DeploymentContext context, String name) {
+        if (!Boolean.parseBoolean(context.getAppProps().getProperty(DeploymentProperties.CLASS_LOADER_INDEX))) {
+            return null;
+        }
+        return new File(context.getScratchDir("classloader"), name);
+    }
+
     public static String relativizeWithinDomainIfPossible(final URI absURI) throws URISyntaxException {
         URI appURI = new URI(System.getProperty(INSTANCE_ROOT_URI_PROPERTY_NAME)).relativize(absURI);
 
@@ -303,6 +321,9 @@ public class DeploymentUtils {
      * @throws IOException when the archive is corrupted
      */
     public static void expand(ReadableArchive source, WritableArchive target) throws IOException {
+        if (target.extract(source)) {
+            return;
+        }
         Enumeration<String> e = source.entries();
         while (e.hasMoreElements()) {
             String entryName = e.nextElement();
@@ -1,6 +1,6 @@
 /*
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -108,46 +108,84 @@ public class GenericAnnotationDetector extends AnnotationScanner {
         return null;
     }
 
+    /**
+     * Scans the archive and jar files in its root. Results of scans of jar files are cached
+     * by the {@link AnnotationScanCache}.
+     */
     @Override
     public void scanArchive(ReadableArchive archive) {
+        final long start = System.nanoTime();
+        final AnnotationScanCache cache = AnnotationScanCache.getInstance();
         try {
-            int crFlags = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
-            Enumeration<String> entries = archive.entries();
-            while (entries.hasMoreElements()) {
-                String entryName = entries.nextElement();
-                if (entryName.endsWith(".class")) {
-                    // scan class files
-                    try (InputStream is = archive.getEntry(entryName)) {
-                        ClassReader cr = new ClassReader(is);
-                        cr.accept(this, crFlags);
-                        if (found) {
-                            return;
-                        }
-                    }
-                } else if (entryName.endsWith(".jar") && entryName.indexOf('/') == -1) {
-                    // scan class files inside top level jar
-                    try (ReadableArchive jarSubArchive = archive.getSubArchive(entryName)) {
-                        Enumeration<String> jarEntries = jarSubArchive.entries();
-                        while (jarEntries.hasMoreElements()) {
-                            String jarEntryName = jarEntries.nextElement();
-                            if (jarEntryName.endsWith(".class")) {
-                                try (InputStream is = jarSubArchive.getEntry(jarEntryName)) {
-                                    ClassReader cr = new ClassReader(is);
-                                    cr.accept(this, crFlags);
-                                    if (found) {
-                                        return;
-                                    }
-                                }
-                            }
-                        }
-                    } catch (IOException ioe) {
-                        Object args[] = {entryName, ioe.getMessage()};
-                        deplLogger.log(Level.WARNING, JAR_ENTRY_ERROR, args);
-                    }
-                }
+            if (!scanJarCached(archive, cache, true)) {
+                scanEntries(archive, cache, true);
             }
         } catch (Exception e) {
           deplLogger.log(Level.WARNING, FAILED_ANNOTATION_SCAN, e.getMessage());
+        } finally {
+            cache.store();
+            if (deplLogger.isLoggable(Level.FINE)) {
+                deplLogger.log(Level.FINE, "Scanned {0} for annotations {1} in {2} ms, found: {3}",
+                    new Object[] {archive.getURI(), annotations, (System.nanoTime() - start) / 1_000_000L, found});
+            }
+        }
+    }
+
+
+    /**
+     * Scans the archive if it is a jar file and caches the result, or uses the cached result.
+     *
+     * @param cache null to disable caching
+     * @param topLevel true to scan also jar files in the root of the archive
+     * @return false if the archive is not a jar file, so it was not scanned.
+     */
+    private boolean scanJarCached(ReadableArchive archive, AnnotationScanCache cache, boolean topLevel)
+        throws IOException {
+        final URI uri = archive.getURI();
+        if (found || cache == null || uri == null || !"file".equals(uri.getScheme())) {
+            return false;
+        }
+        final File file = new File(uri);
+        if (!file.isFile()) {
+            return false;
+        }
+        final String key = AnnotationScanCache.createKey(file, annotations);
+        final Boolean cached = cache.get(key);
+        if (cached == null) {
+            // Nested jars are covered by the key of this jar.
+            scanEntries(archive, null, topLevel);
+            cache.put(key, found);
+        } else {
+            found = cached;
+        }
+        return true;
+    }
+
+
+    private void scanEntries(ReadableArchive archive, AnnotationScanCache cache, boolean topLevel) throws IOException {
+        Enumeration<String> entries = archive.entries();
+        while (entries.hasMoreElements()) {
+            String entryName = entries.nextElement();
+            if (entryName.endsWith(".class")) {
+                // scan class files
+                try (InputStream is = archive.getEntry(entryName)) {
+                    ClassReader cr = new ClassReader(is);
+                    cr.accept(this, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+                }
+            } else if (topLevel && entryName.endsWith(".jar") && entryName.indexOf('/') == -1) {
+                // scan class files inside top level jar
+                try (ReadableArchive jarSubArchive = archive.getSubArchive(entryName)) {
+                    if (!scanJarCached(jarSubArchive, cache, false)) {
+                        scanEntries(jarSubArchive, null, false);
+                    }
+                } catch (IOException ioe) {
+                    Object args[] = {entryName, ioe.getMessage()};
+                    deplLogger.log(Level.WARNING, JAR_ENTRY_ERROR, args);
+                }
+            }
+            if (found) {
+                return;
+            }
         }
     }
 }
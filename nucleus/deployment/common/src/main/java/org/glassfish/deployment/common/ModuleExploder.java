@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2023, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2006, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -20,17 +20,12 @@ package org.glassfish.deployment.common;
 
 import com.sun.enterprise.deploy.shared.FileArchive;
 import com.sun.enterprise.util.i18n.StringManager;
-import com.sun.enterprise.util.io.FileUtils;
-import com.sun.enterprise.util.zip.ZipFile;
-import com.sun.enterprise.util.zip.ZipFileException;
+import com.sun.enterprise.util.zip.ParallelZipExtractor;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Enumeration;
 import java.util.Locale;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
@@ -59,30 +54,17 @@ public class ModuleExploder {
     protected static final String WEB_INF_PREFIX = "WEB-INF/";
 
 
+    /**
+     * Extracts the jar file to the destination directory by several threads.
+     * Files which already exist with the same content as the entry are not written again.
+     *
+     * @param source jar file
+     * @param destination target directory
+     * @throws IOException if the jar file could not be extracted
+     */
     public static void explodeJar(File source, File destination) throws IOException {
-        JarFile jarFile = null;
-        String fileSystemName = null; // declared outside the try block so it's available in the catch block
         try {
-            jarFile = new JarFile(source);
-            Enumeration<JarEntry> e = jarFile.entries();
-            while (e.hasMoreElements()) {
-                JarEntry entry = e.nextElement();
-                fileSystemName = entry.getName().replace('/', File.separatorChar);
-                File out = new File(destination, fileSystemName);
-
-                if (entry.isDirectory()) {
-                    if (!out.exists() && !out.mkdirs()) {
-                      throw new IOException("Unable to create directories " + out.getAbsolutePath());
-                    }
-                } else {
-                    if (!out.getParentFile().exists()) {
-                        out.getParentFile().mkdirs();
-                    }
-                    try (InputStream is = jarFile.getInputStream(entry)) {
-                        FileUtils.copy(is, out, entry.getSize());
-                    }
-                }
-            }
+            ParallelZipExtractor.extract(source, destination);
         } catch(Throwable e) {
             /*
              *Use the logger here, even though we rethrow the exception.  In
@@ -99,15 +81,11 @@ public class ModuleExploder {
             IOException ioe = new IOException(msg0);
             ioe.initCause(e);
             LogRecord lr = new LogRecord(Level.SEVERE, COULD_NOT_EXPAND_ENTRY);
-            Object args[] = { fileSystemName, destination.getAbsolutePath() };
+            Object args[] = { source.getName(), destination.getAbsolutePath() };
             lr.setParameters(args);
             lr.setThrown(ioe);
             deplLogger.log(lr);
             throw ioe;
-        } finally {
-            if (jarFile != null) {
-                jarFile.close();
-            }
         }
     }
 
@@ -155,16 +133,7 @@ public class ModuleExploder {
             if (fileName.toLowerCase(Locale.US).endsWith(".jar") &&
                 ( ! fileName.replace('\\', '/').toUpperCase(Locale.getDefault()).startsWith(WEB_INF_PREFIX)) ) {
 
-                try {
-                    File f = new File(directory, fileName);
-
-                    ZipFile zip = new ZipFile(f, directory);
-                    zip.explode();
-                } catch(ZipFileException e) {
-                    IOException ioe = new IOException(e.getMessage());
-                    ioe.initCause(e);
-                    throw ioe;
-                }
+                explodeJar(new File(directory, fileName), directory);
             }
         }
          /*
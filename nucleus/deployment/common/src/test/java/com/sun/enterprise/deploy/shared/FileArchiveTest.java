@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,9 +21,11 @@ import com.sun.enterprise.module.ModulesRegistry;
 import com.sun.enterprise.module.single.StaticModulesRegistry;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
@@ -31,9 +33,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.Vector;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
+import org.glassfish.api.deployment.DeploymentContext;
 import org.glassfish.api.deployment.archive.ReadableArchive;
 import org.glassfish.api.deployment.archive.WritableArchive;
 import org.glassfish.api.deployment.archive.WritableArchiveEntry;
@@ -438,5 +445,70 @@ public class FileArchiveTest {
         archive.getListOfFiles(lower, fileList, null, deplLogger);
         assertNull(handler.pop(), "FileArchive was incorrectly unable to list files; error key in log record");
     }
-}
 
+    @Test
+    public void testExpandJarByArchiveHandler() throws Exception {
+        final File jarFile = createJar(usualEntryNames);
+        try (ReadableArchive source = archiveFactory.openArchive(jarFile);
+            WritableArchive target = archiveFactory.createArchive(archiveDir)) {
+            new TestArchiveHandler().expand(source, target, null);
+        }
+        final ReadableArchive expanded = archiveFactory.openArchive(archiveDir);
+        checkArchive(expanded, withManifestDir(usualExpectedEntryNames));
+        assertEquals("test", expanded.getManifest().getMainAttributes().getValue(Attributes.Name.IMPLEMENTATION_TITLE));
+    }
+
+    @Test
+    public void testExpandJarOverStaleEntry() throws Exception {
+        final Set<String> entryNames = new HashSet<>(usualEntryNames);
+        entryNames.add(STALE_ENTRY);
+        final File jarFile = createJar(entryNames);
+        createWithOlderLeftoverEntry(usualEntryNames);
+        try (ReadableArchive source = archiveFactory.openArchive(jarFile);
+            WritableArchive target = archiveFactory.createArchive(archiveDir)) {
+            new TestArchiveHandler().expand(source, target, null);
+        }
+        checkArchive(archiveFactory.openArchive(archiveDir), withManifestDir(usualExpectedEntryNamesWithOverwrittenStaleEntry));
+    }
+
+    private Set<String> withManifestDir(final Set<String> expectedEntryNames) {
+        final Set<String> result = new HashSet<>(expectedEntryNames);
+        result.add("META-INF");
+        return result;
+    }
+
+    private File createJar(final Set<String> entryNames) throws IOException {
+        final File jarFile = new File(tempDir(), "test.jar");
+        final Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_TITLE, "test");
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(jarFile), manifest)) {
+            for (String entryName : entryNames) {
+                jar.putNextEntry(new JarEntry(entryName));
+                jar.write(entryName.getBytes(StandardCharsets.UTF_8));
+                jar.closeEntry();
+            }
+        }
+        jarFile.deleteOnExit();
+        jarFile.getParentFile().deleteOnExit();
+        return jarFile;
+    }
+
+    private static class TestArchiveHandler extends AbstractArchiveHandler {
+
+        @Override
+        public String getArchiveType() {
+            return "test";
+        }
+
+        @Override
+        public boolean handles(ReadableArchive archive) throws IOException {
+            return true;
+        }
+
+        @Override
+        public ClassLoader getClassLoader(ClassLoader parent, DeploymentContext context) {
+            return parent;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.deployment.common;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AnnotationScanCacheTest {
+
+    private static final List<String> ANNOTATIONS = List.of("Ljakarta/ejb/Stateless;");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void keyDependsOnContent() throws Exception {
+        File jar1 = createJar("jar1.jar", "content");
+        File jar2 = createJar("jar2.jar", "content");
+        File jar3 = createJar("jar3.jar", "changed");
+        String key = AnnotationScanCache.createKey(jar1, ANNOTATIONS);
+        assertEquals(key, AnnotationScanCache.createKey(jar2, ANNOTATIONS));
+        assertNotEquals(key, AnnotationScanCache.createKey(jar3, ANNOTATIONS));
+        assertNotEquals(key, AnnotationScanCache.createKey(jar1, List.of("Ljakarta/ejb/Singleton;")));
+    }
+
+
+    @Test
+    void storedResultsLoaded() throws Exception {
+        File cacheFile = tempDir.resolve("generated").resolve("cache.properties").toFile();
+        AnnotationScanCache cache = new AnnotationScanCache(cacheFile);
+        assertNull(cache.get("key1"));
+        cache.put("key1", true);
+        cache.put("key2", false);
+        cache.store();
+
+        AnnotationScanCache loaded = new AnnotationScanCache(cacheFile);
+        assertTrue(loaded.get("key1"));
+        assertFalse(loaded.get("key2"));
+        assertNull(loaded.get("key3"));
+    }
+
+
+    private File createJar(String name, String content) throws Exception {
+        File file = tempDir.resolve(name).toFile();
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(file.toPath()))) {
+            jar.putNextEntry(new JarEntry("org/example/Example.class"));
+            jar.write(content.getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+        return file;
+    }
+}
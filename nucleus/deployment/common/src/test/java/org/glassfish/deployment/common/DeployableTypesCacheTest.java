@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.deployment.common;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.glassfish.hk2.classmodel.reflect.Parser;
+import org.glassfish.hk2.classmodel.reflect.ParsingContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DeployableTypesCacheTest {
+
+    private static final String APP_NAME = "testApp";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void keyDependsOnContent() throws Exception {
+        Path app = tempDir.resolve("app");
+        Path classFile = app.resolve("org").resolve("example").resolve("Example.class");
+        Files.createDirectories(classFile.getParent());
+        Files.writeString(classFile, "content");
+        List<URI> archives = List.of(app.toUri());
+
+        String key = DeployableTypesCache.createKey(archives);
+        assertNotNull(key);
+        assertEquals(key, DeployableTypesCache.createKey(archives));
+
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(1_000_000L));
+        assertEquals(key, DeployableTypesCache.createKey(archives));
+
+        Files.writeString(classFile, "changed");
+        assertNotEquals(key, DeployableTypesCache.createKey(archives));
+
+        assertNull(DeployableTypesCache.createKey(List.of(tempDir.resolve("missing").toUri())));
+        assertNull(DeployableTypesCache.createKey(List.of(URI.create("memory:/app"))));
+    }
+
+
+    @Test
+    void parserReusedForSameKey() {
+        DeployableTypesCache cache = new DeployableTypesCache();
+        Parser parser = new Parser(new ParsingContext.Builder().build());
+        cache.put(APP_NAME, "key1", parser);
+        assertSame(parser, cache.get(APP_NAME, "key1"));
+        assertNull(cache.get(APP_NAME, "key2"));
+        assertNull(cache.get(APP_NAME, null));
+        assertNull(cache.get("otherApp", "key1"));
+
+        cache.remove(APP_NAME);
+        assertNull(cache.get(APP_NAME, "key1"));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.deployment.common;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.glassfish.api.admin.ServerEnvironment;
+import org.glassfish.api.deployment.OpsParams;
+import org.glassfish.api.deployment.UndeployCommandParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeploymentContextImplTest {
+
+    private static final String APP_NAME = "testApp";
+
+    @TempDir
+    Path tempDir;
+
+    private ServerEnvironment env;
+    private File classLoaderDir;
+
+    @BeforeEach
+    void createClassLoaderIndex() throws Exception {
+        Path generated = tempDir.resolve("generated");
+        env = (ServerEnvironment) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {ServerEnvironment.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getApplicationStubPath":
+                        return generated.toFile();
+                    case "getApplicationRepositoryPath":
+                        return tempDir.resolve("applications").toFile();
+                    case "getApplicationAltDDPath":
+                        return tempDir.resolve("altdd").toFile();
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        Path classLoader = generated.resolve("classloader").resolve(APP_NAME);
+        Files.createDirectories(classLoader);
+        Files.writeString(classLoader.resolve("index.properties"), "index");
+        Files.writeString(classLoader.resolve("index.classlist"), "classlist");
+        classLoaderDir = classLoader.toFile();
+    }
+
+
+    @Test
+    void undeployRemovesClassLoaderIndex() {
+        UndeployCommandParameters params = new UndeployCommandParameters(APP_NAME);
+        params.origin = OpsParams.Origin.undeploy;
+        new DeploymentContextImpl(null, null, params, env).clean();
+        assertFalse(classLoaderDir.exists());
+    }
+
+
+    @Test
+    void redeployKeepsClassLoaderIndex() {
+        UndeployCommandParameters params = new UndeployCommandParameters(APP_NAME);
+        params.origin = OpsParams.Origin.undeploy;
+        params.isredeploy = true;
+        new DeploymentContextImpl(null, null, params, env).clean();
+        assertTrue(classLoaderDir.exists());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -46,6 +46,12 @@ public abstract class GlassFishLogFormatter extends Formatter {
     /** Resolves {@link LogRecord} to {@link GlassFishLogRecord} */
     protected static final MessageResolver MSG_RESOLVER = new MessageResolver();
 
+    private static final int RECORD_BUFFER_CAPACITY = 512;
+    /** Larger buffers are not reused to avoid holding memory after logging of huge records */
+    private static final int MAX_REUSED_RECORD_BUFFER_CAPACITY = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> RECORD_BUFFER = ThreadLocal
+        .withInitial(() -> new StringBuilder(RECORD_BUFFER_CAPACITY));
+
 
     // This was required, because we need 3 decimal numbers of the second fraction
     // DateTimeFormatter.ISO_LOCAL_DATE_TIME prints just nonzero values
@@ -80,6 +86,7 @@ public abstract class GlassFishLogFormatter extends Formatter {
     private boolean printSequenceNumber;
     private boolean printSource;
     private DateTimeFormatter timestampFormatter = DEFAULT_DATETIME_FORMATTER;
+    private volatile TimestampFormatCache timestampCache;
 
 
     /**
@@ -217,6 +224,42 @@ public abstract class GlassFishLogFormatter extends Formatter {
     }
 
 
+    /**
+     * Returns an empty {@link StringBuilder} owned by the current thread.
+     * <p>
+     * The buffer is shared by all formatters used by the thread, so it must not be used
+     * after the formatted record was converted to a {@link String}.
+     *
+     * @return empty reusable {@link StringBuilder}
+     */
+    protected static StringBuilder getRecordBuffer() {
+        StringBuilder buffer = RECORD_BUFFER.get();
+        if (buffer.capacity() > MAX_REUSED_RECORD_BUFFER_CAPACITY) {
+            buffer = new StringBuilder(RECORD_BUFFER_CAPACITY);
+            RECORD_BUFFER.set(buffer);
+        }
+        buffer.setLength(0);
+        return buffer;
+    }
+
+
+    /**
+     * Appends the record's timestamp formatted by the {@link #getTimestampFormatter()}.
+     * The last formatted timestamp is reused while it is still valid.
+     *
+     * @param output
+     * @param record
+     */
+    protected final void appendFormattedTimestamp(final StringBuilder output, final GlassFishLogRecord record) {
+        TimestampFormatCache cache = timestampCache;
+        if (cache == null || cache.getFormatter() != timestampFormatter) {
+            cache = new TimestampFormatCache(timestampFormatter);
+            timestampCache = cache;
+        }
+        cache.formatTo(output, record);
+    }
+
+
     /**
      * @param record if null, this method returns null too
      * @return a record's message plus printed stacktrace if some throwable is present.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  * Copyright (c) 2011, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,7 +17,6 @@
 
 package org.glassfish.main.jul.formatter;
 
-import java.time.OffsetDateTime;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -47,8 +46,6 @@ import static org.glassfish.main.jul.tracing.GlassFishLoggingTracer.error;
  */
 public class ODLLogFormatter extends GlassFishLogFormatter {
 
-    private static final int REC_BUFFER_CAPACITY = 512;
-
     private static final String FIELD_BEGIN_MARKER = "[";
     private static final String FIELD_END_MARKER = "]";
     private static final String DEFAULT_FIELD_SEPARATOR = " ";
@@ -117,8 +114,8 @@ public class ODLLogFormatter extends GlassFishLogFormatter {
             final String msgId = record.getMessageKey();
             final String loggerName = record.getLoggerName();
             final String threadName = record.getThreadName();
-            final StringBuilder output = new StringBuilder(REC_BUFFER_CAPACITY);
-            appendTimestamp(output, record.getTime());
+            final StringBuilder output = getRecordBuffer();
+            appendTimestamp(output, record);
             appendProductId(output);
             appendLogLevel(output, logLevel);
             appendMessageKey(output, msgId);
@@ -126,7 +123,7 @@ public class ODLLogFormatter extends GlassFishLogFormatter {
             appendThread(output, record.getThreadID(), threadName);
             appendLogLevelAsInt(output, logLevel);
             appendSequenceNumber(output, record.getSequenceNumber());
-            appendSource(output, record.getSourceClassName(), record.getSourceMethodName());
+            appendSource(output, record);
 
             if (forceMultiline) {
                 output.append(FIELD_BEGIN_MARKER).append(FIELD_BEGIN_MARKER);
@@ -145,9 +142,9 @@ public class ODLLogFormatter extends GlassFishLogFormatter {
         }
     }
 
-    private void appendTimestamp(final StringBuilder output, final OffsetDateTime timestamp) {
+    private void appendTimestamp(final StringBuilder output, final GlassFishLogRecord record) {
         output.append(FIELD_BEGIN_MARKER);
-        output.append(getTimestampFormatter().format(timestamp));
+        appendFormattedTimestamp(output, record);
         output.append(FIELD_END_MARKER).append(fieldSeparator);
     }
 
@@ -206,10 +203,13 @@ public class ODLLogFormatter extends GlassFishLogFormatter {
         }
     }
 
-    private void appendSource(final StringBuilder output, final String className, final String methodName) {
+    private void appendSource(final StringBuilder output, final GlassFishLogRecord record) {
         if (!isPrintSource()) {
             return;
         }
+        // The JDK may infer the source from the stacktrace, so it must not be touched if not needed.
+        final String className = record.getSourceClassName();
+        final String methodName = record.getSourceMethodName();
         if (className != null) {
             output.append(FIELD_BEGIN_MARKER);
             output.append(LABEL_CLASSNAME).append(": ").append(className);
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.main.jul.formatter;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.Locale;
+
+import org.glassfish.main.jul.record.GlassFishLogRecord;
+
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+
+/**
+ * Formats timestamps of log records and remembers the last formatted value, so records logged
+ * in the same second or millisecond don't need the {@link DateTimeFormatter} again.
+ * <ul>
+ * <li>The {@link GlassFishLogFormatter#DEFAULT_DATETIME_FORMATTER} output is cached per second,
+ * microseconds are appended to the cached prefix.
+ * <li>Output of other formatters is cached per millisecond, if it does not depend
+ * on the fraction of the millisecond.
+ * <li>Otherwise the timestamp is formatted directly to the output.
+ * </ul>
+ * The instance is thread safe.
+ */
+final class TimestampFormatCache {
+
+    /** Example: 2011-12-03T15:35:40 */
+    private static final DateTimeFormatter ISO_LOCAL_DATE_TIME_SECONDS = new DateTimeFormatterBuilder()
+        .append(DateTimeFormatter.ISO_LOCAL_DATE).appendLiteral('T')
+        .appendValue(HOUR_OF_DAY, 2).appendLiteral(':')
+        .appendValue(MINUTE_OF_HOUR, 2).appendLiteral(':')
+        .appendValue(SECOND_OF_MINUTE, 2)
+        .toFormatter(Locale.ROOT);
+    /** Example: +01:00 */
+    private static final DateTimeFormatter OFFSET_ID = new DateTimeFormatterBuilder().appendOffsetId()
+        .toFormatter(Locale.ROOT);
+
+    private final DateTimeFormatter formatter;
+    private final Precision precision;
+    private volatile CachedTimestamp last;
+
+
+    /**
+     * @param formatter formatter used for timestamps
+     */
+    TimestampFormatCache(final DateTimeFormatter formatter) {
+        this.formatter = formatter;
+        this.precision = detectPrecision(formatter);
+    }
+
+
+    /**
+     * @return formatter used for timestamps
+     */
+    DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+
+    /**
+     * Appends the formatted time of the record to the output.
+     *
+     * @param output
+     * @param record
+     */
+    void formatTo(final StringBuilder output, final GlassFishLogRecord record) {
+        if (precision == Precision.NONE) {
+            formatter.formatTo(record.getTime(), output);
+            return;
+        }
+        final Instant instant = record.getInstant();
+        final long key = precision == Precision.SECOND ? instant.getEpochSecond() : instant.toEpochMilli();
+        CachedTimestamp cached = last;
+        if (cached == null || cached.key != key) {
+            cached = format(key, record.getTime());
+            last = cached;
+        }
+        output.append(cached.prefix);
+        if (precision == Precision.SECOND) {
+            appendMicros(output, instant.getNano() / 1000);
+            output.append(cached.suffix);
+        }
+    }
+
+
+    private CachedTimestamp format(final long key, final OffsetDateTime time) {
+        if (precision == Precision.SECOND) {
+            return new CachedTimestamp(key, ISO_LOCAL_DATE_TIME_SECONDS.format(time), OFFSET_ID.format(time));
+        }
+        return new CachedTimestamp(key, formatter.format(time), null);
+    }
+
+
+    /**
+     * Same as the fraction of the {@link GlassFishLogFormatter#ISO_LOCAL_TIME}
+     */
+    private static void appendMicros(final StringBuilder output, final int micros) {
+        output.append('.');
+        for (int divisor = 100_000; divisor > 0; divisor /= 10) {
+            output.append((char) ('0' + micros / divisor % 10));
+        }
+    }
+
+
+    private static Precision detectPrecision(final DateTimeFormatter formatter) {
+        if (formatter == GlassFishLogFormatter.DEFAULT_DATETIME_FORMATTER) {
+            return Precision.SECOND;
+        }
+        final OffsetDateTime probe = OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 1_000_000, ZoneOffset.UTC);
+        try {
+            final String millisecondStart = formatter.format(probe);
+            final String millisecondEnd = formatter.format(probe.plusNanos(999_999));
+            return millisecondStart.equals(millisecondEnd) ? Precision.MILLISECOND : Precision.NONE;
+        } catch (final RuntimeException e) {
+            // The formatter might require fields we don't have in the probe, don't cache.
+            return Precision.NONE;
+        }
+    }
+
+    private enum Precision {
+        /** The prefix is cached per second, microseconds and the suffix are appended */
+        SECOND,
+        /** Whole formatted timestamp is cached per millisecond */
+        MILLISECOND,
+        /** Nothing is cached */
+        NONE,
+    }
+
+    private static final class CachedTimestamp {
+
+        private final long key;
+        private final String prefix;
+        private final String suffix;
+
+        CachedTimestamp(final long key, final String prefix, final String suffix) {
+            this.key = key;
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+    }
+}
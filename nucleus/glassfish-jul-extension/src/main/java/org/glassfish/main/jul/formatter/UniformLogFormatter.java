@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  * Copyright (c) 2006, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,8 +44,6 @@ import static org.glassfish.main.jul.formatter.UniformLogFormatter.UniformFormat
  */
 public class UniformLogFormatter extends GlassFishLogFormatter {
 
-    private static final int REC_BUFFER_CAPACITY = 512;
-
     private static final String MULTILINE_INDENTATION = "  ";
     private static final char FIELD_SEPARATOR = '|';
     private static final String RECORD_BEGIN_MARKER = "[#|";
@@ -143,10 +141,9 @@ public class UniformLogFormatter extends GlassFishLogFormatter {
                 return "";
             }
 
-            final String timestamp = getTimestampFormatter().format(record.getTime());
             final Level logLevel = record.getLevel();
-            final StringBuilder output = new StringBuilder(REC_BUFFER_CAPACITY).append(recordBeginMarker);
-            appendTimestamp(output, timestamp);
+            final StringBuilder output = getRecordBuffer().append(recordBeginMarker);
+            appendTimestamp(output, record);
             appendLogLevel(output, logLevel);
             appendProductId(output);
             appendLoggerName(output, record.getLoggerName());
@@ -167,8 +164,8 @@ public class UniformLogFormatter extends GlassFishLogFormatter {
     }
 
 
-    private void appendTimestamp(final StringBuilder output, final String timestamp) {
-        output.append(timestamp);
+    private void appendTimestamp(final StringBuilder output, final GlassFishLogRecord record) {
+        appendFormattedTimestamp(output, record);
         output.append(recordFieldSeparator);
     }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.main.jul.handler;
+
+/**
+ * Immutable statistics of compressed log files.
+ */
+public final class ArchiveStatistics {
+
+    /** No file was compressed yet. */
+    public static final ArchiveStatistics EMPTY = new ArchiveStatistics(0, 0, 0, 0, 0);
+
+    private final long archivedFileCount;
+    private final long originalBytes;
+    private final long archivedBytes;
+    private final long totalDurationMillis;
+    private final long lastDurationMillis;
+
+    private ArchiveStatistics(final long archivedFileCount, final long originalBytes, final long archivedBytes,
+        final long totalDurationMillis, final long lastDurationMillis) {
+        this.archivedFileCount = archivedFileCount;
+        this.originalBytes = originalBytes;
+        this.archivedBytes = archivedBytes;
+        this.totalDurationMillis = totalDurationMillis;
+        this.lastDurationMillis = lastDurationMillis;
+    }
+
+
+    /**
+     * @return count of compressed files
+     */
+    public long getArchivedFileCount() {
+        return archivedFileCount;
+    }
+
+
+    /**
+     * @return sum of sizes of files before compression
+     */
+    public long getOriginalBytes() {
+        return originalBytes;
+    }
+
+
+    /**
+     * @return sum of sizes of compressed files
+     */
+    public long getArchivedBytes() {
+        return archivedBytes;
+    }
+
+
+    /**
+     * @return time spent by compression of all files
+     */
+    public long getTotalDurationMillis() {
+        return totalDurationMillis;
+    }
+
+
+    /**
+     * @return time spent by compression of the last file
+     */
+    public long getLastDurationMillis() {
+        return lastDurationMillis;
+    }
+
+
+    /**
+     * @param original size of the original file
+     * @param archived size of the compressed file
+     * @param durationMillis time spent by the compression
+     * @return new instance with added values
+     */
+    public ArchiveStatistics add(final long original, final long archived, final long durationMillis) {
+        return new ArchiveStatistics(archivedFileCount + 1, originalBytes + original, archivedBytes + archived,
+            totalDurationMillis + durationMillis, durationMillis);
+    }
+
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[files=" + archivedFileCount + ", originalBytes=" + originalBytes
+            + ", archivedBytes=" + archivedBytes + ", totalDurationMillis=" + totalDurationMillis
+            + ", lastDurationMillis=" + lastDurationMillis + "]";
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -45,6 +45,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.logging.Level.ALL;
 import static java.util.logging.Level.INFO;
 import static java.util.logging.Level.SEVERE;
+import static org.glassfish.main.jul.handler.GlassFishLogHandlerProperty.BATCH_WRITES;
 import static org.glassfish.main.jul.handler.GlassFishLogHandlerProperty.BUFFER_CAPACITY;
 import static org.glassfish.main.jul.handler.GlassFishLogHandlerProperty.BUFFER_TIMEOUT;
 import static org.glassfish.main.jul.handler.GlassFishLogHandlerProperty.DEFAULT_BUFFER_CAPACITY;
@@ -70,6 +71,7 @@ import static org.glassfish.main.jul.tracing.GlassFishLoggingTracer.trace;
  * <ul>
  * <li>can redirect output going through STDOUT and STDERR
  * <li>buffers log records
+ * <li>can write all buffered records at once, see {@link GlassFishLogHandlerProperty#BATCH_WRITES}
  * </ul>
  * <b>WARNING</b>: If you configure this handler to redirect standard output, you have to prevent
  * the situation when any other handler would use it.
@@ -85,6 +87,10 @@ public class GlassFishLogHandler extends Handler implements ExternallyManagedLog
     private static final Logger STDOUT_LOGGER = Logger.getLogger(LOGGER_NAME_STDOUT);
     private static final Logger STDERR_LOGGER = Logger.getLogger(LOGGER_NAME_STDERR);
     private static final MessageResolver MSG_RESOLVER = new MessageResolver();
+    /** Max count of records written at once in the batch mode */
+    private static final int BATCH_SIZE = 1024;
+    /** Max time in milliseconds to wait for the pump to finish the records it already took */
+    private static final long PUMP_STOP_TIMEOUT = 5_000L;
 
     private final ReentrantLock lock = new ReentrantLock();
 
@@ -101,6 +107,7 @@ public class GlassFishLogHandler extends Handler implements ExternallyManagedLog
     private volatile GlassFishLogHandlerStatus status;
     private LoggingPump pump;
     private LogFileManager logFileManager;
+    private volatile LogBatchEncoder batchEncoder;
 
     private boolean doneHeader;
 
@@ -122,6 +129,7 @@ public class GlassFishLogHandler extends Handler implements ExternallyManagedLog
         configuration.setRedirectStandardStreams(helper.getBoolean(REDIRECT_STANDARD_STREAMS, Boolean.FALSE));
 
         configuration.setFlushFrequency(helper.getNonNegativeInteger(FLUSH_FREQUENCY, 1));
+        configuration.setBatchWrites(helper.getBoolean(BATCH_WRITES, Boolean.FALSE));
         configuration.setBufferCapacity(helper.getInteger(BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY));
         configuration.setBufferTimeout(helper.getInteger(BUFFER_TIMEOUT, DEFAULT_BUFFER_TIMEOUT));
 
@@ -277,6 +285,15 @@ public class GlassFishLogHandler extends Handler implements ExternallyManagedLog
     }
 
 
+    /**
+     * @return statistics of log files compressed after rotation since the handler was configured.
+     */
+    public ArchiveStatistics getArchiveStatistics() {
+        final LogFileManager manager = this.logFileManager;
+        return manager == null ? ArchiveStatistics.EMPTY : manager.getArchiveStatistics();
+    }
+
+
     /**
      * First stops all dependencies using this handler (changes status to
      * {@link GlassFishLogHandlerStatus#OFF}, then closes all resources managed
@@ -355,7 +372,12 @@ public class GlassFishLogHandler extends Handler implements ExternallyManagedLog
             LoggingSystemEnvironment.resetStandardOutputs();
         }
 
+        if (this.configuration.isBatchWrites()) {
+            this.batchEncoder = new LogBatchEncoder(this.logFileManager, this.configuration.getEncoding());
+        }
         this.pump = new LoggingPump("GlassFishLogHandler log pump", this.logRecordBuffer);
+        // The pump would stop immediately if it would not see the handler ready.
+        this.status = GlassFishLogHandlerStatus.ON;
         this.pump.start();
         return GlassFishLogHandlerStatus.ON;
     }
@@ -366,6 +388,14 @@ public class GlassFishLogHandler extends Handler implements ExternallyManagedLog
 
         if (this.pump != null) {
             this.pump.interrupt();
+            // The pump must not use the output and the encoder released below.
+            if (this.pump != Thread.currentThread()) {
+                try {
+                    this.pump.join(PUMP_STOP_TIMEOUT);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
             this.pump = null;
         }
 
@@ -379,6 +409,7 @@ public class GlassFishLogHandler extends Handler implements ExternallyManagedLog
         }
         this.logFileManager.disableOutput();
         this.logFileManager = null;
+        this.batchEncoder = null;
     }
 
 
@@ -467,6 +498,43 @@ public class GlassFishLogHandler extends Handler implements ExternallyManagedLog
     }
 
 
+    /**
+     * Formats records into the buffer of the {@link LogBatchEncoder} and writes them at once.
+     *
+     * @param records
+     * @param count count of records to publish from the start of the array
+     */
+    private void publishRecords(final GlassFishLogRecord[] records, final int count) {
+        final LogBatchEncoder encoder = this.batchEncoder;
+        if (encoder == null) {
+            // The output was released meanwhile, the next pump will publish the records.
+            for (int i = 0; i < count; i++) {
+                logRecordBuffer.add(records[i]);
+            }
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            final GlassFishLogRecord record = records[i];
+            if (!isLoggable(record)) {
+                continue;
+            }
+            final String msg;
+            try {
+                msg = getFormatter().format(record);
+            } catch (Exception ex) {
+                reportError(null, ex, ErrorManager.FORMAT_FAILURE);
+                continue;
+            }
+            if (!doneHeader) {
+                encoder.append(getFormatter().getHead(this));
+                doneHeader = true;
+            }
+            encoder.append(msg);
+        }
+        encoder.write();
+    }
+
+
     private static boolean isRollRequired(final File logFile, final Formatter formatter, final Charset expectedCharset) {
         if (logFile.length() == 0) {
             return false;
@@ -498,6 +566,16 @@ public class GlassFishLogHandler extends Handler implements ExternallyManagedLog
             return publishRecord(record);
         }
 
+        @Override
+        protected int getBatchSize() {
+            return configuration.isBatchWrites() ? BATCH_SIZE : 0;
+        }
+
+        @Override
+        protected void logRecords(final GlassFishLogRecord[] records, final int count) {
+            publishRecords(records, count);
+        }
+
         @Override
         protected void flushOutput() {
             flush();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -41,6 +41,7 @@ public class GlassFishLogHandlerConfiguration implements Cloneable {
     private File logFile;
     /** Count of flushed records in one batch, not a frequency at all */
     private int flushFrequency;
+    private boolean batchWrites;
     private int maxArchiveFiles;
 
     private int bufferCapacity = DEFAULT_BUFFER_CAPACITY;
@@ -128,6 +129,16 @@ public class GlassFishLogHandlerConfiguration implements Cloneable {
     }
 
 
+    public boolean isBatchWrites() {
+        return batchWrites;
+    }
+
+
+    public void setBatchWrites(final boolean batchWrites) {
+        this.batchWrites = batchWrites;
+    }
+
+
     public int getBufferCapacity() {
         return bufferCapacity;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -53,6 +53,12 @@ public enum GlassFishLogHandlerProperty implements LogProperty {
     BUFFER_TIMEOUT("buffer.timeoutInSeconds"),
     /** Count of records processed until handler flushes the output */
     FLUSH_FREQUENCY("flushFrequency"),
+    /**
+     * High throughput mode: all records waiting in the buffer are formatted into one
+     * reusable buffer and written to the file at once, then the output is flushed.
+     * The {@link #FLUSH_FREQUENCY} is ignored then.
+     */
+    BATCH_WRITES("batchWrites"),
     /** Log STDOUT and STDERR to the log file too */
     REDIRECT_STANDARD_STREAMS("redirectStandardStreams"),
     /** Compress rolled file to a zio file */
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.main.jul.handler;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+
+import org.glassfish.main.jul.rotation.LogFileManager;
+
+/**
+ * Encodes formatted log records into a reusable direct buffer and writes the whole batch
+ * to the {@link LogFileManager} at once.
+ * <p>
+ * Not thread safe, it is used just by the logging pump.
+ */
+final class LogBatchEncoder {
+
+    /** Size of the direct buffer, if the batch is larger, it is written in more parts */
+    static final int BUFFER_SIZE = 256 * 1024;
+    private static final int INITIAL_CHARS_SIZE = 4096;
+
+    private final LogFileManager output;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private char[] chars = new char[INITIAL_CHARS_SIZE];
+    private CharBuffer charBuffer = CharBuffer.wrap(chars);
+
+
+    /**
+     * @param output target of {@link #write()}
+     * @param encoding charset of the output, unmappable characters are replaced as in the {@link java.io.Writer}.
+     */
+    LogBatchEncoder(final LogFileManager output, final Charset encoding) {
+        this.output = output;
+        this.encoder = encoding.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+
+    /**
+     * Encodes the text to the buffer. If the buffer is full, writes it to the output.
+     *
+     * @param text formatted log record
+     */
+    void append(final String text) {
+        final int length = text.length();
+        if (length > chars.length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+            charBuffer = CharBuffer.wrap(chars);
+        }
+        text.getChars(0, length, chars, 0);
+        charBuffer.clear().limit(length);
+
+        encode(charBuffer);
+        while (encoder.flush(bytes).isOverflow()) {
+            write();
+        }
+        encoder.reset();
+    }
+
+
+    /**
+     * Writes the content of the buffer to the output and clears it.
+     */
+    void write() {
+        bytes.flip();
+        if (bytes.hasRemaining()) {
+            output.write(bytes);
+        }
+        bytes.clear();
+    }
+
+
+    private void encode(final CharBuffer input) {
+        while (true) {
+            final CoderResult result = encoder.encode(input, bytes, true);
+            if (!result.isOverflow()) {
+                return;
+            }
+            write();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,8 +16,6 @@
 
 package org.glassfish.main.jul.handler;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -45,7 +43,10 @@ import org.glassfish.main.jul.record.GlassFishLogRecord;
  */
 class LogRecordBuffer {
 
-    private final BlockingQueue<GlassFishLogRecord> pendingRecords = new LinkedBlockingQueue<>();
+    /** Max initial size of the ring, it grows when necessary */
+    private static final int INITIAL_RING_SIZE = 1024;
+
+    private final LogRecordRing pendingRecords;
     private final CapacitySemaphore availableCapacity = new CapacitySemaphore();
     private final ReentrantLock lock = new ReentrantLock();
 
@@ -91,6 +92,7 @@ class LogRecordBuffer {
     LogRecordBuffer(final int capacity, final int maxWait) {
         this.capacity = capacity;
         this.maxWait = maxWait;
+        this.pendingRecords = new LogRecordRing(Math.min(capacity, INITIAL_RING_SIZE));
 
         this.availableCapacity.release(capacity);
     }
@@ -131,7 +133,7 @@ class LogRecordBuffer {
      * @return true if there are not pending records to provide.
      */
     public boolean isEmpty() {
-        return pendingRecords.isEmpty();
+        return pendingRecords.size() == 0;
     }
 
 
@@ -167,6 +169,23 @@ class LogRecordBuffer {
         return logRecord;
     }
 
+    /**
+     * Waits for a record or thread interrupt signal, then moves as much records as possible
+     * to the batch.
+     *
+     * @param batch target array, filled from the index 0.
+     * @return count of records moved to the batch, 0 if interrupted.
+     */
+    public int drainTo(final GlassFishLogRecord[] batch) {
+        try {
+            final int count = pendingRecords.drainTo(batch);
+            availableCapacity.release(count);
+            return count;
+        } catch (InterruptedException e) {
+            return 0;
+        }
+    }
+
     /**
      * @return null if there are no pending records, first in the buffer otherwise.
      */
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.main.jul.handler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.glassfish.main.jul.record.GlassFishLogRecord;
+
+/**
+ * FIFO ring of log records backed by an array, so unlike the {@link java.util.concurrent.LinkedBlockingQueue}
+ * it does not allocate any node per record.
+ * <p>
+ * Producers and consumers use separate locks, so they don't block each other.
+ * Consumers can take many records under a single lock acquisition by {@link #drainTo(GlassFishLogRecord[])}.
+ * <p>
+ * The capacity is controlled by the {@link LogRecordBuffer}, this ring just doubles its internal array
+ * when it is full. The array never shrinks, so once the ring grows, it does not allocate any more.
+ */
+final class LogRecordRing {
+
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+    private final AtomicInteger count = new AtomicInteger();
+
+    /** Guarded by both locks, read by the owner of any of them */
+    private GlassFishLogRecord[] records;
+    /** Guarded by the takeLock */
+    private int head;
+    /** Guarded by the putLock */
+    private int tail;
+
+
+    /**
+     * @param initialSize initial length of the internal array
+     */
+    LogRecordRing(final int initialSize) {
+        this.records = new GlassFishLogRecord[Math.max(1, initialSize)];
+    }
+
+
+    /**
+     * @return count of records in this ring.
+     */
+    int size() {
+        return count.get();
+    }
+
+
+    /**
+     * Adds the record to the end of the ring.
+     *
+     * @param record must not be null
+     */
+    void add(final GlassFishLogRecord record) {
+        final int previousCount;
+        putLock.lock();
+        try {
+            if (count.get() == records.length) {
+                grow();
+            }
+            records[tail] = record;
+            tail = next(tail);
+            previousCount = count.getAndIncrement();
+        } finally {
+            putLock.unlock();
+        }
+        if (previousCount == 0) {
+            signalNotEmpty();
+        }
+    }
+
+
+    /**
+     * @return the first record or null if the ring is empty.
+     */
+    GlassFishLogRecord poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+        takeLock.lock();
+        try {
+            return count.get() == 0 ? null : dequeue();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+
+    /**
+     * Waits for a record.
+     *
+     * @return the first record
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    GlassFishLogRecord take() throws InterruptedException {
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            final GlassFishLogRecord record = dequeue();
+            signalOtherConsumer();
+            return record;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+
+    /**
+     * Waits for at least one record, then moves as much records as possible to the batch.
+     *
+     * @param batch target array, filled from the index 0.
+     * @return count of records moved to the batch.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    int drainTo(final GlassFishLogRecord[] batch) throws InterruptedException {
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            final int drained = Math.min(batch.length, count.get());
+            for (int i = 0; i < drained; i++) {
+                batch[i] = records[head];
+                records[head] = null;
+                head = next(head);
+            }
+            count.addAndGet(-drained);
+            signalOtherConsumer();
+            return drained;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes all records.
+     */
+    void clear() {
+        putLock.lock();
+        takeLock.lock();
+        try {
+            while (count.get() > 0) {
+                dequeue();
+            }
+        } finally {
+            takeLock.unlock();
+            putLock.unlock();
+        }
+    }
+
+
+    private GlassFishLogRecord dequeue() {
+        final GlassFishLogRecord record = records[head];
+        records[head] = null;
+        head = next(head);
+        count.getAndDecrement();
+        return record;
+    }
+
+
+    /**
+     * Called under the putLock. Takes the takeLock too, so records can be moved.
+     */
+    private void grow() {
+        takeLock.lock();
+        try {
+            final int size = count.get();
+            final GlassFishLogRecord[] newRecords = new GlassFishLogRecord[records.length * 2];
+            for (int i = 0; i < size; i++) {
+                newRecords[i] = records[(head + i) % records.length];
+            }
+            records = newRecords;
+            head = 0;
+            tail = size;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+
+    private int next(final int index) {
+        return index + 1 == records.length ? 0 : index + 1;
+    }
+
+
+    /**
+     * Called under the takeLock. The signal could be consumed by this thread, so another one might wait.
+     */
+    private void signalOtherConsumer() {
+        if (count.get() > 0) {
+            notEmpty.signal();
+        }
+    }
+
+
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package org.glassfish.main.jul.handler;
 
+import java.util.Arrays;
 import java.util.logging.Handler;
 
 import org.glassfish.main.jul.record.GlassFishLogRecord;
@@ -65,12 +66,43 @@ abstract class LoggingPumpThread extends Thread {
     protected abstract void flushOutput();
 
 
+    /**
+     * @return max count of records processed by one {@link #logRecords(GlassFishLogRecord[], int)}
+     *         call. If it is lower than 1, records are processed one by one by
+     *         {@link #logRecord(GlassFishLogRecord)}. Evaluated once when the pump starts.
+     */
+    protected int getBatchSize() {
+        return 0;
+    }
+
+
+    /**
+     * Logs the records one by one by {@link #logRecord(GlassFishLogRecord)} and flushes the output.
+     * Should be overridden if the {@link #getBatchSize()} is positive to process the batch at once.
+     *
+     * @param records records to log, never null
+     * @param count count of records to log from the start of the array.
+     */
+    protected void logRecords(final GlassFishLogRecord[] records, final int count) {
+        for (int i = 0; i < count; i++) {
+            logRecord(records[i]);
+        }
+        flushOutput();
+    }
+
+
     @Override
     public final void run() {
         trace(GlassFishLogHandler.class, () -> "Logging pump for " + buffer + " started.");
+        final int batchSize = getBatchSize();
+        final GlassFishLogRecord[] batch = batchSize > 0 ? new GlassFishLogRecord[batchSize] : null;
         while (!isShutdownRequested()) {
             try {
-                publishBatchFromBuffer();
+                if (batch == null) {
+                    publishBatchFromBuffer();
+                } else {
+                    publishDrainedBatch(batch);
+                }
             } catch (final Exception e) {
                 error(getClass(), "Log record not published.", e);
                 // Continue the loop without exiting
@@ -96,4 +128,22 @@ abstract class LoggingPumpThread extends Thread {
         }
         flushOutput();
     }
+
+
+    /**
+     * Moves all available records from our Queue to the batch at once and stores them in the file
+     */
+    private void publishDrainedBatch(final GlassFishLogRecord[] batch) {
+        final int count = buffer.drainTo(batch);
+        if (count == 0) {
+            return;
+        }
+        try {
+            logRecords(batch, count);
+        } finally {
+            // Don't hold references to processed records
+            Arrays.fill(batch, 0, count, null);
+        }
+        flushOutput();
+    }
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,9 +16,14 @@
 
 package org.glassfish.main.jul.record;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.text.MessageFormat;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.LogManager;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
@@ -32,16 +37,26 @@ import org.glassfish.main.jul.env.LoggingSystemEnvironment;
  * <li>to construct final message using record's parameters
  * <li>to return {@link GlassFishLogRecord} providing additional items usable in logs
  * </ol>
+ * Localized templates are cached per resource bundle and message key, so repeated records
+ * don't search the bundle again. Up to {@value #MAX_CACHED_TEMPLATES} keys are cached per bundle,
+ * including keys not found in the bundle. The cache is not locked, so logging threads
+ * don't contend on it.
  *
  * @author David Matejcek
  */
 public final class MessageResolver {
 
+    private static final int MAX_CACHED_TEMPLATES = 1000;
+
     private final LogManager manager;
+    /** Bundles are weak keys, so the cache does not prevent undeployment of applications */
+    private final Map<BundleKey, Map<String, ResolvedLogMessage>> localizedTemplates = new ConcurrentHashMap<>();
+    /** Keys of collected bundles */
+    private final ReferenceQueue<ResourceBundle> collectedBundles = new ReferenceQueue<>();
 
     /**
      * Searches for {@link LogManager} valid in current context.
-     * Does not have any other internal state.
+     * The only other internal state is the cache of localized templates.
      */
     public MessageResolver() {
         this.manager = LogManager.getLogManager();
@@ -136,6 +151,39 @@ public final class MessageResolver {
         if (bundle == null) {
             return new ResolvedLogMessage(null, originalMessage);
         }
+        final Map<String, ResolvedLogMessage> templates = getLocalizedTemplates(bundle);
+        final ResolvedLogMessage cachedTemplate = templates.get(originalMessage);
+        if (cachedTemplate != null) {
+            return cachedTemplate;
+        }
+        final ResolvedLogMessage localizedTemplate = localizeTemplate(originalMessage, bundle);
+        if (templates.size() < MAX_CACHED_TEMPLATES) {
+            templates.put(originalMessage, localizedTemplate);
+        }
+        return localizedTemplate;
+    }
+
+
+    private Map<String, ResolvedLogMessage> getLocalizedTemplates(final ResourceBundle bundle) {
+        final Map<String, ResolvedLogMessage> templates = localizedTemplates.get(new BundleKey(bundle, null));
+        if (templates != null) {
+            return templates;
+        }
+        expungeCollectedBundles();
+        return localizedTemplates.computeIfAbsent(new BundleKey(bundle, collectedBundles),
+            k -> new ConcurrentHashMap<>());
+    }
+
+
+    private void expungeCollectedBundles() {
+        Reference<? extends ResourceBundle> key;
+        while ((key = collectedBundles.poll()) != null) {
+            localizedTemplates.remove(key);
+        }
+    }
+
+
+    private ResolvedLogMessage localizeTemplate(final String originalMessage, final ResourceBundle bundle) {
         try {
             final String localizedMessage = bundle.getString(originalMessage);
             return new ResolvedLogMessage(originalMessage, localizedMessage);
@@ -153,6 +201,39 @@ public final class MessageResolver {
         }
     }
 
+    /**
+     * Weak reference to the bundle comparing bundles by identity.
+     * Keys used just for the lookup are not registered to any queue.
+     */
+    private static final class BundleKey extends WeakReference<ResourceBundle> {
+
+        private final int hash;
+
+        BundleKey(final ResourceBundle bundle, final ReferenceQueue<ResourceBundle> queue) {
+            super(bundle, queue);
+            this.hash = System.identityHashCode(bundle);
+        }
+
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof BundleKey)) {
+                return false;
+            }
+            final ResourceBundle bundle = get();
+            return bundle != null && bundle == ((BundleKey) object).get();
+        }
+    }
+
     /**
      * Bind the message and it's bundle key.
      */
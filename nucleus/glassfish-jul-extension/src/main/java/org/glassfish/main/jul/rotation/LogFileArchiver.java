@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2024, 2026 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,14 +18,18 @@ package org.glassfish.main.jul.rotation;
 
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.lang.System.Logger;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.zip.GZIPOutputStream;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.main.jul.handler.ArchiveStatistics;
 import org.glassfish.main.jul.tracing.GlassFishLoggingTracer;
 
 import static java.lang.System.Logger.Level.ERROR;
@@ -33,20 +37,34 @@ import static java.lang.System.Logger.Level.INFO;
 
 /**
  * LogFileArchiver manages history of log files, compresses them into gz files, removes old files.
+ * <p>
+ * Archiving runs in a low priority thread, one file after another. Files are compressed by
+ * the {@link ParallelGzipCompressor} using low priority threads shared by all archivers.
+ * Threads are stopped when idle.
  */
 class LogFileArchiver {
     private static final Logger LOG = System.getLogger(LogFileArchiver.class.getName());
     private static final String GZIP_EXTENSION = ".gz";
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 1L;
+    /** Leave one core for the application */
+    private static final int COMPRESSION_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private static final ExecutorService COMPRESSION_EXECUTOR = createExecutor(COMPRESSION_THREADS,
+        "log-compression-");
 
     private final File mainLogFile;
     private final boolean compressOldLogFiles;
     private final int maxCountOfOldLogFiles;
+    private final ExecutorService archivingExecutor;
+    private final ParallelGzipCompressor compressor;
+    private volatile ArchiveStatistics statistics = ArchiveStatistics.EMPTY;
 
 
     LogFileArchiver(File mainLogFile, boolean compressOldLogFiles, final int maxCountOfOldLogFiles) {
         this.mainLogFile = mainLogFile;
         this.compressOldLogFiles = compressOldLogFiles;
         this.maxCountOfOldLogFiles = maxCountOfOldLogFiles;
+        this.archivingExecutor = createExecutor(1, "old-log-files-cleanup-" + mainLogFile.getName() + "-");
+        this.compressor = new ParallelGzipCompressor(COMPRESSION_EXECUTOR, COMPRESSION_THREADS);
     }
 
 
@@ -58,21 +76,28 @@ class LogFileArchiver {
     }
 
 
+    /**
+     * @return statistics of files compressed by this archiver
+     */
+    ArchiveStatistics getStatistics() {
+        return statistics;
+    }
+
+
     /**
      * There is no need to block processing of new log records with this time consuming action,
-     * so this starts a parallel thread.
-     * However the cleanup is done in synchronized method to avoid collisions in a case when
-     * there would be more parallel slow threads.
+     * so this schedules it to the archiving thread.
+     * Files are archived one after another to avoid collisions when the archiving
+     * is slower than rotations.
      *
      * @param archivedFile
      */
     void archive(File archivedFile) {
-        final Runnable cleanup = () -> cleanUpHistoryLogFiles(archivedFile);
-        new Thread(cleanup, "old-log-files-cleanup-" + mainLogFile.getName()).start();
+        archivingExecutor.execute(() -> cleanUpHistoryLogFiles(archivedFile));
     }
 
 
-    private synchronized void cleanUpHistoryLogFiles(final File rotatedFile) {
+    private void cleanUpHistoryLogFiles(final File rotatedFile) {
         if (this.compressOldLogFiles) {
             compressFile(rotatedFile);
         }
@@ -89,6 +114,7 @@ class LogFileArchiver {
             return;
         }
         final long time = System.currentTimeMillis() - start;
+        statistics = statistics.add(rotatedFile.length(), outFile.length(), time);
         LOG.log(INFO, "File {0} of size {1} has been archived to file {2} of size {3} in {4} ms",
             rotatedFile, rotatedFile.length(), outFile, outFile.length(), time);
         final boolean deleted = rotatedFile.delete();
@@ -99,17 +125,8 @@ class LogFileArchiver {
 
 
     private boolean gzipFile(final File inputFile, final File outputFile) {
-        try (
-            FileInputStream fis = new FileInputStream(inputFile);
-            FileOutputStream fos = new FileOutputStream(outputFile);
-            GZIPOutputStream gzos = new GZIPOutputStream(fos)
-        ) {
-            byte[] buffer = new byte[1024];
-            int len;
-            while ((len = fis.read(buffer)) != -1) {
-                gzos.write(buffer, 0, len);
-            }
-            gzos.finish();
+        try {
+            compressor.compress(inputFile, outputFile);
             return true;
         } catch (IOException e) {
             final String message = "Error gzipping log file " + inputFile;
@@ -145,6 +162,24 @@ class LogFileArchiver {
     }
 
 
+    /**
+     * Threads are not daemons to finish started archiving, however they stop when idle,
+     * so they don't block the JVM shutdown.
+     */
+    private static ExecutorService createExecutor(final int threadCount, final String threadNamePrefix) {
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, threadNamePrefix + threadCounter.incrementAndGet());
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        };
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount,
+            THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+
     private void logError(final String message) {
         GlassFishLoggingTracer.error(getClass(), message);
         LOG.log(ERROR, message);
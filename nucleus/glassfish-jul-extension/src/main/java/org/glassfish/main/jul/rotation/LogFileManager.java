@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.lang.System.Logger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
@@ -29,6 +31,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+import org.glassfish.main.jul.handler.ArchiveStatistics;
 import org.glassfish.main.jul.tracing.GlassFishLoggingTracer;
 
 import static java.lang.System.Logger.Level.ERROR;
@@ -60,6 +63,7 @@ public class LogFileManager {
     private final long maxFileSize;
 
     private MeteredFileWriter writer;
+    private FileChannel channel;
 
 
     /**
@@ -108,6 +112,36 @@ public class LogFileManager {
     }
 
 
+    /**
+     * Writes already encoded text to the log file by a single {@link FileChannel#write(ByteBuffer)}
+     * call, bypassing the buffer of the writer. The text written by {@link #write(String)} before
+     * is flushed first, so the order is kept.
+     *
+     * @param bytes encoded text, the buffer is consumed completely.
+     * @throws IllegalStateException if the output is disabled.
+     */
+    public void write(ByteBuffer bytes) throws IllegalStateException {
+        lock.lock();
+        try {
+            if (!isOutputEnabled()) {
+                throw new IllegalStateException("The file output is disabled!");
+            }
+            try {
+                writer.flush();
+                final int length = bytes.remaining();
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                writer.addBytesWritten(length);
+            } catch (Exception e) {
+                GlassFishLoggingTracer.error(getClass(), "Could not write to the file channel.", e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
     /**
      * Flushed the file writer and if the file is too large, rolls the file.
      */
@@ -142,6 +176,14 @@ public class LogFileManager {
     }
 
 
+    /**
+     * @return statistics of rolled files compressed by this manager.
+     */
+    public ArchiveStatistics getArchiveStatistics() {
+        return archiver.getStatistics();
+    }
+
+
     /**
      * Calls {@link #roll()} if the file is bigger than limit given in constructor.
      */
@@ -249,6 +291,7 @@ public class LogFileManager {
                 final BufferedOutputStream bout = new BufferedOutputStream(fout);
                 final MeteredStream stream = new MeteredStream(bout, this.logFile.length());
                 this.writer = new MeteredFileWriter(stream, fileEncoding);
+                this.channel = fout.getChannel();
                 trace(LogFileManager.class, () -> "Output enabled to " + this.logFile);
             } catch (Exception e) {
                 throw new IllegalStateException("Could not open the log file for writing: " + this.logFile, e);
@@ -277,6 +320,7 @@ public class LogFileManager {
                 GlassFishLoggingTracer.error(getClass(), "Could not close the output stream.", e);
             }
             this.writer = null;
+            this.channel = null;
             trace(LogFileManager.class, () -> "Output disabled to " + this.logFile);
         } finally {
             lock.unlock();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2024, 2026 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -55,6 +55,16 @@ class MeteredFileWriter extends OutputStreamWriter {
     }
 
 
+    /**
+     * Counts bytes written to the file without this writer.
+     *
+     * @param count count of bytes
+     */
+    void addBytesWritten(final long count) {
+        output.addBytesWritten(count);
+    }
+
+
     /**
      * Returns short info about this class.
      */
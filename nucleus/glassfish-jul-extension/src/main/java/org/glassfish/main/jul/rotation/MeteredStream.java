@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -57,6 +57,16 @@ final class MeteredStream extends OutputStream {
     }
 
 
+    /**
+     * Counts bytes written to the target without this stream.
+     *
+     * @param count count of bytes
+     */
+    void addBytesWritten(final long count) {
+        this.written += count;
+    }
+
+
     @Override
     public void write(int b) throws IOException {
         out.write(b);
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.main.jul.rotation;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses files to the GZIP format using more threads.
+ * <p>
+ * The input is split to blocks compressed in parallel, each block uses the end of the previous
+ * block as a dictionary, so the compression ratio is close to the sequential compression.
+ * Blocks are flushed to the byte boundary and the last block finishes the stream, so
+ * compressed blocks are simply concatenated to a single GZIP member readable by any gzip
+ * implementation. The checksum is computed sequentially while reading the input, which is
+ * much faster than the compression.
+ */
+final class ParallelGzipCompressor {
+
+    /** Size of blocks compressed in parallel */
+    static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+    /** Maximal size of the deflate dictionary */
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    /** Magic number, deflate method, no flags, no time, no extra flags, unknown OS */
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ExecutorService executor;
+    private final int maxPendingBlocks;
+    private final int blockSize;
+
+
+    /**
+     * @param executor executor compressing blocks
+     * @param parallelism count of threads of the executor
+     */
+    ParallelGzipCompressor(final ExecutorService executor, final int parallelism) {
+        this(executor, parallelism, DEFAULT_BLOCK_SIZE);
+    }
+
+
+    /**
+     * @param executor executor compressing blocks
+     * @param parallelism count of threads of the executor
+     * @param blockSize size of blocks compressed in parallel
+     */
+    ParallelGzipCompressor(final ExecutorService executor, final int parallelism, final int blockSize) {
+        this.executor = executor;
+        // Read ahead to keep all threads busy, but limit the memory.
+        this.maxPendingBlocks = Math.max(1, parallelism) * 2;
+        this.blockSize = blockSize;
+    }
+
+
+    /**
+     * Compresses the input file to the output file.
+     *
+     * @param inputFile
+     * @param outputFile
+     * @throws IOException
+     */
+    void compress(final File inputFile, final File outputFile) throws IOException {
+        final Deque<Future<byte[]>> pending = new ArrayDeque<>(maxPendingBlocks);
+        try (InputStream input = new FileInputStream(inputFile);
+            OutputStream output = new BufferedOutputStream(new FileOutputStream(outputFile), 64 * 1024)) {
+            output.write(GZIP_HEADER);
+            final CRC32 crc = new CRC32();
+            long inputLength = 0;
+            byte[] previous = EMPTY;
+            byte[] block = readBlock(input);
+            while (true) {
+                // The last block must finish the stream, so we have to know if there is another one.
+                final byte[] next = block.length == blockSize ? readBlock(input) : EMPTY;
+                final boolean last = next.length == 0;
+                crc.update(block);
+                inputLength += block.length;
+                pending.add(executor.submit(new BlockCompression(block, getDictionary(previous), last)));
+                while (pending.size() >= maxPendingBlocks || (last && !pending.isEmpty())) {
+                    output.write(await(pending.poll()));
+                }
+                if (last) {
+                    break;
+                }
+                previous = block;
+                block = next;
+            }
+            writeInt(output, (int) crc.getValue());
+            // ISIZE is the input size modulo 2^32
+            writeInt(output, (int) inputLength);
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+
+    private byte[] readBlock(final InputStream input) throws IOException {
+        final byte[] block = input.readNBytes(blockSize);
+        return block.length == 0 ? EMPTY : block;
+    }
+
+
+    private static byte[] getDictionary(final byte[] previousBlock) {
+        if (previousBlock.length <= DICTIONARY_SIZE) {
+            return previousBlock;
+        }
+        return Arrays.copyOfRange(previousBlock, previousBlock.length - DICTIONARY_SIZE, previousBlock.length);
+    }
+
+
+    private static byte[] await(final Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the compressed block.");
+        } catch (final ExecutionException e) {
+            throw new IOException("Could not compress the block.", e.getCause());
+        }
+    }
+
+
+    private static void writeInt(final OutputStream output, final int value) throws IOException {
+        output.write(value & 0xff);
+        output.write((value >> 8) & 0xff);
+        output.write((value >> 16) & 0xff);
+        output.write((value >> 24) & 0xff);
+    }
+
+
+    private static final class BlockCompression implements Callable<byte[]> {
+
+        private final byte[] block;
+        private final byte[] dictionary;
+        private final boolean last;
+
+        BlockCompression(final byte[] block, final byte[] dictionary, final boolean last) {
+            this.block = block;
+            this.dictionary = dictionary;
+            this.last = last;
+        }
+
+
+        @Override
+        public byte[] call() {
+            final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try {
+                if (dictionary.length > 0) {
+                    deflater.setDictionary(dictionary);
+                }
+                deflater.setInput(block);
+                final ByteArrayOutputStream output = new ByteArrayOutputStream(block.length / 4 + 64);
+                final byte[] buffer = new byte[64 * 1024];
+                if (last) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        output.write(buffer, 0, deflater.deflate(buffer));
+                    }
+                } else {
+                    // Full buffer means that there might be more output
+                    int length;
+                    do {
+                        length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                        output.write(buffer, 0, length);
+                    } while (length == buffer.length);
+                }
+                return output.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
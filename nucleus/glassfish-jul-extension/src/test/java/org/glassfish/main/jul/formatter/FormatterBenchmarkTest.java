@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.main.jul.formatter;
+
+import java.util.Collection;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.glassfish.main.jul.record.GlassFishLogRecord;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Measures throughput and allocation per formatted record, the same as {@code -prof gc}.
+ * <p>
+ * The record is created in the benchmark, because the formatter resolves its message
+ * and releases the resource bundle and parameters.
+ */
+@State(Scope.Benchmark)
+public class FormatterBenchmarkTest {
+
+    private static final String ALLOCATION_PER_OPERATION = "gc.alloc.rate.norm";
+    private static final ResourceBundle BUNDLE = new BenchmarkResourceBundle();
+
+    @Param({
+        "org.glassfish.main.jul.formatter.UniformLogFormatter",
+        "org.glassfish.main.jul.formatter.ODLLogFormatter"})
+    public String formatterClass;
+
+    private GlassFishLogFormatter formatter;
+
+    @Setup
+    public void createFormatter() throws Exception {
+        formatter = (GlassFishLogFormatter) Class.forName(formatterClass).getConstructor().newInstance();
+    }
+
+
+    @Test
+    public void measureAllocations() throws Exception {
+        final Options options = new OptionsBuilder()
+            .include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(500L))
+            .measurementIterations(1).measurementTime(TimeValue.milliseconds(1000L))
+            // the module is patched by test classes, but not exported to JMH
+            .jvmArgsAppend("--add-exports", "org.glassfish.main.jul/" + getClass().getPackageName()
+                + ".jmh_generated=ALL-UNNAMED")
+            .forks(1).threads(1).timeout(TimeValue.seconds(10L))
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .mode(Mode.Throughput).shouldFailOnError(true)
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        final Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(4));
+        for (RunResult result : results) {
+            final String params = result.getParams().getParam("formatterClass");
+            assertThat(params, result.getPrimaryResult().getScore(), greaterThan(0d));
+            final Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_PER_OPERATION);
+            assertThat(params, allocation, notNullValue());
+        }
+    }
+
+
+    @Benchmark
+    public String formatSimpleMessage() {
+        final GlassFishLogRecord record = new GlassFishLogRecord(Level.FINE, "Some fine message", false);
+        record.setLoggerName("org.glassfish.main.jul.benchmark");
+        return formatter.format(record);
+    }
+
+
+    @Benchmark
+    public String formatLocalizedMessage() {
+        final GlassFishLogRecord record = new GlassFishLogRecord(Level.FINE, "benchmark.message", false);
+        record.setLoggerName("org.glassfish.main.jul.benchmark");
+        record.setResourceBundle(BUNDLE);
+        record.setParameters(new Object[] {"first", 2});
+        return formatter.format(record);
+    }
+
+
+    private static class BenchmarkResourceBundle extends ListResourceBundle {
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {{"benchmark.message", "Localized message with parameters {0} and {1}"}};
+        }
+    }
+}
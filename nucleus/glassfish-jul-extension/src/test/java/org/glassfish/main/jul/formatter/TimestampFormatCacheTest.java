@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.main.jul.formatter;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Level;
+
+import org.glassfish.main.jul.record.GlassFishLogRecord;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TimestampFormatCacheTest {
+
+    private static final Instant START = Instant.parse("2026-03-29T00:59:59.998999Z");
+    private static final long[] NANO_STEPS = {0L, 1L, 1_000L, 999_999L, 1_000_000L, 500_000_000L, 2_000_001L};
+
+    @Test
+    public void defaultFormatter() {
+        assertSameAsFormatter(GlassFishLogFormatter.DEFAULT_DATETIME_FORMATTER);
+    }
+
+
+    @Test
+    public void millisecondFormatter() {
+        assertSameAsFormatter(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
+    }
+
+
+    @Test
+    public void nanosecondFormatter() {
+        assertSameAsFormatter(DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSSSSS"));
+    }
+
+
+    private static void assertSameAsFormatter(final DateTimeFormatter formatter) {
+        final TimestampFormatCache cache = new TimestampFormatCache(formatter);
+        Instant instant = START;
+        for (int i = 0; i < 10; i++) {
+            for (long step : NANO_STEPS) {
+                instant = instant.plusNanos(step);
+                final GlassFishLogRecord record = new GlassFishLogRecord(Level.INFO, "message", false);
+                record.setInstant(instant);
+                final StringBuilder output = new StringBuilder();
+                cache.formatTo(output, record);
+                assertEquals(formatter.format(record.getTime()), output.toString(), instant::toString);
+            }
+        }
+    }
+}
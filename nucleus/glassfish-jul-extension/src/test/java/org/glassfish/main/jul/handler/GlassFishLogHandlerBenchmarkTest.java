@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.main.jul.handler;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.glassfish.main.jul.formatter.OneLineFormatter;
+import org.glassfish.main.jul.record.GlassFishLogRecord;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares records per second written by the {@link GlassFishLogHandler} with and without
+ * the {@link GlassFishLogHandlerProperty#BATCH_WRITES}.
+ * <p>
+ * The buffer is small and publishing threads wait for its capacity, so the score is limited
+ * by the logging pump.
+ */
+@State(Scope.Benchmark)
+public class GlassFishLogHandlerBenchmarkTest {
+
+    private static final int BUFFER_CAPACITY = 10_000;
+    private static final int THREAD_COUNT = 4;
+
+    @Param({"false", "true"})
+    public boolean batchWrites;
+
+    private GlassFishLogHandler handler;
+    private File logFile;
+
+    @Setup
+    public void createHandler() throws Exception {
+        logFile = File.createTempFile(GlassFishLogHandlerBenchmarkTest.class.getCanonicalName(), ".log");
+        final GlassFishLogHandlerConfiguration cfg = new GlassFishLogHandlerConfiguration();
+        cfg.setLogFile(logFile);
+        cfg.setFormatterConfiguration(new OneLineFormatter());
+        cfg.setBufferCapacity(BUFFER_CAPACITY);
+        cfg.setBufferTimeout(0);
+        cfg.setFlushFrequency(1);
+        cfg.setBatchWrites(batchWrites);
+        cfg.setRotationOnDateChange(false);
+        cfg.setRotationSizeLimitBytes(0);
+        handler = new GlassFishLogHandler(cfg);
+    }
+
+
+    @TearDown
+    public void close() {
+        handler.close();
+        logFile.delete();
+    }
+
+
+    @Test
+    public void compareBatchWrites() throws Exception {
+        final Options options = new OptionsBuilder()
+            .include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(200L))
+            .measurementIterations(1).measurementTime(TimeValue.milliseconds(500L))
+            // the module is patched by test classes, but not exported to JMH
+            .jvmArgsAppend("--add-exports", "org.glassfish.main.jul/" + getClass().getPackageName()
+                + ".jmh_generated=ALL-UNNAMED")
+            .forks(1).threads(THREAD_COUNT).timeout(TimeValue.seconds(10L))
+            .timeUnit(TimeUnit.SECONDS)
+            .mode(Mode.Throughput).shouldFailOnError(true)
+            .build();
+
+        final Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        for (RunResult result : results) {
+            assertThat(result.getParams().getParam("batchWrites"), result.getPrimaryResult().getScore(),
+                greaterThan(0d));
+        }
+    }
+
+
+    @Benchmark
+    public void publish() {
+        handler.publish(new GlassFishLogRecord(Level.INFO, "Benchmark message number 42, nothing special", false));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -193,6 +193,34 @@ public class GlassFishLogHandlerTest {
     }
 
 
+    @Test
+    @Order(55)
+    public void batchWrites() throws Exception {
+        assertTrue(handler.isReady(), "handler.ready");
+        final GlassFishLogHandlerConfiguration cfg = handler.getConfiguration();
+        cfg.setBatchWrites(true);
+        handler.reconfigure(cfg);
+        handler.roll();
+        Thread.sleep(10L);
+        handler.publish(new GlassFishLogRecord(Level.INFO, "Batch, record one", false));
+        handler.publish(new GlassFishLogRecord(Level.WARNING, "Batch, record two", false));
+        handler.publish(new GlassFishLogRecord(Level.SEVERE, "Příliš žluťoučký kůň úpěl ďábelské ódy", false));
+        Thread.sleep(MILLIS_FOR_PUMP);
+        assertAll(
+            () -> assertTrue(handler.isReady(), "handler.ready"),
+            () -> assertThat("file content", Files.readAllLines(cfg.getLogFile().toPath()),
+                contains(
+                    stringContainsInOrder("INFO", "Rolling the file ", ".log", "output was originally enabled: true"),
+                    stringContainsInOrder("INFO", "Archiving file ", ".log", " to ", ".log_"),
+                    stringContainsInOrder("INFO", "main", "Batch, record one"),
+                    stringContainsInOrder("WARNING", "main", "Batch, record two"),
+                    stringContainsInOrder("SEVERE", "main", "Příliš žluťoučký kůň úpěl ďábelské ódy")
+                )
+            )
+        );
+    }
+
+
     @Test
     @Order(60)
     public void createConfiguration() throws Exception {
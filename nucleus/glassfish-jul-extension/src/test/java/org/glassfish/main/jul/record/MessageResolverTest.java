@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,15 @@
 
 package org.glassfish.main.jul.record;
 
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +37,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
  */
 public class MessageResolverTest {
 
+    private static final ResourceBundle BUNDLE = new TestResourceBundle();
+
     private final MessageResolver resolver = new MessageResolver();
 
     @Test
@@ -40,4 +50,55 @@ public class MessageResolverTest {
         assertAll(() -> assertNull(record.getMessageKey()),
             () -> assertEquals("This number 50 is greater than this one 33", record.getMessage()));
     }
+
+
+    @Test
+    public void testResolveCachedTemplate() {
+        final ResourceBundle bundle = new TestResourceBundle();
+        for (int i = 0; i < 2; i++) {
+            final GlassFishLogRecord localizedRecord = new GlassFishLogRecord(Level.INFO, "test.message.key", false);
+            localizedRecord.setResourceBundle(bundle);
+            localizedRecord.setParameters(new Object[] {i});
+            final GlassFishLogRecord localized = resolver.resolve(localizedRecord);
+            final GlassFishLogRecord missingRecord = new GlassFishLogRecord(Level.INFO, "Not a key {0}", false);
+            missingRecord.setResourceBundle(bundle);
+            missingRecord.setParameters(new Object[] {i});
+            final GlassFishLogRecord missing = resolver.resolve(missingRecord);
+            final int number = i;
+            assertAll(() -> assertEquals("test.message.key", localized.getMessageKey()),
+                () -> assertEquals("Localized message " + number, localized.getMessage()),
+                () -> assertNull(missing.getMessageKey()),
+                () -> assertEquals("Not a key " + number, missing.getMessage()));
+        }
+    }
+
+
+    @Test
+    public void testResolveConcurrently() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> messages = IntStream.range(0, 1000)
+                .mapToObj(i -> executor.submit(() -> {
+                    // new bundle instance every few records to extend the cache concurrently
+                    final ResourceBundle bundle = i % 10 == 0 ? new TestResourceBundle() : BUNDLE;
+                    final GlassFishLogRecord record = new GlassFishLogRecord(Level.INFO, "test.message.key", false);
+                    record.setResourceBundle(bundle);
+                    record.setParameters(new Object[] {i});
+                    return resolver.resolve(record).getMessage();
+                })).collect(Collectors.toList());
+            for (int i = 0; i < messages.size(); i++) {
+                assertEquals("Localized message " + i, messages.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class TestResourceBundle extends ListResourceBundle {
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {{"test.message.key", "Localized message {0}"}};
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Eclipse Foundation and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Eclipse Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.RandomStringUtils;
+import org.glassfish.main.jul.handler.ArchiveStatistics;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -151,6 +152,15 @@ public class LogFileManagerTest {
             }
             Thread.sleep(10);
         }
+        while (manager.getArchiveStatistics().getArchivedFileCount() < 4) {
+            if (System.currentTimeMillis() > start + 5000) {
+                fail("Incorrect archive statistics: " + manager.getArchiveStatistics());
+            }
+            Thread.sleep(10);
+        }
+        final ArchiveStatistics statistics = manager.getArchiveStatistics();
+        assertEquals(16 + 101 + 101 + 1, statistics.getOriginalBytes(), statistics::toString);
+        assertTrue(statistics.getArchivedBytes() > 0, statistics::toString);
     }
 
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.main.jul.rotation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class ParallelGzipCompressorTest {
+
+    private static final int THREADS = 3;
+    private static final int BLOCK_SIZE = 4096;
+    private static ExecutorService executor;
+
+    @TempDir
+    private Path dir;
+
+    @BeforeAll
+    public static void createExecutor() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+
+    @AfterAll
+    public static void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+
+    @Test
+    public void emptyFile() throws Exception {
+        assertCompressed(new byte[0]);
+    }
+
+
+    @Test
+    public void singleBlock() throws Exception {
+        assertCompressed("[#|2026-01-01T00:00:00.000000+01:00|INFO|glassfish|Short log|#]\n".getBytes(UTF_8));
+    }
+
+
+    @Test
+    public void exactBlocks() throws Exception {
+        assertCompressed(createLog(BLOCK_SIZE * 5));
+    }
+
+
+    @Test
+    public void manyBlocks() throws Exception {
+        final byte[] content = createLog(BLOCK_SIZE * 50 + 123);
+        final File compressed = assertCompressed(content);
+
+        final ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(sequential)) {
+            output.write(content);
+        }
+        // dictionaries keep the ratio close to the sequential compression
+        assertThat(compressed.length(), lessThan(sequential.size() * 11L / 10L));
+    }
+
+
+    private File assertCompressed(final byte[] content) throws Exception {
+        final File input = Files.write(dir.resolve("server.log"), content).toFile();
+        final File output = dir.resolve("server.log.gz").toFile();
+        new ParallelGzipCompressor(executor, THREADS, BLOCK_SIZE).compress(input, output);
+        try (InputStream decompressed = new GZIPInputStream(new FileInputStream(output))) {
+            assertArrayEquals(content, decompressed.readAllBytes());
+        }
+        return output;
+    }
+
+
+    private static byte[] createLog(final int length) {
+        final Random random = new Random(42);
+        final StringBuilder log = new StringBuilder(length + 200);
+        while (log.length() < length) {
+            log.append("[#|2026-01-01T00:00:").append(random.nextInt(60)).append(".000000+01:00|INFO|glassfish|")
+                .append("org.acme.Logger").append(random.nextInt(10)).append("|_ThreadID=").append(random.nextInt(100))
+                .append(";|Message number ").append(random.nextLong()).append("|#]\n\n");
+        }
+        log.setLength(length);
+        return log.toString().getBytes(UTF_8);
+    }
+}